@@ -0,0 +1,117 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.Series;
+import org.knowm.xchart.SeriesMarker;
+import org.knowm.xchart.StyleManager.ChartType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints charts with dense axes, i.e. many ticks that the axis, the tick labels, the tick marks and the plot surface all iterate over: a Category axis
+ * with thousands of rotated labels and a Date axis spanning years on a very wide chart. The chart is unchanged between paints, so the tick calculation
+ * and the measured tick labels are reused.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AxisTickBenchmark {
+
+  private static final int NUM_CATEGORIES = 4000;
+
+  @Param({ "CATEGORY", "DATE" })
+  public String axis;
+
+  private Chart chart;
+
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart = "CATEGORY".equals(axis) ? getCategoryChart() : getDateChart();
+    image = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+  }
+
+  private static Chart getCategoryChart() {
+
+    Chart chart = new ChartBuilder().chartType(ChartType.Line).width(4000).height(600).title("Dense Category Axis").build();
+    chart.getStyleManager().setLegendVisible(false);
+    chart.getStyleManager().setXAxisLabelRotation(90);
+
+    List<String> xData = new ArrayList<String>();
+    List<Double> yData = new ArrayList<Double>();
+    for (int i = 0; i < NUM_CATEGORIES; i++) {
+      xData.add("c" + i);
+      yData.add(Math.sin(i / 50.0));
+    }
+    Series series = chart.addCategorySeries("sin", xData, yData);
+    series.setMarker(SeriesMarker.NONE);
+    return chart;
+  }
+
+  private static Chart getDateChart() {
+
+    Chart chart = new ChartBuilder().width(8000).height(600).title("Dense Date Axis").build();
+    chart.getStyleManager().setLegendVisible(false);
+
+    int numPoints = 10 * 365;
+    long[] xData = new long[numPoints];
+    double[] yData = new double[numPoints];
+    long start = 1262304000000L; // 2010-01-01
+    for (int i = 0; i < numPoints; i++) {
+      xData[i] = start + i * 86400000L;
+      yData[i] = Math.sin(i / 50.0);
+    }
+    Series series = chart.addDateSeries("sin", xData, yData);
+    series.setMarker(SeriesMarker.NONE);
+    return chart;
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    Graphics2D g = image.createGraphics();
+    chart.paint(g);
+    g.dispose();
+    return image;
+  }
+
+}
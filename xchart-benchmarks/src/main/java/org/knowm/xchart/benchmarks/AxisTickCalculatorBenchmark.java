@@ -0,0 +1,121 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.StyleManager;
+import org.knowm.xchart.internal.chartpart.Axis.AxisType;
+import org.knowm.xchart.internal.chartpart.Axis.Direction;
+import org.knowm.xchart.internal.chartpart.AxisTickCalculator;
+import org.knowm.xchart.internal.chartpart.AxisTickCalculator_Category;
+import org.knowm.xchart.internal.chartpart.AxisTickCalculator_Date;
+import org.knowm.xchart.internal.chartpart.AxisTickCalculator_Logarithmic;
+import org.knowm.xchart.internal.chartpart.AxisTickCalculator_Number;
+import org.knowm.xchart.internal.chartpart.AxisTicks;
+import org.knowm.xchart.internal.chartpart.FormatCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Calculates the ticks with each AxisTickCalculator and reads them back like the axis, the tick labels, the tick marks and the plot surface do. The
+ * working space makes the Number, Logarithmic and Date axes dense, and the Category axis gets one category per 10 pixels of it.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AxisTickCalculatorBenchmark {
+
+  private static final long DAY = 86400000L;
+
+  @Param({ "800", "8000" })
+  public int workingSpace;
+
+  private StyleManager styleManager;
+  private FormatCache formatCache;
+  private List<String> categories;
+
+  @Setup
+  public void setup() {
+
+    styleManager = new StyleManager();
+    formatCache = new FormatCache();
+    categories = new ArrayList<String>();
+    for (int i = 0; i < workingSpace / 10; i++) {
+      categories.add("c" + i);
+    }
+  }
+
+  @Benchmark
+  public double number() {
+
+    return readTicks(new AxisTickCalculator_Number(Direction.X, workingSpace, -1234.5, 98765.4, styleManager, formatCache));
+  }
+
+  @Benchmark
+  public double logarithmic() {
+
+    return readTicks(new AxisTickCalculator_Logarithmic(Direction.Y, workingSpace, 0.001, 1000000.0, styleManager, formatCache));
+  }
+
+  @Benchmark
+  public double date() {
+
+    long start = 1262304000000L; // 2010-01-01
+    return readTicks(new AxisTickCalculator_Date(Direction.X, workingSpace, start, start + 10 * 365 * DAY, styleManager, formatCache));
+  }
+
+  @Benchmark
+  public double category() {
+
+    return readTicks(new AxisTickCalculator_Category(Direction.X, workingSpace, categories, AxisType.String, styleManager, formatCache));
+  }
+
+  /**
+   * Reads every tick location and label once, like each of the parts painting the ticks
+   */
+  private static double readTicks(AxisTickCalculator axisTickCalculator) {
+
+    AxisTicks axisTicks = axisTickCalculator.getAxisTicks();
+    double sum = axisTicks.getLongestTickLabel().length();
+    for (int i = 0; i < axisTicks.getTickLabelCount(); i++) {
+      String tickLabel = axisTicks.getTickLabel(i);
+      sum += axisTicks.getTickLocation(i) + (tickLabel == null ? 0 : tickLabel.length());
+    }
+    for (int i = 0; i < axisTicks.getTickLocationCount(); i++) {
+      sum += axisTicks.getTickLocation(i);
+    }
+    return sum;
+  }
+
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible data for the benchmarks
+ *
+ * @author timmolter
+ */
+final class BenchmarkData {
+
+  private BenchmarkData() {
+
+  }
+
+  /**
+   * @param numPoints
+   * @return 0, 1, 2, ...
+   */
+  static double[] getIndices(int numPoints) {
+
+    double[] data = new double[numPoints];
+    for (int i = 0; i < numPoints; i++) {
+      data[i] = i;
+    }
+    return data;
+  }
+
+  /**
+   * @param numPoints
+   * @return a random walk with a fixed seed
+   */
+  static double[] getRandomWalk(int numPoints) {
+
+    return getRandomWalk(numPoints, 42);
+  }
+
+  /**
+   * @param numPoints
+   * @param seed
+   * @return a random walk
+   */
+  static double[] getRandomWalk(int numPoints, long seed) {
+
+    Random random = new Random(seed);
+    double[] data = new double[numPoints];
+    double value = 0.0;
+    for (int i = 0; i < numPoints; i++) {
+      value += random.nextGaussian();
+      data[i] = value;
+    }
+    return data;
+  }
+
+  static List<Double> toList(double[] data) {
+
+    List<Double> list = new ArrayList<Double>(data.length);
+    for (double value : data) {
+      list.add(value);
+    }
+    return list;
+  }
+
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.SeriesMarker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints and encodes a typical report chart with BitmapEncoder
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BitmapEncoderBenchmark {
+
+  @Param({ "PNG", "JPG" })
+  public BitmapFormat bitmapFormat;
+
+  private Chart chart;
+
+  @Setup
+  public void setup() {
+
+    chart = new ChartBuilder().width(800).height(600).title("Bitmap Encoder Benchmark").xAxisTitle("X").yAxisTitle("Y").build();
+    double[] xData = BenchmarkData.getIndices(1000);
+    chart.addSeries("a", xData, BenchmarkData.getRandomWalk(1000)).setMarker(SeriesMarker.NONE);
+    chart.addSeries("b", xData, BenchmarkData.getRandomWalk(1000, 7)).setMarker(SeriesMarker.NONE);
+  }
+
+  @Benchmark
+  public byte[] getBitmapBytes() throws IOException {
+
+    return BitmapEncoder.getBitmapBytes(chart, bitmapFormat);
+  }
+
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.internal.chartpart.CoordinateTransform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transforms a column of Y values into device coordinates like PlotContentNumericalChart, once per point the way it was done before there was a
+ * CoordinateTransform, and in bulk into floats, optionally in parallel chunks.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CoordinateTransformBenchmark {
+
+  @Param({ "1000000", "10000000" })
+  public int numPoints;
+
+  @Param({ "false", "true" })
+  public boolean isLogarithmic;
+
+  @Param({ "1", "4" })
+  public int numThreads;
+
+  private double[] values;
+
+  private double min;
+
+  private double max;
+
+  private double[] perPointResult;
+
+  private float[] result;
+
+  private CoordinateTransform transform;
+
+  private ExecutorService executorService;
+
+  @Setup
+  public void setup() {
+
+    // positive for the logarithmic axis
+    values = BenchmarkData.getRandomWalk(numPoints);
+    min = Double.MAX_VALUE;
+    for (int i = 0; i < numPoints; i++) {
+      min = Math.min(min, values[i]);
+    }
+    max = -Double.MAX_VALUE;
+    for (int i = 0; i < numPoints; i++) {
+      values[i] += 1.0 - min;
+      max = Math.max(max, values[i]);
+    }
+    min = 1.0;
+
+    perPointResult = new double[numPoints];
+    result = new float[numPoints];
+    transform = CoordinateTransform.getInstance(min, max, isLogarithmic, 560.0, -500.0, 310.0);
+    if (numThreads > 1) {
+      executorService = Executors.newFixedThreadPool(numThreads);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    if (executorService != null) {
+      executorService.shutdown();
+    }
+  }
+
+  @Benchmark
+  public double[] perPoint() {
+
+    double yMin = min;
+    double yMax = max;
+    if (isLogarithmic) {
+      yMin = Math.log10(yMin);
+      yMax = Math.log10(yMax);
+    }
+    for (int i = 0; i < numPoints; i++) {
+      double y = values[i];
+      if (isLogarithmic) {
+        y = Math.log10(y);
+      }
+      double yTransform = 600.0 - (40.0 + (y - yMin) / (yMax - yMin) * 500.0);
+      if (Math.abs(yMax - yMin) / 5 == 0.0) {
+        yTransform = 300.0;
+      }
+      perPointResult[i] = 10.0 + yTransform;
+    }
+    return perPointResult;
+  }
+
+  @Benchmark
+  public float[] bulk() {
+
+    transform.transform(values, result, numPoints, executorService, CoordinateTransform.PARALLEL_CHUNK_SIZE);
+    return result;
+  }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.StyleManager;
+import org.knowm.xchart.internal.chartpart.Axis.Direction;
+import org.knowm.xchart.internal.chartpart.FormatCache;
+import org.knowm.xchart.internal.chartpart.NumberFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formats one tick label per invocation, with a new format per label as the tick calculators used to, and with the formats of a FormatCache.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class FormatBenchmark {
+
+  private static final int NUM_LABELS = 200000;
+
+  private static final String DECIMAL_PATTERN = "###,###,###,###,##0.##############";
+  private static final String DATE_PATTERN = "yyyy-MM-dd HH:mm";
+
+  private StyleManager styleManager;
+  private FormatCache formatCache;
+  private NumberFormatter numberFormatter;
+
+  /** the label formatted next, so the values vary like the ticks of an axis */
+  private int index;
+
+  @Setup
+  public void setup() {
+
+    styleManager = new StyleManager();
+    formatCache = new FormatCache();
+    numberFormatter = new NumberFormatter(styleManager, formatCache);
+  }
+
+  private int nextIndex() {
+
+    index = index == NUM_LABELS - 1 ? 0 : index + 1;
+    return index;
+  }
+
+  @Benchmark
+  public String numberFormatPerLabel() {
+
+    DecimalFormat decimalFormat = (DecimalFormat) NumberFormat.getNumberInstance(styleManager.getLocale());
+    decimalFormat.applyPattern(DECIMAL_PATTERN);
+    return decimalFormat.format(BigDecimal.valueOf(nextIndex() * 0.25));
+  }
+
+  @Benchmark
+  public String numberFormatter() {
+
+    return numberFormatter.formatNumber(BigDecimal.valueOf(nextIndex() * 0.25), 0, NUM_LABELS, Direction.Y);
+  }
+
+  @Benchmark
+  public String numberFormatCache() {
+
+    return formatCache.getDecimalFormat(DECIMAL_PATTERN, styleManager.getLocale()).format(BigDecimal.valueOf(nextIndex() * 0.25));
+  }
+
+  @Benchmark
+  public String dateFormatPerLabel() {
+
+    SimpleDateFormat simpleDateFormat = new SimpleDateFormat(DATE_PATTERN, styleManager.getLocale());
+    simpleDateFormat.setTimeZone(styleManager.getTimezone());
+    return simpleDateFormat.format(nextIndex() * 60000L);
+  }
+
+  @Benchmark
+  public String dateFormatCache() {
+
+    return formatCache.getSimpleDateFormat(DATE_PATTERN, styleManager.getLocale(), styleManager.getTimezone()).format(nextIndex() * 60000L);
+  }
+
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.internal.chartpart.ChartInternal;
+import org.knowm.xchart.internal.chartpart.Legend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Determines the legend box size, which measures the name of every series
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LegendBenchmark {
+
+  @Param({ "1", "10", "100" })
+  public int numSeries;
+
+  private Legend legend;
+
+  @Setup
+  public void setup() {
+
+    ChartInternal chartInternal = new ChartInternal(800, 600);
+    double[] yData = BenchmarkData.getRandomWalk(10);
+    for (int i = 0; i < numSeries; i++) {
+      chartInternal.addSeries("series " + i, null, BenchmarkData.toList(yData), null);
+    }
+    legend = new Legend(chartInternal);
+  }
+
+  @Benchmark
+  public double determineLegendBoxSize() {
+
+    legend.determineLegendBoxSize();
+    return legend.getLegendBoxWidth() + legend.getLegendBoxHeight();
+  }
+
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.Series;
+import org.knowm.xchart.SeriesLineStyle;
+import org.knowm.xchart.SeriesMarker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a large Line series, without and with line path batching, for a solid and a dashed line style, and with and without markers.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LinePathBenchmark {
+
+  @Param({ "100000", "500000" })
+  public int numPoints;
+
+  @Param({ "SOLID", "DASH_DASH" })
+  public SeriesLineStyle lineStyle;
+
+  @Param({ "false", "true" })
+  public boolean hasMarkers;
+
+  @Param({ "false", "true" })
+  public boolean isLinePathBatchingEnabled;
+
+  private Chart chart;
+
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart = new ChartBuilder().width(800).height(600).title("Line Path Benchmark").build();
+    chart.getStyleManager().setLegendVisible(false);
+    chart.getStyleManager().setLinePathBatchingEnabled(isLinePathBatchingEnabled);
+    Series series = chart.addSeries("random walk", BenchmarkData.getIndices(numPoints), BenchmarkData.getRandomWalk(numPoints));
+    series.setMarker(hasMarkers ? SeriesMarker.CIRCLE : SeriesMarker.NONE);
+    series.setLineStyle(lineStyle);
+
+    image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    Graphics2D g = image.createGraphics();
+    chart.paint(g);
+    g.dispose();
+    return image;
+  }
+
+}
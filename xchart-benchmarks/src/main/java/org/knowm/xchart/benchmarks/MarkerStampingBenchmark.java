@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.SeriesMarker;
+import org.knowm.xchart.StyleManager.ChartType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a Scatter chart with markers painted as shapes and stamped from sprites.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MarkerStampingBenchmark {
+
+  @Param({ "10000", "1000000" })
+  public int numPoints;
+
+  @Param({ "CIRCLE", "DIAMOND", "TRIANGLE_UP" })
+  public SeriesMarker seriesMarker;
+
+  @Param({ "false", "true" })
+  public boolean isMarkerStampingEnabled;
+
+  private Chart chart;
+
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    chart = new ChartBuilder().chartType(ChartType.Scatter).width(800).height(600).build();
+    chart.getStyleManager().setLegendVisible(false);
+    chart.getStyleManager().setAxisTicksVisible(false);
+    chart.getStyleManager().setMarkerStampingEnabled(isMarkerStampingEnabled);
+    chart.addSeries("scatter", BenchmarkData.getRandomWalk(numPoints, 7), BenchmarkData.getRandomWalk(numPoints)).setMarker(seriesMarker);
+
+    image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+  }
+
+  @Benchmark
+  public BufferedImage paint() {
+
+    Graphics2D g = image.createGraphics();
+    chart.paint(g);
+    g.dispose();
+    return image;
+  }
+
+}
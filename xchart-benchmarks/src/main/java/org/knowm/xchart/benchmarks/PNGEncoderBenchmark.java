@@ -0,0 +1,117 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.BitmapEncoder;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.PNGEncoder;
+import org.knowm.xchart.PNGEncoder.PNGFilter;
+import org.knowm.xchart.SeriesMarker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes an already painted chart image with PNGEncoder and with the ImageIO PNG writer. The encoded sizes are printed at setup.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PNGEncoderBenchmark {
+
+  @Param({ "800", "1600" })
+  public int width;
+
+  @Param({ "1", "6" })
+  public int compressionLevel;
+
+  @Param({ "UP", "ADAPTIVE" })
+  public PNGFilter filter;
+
+  @Param({ "1", "4" })
+  public int numThreads;
+
+  private BufferedImage bufferedImage;
+
+  private PNGEncoder pngEncoder;
+
+  private ExecutorService executorService;
+
+  @Setup
+  public void setup() throws IOException {
+
+    Chart chart = new ChartBuilder().width(width).height(width * 3 / 4).title("PNG Encoder Benchmark").xAxisTitle("X").yAxisTitle("Y").build();
+    double[] xData = BenchmarkData.getIndices(1000);
+    chart.addSeries("a", xData, BenchmarkData.getRandomWalk(1000)).setMarker(SeriesMarker.NONE);
+    chart.addSeries("b", xData, BenchmarkData.getRandomWalk(1000, 7)).setMarker(SeriesMarker.NONE);
+    bufferedImage = BitmapEncoder.getBufferedImage(chart);
+
+    pngEncoder = new PNGEncoder();
+    pngEncoder.setCompressionLevel(compressionLevel);
+    pngEncoder.setFilter(filter);
+    if (numThreads > 1) {
+      executorService = Executors.newFixedThreadPool(numThreads);
+      pngEncoder.setDeflateExecutorService(executorService);
+    }
+
+    System.out.println();
+    System.out.println("PNGEncoder: " + pngEncoder.encode(bufferedImage).length + " bytes, ImageIO: " + BitmapEncoder.getBitmapBytes(bufferedImage, BitmapFormat.PNG).length + " bytes");
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    if (executorService != null) {
+      executorService.shutdown();
+    }
+  }
+
+  @Benchmark
+  public byte[] pngEncoder() throws IOException {
+
+    return pngEncoder.encode(bufferedImage);
+  }
+
+  @Benchmark
+  public byte[] imageIO() throws IOException {
+
+    return BitmapEncoder.getBitmapBytes(bufferedImage, BitmapFormat.PNG);
+  }
+
+}
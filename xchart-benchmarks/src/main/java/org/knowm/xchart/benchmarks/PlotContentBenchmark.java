@@ -0,0 +1,153 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.SeriesMarker;
+import org.knowm.xchart.StyleManager.ChartType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Paints a chart for each PlotContent: X-Y Line, Scatter and Area (PlotContentNumericalChart), Category Bar (PlotContentCategoricalChart_Bar),
+ * Category Line (PlotContentCategoricalChart_Line_Area_Scatter) and Pie (PlotContentCategoricalChart_Pie). The tick labels and the legend are hidden,
+ * so the time is spent on the series.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PlotContentBenchmark {
+
+  /** pie charts get one slice per 1000 points, more slices aren't a realistic pie chart */
+  private static final int POINTS_PER_PIE_SLICE = 1000;
+
+  @Param({ "1000", "100000", "1000000" })
+  public int numPoints;
+
+  private Chart lineChart;
+  private Chart scatterChart;
+  private Chart areaChart;
+  private Chart categoryBarChart;
+  private Chart categoryLineChart;
+  private Chart pieChart;
+
+  private BufferedImage image;
+
+  @Setup
+  public void setup() {
+
+    double[] xData = BenchmarkData.getIndices(numPoints);
+    double[] yData = BenchmarkData.getRandomWalk(numPoints);
+    List<Double> xList = BenchmarkData.toList(xData);
+    List<Double> yList = BenchmarkData.toList(yData);
+
+    lineChart = getChart(ChartType.Line);
+    lineChart.addSeries("line", xData, yData).setMarker(SeriesMarker.NONE);
+
+    scatterChart = getChart(ChartType.Scatter);
+    scatterChart.addSeries("scatter", xData, yData);
+
+    areaChart = getChart(ChartType.Area);
+    areaChart.addSeries("area", xData, yData).setMarker(SeriesMarker.NONE);
+
+    categoryBarChart = getChart(ChartType.Bar);
+    categoryBarChart.addCategorySeries("bar", xList, yList);
+
+    categoryLineChart = getChart(ChartType.Line);
+    categoryLineChart.addCategorySeries("line", xList, yList).setMarker(SeriesMarker.NONE);
+
+    pieChart = getChart(ChartType.Pie);
+    for (int i = 0; i < Math.max(1, numPoints / POINTS_PER_PIE_SLICE); i++) {
+      pieChart.addPieSeries("slice " + i, Math.abs(yData[i]) + 1.0);
+    }
+
+    image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
+  }
+
+  private static Chart getChart(ChartType chartType) {
+
+    Chart chart = new ChartBuilder().chartType(chartType).width(800).height(600).build();
+    chart.getStyleManager().setLegendVisible(false);
+    chart.getStyleManager().setAxisTicksVisible(false);
+    return chart;
+  }
+
+  private BufferedImage paint(Chart chart) {
+
+    Graphics2D g = image.createGraphics();
+    chart.paint(g);
+    g.dispose();
+    return image;
+  }
+
+  @Benchmark
+  public BufferedImage numericalLine() {
+
+    return paint(lineChart);
+  }
+
+  @Benchmark
+  public BufferedImage numericalScatter() {
+
+    return paint(scatterChart);
+  }
+
+  @Benchmark
+  public BufferedImage numericalArea() {
+
+    return paint(areaChart);
+  }
+
+  @Benchmark
+  public BufferedImage categoricalBar() {
+
+    return paint(categoryBarChart);
+  }
+
+  @Benchmark
+  public BufferedImage categoricalLine() {
+
+    return paint(categoryLineChart);
+  }
+
+  @Benchmark
+  public BufferedImage categoricalPie() {
+
+    return paint(pieChart);
+  }
+
+}
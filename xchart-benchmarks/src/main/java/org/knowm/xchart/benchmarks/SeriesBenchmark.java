@@ -0,0 +1,102 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.Series;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Series construction including the min and max of the data, and appending to a rolling series
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SeriesBenchmark {
+
+  private static final int APPEND_SIZE = 100;
+
+  @Param({ "1000", "100000", "1000000" })
+  public int numPoints;
+
+  private double[] xData;
+  private double[] yData;
+  private List<Double> xList;
+  private List<Double> yList;
+
+  private Series rollingSeries;
+  private double[] appendXData;
+  private double[] appendYData;
+  private double nextX;
+
+  @Setup
+  public void setup() {
+
+    xData = BenchmarkData.getIndices(numPoints);
+    yData = BenchmarkData.getRandomWalk(numPoints);
+    xList = BenchmarkData.toList(xData);
+    yList = BenchmarkData.toList(yData);
+
+    rollingSeries = new Chart(800, 600).addRollingSeries("rolling", numPoints, xData, yData);
+    appendXData = new double[APPEND_SIZE];
+    appendYData = BenchmarkData.getRandomWalk(APPEND_SIZE);
+    nextX = numPoints;
+  }
+
+  @Benchmark
+  public double addSeriesArrays() {
+
+    Series series = new Chart(800, 600).addSeries("series", xData, yData);
+    return series.getXMin() + series.getXMax() + series.getYMin() + series.getYMax();
+  }
+
+  @Benchmark
+  public double addSeriesLists() {
+
+    Series series = new Chart(800, 600).addSeries("series", xList, yList);
+    return series.getXMin() + series.getXMax() + series.getYMin() + series.getYMax();
+  }
+
+  @Benchmark
+  public double appendRollingSeries() {
+
+    for (int i = 0; i < APPEND_SIZE; i++) {
+      appendXData[i] = nextX++;
+    }
+    rollingSeries.appendPoints(appendXData, appendYData);
+    return rollingSeries.getYMin() + rollingSeries.getYMax();
+  }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.ChartBuilder;
+import org.knowm.xchart.SeriesMarker;
+import org.knowm.xchart.VectorGraphicsEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes a dense line chart as SVG with and without vector simplification. The SVG sizes are printed at setup.
+ *
+ * @author timmolter
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class VectorSimplificationBenchmark {
+
+  @Param({ "10000", "100000" })
+  public int numPoints;
+
+  @Param({ "false", "true" })
+  public boolean isVectorSimplificationEnabled;
+
+  private Chart chart;
+
+  @Setup
+  public void setup() throws IOException {
+
+    chart = new ChartBuilder().width(800).height(600).title("Vector Simplification Benchmark").xAxisTitle("X").yAxisTitle("Y").build();
+    chart.getStyleManager().setVectorSimplificationEnabled(isVectorSimplificationEnabled);
+    double[] xData = BenchmarkData.getIndices(numPoints);
+    chart.addSeries("a", xData, BenchmarkData.getRandomWalk(numPoints)).setMarker(SeriesMarker.NONE);
+    chart.addSeries("b", xData, BenchmarkData.getRandomWalk(numPoints, 7)).setMarker(SeriesMarker.NONE);
+
+    System.out.println();
+    System.out.println("SVG: " + saveSVG().length() + " chars");
+  }
+
+  @Benchmark
+  public String saveSVG() throws IOException {
+
+    StringWriter writer = new StringWriter();
+    VectorGraphicsEncoder.saveSVG(chart, writer, VectorGraphicsEncoder.DEFAULT_SVG_PRECISION);
+    return writer.toString();
+  }
+
+}
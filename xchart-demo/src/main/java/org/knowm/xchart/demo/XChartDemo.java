@@ -158,7 +158,7 @@ public class XChartDemo extends JPanel implements TreeSelectionListener {
           public void run() {
 
             realtimeChart01.updateData();
-            chartPanel.updateSeries(RealtimeChart01.SERIES_NAME, null, realtimeChart01.getyData(), null);
+            chartPanel.publishSeriesAppend(RealtimeChart01.SERIES_NAME, null, realtimeChart01.getNewYData(), null);
           }
         };
         timer = new Timer();
@@ -172,7 +172,7 @@ public class XChartDemo extends JPanel implements TreeSelectionListener {
           public void run() {
 
             realtimeChart02.updateData();
-            chartPanel.updateSeries(RealtimeChart02.SERIES_NAME, realtimeChart02.getxData(), realtimeChart02.getyData(), null);
+            chartPanel.publishSeriesAppend(RealtimeChart02.SERIES_NAME, realtimeChart02.getNewXData(), realtimeChart02.getNewYData(), null);
           }
         };
         timer = new Timer();
@@ -186,7 +186,7 @@ public class XChartDemo extends JPanel implements TreeSelectionListener {
           public void run() {
 
             realtimeChart03.updateData();
-            chartPanel.updateSeries(RealtimeChart02.SERIES_NAME, null, realtimeChart03.getyData(), realtimeChart03.getErrorBars());
+            chartPanel.publishSeriesAppend(RealtimeChart03.SERIES_NAME, null, realtimeChart03.getNewYData(), realtimeChart03.getNewErrorBars());
           }
         };
         timer = new Timer();
@@ -16,10 +16,8 @@
  */
 package org.knowm.xchart.demo.charts.realtime;
 
-import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.swing.JFrame;
 
@@ -34,11 +32,13 @@ import org.knowm.xchart.demo.charts.ExampleChart;
  * <ul>
  * <li>real-time chart updates
  * <li>fixed window
+ * <li>rolling series
  */
 public class RealtimeChart01 implements ExampleChart {
 
-  private List<Double> yData;
+  private double[] newYData;
   public static final String SERIES_NAME = "series1";
+  public static final int MAX_POINTS = 20;
 
   public static void main(String[] args) {
 
@@ -71,7 +71,7 @@ public class RealtimeChart01 implements ExampleChart {
       public void run() {
 
         realtimeChart01.updateData();
-        chartPanel.updateSeries(SERIES_NAME, null, realtimeChart01.getyData(), null);
+        chartPanel.publishSeriesAppend(SERIES_NAME, null, realtimeChart01.getNewYData(), null);
 
       }
     };
@@ -89,43 +89,33 @@ public class RealtimeChart01 implements ExampleChart {
   @Override
   public Chart getChart() {
 
-    yData = getRandomData(5);
-
     // Create Chart
     Chart chart = new Chart(500, 400);
     chart.setChartTitle("Sample Real-time Chart");
     chart.setXAxisTitle("X");
     chart.setYAxisTitle("Y");
-    chart.addSeries(SERIES_NAME, null, yData);
+    chart.addRollingSeries(SERIES_NAME, MAX_POINTS, null, getRandomData(5));
 
     return chart;
   }
 
-  private List<Double> getRandomData(int numPoints) {
+  private double[] getRandomData(int numPoints) {
 
-    List<Double> data = new CopyOnWriteArrayList<Double>();
+    double[] data = new double[numPoints];
     for (int i = 0; i < numPoints; i++) {
-      data.add(Math.random() * 100);
+      data[i] = Math.random() * 100;
     }
     return data;
   }
 
   public void updateData() {
 
-    // Get some new data
-    List<Double> newData = getRandomData(1);
-
-    yData.addAll(newData);
-
-    // Limit the total number of points
-    while (yData.size() > 20) {
-      yData.remove(0);
-    }
-
+    // Get some new data, the rolling series drops the oldest points beyond MAX_POINTS
+    newYData = getRandomData(1);
   }
 
-  public List<Double> getyData() {
+  public double[] getNewYData() {
 
-    return yData;
+    return newYData;
   }
 }
@@ -16,10 +16,8 @@
  */
 package org.knowm.xchart.demo.charts.realtime;
 
-import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.swing.JFrame;
 
@@ -34,13 +32,16 @@ import org.knowm.xchart.demo.charts.ExampleChart;
  * <ul>
  * <li>real-time chart updates
  * <li>dynamic window
+ * <li>rolling series
  */
 public class RealtimeChart02 implements ExampleChart {
 
   private Chart chart;
   public static final String SERIES_NAME = "series1";
-  private List<Integer> xData;
-  private List<Double> yData;
+  public static final int MAX_POINTS = 20;
+  private double lastX;
+  private double[] newXData;
+  private double[] newYData;
 
   public static void main(String[] args) {
 
@@ -73,7 +74,7 @@ public class RealtimeChart02 implements ExampleChart {
       public void run() {
 
         realtimeChart02.updateData();
-        chartPanel.updateSeries(SERIES_NAME, realtimeChart02.getxData(), realtimeChart02.getyData(), null);
+        chartPanel.publishSeriesAppend(SERIES_NAME, realtimeChart02.getNewXData(), realtimeChart02.getNewYData(), null);
 
       }
     };
@@ -91,62 +92,51 @@ public class RealtimeChart02 implements ExampleChart {
   @Override
   public Chart getChart() {
 
-    xData = getMonotonicallyIncreasingData(5);
-    yData = getRandomData(5);
+    double[] xData = getMonotonicallyIncreasingData(5);
+    lastX = xData[xData.length - 1];
 
     // Create Chart
     Chart chart = new Chart(500, 400);
     chart.setChartTitle("Sample Real-time Chart");
     chart.setXAxisTitle("X");
     chart.setYAxisTitle("Y");
-    chart.addSeries(SERIES_NAME, xData, yData);
+    chart.addRollingSeries(SERIES_NAME, MAX_POINTS, xData, getRandomData(5));
 
     return chart;
   }
 
-  private List<Double> getRandomData(int numPoints) {
+  private double[] getRandomData(int numPoints) {
 
-    List<Double> data = new CopyOnWriteArrayList<Double>();
+    double[] data = new double[numPoints];
     for (int i = 0; i < numPoints; i++) {
-      data.add(Math.random() * 100);
+      data[i] = Math.random() * 100;
     }
     return data;
   }
 
-  private List<Integer> getMonotonicallyIncreasingData(int numPoints) {
+  private double[] getMonotonicallyIncreasingData(int numPoints) {
 
-    List<Integer> data = new CopyOnWriteArrayList<Integer>();
+    double[] data = new double[numPoints];
     for (int i = 0; i < numPoints; i++) {
-      data.add(i);
+      data[i] = i;
     }
     return data;
   }
 
   public void updateData() {
 
-    // Get some new data
-    List<Double> newData = getRandomData(1);
-
-    yData.addAll(newData);
-
-    // Limit the total number of points
-    while (yData.size() > 20) {
-      yData.remove(0);
-    }
-
-    xData.add(xData.get(xData.size() - 1) + 1);
-    while (xData.size() > 20) {
-      xData.remove(0);
-    }
+    // Get some new data, the rolling series drops the oldest points beyond MAX_POINTS
+    newYData = getRandomData(1);
+    newXData = new double[] { ++lastX };
   }
 
-  public List<Double> getyData() {
+  public double[] getNewXData() {
 
-    return yData;
+    return newXData;
   }
 
-  public List<Integer> getxData() {
+  public double[] getNewYData() {
 
-    return xData;
+    return newYData;
   }
 }
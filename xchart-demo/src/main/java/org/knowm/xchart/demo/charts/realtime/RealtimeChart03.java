@@ -16,11 +16,8 @@
  */
 package org.knowm.xchart.demo.charts.realtime;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.swing.JFrame;
 
@@ -36,14 +33,17 @@ import org.knowm.xchart.demo.charts.ExampleChart;
  * <li>real-time chart updates
  * <li>fixed window
  * <li>error bars
+ * <li>rolling series
+ * <li>static layer caching
  */
 public class RealtimeChart03 implements ExampleChart {
 
-  private List<Integer> xData = new CopyOnWriteArrayList<Integer>();
-  private List<Double> yData = new CopyOnWriteArrayList<Double>();
-  private List<Double> errorBars = new CopyOnWriteArrayList<Double>();
+  private double lastPoint;
+  private double[] newYData;
+  private double[] newErrorBars;
 
   public static final String SERIES_NAME = "series1";
+  public static final int MAX_POINTS = 51;
 
   public static void main(String[] args) {
 
@@ -76,7 +76,7 @@ public class RealtimeChart03 implements ExampleChart {
       public void run() {
 
         realtimeChart03.updateData();
-        chartPanel.updateSeries(SERIES_NAME, realtimeChart03.xData, realtimeChart03.getyData(), realtimeChart03.errorBars);
+        chartPanel.publishSeriesAppend(SERIES_NAME, null, realtimeChart03.getNewYData(), realtimeChart03.getNewErrorBars());
 
       }
     };
@@ -94,20 +94,15 @@ public class RealtimeChart03 implements ExampleChart {
   @Override
   public Chart getChart() {
 
-    yData.add(0.0);
-    for (int i = 0; i < 50; i++) {
-      double lastPoint = yData.get(yData.size() - 1);
-      yData.add(getRandomWalk(lastPoint));
-    }
-    // generate X-Data
-    xData = new ArrayList<Integer>();
-    for (int i = 1; i < yData.size() + 1; i++) {
-      xData.add(i);
+    double[] yData = new double[MAX_POINTS];
+    for (int i = 1; i < yData.length; i++) {
+      yData[i] = getRandomWalk(yData[i - 1]);
     }
+    lastPoint = yData[yData.length - 1];
     // generate error bars
-    errorBars = new ArrayList<Double>();
-    for (int i = 0; i < yData.size(); i++) {
-      errorBars.add(20 * Math.random());
+    double[] errorBars = new double[yData.length];
+    for (int i = 0; i < errorBars.length; i++) {
+      errorBars[i] = 20 * Math.random();
     }
 
     // Create Chart
@@ -115,36 +110,34 @@ public class RealtimeChart03 implements ExampleChart {
     chart.setChartTitle("Sample Real-time Chart");
     chart.setXAxisTitle("X");
     chart.setYAxisTitle("Y");
-    chart.addSeries(SERIES_NAME, xData, yData, errorBars);
+    chart.addRollingSeries(SERIES_NAME, MAX_POINTS, null, yData, errorBars);
+    chart.getStyleManager().setStaticLayerCachingEnabled(true);
 
     return chart;
   }
 
-  private Double getRandomWalk(double lastPoint) {
+  private double getRandomWalk(double lastPoint) {
 
     return lastPoint + (Math.random() * 100 - 50);
   }
 
   public void updateData() {
 
-    // Get some new data
-    double lastPoint = yData.get(yData.size() - 1);
-    yData.add(getRandomWalk(lastPoint));
-    yData.remove(0);
+    // Get some new data, the rolling series drops the oldest point
+    lastPoint = getRandomWalk(lastPoint);
+    newYData = new double[] { lastPoint };
 
     // update error bars
-    errorBars.add(20 * Math.random());
-    errorBars.remove(0);
-
+    newErrorBars = new double[] { 20 * Math.random() };
   }
 
-  public List<Double> getyData() {
+  public double[] getNewYData() {
 
-    return yData;
+    return newYData;
   }
 
-  public List<Double> getErrorBars() {
+  public double[] getNewErrorBars() {
 
-    return errorBars;
+    return newErrorBars;
   }
 }
@@ -20,11 +20,12 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Iterator;
 
 import javax.imageio.IIOImage;
@@ -35,7 +36,12 @@ import javax.imageio.ImageWriter;
 import javax.imageio.metadata.IIOInvalidTreeException;
 import javax.imageio.metadata.IIOMetadata;
 import javax.imageio.metadata.IIOMetadataNode;
-import javax.imageio.stream.FileImageOutputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.knowm.xchart.internal.BufferedImagePool;
+import org.knowm.xchart.internal.ColorQuantizer;
+import org.knowm.xchart.internal.ColorQuantizer.QuantizedImage;
 
 /**
  * A helper class with static methods for saving Charts as bitmaps
@@ -44,6 +50,12 @@ import javax.imageio.stream.FileImageOutputStream;
  */
 public final class BitmapEncoder {
 
+  /** the default max total number of pixels of the pooled images, two 1600 x 1200 images */
+  public static final long DEFAULT_IMAGE_POOL_MAX_PIXELS = 2 * 1600 * 1200;
+
+  /** the images for charts that are encoded right away */
+  private static final BufferedImagePool IMAGE_POOL = new BufferedImagePool(DEFAULT_IMAGE_POOL_MAX_PIXELS);
+
   /**
    * Constructor - Private constructor to prevent instantiation
    */
@@ -55,6 +67,22 @@ public final class BitmapEncoder {
     PNG, JPG, BMP, GIF;
   }
 
+  /**
+   * Sets how many pixels of images are kept for reuse. Saving a chart or getting its bytes paints it into a pooled image of the same size, so
+   * exporting many charts doesn't create a new image for each one. Images returned by getBufferedImage() aren't pooled.
+   *
+   * @param maxPixels - the max total number of pixels of the kept images, 0 to disable pooling
+   */
+  public static void setImagePoolMaxPixels(long maxPixels) {
+
+    IMAGE_POOL.setMaxPixels(maxPixels);
+  }
+
+  public static long getImagePoolMaxPixels() {
+
+    return IMAGE_POOL.getMaxPixels();
+  }
+
   /**
    * Only adds the extension of the BitmapFormat to the filename if the filename doesn't already have it.
    * 
@@ -82,11 +110,182 @@ public final class BitmapEncoder {
    */
   public static void saveBitmap(Chart chart, String fileName, BitmapFormat bitmapFormat) throws IOException {
 
-    BufferedImage bufferedImage = getBufferedImage(chart);
+    OutputStream out = new FileOutputStream(addFileExtension(fileName, bitmapFormat));
+    try {
+      saveBitmap(chart, out, bitmapFormat);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Write a Chart as an image to a stream, e.g. an HTTP response. The image is encoded directly into the stream without collecting the encoded bytes
+   * first. The stream is not closed.
+   *
+   * @param chart
+   * @param targetStream
+   * @param bitmapFormat
+   * @throws IOException
+   */
+  public static void saveBitmap(Chart chart, OutputStream targetStream, BitmapFormat bitmapFormat) throws IOException {
+
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    try {
+      writeImage(getImageWriter(bitmapFormat), new IIOImage(bufferedImage, null, null), null, bitmapFormat, targetStream);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  /**
+   * Write a Chart as an image to a channel, e.g. a SocketChannel. The channel is not closed.
+   *
+   * @param chart
+   * @param targetChannel
+   * @param bitmapFormat
+   * @throws IOException
+   */
+  public static void saveBitmap(Chart chart, WritableByteChannel targetChannel, BitmapFormat bitmapFormat) throws IOException {
+
+    saveBitmap(chart, Channels.newOutputStream(targetChannel), bitmapFormat);
+  }
+
+  /**
+   * Save a Chart as a PNG file with a PNGEncoder instead of the ImageIO PNG writer
+   *
+   * @param chart
+   * @param fileName
+   * @param pngEncoder
+   * @throws IOException
+   */
+  public static void savePNG(Chart chart, String fileName, PNGEncoder pngEncoder) throws IOException {
+
+    OutputStream out = new FileOutputStream(addFileExtension(fileName, BitmapFormat.PNG));
+    try {
+      savePNG(chart, out, pngEncoder);
+    } finally {
+      out.close();
+    }
+  }
 
+  /**
+   * Write a Chart as a PNG to a stream with a PNGEncoder instead of the ImageIO PNG writer. The stream is not closed.
+   *
+   * @param chart
+   * @param targetStream
+   * @param pngEncoder
+   * @throws IOException
+   */
+  public static void savePNG(Chart chart, OutputStream targetStream, PNGEncoder pngEncoder) throws IOException {
+
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    try {
+      pngEncoder.encode(bufferedImage, targetStream);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  /**
+   * Generates a PNG byte[] for a given chart with a PNGEncoder instead of the ImageIO PNG writer
+   *
+   * @param chart
+   * @param pngEncoder
+   * @return the PNG bytes
+   * @throws IOException
+   */
+  public static byte[] getPNGBytes(Chart chart, PNGEncoder pngEncoder) throws IOException {
+
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    try {
+      return pngEncoder.encode(bufferedImage);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  /**
+   * Save a Chart as a PNG or GIF file with a palette of at most maxColors colors, which is smaller and faster to encode than 24 bit RGB
+   *
+   * @param chart
+   * @param fileName
+   * @param bitmapFormat - PNG or GIF
+   * @param maxColors - from 2 to 256
+   * @return the palette size, the color error and the encoded size
+   * @throws IOException
+   */
+  public static IndexedColorReport saveIndexedBitmap(Chart chart, String fileName, BitmapFormat bitmapFormat, int maxColors) throws IOException {
+
+    checkIndexedFormat(bitmapFormat);
     OutputStream out = new FileOutputStream(addFileExtension(fileName, bitmapFormat));
-    ImageIO.write(bufferedImage, bitmapFormat.toString().toLowerCase(), out);
-    out.close();
+    try {
+      return saveIndexedBitmap(chart, out, bitmapFormat, maxColors);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Write a Chart as a PNG or GIF with a palette of at most maxColors colors to a stream. If the chart has no more colors than that, which is common
+   * for small charts, all colors are kept exactly. The stream is not closed.
+   *
+   * @param chart
+   * @param targetStream
+   * @param bitmapFormat - PNG or GIF
+   * @param maxColors - from 2 to 256
+   * @return the palette size, the color error and the encoded size
+   * @throws IOException
+   */
+  public static IndexedColorReport saveIndexedBitmap(Chart chart, OutputStream targetStream, BitmapFormat bitmapFormat, int maxColors) throws IOException {
+
+    checkIndexedFormat(bitmapFormat);
+    ColorQuantizer colorQuantizer = new ColorQuantizer(maxColors);
+
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    QuantizedImage quantizedImage;
+    long start = System.nanoTime();
+    try {
+      quantizedImage = colorQuantizer.quantize(bufferedImage);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+    long quantized = System.nanoTime();
+
+    CountingOutputStream countingStream = new CountingOutputStream(targetStream);
+    if (bitmapFormat == BitmapFormat.PNG) {
+      // the PNGEncoder writes an image with at most 256 colors with a palette by itself
+      new PNGEncoder().encode(quantizedImage.getImage(), countingStream);
+    }
+    else {
+      writeImage(getImageWriter(bitmapFormat), new IIOImage(quantizedImage.getImage(), null, null), null, bitmapFormat, countingStream);
+    }
+    long encoded = System.nanoTime();
+
+    return new IndexedColorReport(quantizedImage.getColorCount(), quantizedImage.getPaletteSize(), quantizedImage.getMeanSquaredError(), countingStream.count,
+        quantized - start, encoded - quantized);
+  }
+
+  /**
+   * @param chart
+   * @param maxColors - from 2 to 256
+   * @return the Chart as a TYPE_BYTE_INDEXED image with a palette of at most maxColors colors
+   */
+  public static BufferedImage getIndexedBufferedImage(Chart chart, int maxColors) {
+
+    ColorQuantizer colorQuantizer = new ColorQuantizer(maxColors);
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    try {
+      return colorQuantizer.quantize(bufferedImage).getImage();
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  private static void checkIndexedFormat(BitmapFormat bitmapFormat) {
+
+    if (bitmapFormat != BitmapFormat.PNG && bitmapFormat != BitmapFormat.GIF) {
+      throw new IllegalArgumentException("Only PNG and GIF bitmaps can have a palette!!!");
+    }
   }
 
   /**
@@ -100,40 +299,73 @@ public final class BitmapEncoder {
    */
   public static void saveBitmapWithDPI(Chart chart, String fileName, BitmapFormat bitmapFormat, int DPI) throws IOException {
 
-    double scaleFactor = DPI / 72.0;
+    OutputStream out = new FileOutputStream(addFileExtension(fileName, bitmapFormat));
+    try {
+      saveBitmapWithDPI(chart, out, bitmapFormat, DPI);
+    } finally {
+      out.close();
+    }
+  }
 
-    BufferedImage bufferedImage = new BufferedImage((int) (chart.getWidth() * scaleFactor), (int) (chart.getHeight() * scaleFactor), BufferedImage.TYPE_INT_RGB);
+  /**
+   * Write a chart as an image with a custom DPI to a stream. The stream is not closed.
+   *
+   * @param chart
+   * @param targetStream
+   * @param bitmapFormat
+   * @param DPI
+   * @throws IOException
+   */
+  public static void saveBitmapWithDPI(Chart chart, OutputStream targetStream, BitmapFormat bitmapFormat, int DPI) throws IOException {
 
-    Graphics2D graphics2D = bufferedImage.createGraphics();
+    double scaleFactor = DPI / 72.0;
 
-    AffineTransform at = graphics2D.getTransform();
-    at.scale(scaleFactor, scaleFactor);
-    graphics2D.setTransform(at);
+    BufferedImage bufferedImage = IMAGE_POOL.acquire((int) (chart.getWidth() * scaleFactor), (int) (chart.getHeight() * scaleFactor), BufferedImage.TYPE_INT_RGB);
+    try {
+      Graphics2D graphics2D = bufferedImage.createGraphics();
+      try {
+        AffineTransform at = graphics2D.getTransform();
+        at.scale(scaleFactor, scaleFactor);
+        graphics2D.setTransform(at);
+
+        chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
+      } finally {
+        graphics2D.dispose();
+      }
 
-    chart.paint(graphics2D, chart.getWidth(), chart.getHeight());
-    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(bitmapFormat.toString().toLowerCase());
-    if (writers.hasNext()) {
-      ImageWriter writer = writers.next();
+      ImageWriter writer = getImageWriter(bitmapFormat);
       // instantiate an ImageWriteParam object with default compression options
       ImageWriteParam iwp = writer.getDefaultWriteParam();
 
       ImageTypeSpecifier typeSpecifier = ImageTypeSpecifier.createFromBufferedImageType(BufferedImage.TYPE_INT_RGB);
       IIOMetadata metadata = writer.getDefaultImageMetadata(typeSpecifier, iwp);
       if (metadata.isReadOnly() || !metadata.isStandardMetadataFormatSupported()) {
+        writer.dispose();
         throw new IllegalArgumentException("It is not possible to set the DPI on a bitmap with " + bitmapFormat + " format!! Try another format.");
       }
 
       setDPI(metadata, DPI);
 
-      File file = new File(addFileExtension(fileName, bitmapFormat));
-      FileImageOutputStream output = new FileImageOutputStream(file);
-      writer.setOutput(output);
-      IIOImage image = new IIOImage(bufferedImage, null, metadata);
-      writer.write(null, image, iwp);
-      writer.dispose();
+      writeImage(writer, new IIOImage(bufferedImage, null, metadata), iwp, bitmapFormat, targetStream);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
     }
   }
 
+  /**
+   * Write a chart as an image with a custom DPI to a channel. The channel is not closed.
+   *
+   * @param chart
+   * @param targetChannel
+   * @param bitmapFormat
+   * @param DPI
+   * @throws IOException
+   */
+  public static void saveBitmapWithDPI(Chart chart, WritableByteChannel targetChannel, BitmapFormat bitmapFormat, int DPI) throws IOException {
+
+    saveBitmapWithDPI(chart, Channels.newOutputStream(targetChannel), bitmapFormat, DPI);
+  }
+
   /**
    * Sets the metadata correctly
    *
@@ -174,22 +406,73 @@ public final class BitmapEncoder {
    */
   public static void saveJPGWithQuality(Chart chart, String fileName, float quality) throws FileNotFoundException, IOException {
 
-    BufferedImage bufferedImage = getBufferedImage(chart);
+    OutputStream out = new FileOutputStream(fileName);
+    try {
+      saveJPGWithQuality(chart, out, quality);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Write a Chart as a JPEG to a stream. The stream is not closed.
+   *
+   * @param chart
+   * @param targetStream
+   * @param quality - a float between 0 and 1 (1 = maximum quality)
+   * @throws IOException
+   */
+  public static void saveJPGWithQuality(Chart chart, OutputStream targetStream, float quality) throws IOException {
+
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    try {
+      ImageWriter writer = getImageWriter(BitmapFormat.JPG);
+      // instantiate an ImageWriteParam object with default compression options
+      ImageWriteParam iwp = writer.getDefaultWriteParam();
+      iwp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      iwp.setCompressionQuality(quality);
+      writeImage(writer, new IIOImage(bufferedImage, null, null), iwp, BitmapFormat.JPG, targetStream);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  /**
+   * Write a Chart as a JPEG to a channel. The channel is not closed.
+   *
+   * @param chart
+   * @param targetChannel
+   * @param quality - a float between 0 and 1 (1 = maximum quality)
+   * @throws IOException
+   */
+  public static void saveJPGWithQuality(Chart chart, WritableByteChannel targetChannel, float quality) throws IOException {
+
+    saveJPGWithQuality(chart, Channels.newOutputStream(targetChannel), quality);
+  }
+
+  private static ImageWriter getImageWriter(BitmapFormat bitmapFormat) {
+
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(bitmapFormat.toString().toLowerCase());
+    if (!writers.hasNext()) {
+      throw new IllegalArgumentException("There is no image writer for the " + bitmapFormat + " format!!!");
+    }
+    return writers.next();
+  }
+
+  /**
+   * Encodes an image into a stream. ImageIO.write() would cache the whole encoded image in a temp file, the memory cache used here only holds what the
+   * writer may still seek back to and passes everything before on to the stream.
+   */
+  private static void writeImage(ImageWriter writer, IIOImage image, ImageWriteParam iwp, BitmapFormat bitmapFormat, OutputStream targetStream) throws IOException {
 
-    Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName("jpeg");
-    ImageWriter writer = iter.next();
-    // instantiate an ImageWriteParam object with default compression options
-    ImageWriteParam iwp = writer.getDefaultWriteParam();
-    iwp.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-    iwp.setCompressionQuality(quality);
-    File file = new File(fileName);
-    FileImageOutputStream output = new FileImageOutputStream(file);
+    // the GIF writer never seeks back, but doesn't flush the cache either
+    ImageOutputStream output = bitmapFormat == BitmapFormat.GIF ? new ForwardOnlyImageOutputStream(targetStream) : new MemoryCacheImageOutputStream(targetStream);
     try {
       writer.setOutput(output);
-      IIOImage image = new IIOImage(bufferedImage, null, null);
       writer.write(null, image, iwp);
-      writer.dispose();
     } finally {
+      writer.dispose();
+      // flushes the rest of the cache, but doesn't close the target stream
       output.close();
     }
   }
@@ -203,7 +486,23 @@ public final class BitmapEncoder {
    */
   public static byte[] getBitmapBytes(Chart chart, BitmapFormat bitmapFormat) throws IOException {
 
-    BufferedImage bufferedImage = getBufferedImage(chart);
+    BufferedImage bufferedImage = getPooledBufferedImage(chart);
+    try {
+      return getBitmapBytes(bufferedImage, bitmapFormat);
+    } finally {
+      IMAGE_POOL.release(bufferedImage);
+    }
+  }
+
+  /**
+   * Generates a byte[] for a given image, e.g. a chart painted into an image that is reused for several charts
+   *
+   * @param bufferedImage
+   * @param bitmapFormat
+   * @return a byte[] for the given image, encoded in the given format
+   * @throws IOException
+   */
+  public static byte[] getBitmapBytes(BufferedImage bufferedImage, BitmapFormat bitmapFormat) throws IOException {
 
     byte[] imageInBytes = null;
 
@@ -224,4 +523,199 @@ public final class BitmapEncoder {
     return bufferedImage;
   }
 
+  /**
+   * Paints a Chart into a caller-owned image, e.g. one that is reused for many charts. The Chart's area at the top left of the image is cleared first,
+   * the rest of the image is left alone.
+   *
+   * @param chart
+   * @param targetImage - an image at least as large as the Chart
+   * @return the target image
+   */
+  public static BufferedImage getBufferedImage(Chart chart, BufferedImage targetImage) {
+
+    if (targetImage.getWidth() < chart.getWidth() || targetImage.getHeight() < chart.getHeight()) {
+      throw new IllegalArgumentException("The target image must be at least as large as the Chart!!!");
+    }
+    BufferedImagePool.clear(targetImage, chart.getWidth(), chart.getHeight());
+    Graphics2D graphics2D = targetImage.createGraphics();
+    try {
+      chart.paint(graphics2D);
+    } finally {
+      graphics2D.dispose();
+    }
+    return targetImage;
+  }
+
+  /**
+   * A memory cache that passes everything on to the stream every few KB, for writers that never seek back
+   */
+  private static final class ForwardOnlyImageOutputStream extends MemoryCacheImageOutputStream {
+
+    private static final int FLUSH_SIZE = 8192;
+
+    public ForwardOnlyImageOutputStream(OutputStream stream) {
+
+      super(stream);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+      super.write(b);
+      flushIfFull();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+      super.write(b, off, len);
+      flushIfFull();
+    }
+
+    private void flushIfFull() throws IOException {
+
+      long position = getStreamPosition();
+      if (position - getFlushedPosition() >= FLUSH_SIZE) {
+        flushBefore(position);
+      }
+    }
+  }
+
+  /**
+   * Counts the bytes written to a stream, without closing it
+   */
+  private static final class CountingOutputStream extends OutputStream {
+
+    private final OutputStream targetStream;
+    private long count;
+
+    public CountingOutputStream(OutputStream targetStream) {
+
+      this.targetStream = targetStream;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+      targetStream.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+      targetStream.write(b, off, len);
+      count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+      targetStream.flush();
+    }
+  }
+
+  /**
+   * The result of saving a Chart with a palette
+   */
+  public static final class IndexedColorReport {
+
+    private final int colorCount;
+    private final int paletteSize;
+    private final double meanSquaredError;
+    private final long byteCount;
+    private final long quantizeNanos;
+    private final long encodeNanos;
+
+    private IndexedColorReport(int colorCount, int paletteSize, double meanSquaredError, long byteCount, long quantizeNanos, long encodeNanos) {
+
+      this.colorCount = colorCount;
+      this.paletteSize = paletteSize;
+      this.meanSquaredError = meanSquaredError;
+      this.byteCount = byteCount;
+      this.quantizeNanos = quantizeNanos;
+      this.encodeNanos = encodeNanos;
+    }
+
+    /**
+     * @return the number of distinct colors of the painted Chart
+     */
+    public int getColorCount() {
+
+      return colorCount;
+    }
+
+    /**
+     * @return the number of palette colors
+     */
+    public int getPaletteSize() {
+
+      return paletteSize;
+    }
+
+    /**
+     * @return true if every color of the painted Chart is in the palette
+     */
+    public boolean isLossless() {
+
+      return colorCount == paletteSize;
+    }
+
+    /**
+     * @return the mean squared error per color channel, 0 if lossless
+     */
+    public double getMeanSquaredError() {
+
+      return meanSquaredError;
+    }
+
+    /**
+     * @return the peak signal-to-noise ratio in dB, infinite if lossless. Above 40 dB, the difference is hard to see.
+     */
+    public double getPSNR() {
+
+      return meanSquaredError == 0.0 ? Double.POSITIVE_INFINITY : 10.0 * Math.log10(255.0 * 255.0 / meanSquaredError);
+    }
+
+    /**
+     * @return the size of the encoded bitmap
+     */
+    public long getByteCount() {
+
+      return byteCount;
+    }
+
+    public long getQuantizeNanos() {
+
+      return quantizeNanos;
+    }
+
+    public long getEncodeNanos() {
+
+      return encodeNanos;
+    }
+
+    @Override
+    public String toString() {
+
+      return "IndexedColorReport [colorCount=" + colorCount + ", paletteSize=" + paletteSize + ", meanSquaredError=" + meanSquaredError + ", PSNR=" + getPSNR()
+          + ", byteCount=" + byteCount + ", quantizeNanos=" + quantizeNanos + ", encodeNanos=" + encodeNanos + "]";
+    }
+  }
+
+  /**
+   * Paints a Chart into an image from the pool, which must be released after encoding
+   */
+  private static BufferedImage getPooledBufferedImage(Chart chart) {
+
+    BufferedImage bufferedImage = IMAGE_POOL.acquire(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics2D = bufferedImage.createGraphics();
+    try {
+      chart.paint(graphics2D);
+    } finally {
+      graphics2D.dispose();
+    }
+    return bufferedImage;
+  }
+
 }
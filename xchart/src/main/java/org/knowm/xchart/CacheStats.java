@@ -0,0 +1,83 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+/**
+ * A snapshot of the counts of one of the caches a Chart keeps between paints, e.g. to tune the cache sizes
+ *
+ * @author timmolter
+ */
+public final class CacheStats {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+
+  /**
+   * Constructor
+   *
+   * @param hitCount
+   * @param missCount
+   * @param evictionCount
+   */
+  CacheStats(long hitCount, long missCount, long evictionCount) {
+
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * @return the number of lookups that found a cached result
+   */
+  public long getHitCount() {
+
+    return hitCount;
+  }
+
+  /**
+   * @return the number of lookups that had to calculate the result
+   */
+  public long getMissCount() {
+
+    return missCount;
+  }
+
+  /**
+   * @return the number of results evicted to stay within the cache size
+   */
+  public long getEvictionCount() {
+
+    return evictionCount;
+  }
+
+  /**
+   * @return the share of lookups that found a cached result, 0 if there were none
+   */
+  public double getHitRatio() {
+
+    long lookupCount = hitCount + missCount;
+    return lookupCount == 0 ? 0.0 : (double) hitCount / lookupCount;
+  }
+
+  @Override
+  public String toString() {
+
+    return "CacheStats [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", hitRatio=" + getHitRatio() + "]";
+  }
+
+}
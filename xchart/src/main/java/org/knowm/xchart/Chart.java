@@ -17,12 +17,17 @@
 package org.knowm.xchart;
 
 import java.awt.Graphics2D;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.knowm.xchart.StyleManager.ChartTheme;
+import org.knowm.xchart.internal.chartpart.AxisTickCalculatorCache;
 import org.knowm.xchart.internal.chartpart.ChartInternal;
+import org.knowm.xchart.internal.chartpart.TextCache;
+import org.knowm.xchart.internal.data.ArraySeriesData;
+import org.knowm.xchart.internal.data.RingBufferSeriesData;
 import org.knowm.xchart.internal.style.Theme;
 
 /**
@@ -105,6 +110,46 @@ public class Chart {
     chartInternal.paint(g);
   }
 
+  /**
+   * Paints the chart, transforming the X and Y values of large Line, Scatter and Area series into device coordinates in parallel chunks on the given
+   * ExecutorService. The painting thread transforms the chunks no thread has started yet, so the ExecutorService may be the bounded pool the chart is
+   * painted on.
+   *
+   * @param g
+   * @param width
+   * @param height
+   * @param transformExecutorService - the ExecutorService, null to transform on the painting thread. It is not shut down by the chart.
+   */
+  public void paint(Graphics2D g, int width, int height, ExecutorService transformExecutorService) {
+
+    chartInternal.paint(g, width, height, transformExecutorService);
+  }
+
+  /**
+   * Paints the chart for a vector graphics file, so that e.g. lines can be simplified for the target. Used by VectorGraphicsEncoder.
+   *
+   * @param g
+   * @param width
+   * @param height
+   */
+  void paintVectorGraphic(Graphics2D g, int width, int height) {
+
+    chartInternal.paintVectorGraphic(g, width, height);
+  }
+
+  /**
+   * Paints the chart, drawing the parts that don't depend on the series data from a cached image if static layer caching is enabled. Used by
+   * XChartPanel.
+   *
+   * @param g
+   * @param width
+   * @param height
+   */
+  void paintWithLayerCache(Graphics2D g, int width, int height) {
+
+    chartInternal.paintWithLayerCache(g, width, height);
+  }
+
   /**
    * Add a series for a X-Y type chart using Lists with error bars
    *
@@ -185,7 +230,7 @@ public class Chart {
   }
 
   /**
-   * Add a series for a X-Y type chart using using double arrays with error bars
+   * Add a series for a X-Y type chart using using double arrays with error bars. The arrays are copied, so they may be refilled afterwards.
    *
    * @param seriesName
    * @param xData the X-Axis data
@@ -195,26 +240,114 @@ public class Chart {
    */
   public Series addSeries(String seriesName, double[] xData, double[] yData, double[] errorBars) {
 
-    List<Double> xDataNumber = null;
-    if (xData != null) {
-      xDataNumber = new ArrayList<Double>();
-      for (double d : xData) {
-        xDataNumber.add(new Double(d));
-      }
-    }
-    List<Double> yDataNumber = new ArrayList<Double>();
-    for (double d : yData) {
-      yDataNumber.add(new Double(d));
+    return chartInternal.addSeries(seriesName, new ArraySeriesData(copyOf(xData), copyOf(yData), copyOf(errorBars)), false);
+  }
+
+  /**
+   * Add a rolling series for a real-time X-Y type chart. The series keeps at most the given number of points in a ring buffer; appending points with
+   * Series.appendPoints() or XChartPanel.appendSeries() evicts the oldest points automatically.
+   *
+   * @param seriesName
+   * @param capacity the max number of points kept
+   * @param xData the initial X-Axis data, or null to generate the X values 1, 2, 3, ... so the window stays fixed while the data scrolls through it
+   * @param yData the initial Y-Axis data, null or empty to start without points
+   * @return A Series object that you can set properties on
+   */
+  public Series addRollingSeries(String seriesName, int capacity, double[] xData, double[] yData) {
+
+    return addRollingSeries(seriesName, capacity, xData, yData, null);
+  }
+
+  /**
+   * Add a rolling series with error bars for a real-time X-Y type chart. The series keeps at most the given number of points in a ring buffer; appending
+   * points with Series.appendPoints() or XChartPanel.appendSeries() evicts the oldest points automatically.
+   *
+   * @param seriesName
+   * @param capacity the max number of points kept
+   * @param xData the initial X-Axis data, or null to generate the X values 1, 2, 3, ... so the window stays fixed while the data scrolls through it
+   * @param yData the initial Y-Axis data, null or empty to start without points
+   * @param errorBars the initial error bar data, null for a series without error bars
+   * @return A Series object that you can set properties on
+   */
+  public Series addRollingSeries(String seriesName, int capacity, double[] xData, double[] yData, double[] errorBars) {
+
+    return chartInternal.addSeries(seriesName, newRingBufferSeriesData(capacity, xData, yData, errorBars), false);
+  }
+
+  /**
+   * Add a rolling series for a real-time Category type chart, e.g. a bar chart of the latest values. The series keeps at most the given number of points
+   * in a ring buffer; appending points with Series.appendPoints() or XChartPanel.appendSeries() evicts the oldest points automatically. The categories
+   * are the X values, which must be the same for all series of the chart, so append the same X values to all series.
+   *
+   * @param seriesName
+   * @param capacity the max number of points kept
+   * @param xData the initial X-Axis data, or null to generate the X values 1, 2, 3, ...
+   * @param yData the initial Y-Axis data, null or empty to start without points
+   * @return A Series object that you can set properties on
+   */
+  public Series addCategoryRollingSeries(String seriesName, int capacity, double[] xData, double[] yData) {
+
+    return addCategoryRollingSeries(seriesName, capacity, xData, yData, null);
+  }
+
+  /**
+   * Add a rolling series with error bars for a real-time Category type chart. The series keeps at most the given number of points in a ring buffer;
+   * appending points with Series.appendPoints() or XChartPanel.appendSeries() evicts the oldest points automatically. The categories are the X values,
+   * which must be the same for all series of the chart, so append the same X values to all series.
+   *
+   * @param seriesName
+   * @param capacity the max number of points kept
+   * @param xData the initial X-Axis data, or null to generate the X values 1, 2, 3, ...
+   * @param yData the initial Y-Axis data, null or empty to start without points
+   * @param errorBars the initial error bar data, null for a series without error bars
+   * @return A Series object that you can set properties on
+   */
+  public Series addCategoryRollingSeries(String seriesName, int capacity, double[] xData, double[] yData, double[] errorBars) {
+
+    return chartInternal.addCategorySeries(seriesName, newRingBufferSeriesData(capacity, xData, yData, errorBars), false);
+  }
+
+  private static RingBufferSeriesData newRingBufferSeriesData(int capacity, double[] xData, double[] yData, double[] errorBars) {
+
+    RingBufferSeriesData seriesData = new RingBufferSeriesData(capacity, xData == null, false, errorBars != null);
+    if (yData != null) {
+      seriesData.append(xData, yData, errorBars);
     }
-    List<Double> errorBarDataNumber = null;
-    if (errorBars != null) {
-      errorBarDataNumber = new ArrayList<Double>();
-      for (double d : errorBars) {
-        errorBarDataNumber.add(new Double(d));
-      }
+    else if (xData != null || errorBars != null) {
+      throw new IllegalArgumentException("Y-Axis data cannot be null if there is X-Axis or error bar data!!!");
     }
+    return seriesData;
+  }
+
+  /**
+   * Add a series for a X-Y type chart with a Date X-Axis using primitive arrays
+   *
+   * @param seriesName
+   * @param xData the X-Axis data as milliseconds since the epoch
+   * @param yData the Y-Axis data
+   * @return A Series object that you can set properties on
+   */
+  public Series addDateSeries(String seriesName, long[] xData, double[] yData) {
+
+    return addDateSeries(seriesName, xData, yData, null);
+  }
+
+  /**
+   * Add a series for a X-Y type chart with a Date X-Axis using primitive arrays with error bars. The arrays are copied, so they may be refilled
+   * afterwards.
+   *
+   * @param seriesName
+   * @param xData the X-Axis data as milliseconds since the epoch
+   * @param yData the Y-Axis data
+   * @param errorBars the error bar data
+   * @return A Series object that you can set properties on
+   */
+  public Series addDateSeries(String seriesName, long[] xData, double[] yData, double[] errorBars) {
 
-    return addSeries(seriesName, xDataNumber, yDataNumber, errorBarDataNumber);
+    if (xData == null) {
+      throw new IllegalArgumentException("X-Axis data cannot be null!!!");
+    }
+    return chartInternal.addSeries(seriesName, new ArraySeriesData(Arrays.copyOf(xData, xData.length), copyOf(yData), copyOf(errorBars)), true);
   }
 
   /**
@@ -241,26 +374,25 @@ public class Chart {
    */
   public Series addSeries(String seriesName, int[] xData, int[] yData, int[] errorBars) {
 
-    List<Double> xDataNumber = null;
-    if (xData != null) {
-      xDataNumber = new ArrayList<Double>();
-      for (int d : xData) {
-        xDataNumber.add(new Double(d));
-      }
-    }
-    List<Double> yDataNumber = new ArrayList<Double>();
-    for (int d : yData) {
-      yDataNumber.add(new Double(d));
+    // the converted arrays are new already
+    return chartInternal.addSeries(seriesName, new ArraySeriesData(toDoubleArray(xData), toDoubleArray(yData), toDoubleArray(errorBars)), false);
+  }
+
+  private static double[] copyOf(double[] data) {
+
+    return data == null ? null : Arrays.copyOf(data, data.length);
+  }
+
+  private static double[] toDoubleArray(int[] data) {
+
+    if (data == null) {
+      return null;
     }
-    List<Double> errorBarDataNumber = null;
-    if (errorBars != null) {
-      errorBarDataNumber = new ArrayList<Double>();
-      for (int d : errorBars) {
-        errorBarDataNumber.add(new Double(d));
-      }
+    double[] doubles = new double[data.length];
+    for (int i = 0; i < data.length; i++) {
+      doubles[i] = data[i];
     }
-
-    return addSeries(seriesName, xDataNumber, yDataNumber, errorBarDataNumber);
+    return doubles;
   }
 
   /**
@@ -313,6 +445,36 @@ public class Chart {
     return chartInternal.getHeight();
   }
 
+  /**
+   * @return the hit, miss and eviction counts of the cache of recent X-Axis tick calculations
+   */
+  public CacheStats getXAxisTickCacheStats() {
+
+    return getCacheStats(chartInternal.getAxisPair().getXAxis().getAxisTickCalculatorCache());
+  }
+
+  /**
+   * @return the hit, miss and eviction counts of the cache of recent Y-Axis tick calculations
+   */
+  public CacheStats getYAxisTickCacheStats() {
+
+    return getCacheStats(chartInternal.getAxisPair().getYAxis().getAxisTickCalculatorCache());
+  }
+
+  /**
+   * @return the hit, miss and eviction counts of the cache of laid out titles, tick labels and legend texts
+   */
+  public CacheStats getTextCacheStats() {
+
+    TextCache textCache = chartInternal.getTextCache();
+    return new CacheStats(textCache.getHitCount(), textCache.getMissCount(), textCache.getEvictionCount());
+  }
+
+  private static CacheStats getCacheStats(AxisTickCalculatorCache axisTickCalculatorCache) {
+
+    return new CacheStats(axisTickCalculatorCache.getHitCount(), axisTickCalculatorCache.getMissCount(), axisTickCalculatorCache.getEvictionCount());
+  }
+
   public Map<String, Series> getSeriesMap() {
 
     return chartInternal.getSeriesMap();
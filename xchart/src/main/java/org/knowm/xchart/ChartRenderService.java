@@ -0,0 +1,313 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+
+/**
+ * Renders Charts to encoded bitmaps on a pool of worker threads, e.g. for batches of report charts on a server. Each worker thread paints into its own
+ * image, which is reused for the next chart of the same size, and the service keeps throughput metrics per BitmapFormat.
+ * <p>
+ * A Chart must not be changed or painted anywhere else until its job is done.
+ *
+ * @author timmolter
+ */
+public class ChartRenderService {
+
+  private final ExecutorService executorService;
+
+  private final boolean isExecutorServiceOwned;
+
+  private final ThreadLocal<BufferedImage> threadImage = new ThreadLocal<BufferedImage>();
+
+  private final Map<BitmapFormat, MetricsCounter> metricsCounters;
+
+  /**
+   * Constructor - renders on a new pool with the given number of daemon threads, which is shut down by shutdown()
+   *
+   * @param numThreads
+   */
+  public ChartRenderService(int numThreads) {
+
+    if (numThreads < 1) {
+      throw new IllegalArgumentException("The number of threads must be at least 1!!!");
+    }
+    this.executorService = Executors.newFixedThreadPool(numThreads, new RenderThreadFactory());
+    this.isExecutorServiceOwned = true;
+    this.metricsCounters = newMetricsCounters();
+  }
+
+  /**
+   * Constructor - renders on the given ExecutorService, e.g. a ForkJoinPool or a virtual thread executor on newer JVMs. The images are reused per
+   * thread, so they are only reused if the ExecutorService reuses its threads. The ExecutorService is not shut down by shutdown().
+   *
+   * @param executorService
+   */
+  public ChartRenderService(ExecutorService executorService) {
+
+    if (executorService == null) {
+      throw new IllegalArgumentException("ExecutorService cannot be null!!!");
+    }
+    this.executorService = executorService;
+    this.isExecutorServiceOwned = false;
+    this.metricsCounters = newMetricsCounters();
+  }
+
+  private static Map<BitmapFormat, MetricsCounter> newMetricsCounters() {
+
+    Map<BitmapFormat, MetricsCounter> metricsCounters = new EnumMap<BitmapFormat, MetricsCounter>(BitmapFormat.class);
+    for (BitmapFormat bitmapFormat : BitmapFormat.values()) {
+      metricsCounters.put(bitmapFormat, new MetricsCounter());
+    }
+    return Collections.unmodifiableMap(metricsCounters);
+  }
+
+  /**
+   * Renders a Chart in the background
+   *
+   * @param chart
+   * @param bitmapFormat
+   * @return a Future of the encoded bitmap, as returned by BitmapEncoder.getBitmapBytes()
+   */
+  public Future<byte[]> submit(final Chart chart, final BitmapFormat bitmapFormat) {
+
+    if (chart == null) {
+      throw new IllegalArgumentException("Chart cannot be null!!!");
+    }
+    if (bitmapFormat == null) {
+      throw new IllegalArgumentException("BitmapFormat cannot be null!!!");
+    }
+    return executorService.submit(new Callable<byte[]>() {
+
+      @Override
+      public byte[] call() throws Exception {
+
+        return render(chart, bitmapFormat);
+      }
+    });
+  }
+
+  /**
+   * Renders a batch of Charts in the background
+   *
+   * @param charts
+   * @param bitmapFormat
+   * @return the Futures of the encoded bitmaps, in the order of the Charts
+   */
+  public List<Future<byte[]>> submitAll(List<Chart> charts, BitmapFormat bitmapFormat) {
+
+    List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>(charts.size());
+    for (Chart chart : charts) {
+      futures.add(submit(chart, bitmapFormat));
+    }
+    return futures;
+  }
+
+  /**
+   * Paints and encodes a Chart on the calling thread, reusing the thread's image
+   */
+  private byte[] render(Chart chart, BitmapFormat bitmapFormat) throws Exception {
+
+    MetricsCounter metricsCounter = metricsCounters.get(bitmapFormat);
+    long start = System.nanoTime();
+    metricsCounter.start(start);
+
+    BufferedImage bufferedImage = threadImage.get();
+    if (bufferedImage == null || bufferedImage.getWidth() != chart.getWidth() || bufferedImage.getHeight() != chart.getHeight()) {
+      bufferedImage = new BufferedImage(chart.getWidth(), chart.getHeight(), BufferedImage.TYPE_INT_RGB);
+      threadImage.set(bufferedImage);
+    }
+    BitmapEncoder.getBufferedImage(chart, bufferedImage);
+    long painted = System.nanoTime();
+
+    byte[] bitmapBytes = BitmapEncoder.getBitmapBytes(bufferedImage, bitmapFormat);
+    long encoded = System.nanoTime();
+
+    metricsCounter.finish(painted - start, encoded - painted, bitmapBytes.length, encoded);
+    return bitmapBytes;
+  }
+
+  /**
+   * @param bitmapFormat
+   * @return the metrics of all Charts rendered in the given format so far
+   */
+  public Metrics getMetrics(BitmapFormat bitmapFormat) {
+
+    return metricsCounters.get(bitmapFormat).getMetrics();
+  }
+
+  /**
+   * Shuts down the pool if the service created it, already submitted Charts are still rendered
+   */
+  public void shutdown() {
+
+    if (isExecutorServiceOwned) {
+      executorService.shutdown();
+    }
+  }
+
+  /**
+   * The metrics of the Charts rendered in one BitmapFormat
+   */
+  public static final class Metrics {
+
+    private final long chartCount;
+    private final long byteCount;
+    private final long paintNanos;
+    private final long encodeNanos;
+    private final long elapsedNanos;
+
+    private Metrics(long chartCount, long byteCount, long paintNanos, long encodeNanos, long elapsedNanos) {
+
+      this.chartCount = chartCount;
+      this.byteCount = byteCount;
+      this.paintNanos = paintNanos;
+      this.encodeNanos = encodeNanos;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of rendered Charts
+     */
+    public long getChartCount() {
+
+      return chartCount;
+    }
+
+    /**
+     * @return the total size of the encoded bitmaps
+     */
+    public long getByteCount() {
+
+      return byteCount;
+    }
+
+    /**
+     * @return the time spent painting, summed over all threads
+     */
+    public long getPaintNanos() {
+
+      return paintNanos;
+    }
+
+    /**
+     * @return the time spent encoding, summed over all threads
+     */
+    public long getEncodeNanos() {
+
+      return encodeNanos;
+    }
+
+    /**
+     * @return the wall clock time from the start of the first Chart to the end of the last one
+     */
+    public long getElapsedNanos() {
+
+      return elapsedNanos;
+    }
+
+    /**
+     * @return the rendered Charts per second of wall clock time
+     */
+    public double getChartsPerSecond() {
+
+      return elapsedNanos == 0 ? 0.0 : chartCount * 1000000000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+
+      return "Metrics [chartCount=" + chartCount + ", byteCount=" + byteCount + ", paintNanos=" + paintNanos + ", encodeNanos=" + encodeNanos + ", elapsedNanos="
+          + elapsedNanos + ", chartsPerSecond=" + getChartsPerSecond() + "]";
+    }
+  }
+
+  private static final class MetricsCounter {
+
+    private final AtomicLong chartCount = new AtomicLong();
+    private final AtomicLong byteCount = new AtomicLong();
+    private final AtomicLong paintNanos = new AtomicLong();
+    private final AtomicLong encodeNanos = new AtomicLong();
+
+    /** the nanoTime of the first start and the last finish, guarded by this */
+    private boolean isStarted;
+    private long firstStart;
+    private long lastFinish;
+
+    synchronized void start(long start) {
+
+      if (!isStarted) {
+        isStarted = true;
+        firstStart = start;
+        lastFinish = start;
+      }
+    }
+
+    void finish(long paint, long encode, long bytes, long finish) {
+
+      paintNanos.addAndGet(paint);
+      encodeNanos.addAndGet(encode);
+      byteCount.addAndGet(bytes);
+      synchronized (this) {
+        if (finish - lastFinish > 0) {
+          lastFinish = finish;
+        }
+      }
+      chartCount.incrementAndGet();
+    }
+
+    Metrics getMetrics() {
+
+      long elapsed;
+      synchronized (this) {
+        elapsed = lastFinish - firstStart;
+      }
+      return new Metrics(chartCount.get(), byteCount.get(), paintNanos.get(), encodeNanos.get(), elapsed);
+    }
+  }
+
+  private static final class RenderThreadFactory implements ThreadFactory {
+
+    private static final AtomicInteger serviceCount = new AtomicInteger();
+
+    private final int serviceNumber = serviceCount.incrementAndGet();
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+
+      Thread thread = new Thread(runnable, "xchart-render-" + serviceNumber + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+}
@@ -0,0 +1,798 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * A PNG encoder for chart images, which are mostly flat color and compress well at low deflate levels. Unlike the ImageIO PNG writer, the deflate
+ * level and the row filter can be chosen, charts with at most 256 colors are written with a palette, and large images can be deflated in parallel.
+ * <p>
+ * The settings must not be changed while an image is being encoded, otherwise a PNGEncoder can be used by several threads at once.
+ *
+ * @author timmolter
+ */
+public class PNGEncoder {
+
+  /**
+   * The PNG row filters. ADAPTIVE picks the filter with the smallest sum of absolute differences for each row, like libpng does.
+   */
+  public enum PNGFilter {
+
+    NONE, SUB, UP, AVERAGE, PAETH, ADAPTIVE;
+  }
+
+  /** the default min size of the filtered image data per parallel deflate chunk, 256 KB */
+  public static final int DEFAULT_PARALLEL_CHUNK_SIZE = 256 * 1024;
+
+  private static final byte[] SIGNATURE = { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
+
+  private static final byte[] IHDR = { 'I', 'H', 'D', 'R' };
+  private static final byte[] PLTE = { 'P', 'L', 'T', 'E' };
+  private static final byte[] TRNS = { 't', 'R', 'N', 'S' };
+  private static final byte[] IDAT = { 'I', 'D', 'A', 'T' };
+  private static final byte[] IEND = { 'I', 'E', 'N', 'D' };
+
+  private static final int COLOR_TYPE_RGB = 2;
+  private static final int COLOR_TYPE_INDEXED = 3;
+  private static final int COLOR_TYPE_RGBA = 6;
+
+  private static final int IDAT_SIZE = 64 * 1024;
+
+  /** the largest number of colors written with a palette */
+  private static final int MAX_PALETTE_SIZE = 256;
+
+  /** Deflater.deflate(byte[], int, int, int) with SYNC_FLUSH, which parallel deflate needs, came with Java 7 */
+  private static final boolean IS_SYNC_FLUSH_SUPPORTED = isSyncFlushSupported();
+
+  private int compressionLevel = Deflater.BEST_SPEED;
+
+  private PNGFilter filter = PNGFilter.UP;
+
+  private boolean isPaletteAllowed = true;
+
+  private ExecutorService deflateExecutorService;
+
+  private int parallelChunkSize = DEFAULT_PARALLEL_CHUNK_SIZE;
+
+  /**
+   * @param compressionLevel - the deflate level from 0 (no compression) to 9 (best compression), 1 by default
+   */
+  public void setCompressionLevel(int compressionLevel) {
+
+    if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException("The compression level must be between 0 and 9!!!");
+    }
+    this.compressionLevel = compressionLevel;
+  }
+
+  public int getCompressionLevel() {
+
+    return compressionLevel;
+  }
+
+  /**
+   * @param filter - the row filter of RGB images, UP by default. Palette images are always unfiltered, as the PNG spec recommends.
+   */
+  public void setFilter(PNGFilter filter) {
+
+    if (filter == null) {
+      throw new IllegalArgumentException("PNGFilter cannot be null!!!");
+    }
+    this.filter = filter;
+  }
+
+  public PNGFilter getFilter() {
+
+    return filter;
+  }
+
+  /**
+   * @param isPaletteAllowed - true to write images with at most 256 colors with a palette, true by default
+   */
+  public void setPaletteAllowed(boolean isPaletteAllowed) {
+
+    this.isPaletteAllowed = isPaletteAllowed;
+  }
+
+  public boolean isPaletteAllowed() {
+
+    return isPaletteAllowed;
+  }
+
+  /**
+   * Sets the ExecutorService that deflates chunks of large images in parallel. Each chunk is deflated without the data of the chunk before, so the
+   * images get slightly larger. Parallel deflate needs Java 7, on Java 6 images are always deflated on the calling thread. The calling thread deflates
+   * the chunks that no thread of the ExecutorService has started yet instead of waiting for them, so the ExecutorService may be the bounded pool the
+   * encoder itself runs on, e.g. the one of a ChartRenderService, without deadlocking.
+   *
+   * @param deflateExecutorService - the ExecutorService, null to deflate on the calling thread, null by default. It is not shut down by the encoder.
+   */
+  public void setDeflateExecutorService(ExecutorService deflateExecutorService) {
+
+    this.deflateExecutorService = deflateExecutorService;
+  }
+
+  public ExecutorService getDeflateExecutorService() {
+
+    return deflateExecutorService;
+  }
+
+  /**
+   * @param parallelChunkSize - the min size of the filtered image data per parallel deflate chunk. Smaller images are deflated on the calling thread.
+   */
+  public void setParallelChunkSize(int parallelChunkSize) {
+
+    if (parallelChunkSize < 1) {
+      throw new IllegalArgumentException("The parallel chunk size must be at least 1!!!");
+    }
+    this.parallelChunkSize = parallelChunkSize;
+  }
+
+  public int getParallelChunkSize() {
+
+    return parallelChunkSize;
+  }
+
+  /**
+   * Encodes an image as a PNG
+   *
+   * @param bufferedImage
+   * @return the PNG bytes
+   * @throws IOException
+   */
+  public byte[] encode(BufferedImage bufferedImage) throws IOException {
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    encode(bufferedImage, baos);
+    return baos.toByteArray();
+  }
+
+  /**
+   * Encodes an image as a PNG into a stream. The stream is not closed.
+   *
+   * @param bufferedImage
+   * @param targetStream
+   * @throws IOException
+   */
+  public void encode(BufferedImage bufferedImage, OutputStream targetStream) throws IOException {
+
+    ImageRows imageRows = new ImageRows(bufferedImage, isPaletteAllowed);
+
+    targetStream.write(SIGNATURE);
+
+    byte[] header = new byte[13];
+    putInt(header, 0, imageRows.width);
+    putInt(header, 4, imageRows.height);
+    header[8] = (byte) imageRows.bitDepth;
+    header[9] = (byte) imageRows.colorType;
+    // compression, filter and interlace method 0
+    writeChunk(targetStream, IHDR, header, header.length);
+
+    if (imageRows.palette != null) {
+      writePalette(targetStream, imageRows);
+    }
+
+    IDATOutputStream idatStream = new IDATOutputStream(targetStream);
+    PNGFilter rowFilter = imageRows.palette != null ? PNGFilter.NONE : filter;
+    int rowsPerChunk = Math.max(1, parallelChunkSize / (imageRows.rowBytes + 1));
+    if (deflateExecutorService != null && IS_SYNC_FLUSH_SUPPORTED && imageRows.height > rowsPerChunk) {
+      deflateParallel(imageRows, rowFilter, rowsPerChunk, idatStream);
+    }
+    else {
+      deflate(imageRows, rowFilter, idatStream);
+    }
+    idatStream.flush();
+
+    writeChunk(targetStream, IEND, new byte[0], 0);
+    targetStream.flush();
+  }
+
+  private void writePalette(OutputStream targetStream, ImageRows imageRows) throws IOException {
+
+    int[] palette = imageRows.palette;
+    byte[] plte = new byte[palette.length * 3];
+    byte[] trns = new byte[palette.length];
+    int trnsLength = 0;
+    for (int i = 0; i < palette.length; i++) {
+      plte[i * 3] = (byte) (palette[i] >> 16);
+      plte[i * 3 + 1] = (byte) (palette[i] >> 8);
+      plte[i * 3 + 2] = (byte) palette[i];
+      trns[i] = (byte) (palette[i] >>> 24);
+      if (trns[i] != (byte) 0xFF) {
+        trnsLength = i + 1;
+      }
+    }
+    writeChunk(targetStream, PLTE, plte, plte.length);
+    if (trnsLength > 0) {
+      writeChunk(targetStream, TRNS, trns, trnsLength);
+    }
+  }
+
+  /**
+   * Deflates all rows into one zlib stream on the calling thread
+   */
+  private void deflate(ImageRows imageRows, PNGFilter rowFilter, IDATOutputStream idatStream) throws IOException {
+
+    Deflater deflater = new Deflater(compressionLevel);
+    try {
+      DeflaterOutputStream deflaterStream = new DeflaterOutputStream(idatStream, deflater, IDAT_SIZE);
+      RowFilter filterer = new RowFilter(imageRows, rowFilter);
+      for (int y = 0; y < imageRows.height; y++) {
+        deflaterStream.write(filterer.filterRow(y), 0, imageRows.rowBytes + 1);
+      }
+      deflaterStream.finish();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  /**
+   * Deflates chunks of rows into raw deflate streams on the ExecutorService. All but the last chunk end with a sync flush, so they can be joined into
+   * one zlib stream, and their Adler-32 checksums are combined into the one of the whole stream. The calling thread runs every chunk that hasn't been
+   * started yet itself, in order, so it only ever waits for chunks that are being deflated.
+   */
+  private void deflateParallel(final ImageRows imageRows, final PNGFilter rowFilter, int rowsPerChunk, IDATOutputStream idatStream) throws IOException {
+
+    List<FutureTask<DeflatedChunk>> tasks = new ArrayList<FutureTask<DeflatedChunk>>();
+    for (int firstRow = 0; firstRow < imageRows.height; firstRow += rowsPerChunk) {
+      final int start = firstRow;
+      final int end = Math.min(imageRows.height, firstRow + rowsPerChunk);
+      tasks.add(new FutureTask<DeflatedChunk>(new Callable<DeflatedChunk>() {
+
+        @Override
+        public DeflatedChunk call() throws Exception {
+
+          return deflateChunk(imageRows, rowFilter, start, end);
+        }
+      }));
+    }
+    try {
+      // the first chunk is deflated by the calling thread right away
+      for (int i = 1; i < tasks.size(); i++) {
+        deflateExecutorService.execute(tasks.get(i));
+      }
+    } catch (RejectedExecutionException e) {
+      // the rest is deflated on the calling thread
+    }
+
+    idatStream.write(0x78);
+    idatStream.write(getZlibFlags());
+    long adler = 1L;
+    try {
+      for (FutureTask<DeflatedChunk> task : tasks) {
+        // does nothing if a thread of the ExecutorService has started the task already
+        task.run();
+        DeflatedChunk chunk = task.get();
+        idatStream.write(chunk.bytes, 0, chunk.bytes.length);
+        adler = combineAdler32(adler, chunk.adler, chunk.rawLength);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while deflating the PNG!!!");
+    } catch (ExecutionException e) {
+      throw (IOException) new IOException("Deflating the PNG failed!!!").initCause(e.getCause());
+    } finally {
+      for (FutureTask<DeflatedChunk> task : tasks) {
+        task.cancel(true);
+      }
+    }
+    idatStream.write((int) (adler >>> 24));
+    idatStream.write((int) (adler >>> 16));
+    idatStream.write((int) (adler >>> 8));
+    idatStream.write((int) adler);
+  }
+
+  private DeflatedChunk deflateChunk(ImageRows imageRows, PNGFilter rowFilter, int startRow, int endRow) {
+
+    Deflater deflater = new Deflater(compressionLevel, true);
+    Adler32 adler32 = new Adler32();
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buffer = new byte[IDAT_SIZE];
+    try {
+      RowFilter filterer = new RowFilter(imageRows, rowFilter);
+      int rowLength = imageRows.rowBytes + 1;
+      for (int y = startRow; y < endRow; y++) {
+        byte[] row = filterer.filterRow(y);
+        adler32.update(row, 0, rowLength);
+        deflater.setInput(row, 0, rowLength);
+        while (!deflater.needsInput()) {
+          baos.write(buffer, 0, deflater.deflate(buffer));
+        }
+      }
+      if (endRow == imageRows.height) {
+        deflater.finish();
+        while (!deflater.finished()) {
+          baos.write(buffer, 0, deflater.deflate(buffer));
+        }
+      }
+      else {
+        // a sync flush ends on a byte boundary, without the final block bit
+        int length;
+        do {
+          length = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+          baos.write(buffer, 0, length);
+        } while (length == buffer.length);
+      }
+    } finally {
+      deflater.end();
+    }
+    return new DeflatedChunk(baos.toByteArray(), adler32.getValue(), (long) (endRow - startRow) * (imageRows.rowBytes + 1));
+  }
+
+  /**
+   * @return the second zlib header byte with the FLEVEL of the compression level, so that the header is a multiple of 31
+   */
+  private int getZlibFlags() {
+
+    if (compressionLevel <= Deflater.BEST_SPEED) {
+      return 0x01;
+    }
+    else if (compressionLevel <= 5) {
+      return 0x5E;
+    }
+    else if (compressionLevel == 6) {
+      return 0x9C;
+    }
+    return 0xDA;
+  }
+
+  /**
+   * Combines the Adler-32 checksums of two byte sequences into the one of both, like adler32_combine() of zlib
+   *
+   * @param adler1 - the checksum of the first sequence
+   * @param adler2 - the checksum of the second sequence
+   * @param length2 - the length of the second sequence
+   * @return the checksum of both sequences
+   */
+  static long combineAdler32(long adler1, long adler2, long length2) {
+
+    final long base = 65521L;
+    long remainder = length2 % base;
+    long sum1 = adler1 & 0xFFFF;
+    long sum2 = (remainder * sum1) % base;
+    sum1 += (adler2 & 0xFFFF) + base - 1;
+    sum2 += ((adler1 >>> 16) & 0xFFFF) + ((adler2 >>> 16) & 0xFFFF) + base - remainder;
+    if (sum1 >= base) {
+      sum1 -= base;
+    }
+    if (sum1 >= base) {
+      sum1 -= base;
+    }
+    if (sum2 >= base << 1) {
+      sum2 -= base << 1;
+    }
+    if (sum2 >= base) {
+      sum2 -= base;
+    }
+    return sum1 | (sum2 << 16);
+  }
+
+  private static void writeChunk(OutputStream targetStream, byte[] type, byte[] data, int length) throws IOException {
+
+    byte[] lengthBytes = new byte[4];
+    putInt(lengthBytes, 0, length);
+    targetStream.write(lengthBytes);
+    targetStream.write(type);
+    targetStream.write(data, 0, length);
+
+    CRC32 crc = new CRC32();
+    crc.update(type);
+    crc.update(data, 0, length);
+    byte[] crcBytes = new byte[4];
+    putInt(crcBytes, 0, (int) crc.getValue());
+    targetStream.write(crcBytes);
+  }
+
+  private static void putInt(byte[] bytes, int offset, int value) {
+
+    bytes[offset] = (byte) (value >>> 24);
+    bytes[offset + 1] = (byte) (value >>> 16);
+    bytes[offset + 2] = (byte) (value >>> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+
+  private static boolean isSyncFlushSupported() {
+
+    try {
+      Deflater.class.getMethod("deflate", byte[].class, int.class, int.class, int.class);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * The pixels of an image as unfiltered PNG rows, either RGB(A) or palette indices. Reading rows is thread-safe.
+   */
+  private static final class ImageRows {
+
+    private final BufferedImage bufferedImage;
+    private final int width;
+    private final int height;
+    private final boolean hasAlpha;
+    private final boolean isIntRaster;
+
+    /** the ARGB colors of the palette, or null */
+    private final int[] palette;
+    /** the hash table from ARGB color to palette index */
+    private final int[] paletteKeys;
+    private final int[] paletteIndices;
+
+    private final int colorType;
+    private final int bitDepth;
+    private final int bytesPerPixel;
+    private final int rowBytes;
+
+    ImageRows(BufferedImage bufferedImage, boolean isPaletteAllowed) {
+
+      this.bufferedImage = bufferedImage;
+      this.width = bufferedImage.getWidth();
+      this.height = bufferedImage.getHeight();
+      this.hasAlpha = bufferedImage.getColorModel().hasAlpha();
+      int type = bufferedImage.getType();
+      this.isIntRaster = type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB;
+
+      int[] keys = null;
+      int[] indices = null;
+      int[] colors = null;
+      if (isPaletteAllowed) {
+        keys = new int[MAX_PALETTE_SIZE * 2];
+        indices = new int[MAX_PALETTE_SIZE * 2];
+        Arrays.fill(indices, -1);
+        colors = new int[MAX_PALETTE_SIZE];
+        int numColors = 0;
+        int[] pixels = new int[width];
+        scan: for (int y = 0; y < height; y++) {
+          readPixels(y, pixels);
+          int lastColor = ~pixels[0];
+          for (int x = 0; x < width; x++) {
+            int color = pixels[x];
+            if (color == lastColor) {
+              continue;
+            }
+            lastColor = color;
+            int slot = findSlot(keys, indices, color);
+            if (indices[slot] < 0) {
+              if (numColors == MAX_PALETTE_SIZE) {
+                colors = null;
+                break scan;
+              }
+              keys[slot] = color;
+              indices[slot] = numColors;
+              colors[numColors++] = color;
+            }
+          }
+        }
+        if (colors != null) {
+          int[] palette = new int[numColors];
+          System.arraycopy(colors, 0, palette, 0, numColors);
+          colors = palette;
+        }
+      }
+
+      if (colors != null) {
+        this.palette = colors;
+        this.paletteKeys = keys;
+        this.paletteIndices = indices;
+        this.colorType = COLOR_TYPE_INDEXED;
+        this.bitDepth = colors.length <= 2 ? 1 : colors.length <= 4 ? 2 : colors.length <= 16 ? 4 : 8;
+        this.bytesPerPixel = 1;
+        this.rowBytes = (width * bitDepth + 7) / 8;
+      }
+      else {
+        this.palette = null;
+        this.paletteKeys = null;
+        this.paletteIndices = null;
+        this.colorType = hasAlpha ? COLOR_TYPE_RGBA : COLOR_TYPE_RGB;
+        this.bitDepth = 8;
+        this.bytesPerPixel = hasAlpha ? 4 : 3;
+        this.rowBytes = width * bytesPerPixel;
+      }
+    }
+
+    private static int findSlot(int[] keys, int[] indices, int color) {
+
+      int mask = keys.length - 1;
+      int slot = (color * 0x9E3779B9) >>> 23 & mask;
+      while (indices[slot] >= 0 && keys[slot] != color) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+
+    /**
+     * Reads the ARGB pixels of a row, fully opaque if the image has no alpha
+     */
+    void readPixels(int y, int[] pixels) {
+
+      if (isIntRaster) {
+        // copies the ints without the per pixel color model of getRGB()
+        bufferedImage.getRaster().getDataElements(0, y, width, 1, pixels);
+      }
+      else {
+        bufferedImage.getRGB(0, y, width, 1, pixels, 0, width);
+      }
+      if (!hasAlpha) {
+        for (int x = 0; x < width; x++) {
+          pixels[x] |= 0xFF000000;
+        }
+      }
+    }
+
+    /**
+     * Writes the unfiltered bytes of a row
+     */
+    void readRow(int y, int[] pixels, byte[] row) {
+
+      readPixels(y, pixels);
+      if (palette != null) {
+        if (bitDepth == 8) {
+          for (int x = 0; x < width; x++) {
+            row[x] = (byte) paletteIndices[findSlot(paletteKeys, paletteIndices, pixels[x])];
+          }
+        }
+        else {
+          Arrays.fill(row, 0, rowBytes, (byte) 0);
+          int pixelsPerByte = 8 / bitDepth;
+          for (int x = 0; x < width; x++) {
+            int index = paletteIndices[findSlot(paletteKeys, paletteIndices, pixels[x])];
+            int shift = 8 - bitDepth * (x % pixelsPerByte + 1);
+            row[x / pixelsPerByte] |= index << shift;
+          }
+        }
+      }
+      else if (hasAlpha) {
+        for (int x = 0, i = 0; x < width; x++) {
+          int pixel = pixels[x];
+          row[i++] = (byte) (pixel >> 16);
+          row[i++] = (byte) (pixel >> 8);
+          row[i++] = (byte) pixel;
+          row[i++] = (byte) (pixel >>> 24);
+        }
+      }
+      else {
+        for (int x = 0, i = 0; x < width; x++) {
+          int pixel = pixels[x];
+          row[i++] = (byte) (pixel >> 16);
+          row[i++] = (byte) (pixel >> 8);
+          row[i++] = (byte) pixel;
+        }
+      }
+    }
+  }
+
+  /**
+   * Filters the rows of an image one after the other, not thread-safe
+   */
+  private static final class RowFilter {
+
+    private final ImageRows imageRows;
+    private final PNGFilter filter;
+    private final int[] pixels;
+
+    private byte[] previous;
+    private byte[] current;
+    private int previousY = -1;
+
+    /** the filter type byte followed by the filtered row, one per filter type */
+    private final byte[][] filtered = new byte[5][];
+
+    RowFilter(ImageRows imageRows, PNGFilter filter) {
+
+      this.imageRows = imageRows;
+      this.filter = filter;
+      this.pixels = new int[imageRows.width];
+      this.previous = new byte[imageRows.rowBytes];
+      this.current = new byte[imageRows.rowBytes];
+      for (int i = 0; i < filtered.length; i++) {
+        if (filter == PNGFilter.ADAPTIVE || filter.ordinal() == i) {
+          filtered[i] = new byte[imageRows.rowBytes + 1];
+          filtered[i][0] = (byte) i;
+        }
+      }
+    }
+
+    /**
+     * @param y
+     * @return the filter type byte followed by the filtered row, valid until the next call
+     */
+    byte[] filterRow(int y) {
+
+      if (y == 0) {
+        Arrays.fill(previous, (byte) 0);
+      }
+      else if (previousY != y - 1) {
+        // the first row of a parallel chunk
+        imageRows.readRow(y - 1, pixels, previous);
+      }
+      imageRows.readRow(y, pixels, current);
+
+      byte[] result;
+      if (filter == PNGFilter.ADAPTIVE) {
+        result = filtered[0];
+        long bestSum = Long.MAX_VALUE;
+        for (int type = 0; type < filtered.length; type++) {
+          long sum = filter(type, filtered[type]);
+          if (sum < bestSum) {
+            bestSum = sum;
+            result = filtered[type];
+          }
+        }
+      }
+      else {
+        result = filtered[filter.ordinal()];
+        filter(filter.ordinal(), result);
+      }
+
+      byte[] swap = previous;
+      previous = current;
+      current = swap;
+      previousY = y;
+      return result;
+    }
+
+    /**
+     * @return the sum of the absolute values of the filtered bytes as signed bytes
+     */
+    private long filter(int type, byte[] out) {
+
+      byte[] cur = current;
+      byte[] prev = previous;
+      int bpp = imageRows.bytesPerPixel;
+      int length = imageRows.rowBytes;
+      long sum = 0;
+      switch (type) {
+      case 0:
+        System.arraycopy(cur, 0, out, 1, length);
+        if (filter == PNGFilter.ADAPTIVE) {
+          for (int i = 0; i < length; i++) {
+            sum += Math.abs(cur[i]);
+          }
+        }
+        break;
+      case 1:
+        for (int i = 0; i < length; i++) {
+          int left = i >= bpp ? cur[i - bpp] : 0;
+          byte value = (byte) (cur[i] - left);
+          out[i + 1] = value;
+          sum += Math.abs(value);
+        }
+        break;
+      case 2:
+        for (int i = 0; i < length; i++) {
+          byte value = (byte) (cur[i] - prev[i]);
+          out[i + 1] = value;
+          sum += Math.abs(value);
+        }
+        break;
+      case 3:
+        for (int i = 0; i < length; i++) {
+          int left = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+          byte value = (byte) (cur[i] - ((left + (prev[i] & 0xFF)) >> 1));
+          out[i + 1] = value;
+          sum += Math.abs(value);
+        }
+        break;
+      default:
+        for (int i = 0; i < length; i++) {
+          int left = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+          int up = prev[i] & 0xFF;
+          int upLeft = i >= bpp ? prev[i - bpp] & 0xFF : 0;
+          byte value = (byte) (cur[i] - paeth(left, up, upLeft));
+          out[i + 1] = value;
+          sum += Math.abs(value);
+        }
+        break;
+      }
+      return sum;
+    }
+
+    private static int paeth(int left, int up, int upLeft) {
+
+      int estimate = left + up - upLeft;
+      int distanceLeft = Math.abs(estimate - left);
+      int distanceUp = Math.abs(estimate - up);
+      int distanceUpLeft = Math.abs(estimate - upLeft);
+      if (distanceLeft <= distanceUp && distanceLeft <= distanceUpLeft) {
+        return left;
+      }
+      else if (distanceUp <= distanceUpLeft) {
+        return up;
+      }
+      return upLeft;
+    }
+  }
+
+  private static final class DeflatedChunk {
+
+    private final byte[] bytes;
+    private final long adler;
+    private final long rawLength;
+
+    DeflatedChunk(byte[] bytes, long adler, long rawLength) {
+
+      this.bytes = bytes;
+      this.adler = adler;
+      this.rawLength = rawLength;
+    }
+  }
+
+  /**
+   * Splits the zlib stream into IDAT chunks of up to 64 KB. flush() writes the buffered bytes as an IDAT chunk.
+   */
+  private static final class IDATOutputStream extends OutputStream {
+
+    private final OutputStream targetStream;
+    private final byte[] buffer = new byte[IDAT_SIZE];
+    private int count;
+
+    IDATOutputStream(OutputStream targetStream) {
+
+      this.targetStream = targetStream;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+
+      if (count == buffer.length) {
+        flush();
+      }
+      buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+
+      while (len > 0) {
+        if (count == buffer.length) {
+          flush();
+        }
+        int n = Math.min(len, buffer.length - count);
+        System.arraycopy(b, off, buffer, count, n);
+        count += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+      if (count > 0) {
+        writeChunk(targetStream, IDAT, buffer, count);
+        count = 0;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,308 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.knowm.xchart.internal.data.ArraySeriesData;
+import org.knowm.xchart.internal.data.RingBufferSeriesData;
+import org.knowm.xchart.internal.data.SeriesData;
+
+/**
+ * An immutable set of series updates published by producer threads for an XChartPanel. Producers never modify an instance; they publish by swapping in
+ * a new instance with compare-and-set, so publishing never blocks. The painting thread takes all pending updates at once and applies them before it
+ * paints a frame, so the series are only ever modified by the painting thread and every frame shows a consistent state of all series.
+ * <p>
+ * Producers never read the series either. Appends are validated when they are published against an AppendTarget, a snapshot of what a series accepts
+ * that the painting thread takes after every frame. Pending appends to a rolling series are collapsed to its capacity, so they don't pile up while no
+ * frame is painted.
+ *
+ * @author timmolter
+ */
+final class PublishedSeriesData {
+
+  /** the pending updates per series name */
+  private final Map<String, SeriesUpdate> seriesUpdates;
+
+  private PublishedSeriesData(Map<String, SeriesUpdate> seriesUpdates) {
+
+    this.seriesUpdates = seriesUpdates;
+  }
+
+  /**
+   * Returns a copy of the given published data where the data of a series is replaced. Earlier pending updates of the series are dropped.
+   *
+   * @param published - the currently published data or null if there is none
+   * @param seriesName
+   * @param seriesData
+   * @return
+   */
+  static PublishedSeriesData withReplacement(PublishedSeriesData published, String seriesName, ArraySeriesData seriesData) {
+
+    return with(published, seriesName, new SeriesUpdate(seriesData, null, 0));
+  }
+
+  /**
+   * Returns a copy of the given published data where points are appended to a series, after its earlier pending updates.
+   *
+   * @param published - the currently published data or null if there is none
+   * @param seriesName
+   * @param target - what the series accepted when the last frame was painted
+   * @param xData
+   * @param yData
+   * @param errorBars
+   * @return
+   * @throws IllegalArgumentException if the series doesn't accept the points
+   */
+  static PublishedSeriesData withAppend(PublishedSeriesData published, String seriesName, AppendTarget target, double[] xData, double[] yData,
+      double[] errorBars) {
+
+    SeriesUpdate previousUpdate = published == null ? null : published.seriesUpdates.get(seriesName);
+    SeriesData replacement = previousUpdate == null ? null : previousUpdate.replacement;
+    if (replacement != null) {
+      // the points are appended to the pending replacement
+      target = target.replacedBy(replacement);
+    }
+    String error = target.getAppendError(xData, yData, errorBars);
+    if (error != null) {
+      throw new IllegalArgumentException(error);
+    }
+
+    AppendedPoints previous = previousUpdate == null ? null : previousUpdate.lastAppend;
+    int pendingPointCount = (previousUpdate == null ? 0 : previousUpdate.pendingPointCount) + yData.length;
+    AppendedPoints lastAppend = new AppendedPoints(xData, yData, errorBars, previous);
+
+    // a rolling series only keeps its last points, collapse once twice as many are pending so the copying stays proportional to the points published
+    int capacity = target.capacity;
+    if (capacity > 0 && pendingPointCount > 2 * capacity) {
+      lastAppend = collapse(lastAppend, capacity);
+      pendingPointCount = capacity;
+    }
+    return with(published, seriesName, new SeriesUpdate(replacement, lastAppend, pendingPointCount));
+  }
+
+  private static PublishedSeriesData with(PublishedSeriesData published, String seriesName, SeriesUpdate update) {
+
+    Map<String, SeriesUpdate> seriesUpdates;
+    if (published == null) {
+      seriesUpdates = new HashMap<String, SeriesUpdate>(4);
+    }
+    else {
+      seriesUpdates = new HashMap<String, SeriesUpdate>(published.seriesUpdates);
+    }
+    seriesUpdates.put(seriesName, update);
+    return new PublishedSeriesData(seriesUpdates);
+  }
+
+  /**
+   * Copies the last points of the given appends into a single append
+   *
+   * @param lastAppend
+   * @param count - the number of points to keep
+   * @return the collapsed append, or the given one if the appends don't all have the same data arrays, which is only possible if the series changed
+   *         while they were published
+   */
+  private static AppendedPoints collapse(AppendedPoints lastAppend, int count) {
+
+    boolean hasXData = lastAppend.xData != null;
+    boolean hasErrorBars = lastAppend.errorBars != null;
+    int remaining = count;
+    for (AppendedPoints appendedPoints = lastAppend; remaining > 0; appendedPoints = appendedPoints.previous) {
+      if ((appendedPoints.xData != null) != hasXData || (appendedPoints.errorBars != null) != hasErrorBars) {
+        return lastAppend;
+      }
+      remaining -= Math.min(appendedPoints.yData.length, remaining);
+    }
+
+    double[] xData = hasXData ? new double[count] : null;
+    double[] yData = new double[count];
+    double[] errorBars = hasErrorBars ? new double[count] : null;
+
+    // fill from the newest point backwards
+    remaining = count;
+    for (AppendedPoints appendedPoints = lastAppend; remaining > 0; appendedPoints = appendedPoints.previous) {
+      int length = Math.min(appendedPoints.yData.length, remaining);
+      int from = appendedPoints.yData.length - length;
+      remaining -= length;
+      if (hasXData) {
+        System.arraycopy(appendedPoints.xData, from, xData, remaining, length);
+      }
+      System.arraycopy(appendedPoints.yData, from, yData, remaining, length);
+      if (errorBars != null) {
+        System.arraycopy(appendedPoints.errorBars, from, errorBars, remaining, length);
+      }
+    }
+    return new AppendedPoints(xData, yData, errorBars, null);
+  }
+
+  /**
+   * Takes a snapshot of what the series of the given chart accept. Must only be called by the painting thread.
+   *
+   * @param chart
+   * @return the append targets per series name
+   */
+  static Map<String, AppendTarget> getAppendTargets(Chart chart) {
+
+    Map<String, AppendTarget> appendTargets = new HashMap<String, AppendTarget>();
+    for (Series series : chart.getSeriesMap().values()) {
+      appendTargets.put(series.getName(), AppendTarget.of(series));
+    }
+    return appendTargets;
+  }
+
+  /**
+   * Applies all updates to the series of the given chart. Must only be called by the painting thread. This never throws: updates of a series that was
+   * removed since they were published are dropped, and so are appends that the series doesn't accept anymore because it was changed directly.
+   *
+   * @param chart
+   */
+  void applyTo(Chart chart) {
+
+    for (Entry<String, SeriesUpdate> entry : seriesUpdates.entrySet()) {
+
+      Series series = chart.getSeriesMap().get(entry.getKey());
+      if (series == null) {
+        continue;
+      }
+      SeriesUpdate update = entry.getValue();
+      if (update.replacement != null) {
+        series.replaceData(update.replacement);
+      }
+
+      // the appends are linked newest first
+      int count = 0;
+      for (AppendedPoints appendedPoints = update.lastAppend; appendedPoints != null; appendedPoints = appendedPoints.previous) {
+        count++;
+      }
+      AppendedPoints[] appends = new AppendedPoints[count];
+      for (AppendedPoints appendedPoints = update.lastAppend; appendedPoints != null; appendedPoints = appendedPoints.previous) {
+        appends[--count] = appendedPoints;
+      }
+      AppendTarget target = AppendTarget.of(series);
+      for (AppendedPoints appendedPoints : appends) {
+        if (target.getAppendError(appendedPoints.xData, appendedPoints.yData, appendedPoints.errorBars) == null) {
+          series.appendPoints(appendedPoints.xData, appendedPoints.yData, appendedPoints.errorBars);
+        }
+      }
+    }
+  }
+
+  /**
+   * An immutable snapshot of the points a series accepts, so producer threads can validate appends without reading the series
+   */
+  static final class AppendTarget {
+
+    private final boolean isAppendable;
+    private final boolean isXDataGenerated;
+    private final boolean hasErrorBars;
+
+    /** the capacity of a rolling series, 0 if the series grows */
+    private final int capacity;
+
+    private AppendTarget(boolean isAppendable, boolean isXDataGenerated, boolean hasErrorBars, int capacity) {
+
+      this.isAppendable = isAppendable;
+      this.isXDataGenerated = isXDataGenerated;
+      this.hasErrorBars = hasErrorBars;
+      this.capacity = capacity;
+    }
+
+    static AppendTarget of(Series series) {
+
+      SeriesData seriesData = series.getSeriesData();
+      if (seriesData instanceof RingBufferSeriesData) {
+        RingBufferSeriesData ringBufferSeriesData = (RingBufferSeriesData) seriesData;
+        return new AppendTarget(series.isAppendable(), ringBufferSeriesData.isXDataGenerated(), seriesData.hasErrorBars(), ringBufferSeriesData.getCapacity());
+      }
+      return new AppendTarget(series.isAppendable(), false, seriesData.hasErrorBars(), 0);
+    }
+
+    /**
+     * @param replacement
+     * @return the target of the series once its data is replaced, the points are then appended to a growable copy
+     */
+    AppendTarget replacedBy(SeriesData replacement) {
+
+      return new AppendTarget(isAppendable, false, replacement.hasErrorBars(), 0);
+    }
+
+    /**
+     * @return why the points cannot be appended or null if they can
+     */
+    String getAppendError(double[] xData, double[] yData, double[] errorBars) {
+
+      if (!isAppendable) {
+        return "Points can only be appended to series with Number or Date X-Axis data!!!";
+      }
+      if (yData == null) {
+        return "Y-Axis data cannot be null!!!";
+      }
+      if (isXDataGenerated != (xData == null)) {
+        return isXDataGenerated ? "X-Axis data is generated for this series and must be null!!!" : "X-Axis data cannot be null!!!";
+      }
+      if (xData != null && xData.length != yData.length) {
+        return "X and Y-Axis sizes are not the same!!!";
+      }
+      if (hasErrorBars != (errorBars != null)) {
+        return hasErrorBars ? "Error bars are required for this series!!!" : "This series has no error bars!!!";
+      }
+      if (errorBars != null && errorBars.length != yData.length) {
+        return "errorbars and Y-Axis sizes are not the same!!!";
+      }
+      return null;
+    }
+  }
+
+  /**
+   * The pending update of one series: an optional replacement of its data followed by appended points
+   */
+  private static final class SeriesUpdate {
+
+    private final SeriesData replacement;
+    private final AppendedPoints lastAppend;
+    private final int pendingPointCount;
+
+    SeriesUpdate(SeriesData replacement, AppendedPoints lastAppend, int pendingPointCount) {
+
+      this.replacement = replacement;
+      this.lastAppend = lastAppend;
+      this.pendingPointCount = pendingPointCount;
+    }
+  }
+
+  /**
+   * Points appended to a series in one call, linked to the points appended before
+   */
+  private static final class AppendedPoints {
+
+    private final double[] xData;
+    private final double[] yData;
+    private final double[] errorBars;
+    private final AppendedPoints previous;
+
+    AppendedPoints(double[] xData, double[] yData, double[] errorBars, AppendedPoints previous) {
+
+      this.xData = xData;
+      this.yData = yData;
+      this.errorBars = errorBars;
+      this.previous = previous;
+    }
+  }
+
+}
@@ -19,11 +19,14 @@ package org.knowm.xchart;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.util.Collection;
-import java.util.Date;
-import java.util.Iterator;
 import java.util.List;
 
 import org.knowm.xchart.internal.chartpart.Axis.AxisType;
+import org.knowm.xchart.internal.data.AppendableSeriesData;
+import org.knowm.xchart.internal.data.ArraySeriesData;
+import org.knowm.xchart.internal.data.IncrementalSeriesData;
+import org.knowm.xchart.internal.data.ListSeriesData;
+import org.knowm.xchart.internal.data.SeriesData;
 import org.knowm.xchart.internal.markers.Marker;
 import org.knowm.xchart.internal.style.SeriesColorMarkerLineStyle;
 
@@ -42,14 +45,13 @@ public class Series {
 
   private String name = "";
 
-  private List<?> xData;
+  /** the X, Y and error bar data */
+  private SeriesData seriesData;
+
   private AxisType xAxisType;
 
-  private List<? extends Number> yData;
   private AxisType yAxisType;
 
-  private List<? extends Number> errorBars;
-
   /** the minimum value of axis range */
   private double xMin;
 
@@ -91,15 +93,27 @@ public class Series {
   public Series(String name, List<?> xData, AxisType xAxisType, List<? extends Number> yData, AxisType yAxisType, List<? extends Number> errorBars,
       SeriesColorMarkerLineStyle seriesColorMarkerLineStyle) {
 
+    this(name, new ListSeriesData(xData, yData, errorBars), xAxisType, yAxisType, seriesColorMarkerLineStyle);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param name
+   * @param seriesData
+   * @param xAxisType
+   * @param yAxisType
+   * @param seriesColorMarkerLineStyle
+   */
+  public Series(String name, SeriesData seriesData, AxisType xAxisType, AxisType yAxisType, SeriesColorMarkerLineStyle seriesColorMarkerLineStyle) {
+
     if (name == null || name.length() < 1) {
       throw new IllegalArgumentException("Series name cannot be null or zero-length!!!");
     }
     this.name = name;
-    this.xData = xData;
+    this.seriesData = seriesData;
     this.xAxisType = xAxisType;
-    this.yData = yData;
     this.yAxisType = yAxisType;
-    this.errorBars = errorBars;
 
     strokeColor = seriesColorMarkerLineStyle.getColor();
     fillColor = seriesColorMarkerLineStyle.getColor();
@@ -112,34 +126,22 @@ public class Series {
   }
 
   /**
-   * Finds the min and max of a dataset
+   * Finds the min and max of the X data
    *
-   * @param data
    * @return
    */
-  private double[] findMinMax(Collection<?> data, AxisType axisType) {
+  private double[] findXMinMax() {
+
+    if (xAxisType == AxisType.String) {
+      return new double[] { Double.NaN, Double.NaN };
+    }
 
     double min = Double.MAX_VALUE;
     double max = -Double.MAX_VALUE;
 
-    for (Object dataPoint : data) {
-
-      if (dataPoint == null) {
-        continue;
-      }
-
-      double value = 0.0;
-
-      if (axisType == AxisType.Number) {
-        value = ((Number) dataPoint).doubleValue();
-      }
-      else if (axisType == AxisType.Date) {
-        Date date = (Date) dataPoint;
-        value = date.getTime();
-      }
-      else if (axisType == AxisType.String) {
-        return new double[] { Double.NaN, Double.NaN };
-      }
+    for (int i = 0, size = seriesData.size(); i < size; i++) {
+      double value = seriesData.getX(i);
+      // NaN fails both comparisons, so missing values are skipped
       if (value < min) {
         min = value;
       }
@@ -147,31 +149,28 @@ public class Series {
         max = value;
       }
     }
-
     return new double[] { min, max };
   }
 
   /**
-   * Finds the min and max of a dataset accounting for error bars
+   * Finds the min and max of the Y data accounting for error bars
    *
-   * @param data
    * @return
    */
-  private double[] findMinMaxWithErrorBars(Collection<? extends Number> data, Collection<? extends Number> errorBars) {
+  private double[] findYMinMax() {
 
     double min = Double.MAX_VALUE;
     double max = -Double.MAX_VALUE;
 
-    Iterator<? extends Number> itr = data.iterator();
-    Iterator<? extends Number> ebItr = errorBars.iterator();
-    while (itr.hasNext()) {
-      double bigDecimal = itr.next().doubleValue();
-      double eb = ebItr.next().doubleValue();
-      if (bigDecimal - eb < min) {
-        min = bigDecimal - eb;
+    boolean hasErrorBars = seriesData.hasErrorBars();
+    for (int i = 0, size = seriesData.size(); i < size; i++) {
+      double value = seriesData.getY(i);
+      double eb = hasErrorBars ? seriesData.getErrorBar(i) : 0.0;
+      if (value - eb < min) {
+        min = value - eb;
       }
-      if (bigDecimal + eb > max) {
-        max = bigDecimal + eb;
+      if (value + eb > max) {
+        max = value + eb;
       }
     }
     return new double[] { min, max };
@@ -266,17 +265,27 @@ public class Series {
 
   public Collection<?> getXData() {
 
-    return xData;
+    return seriesData.getXList();
   }
 
   public Collection<? extends Number> getYData() {
 
-    return yData;
+    return seriesData.getYList();
   }
 
   public Collection<? extends Number> getErrorBars() {
 
-    return errorBars;
+    return seriesData.getErrorBarList();
+  }
+
+  /**
+   * Gets the data of this series as primitives, for painting without unboxing
+   *
+   * @return the series data
+   */
+  public SeriesData getSeriesData() {
+
+    return seriesData;
   }
 
   public double getXMin() {
@@ -344,29 +353,111 @@ public class Series {
       throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
     }
 
-    xData = newXData;
-    yData = newYData;
-    errorBars = newErrorBars;
+    seriesData = new ListSeriesData(newXData, newYData, newErrorBars);
     calculateMinMax();
   }
 
+  /**
+   * Replace the data of this series with primitive arrays. The arrays are not copied.
+   *
+   * @param newXData - set null to generate the X values 1, 2, 3, ...
+   * @param newYData
+   * @param newErrorBars - set null if there are no error bars
+   */
+  public void replaceData(double[] newXData, double[] newYData, double[] newErrorBars) {
+
+    replaceData(new ArraySeriesData(newXData, newYData, newErrorBars));
+  }
+
+  /**
+   * Replace the data of this series
+   *
+   * @param newSeriesData
+   */
+  void replaceData(SeriesData newSeriesData) {
+
+    seriesData = newSeriesData;
+    calculateMinMax();
+  }
+
+  /**
+   * Append points to the end of this series. The min and max are updated incrementally, so the cost is proportional to the number of new points. The
+   * first call copies the existing data once into a growable buffer, unless this is a rolling series, which evicts its oldest points instead.
+   *
+   * @param newXData - for a Date X-Axis, milliseconds since the epoch; null for a rolling series with generated X values
+   * @param newYData - Double.NaN for gaps
+   */
+  public void appendPoints(double[] newXData, double[] newYData) {
+
+    appendPoints(newXData, newYData, null);
+  }
+
+  /**
+   * Append points to the end of this series. The min and max are updated incrementally, so the cost is proportional to the number of new points. The
+   * first call copies the existing data once into a growable buffer, unless this is a rolling series, which evicts its oldest points instead.
+   *
+   * @param newXData - for a Date X-Axis, milliseconds since the epoch; null for a rolling series with generated X values
+   * @param newYData - Double.NaN for gaps
+   * @param newErrorBars - must be given if and only if the series has error bars
+   */
+  public void appendPoints(double[] newXData, double[] newYData, double[] newErrorBars) {
+
+    IncrementalSeriesData incrementalSeriesData = getIncrementalSeriesData();
+    incrementalSeriesData.append(newXData, newYData, newErrorBars);
+    updateMinMax(incrementalSeriesData);
+  }
+
+  /**
+   * Remove the oldest points from the start of this series, e.g. to keep a sliding window of the latest points. The min and max are updated
+   * incrementally. Removing all points leaves an empty series, which paints nothing until points are appended again.
+   *
+   * @param count - the number of points to remove
+   */
+  public void trimHead(int count) {
+
+    IncrementalSeriesData incrementalSeriesData = getIncrementalSeriesData();
+    incrementalSeriesData.trimHead(count);
+    updateMinMax(incrementalSeriesData);
+  }
+
+  /**
+   * @return true if points can be appended to this series, i.e. it has Number or Date X-Axis data
+   */
+  boolean isAppendable() {
+
+    return xAxisType != AxisType.String;
+  }
+
+  private IncrementalSeriesData getIncrementalSeriesData() {
+
+    if (xAxisType == AxisType.String) {
+      throw new IllegalArgumentException("Points can only be appended to series with Number or Date X-Axis data!!!");
+    }
+    if (!(seriesData instanceof IncrementalSeriesData)) {
+      seriesData = AppendableSeriesData.copyOf(seriesData, xAxisType == AxisType.Date);
+    }
+    return (IncrementalSeriesData) seriesData;
+  }
+
+  private void updateMinMax(IncrementalSeriesData incrementalSeriesData) {
+
+    xMin = incrementalSeriesData.getXMin();
+    xMax = incrementalSeriesData.getXMax();
+    yMin = incrementalSeriesData.getYMin();
+    yMax = incrementalSeriesData.getYMax();
+  }
+
   private void calculateMinMax() {
 
     // xData
-    double[] xMinMax = findMinMax(xData, xAxisType);
+    double[] xMinMax = findXMinMax();
     xMin = xMinMax[0];
     xMax = xMinMax[1];
     // System.out.println(xMin);
     // System.out.println(xMax);
 
     // yData
-    double[] yMinMax = null;
-    if (errorBars == null) {
-      yMinMax = findMinMax(yData, yAxisType);
-    }
-    else {
-      yMinMax = findMinMaxWithErrorBars(yData, errorBars);
-    }
+    double[] yMinMax = findYMinMax();
     yMin = yMinMax[0];
     yMax = yMinMax[1];
     // System.out.println(yMin);
@@ -72,12 +72,16 @@ public class StyleManager {
   /** the default Theme */
   private Theme theme = new XChartTheme();
 
+  /** incremented whenever a style is set, so cached renderings can tell if the styles changed */
+  private int modificationCount = 0;
+
   // Chart Style ///////////////////////////////
   private ChartType chartType;
   private Color chartBackgroundColor;
   public Color chartFontColor;
   private int chartPadding;
   private SeriesColorMarkerLineStyleCycler seriesColorMarkerLineStyleCycler;
+  private boolean isStaticLayerCachingEnabled;
 
   // Chart Title ///////////////////////////////
   private Font chartTitleFont;
@@ -142,6 +146,12 @@ public class StyleManager {
 
   // Line, Scatter, Area Charts ///////////////////////////////
   private int markerSize;
+  private boolean isDecimationEnabled;
+  private boolean isLinePathBatchingEnabled;
+  private boolean isVectorSimplificationEnabled;
+  private double vectorSimplificationTolerance;
+  private boolean isMarkerStampingEnabled;
+  private boolean isGlyphTextRenderingEnabled;
 
   // Error Bars ///////////////////////////////
   private Color errorBarsColor;
@@ -171,6 +181,7 @@ public class StyleManager {
     chartFontColor = theme.getChartFontColor();
     chartPadding = theme.getChartPadding();
     seriesColorMarkerLineStyleCycler = theme.getSeriesColorMarkerLineStyleCycler();
+    isStaticLayerCachingEnabled = false;
 
     // Chart Title ///////////////////////////////
     chartTitleFont = theme.getChartTitleFont();
@@ -233,6 +244,12 @@ public class StyleManager {
     // Line, Scatter, Area Charts ///////////////////////////////
 
     markerSize = theme.getMarkerSize();
+    isDecimationEnabled = false;
+    isLinePathBatchingEnabled = false;
+    isVectorSimplificationEnabled = false;
+    vectorSimplificationTolerance = 0.25;
+    isMarkerStampingEnabled = true;
+    isGlyphTextRenderingEnabled = false;
 
     // Error Bars ///////////////////////////////
     errorBarsColor = theme.getErrorBarsColor();
@@ -256,6 +273,7 @@ public class StyleManager {
 
     this.theme = theme;
     setAllStyles();
+    modificationCount++;
   }
 
   public Theme getTheme() {
@@ -263,6 +281,14 @@ public class StyleManager {
     return theme;
   }
 
+  /**
+   * @return a counter that changes whenever a style is set
+   */
+  public int getModificationCount() {
+
+    return modificationCount;
+  }
+
   // Chart Style ///////////////////////////////
 
   /**
@@ -273,6 +299,7 @@ public class StyleManager {
   public void setChartType(ChartType chartType) {
 
     this.chartType = chartType;
+    modificationCount++;
   }
 
   public ChartType getChartType() {
@@ -288,6 +315,7 @@ public class StyleManager {
   public void setChartBackgroundColor(Color color) {
 
     this.chartBackgroundColor = color;
+    modificationCount++;
   }
 
   public Color getChartBackgroundColor() {
@@ -303,6 +331,7 @@ public class StyleManager {
   public void setChartFontColor(Color color) {
 
     this.chartFontColor = color;
+    modificationCount++;
   }
 
   public Color getChartFontColor() {
@@ -318,6 +347,7 @@ public class StyleManager {
   public void setChartPadding(int chartPadding) {
 
     this.chartPadding = chartPadding;
+    modificationCount++;
   }
 
   public int getChartPadding() {
@@ -333,6 +363,25 @@ public class StyleManager {
   public void setSeriesColorMarkerLineStyleCycler(SeriesColorMarkerLineStyleCycler seriesColorMarkerLineStyleCycler) {
 
     this.seriesColorMarkerLineStyleCycler = seriesColorMarkerLineStyleCycler;
+    modificationCount++;
+  }
+
+  /**
+   * Set true to cache the parts of an X-Y chart that don't depend on the series data (background, axes, grid lines, title and a legend outside the
+   * plot) in an image when it is painted in an XChartPanel. The cache is repainted only when the styles, the size, the titles, the series or the axis
+   * ranges change, so frequent data updates only repaint the series. Exported bitmaps and vector graphics are always painted completely.
+   *
+   * @param isStaticLayerCachingEnabled
+   */
+  public void setStaticLayerCachingEnabled(boolean isStaticLayerCachingEnabled) {
+
+    this.isStaticLayerCachingEnabled = isStaticLayerCachingEnabled;
+    modificationCount++;
+  }
+
+  public boolean isStaticLayerCachingEnabled() {
+
+    return isStaticLayerCachingEnabled;
   }
 
   // Chart Title ///////////////////////////////
@@ -345,6 +394,7 @@ public class StyleManager {
   public void setChartTitleFont(Font chartTitleFont) {
 
     this.chartTitleFont = chartTitleFont;
+    modificationCount++;
   }
 
   public Font getChartTitleFont() {
@@ -360,6 +410,7 @@ public class StyleManager {
   public void setChartTitleVisible(boolean isChartTitleVisible) {
 
     this.isChartTitleVisible = isChartTitleVisible;
+    modificationCount++;
   }
 
   public boolean isChartTitleVisible() {
@@ -375,6 +426,7 @@ public class StyleManager {
   public void setChartTitleBoxVisible(boolean isChartTitleBoxVisible) {
 
     this.isChartTitleBoxVisible = isChartTitleBoxVisible;
+    modificationCount++;
   }
 
   public boolean isChartTitleBoxVisible() {
@@ -390,6 +442,7 @@ public class StyleManager {
   public void setChartTitleBoxBackgroundColor(Color chartTitleBoxBackgroundColor) {
 
     this.chartTitleBoxBackgroundColor = chartTitleBoxBackgroundColor;
+    modificationCount++;
   }
 
   public Color getChartTitleBoxBackgroundColor() {
@@ -405,6 +458,7 @@ public class StyleManager {
   public void setChartTitleBoxBorderColor(Color chartTitleBoxBorderColor) {
 
     this.chartTitleBoxBorderColor = chartTitleBoxBorderColor;
+    modificationCount++;
   }
 
   public Color getChartTitleBoxBorderColor() {
@@ -420,6 +474,7 @@ public class StyleManager {
   public void setChartTitlePadding(int chartTitlePadding) {
 
     this.chartTitlePadding = chartTitlePadding;
+    modificationCount++;
   }
 
   public int getChartTitlePadding() {
@@ -437,6 +492,7 @@ public class StyleManager {
   public void setLegendBackgroundColor(Color color) {
 
     this.legendBackgroundColor = color;
+    modificationCount++;
   }
 
   public Color getLegendBackgroundColor() {
@@ -457,6 +513,7 @@ public class StyleManager {
   public void setLegendBorderColor(Color legendBorderColor) {
 
     this.legendBorderColor = legendBorderColor;
+    modificationCount++;
   }
 
   /**
@@ -467,6 +524,7 @@ public class StyleManager {
   public void setLegendFont(Font font) {
 
     this.legendFont = font;
+    modificationCount++;
   }
 
   public Font getLegendFont() {
@@ -482,6 +540,7 @@ public class StyleManager {
   public void setLegendVisible(boolean isLegendVisible) {
 
     this.isLegendVisible = isLegendVisible;
+    modificationCount++;
   }
 
   public boolean isLegendVisible() {
@@ -497,6 +556,7 @@ public class StyleManager {
   public void setLegendPadding(int legendPadding) {
 
     this.legendPadding = legendPadding;
+    modificationCount++;
   }
 
   public int getLegendPadding() {
@@ -517,6 +577,7 @@ public class StyleManager {
     else {
       this.legendSeriesLineLength = legendSeriesLineLength;
     }
+    modificationCount++;
   }
 
   public int getLegendSeriesLineLength() {
@@ -532,6 +593,7 @@ public class StyleManager {
   public void setLegendPosition(LegendPosition legendPosition) {
 
     this.legendPosition = legendPosition;
+    modificationCount++;
   }
 
   public LegendPosition getLegendPosition() {
@@ -549,6 +611,7 @@ public class StyleManager {
   public void setXAxisTitleVisible(boolean xAxisTitleVisible) {
 
     this.xAxisTitleVisible = xAxisTitleVisible;
+    modificationCount++;
   }
 
   public boolean isXAxisTitleVisible() {
@@ -564,6 +627,7 @@ public class StyleManager {
   public void setYAxisTitleVisible(boolean yAxisTitleVisible) {
 
     this.yAxisTitleVisible = yAxisTitleVisible;
+    modificationCount++;
   }
 
   public boolean isYAxisTitleVisible() {
@@ -580,6 +644,7 @@ public class StyleManager {
 
     this.xAxisTitleVisible = isVisible;
     this.yAxisTitleVisible = isVisible;
+    modificationCount++;
   }
 
   /**
@@ -590,6 +655,7 @@ public class StyleManager {
   public void setAxisTitleFont(Font axisTitleFont) {
 
     this.axisTitleFont = axisTitleFont;
+    modificationCount++;
   }
 
   public Font getAxisTitleFont() {
@@ -606,6 +672,7 @@ public class StyleManager {
   public void setXAxisTicksVisible(boolean xAxisTicksVisible) {
 
     this.xAxisTicksVisible = xAxisTicksVisible;
+    modificationCount++;
   }
 
   public boolean isXAxisTicksVisible() {
@@ -622,6 +689,7 @@ public class StyleManager {
   public void setYAxisTicksVisible(boolean yAxisTicksVisible) {
 
     this.yAxisTicksVisible = yAxisTicksVisible;
+    modificationCount++;
   }
 
   public boolean isYAxisTicksVisible() {
@@ -638,6 +706,7 @@ public class StyleManager {
 
     this.xAxisTicksVisible = isVisible;
     this.yAxisTicksVisible = isVisible;
+    modificationCount++;
   }
 
   /**
@@ -648,6 +717,7 @@ public class StyleManager {
   public void setAxisTickLabelsFont(Font axisTicksFont) {
 
     this.axisTickLabelsFont = axisTicksFont;
+    modificationCount++;
   }
 
   public Font getAxisTickLabelsFont() {
@@ -663,6 +733,7 @@ public class StyleManager {
   public void setAxisTickMarkLength(int axisTickMarkLength) {
 
     this.axisTickMarkLength = axisTickMarkLength;
+    modificationCount++;
   }
 
   public int getAxisTickMarkLength() {
@@ -678,6 +749,7 @@ public class StyleManager {
   public void setAxisTickPadding(int axisTickPadding) {
 
     this.axisTickPadding = axisTickPadding;
+    modificationCount++;
   }
 
   public int getAxisTickPadding() {
@@ -693,6 +765,7 @@ public class StyleManager {
   public void setAxisTickMarksColor(Color axisTickColor) {
 
     this.axisTickMarksColor = axisTickColor;
+    modificationCount++;
   }
 
   public Color getAxisTickMarksColor() {
@@ -708,6 +781,7 @@ public class StyleManager {
   public void setAxisTickMarksStroke(Stroke axisTickMarksStroke) {
 
     this.axisTickMarksStroke = axisTickMarksStroke;
+    modificationCount++;
   }
 
   public Stroke getAxisTickMarksStroke() {
@@ -723,6 +797,7 @@ public class StyleManager {
   public void setAxisTickLabelsColor(Color axisTickLabelsColor) {
 
     this.axisTickLabelsColor = axisTickLabelsColor;
+    modificationCount++;
   }
 
   public Color getAxisTickLabelsColor() {
@@ -738,6 +813,7 @@ public class StyleManager {
   public void setAxisTicksLineVisible(boolean isAxisTicksLineVisible) {
 
     this.isAxisTicksLineVisible = isAxisTicksLineVisible;
+    modificationCount++;
   }
 
   public boolean isAxisTicksLineVisible() {
@@ -753,6 +829,7 @@ public class StyleManager {
   public void setAxisTicksMarksVisible(boolean isAxisTicksMarksVisible) {
 
     this.isAxisTicksMarksVisible = isAxisTicksMarksVisible;
+    modificationCount++;
   }
 
   public boolean isAxisTicksMarksVisible() {
@@ -768,6 +845,7 @@ public class StyleManager {
   public void setPlotPadding(int plotPadding) {
 
     this.plotPadding = plotPadding;
+    modificationCount++;
   }
 
   public int getPlotPadding() {
@@ -783,6 +861,7 @@ public class StyleManager {
   public void setAxisTitlePadding(int axisTitlePadding) {
 
     this.axisTitlePadding = axisTitlePadding;
+    modificationCount++;
   }
 
   public int getAxisTitlePadding() {
@@ -798,6 +877,7 @@ public class StyleManager {
   public void setXAxisTickMarkSpacingHint(int xAxisTickMarkSpacingHint) {
 
     this.xAxisTickMarkSpacingHint = xAxisTickMarkSpacingHint;
+    modificationCount++;
   }
 
   public int getXAxisTickMarkSpacingHint() {
@@ -813,6 +893,7 @@ public class StyleManager {
   public void setYAxisTickMarkSpacingHint(int yAxisTickMarkSpacingHint) {
 
     this.yAxisTickMarkSpacingHint = yAxisTickMarkSpacingHint;
+    modificationCount++;
   }
 
   public int getYAxisTickMarkSpacingHint() {
@@ -828,6 +909,7 @@ public class StyleManager {
   public void setXAxisLogarithmic(boolean isXAxisLogarithmic) {
 
     this.isXAxisLogarithmic = isXAxisLogarithmic;
+    modificationCount++;
   }
 
   public boolean isXAxisLogarithmic() {
@@ -843,6 +925,7 @@ public class StyleManager {
   public void setYAxisLogarithmic(boolean isYAxisLogarithmic) {
 
     this.isYAxisLogarithmic = isYAxisLogarithmic;
+    modificationCount++;
   }
 
   public boolean isYAxisLogarithmic() {
@@ -853,6 +936,7 @@ public class StyleManager {
   public void setXAxisMin(double xAxisMin) {
 
     this.xAxisMin = xAxisMin;
+    modificationCount++;
   }
 
   public Double getXAxisMin() {
@@ -863,6 +947,7 @@ public class StyleManager {
   public void setXAxisMax(double xAxisMax) {
 
     this.xAxisMax = xAxisMax;
+    modificationCount++;
   }
 
   public Double getXAxisMax() {
@@ -873,6 +958,7 @@ public class StyleManager {
   public void setYAxisMin(double yAxisMin) {
 
     this.yAxisMin = yAxisMin;
+    modificationCount++;
   }
 
   public Double getYAxisMin() {
@@ -883,6 +969,7 @@ public class StyleManager {
   public void setYAxisMax(double yAxisMax) {
 
     this.yAxisMax = yAxisMax;
+    modificationCount++;
   }
 
   public Double getYAxisMax() {
@@ -893,6 +980,7 @@ public class StyleManager {
   public void setAxisTickSpacePercentage(double axisTickSpacePercentage) {
 
     this.axisTickSpacePercentage = axisTickSpacePercentage;
+    modificationCount++;
   }
 
   public double getAxisTickSpacePercentage() {
@@ -908,6 +996,7 @@ public class StyleManager {
   public void setXAxisLabelAlignment(TextAlignment xAxisLabelAlignment) {
 
     this.xAxisLabelAlignment = xAxisLabelAlignment;
+    modificationCount++;
   }
 
   public TextAlignment getYAxisLabelAlignment() {
@@ -918,6 +1007,7 @@ public class StyleManager {
   public void setYAxisLabelAlignment(TextAlignment yAxisLabelAlignment) {
 
     this.yAxisLabelAlignment = yAxisLabelAlignment;
+    modificationCount++;
   }
 
   public int getXAxisLabelRotation() {
@@ -928,6 +1018,7 @@ public class StyleManager {
   public void setXAxisLabelRotation(int xAxisLabelRotation) {
 
     this.xAxisLabelRotation = xAxisLabelRotation;
+    modificationCount++;
   }
 
   // Chart Plot Area ///////////////////////////////
@@ -941,6 +1032,7 @@ public class StyleManager {
 
     this.isPlotGridHorizontalLinesVisible = isPlotGridLinesVisible;
     this.isPlotGridVerticalLinesVisible = isPlotGridLinesVisible;
+    modificationCount++;
   }
 
   public boolean isPlotGridLinesVisible() {
@@ -956,6 +1048,7 @@ public class StyleManager {
   public void setPlotGridHorizontalLinesVisible(boolean isPlotGridHorizontalLinesVisible) {
 
     this.isPlotGridHorizontalLinesVisible = isPlotGridHorizontalLinesVisible;
+    modificationCount++;
   }
 
   public boolean isPlotGridHorizontalLinesVisible() {
@@ -971,6 +1064,7 @@ public class StyleManager {
   public void setPlotGridVerticalLinesVisible(boolean isPlotGridVerticalLinesVisible) {
 
     this.isPlotGridVerticalLinesVisible = isPlotGridVerticalLinesVisible;
+    modificationCount++;
   }
 
   public boolean isPlotGridVerticalLinesVisible() {
@@ -986,6 +1080,7 @@ public class StyleManager {
   public void setPlotBackgroundColor(Color plotBackgroundColor) {
 
     this.plotBackgroundColor = plotBackgroundColor;
+    modificationCount++;
   }
 
   public Color getPlotBackgroundColor() {
@@ -1001,6 +1096,7 @@ public class StyleManager {
   public void setPlotBorderColor(Color plotBorderColor) {
 
     this.plotBorderColor = plotBorderColor;
+    modificationCount++;
   }
 
   public Color getPlotBorderColor() {
@@ -1016,6 +1112,7 @@ public class StyleManager {
   public void setPlotBorderVisible(boolean isPlotBorderVisible) {
 
     this.isPlotBorderVisible = isPlotBorderVisible;
+    modificationCount++;
   }
 
   public boolean isPlotBorderVisible() {
@@ -1031,6 +1128,7 @@ public class StyleManager {
   public void setPlotTicksMarksVisible(boolean isPlotTicksMarksVisible) {
 
     this.isPlotTicksMarksVisible = isPlotTicksMarksVisible;
+    modificationCount++;
   }
 
   public boolean isPlotTicksMarksVisible() {
@@ -1046,6 +1144,7 @@ public class StyleManager {
   public void setPlotGridLinesColor(Color plotGridLinesColor) {
 
     this.plotGridLinesColor = plotGridLinesColor;
+    modificationCount++;
   }
 
   public Color getPlotGridLinesColor() {
@@ -1061,6 +1160,7 @@ public class StyleManager {
   public void setPlotGridLinesStroke(Stroke plotGridLinesStroke) {
 
     this.plotGridLinesStroke = plotGridLinesStroke;
+    modificationCount++;
   }
 
   public Stroke getPlotGridLinesStroke() {
@@ -1078,6 +1178,7 @@ public class StyleManager {
   public void setBarWidthPercentage(double barWidthPercentage) {
 
     this.barWidthPercentage = barWidthPercentage;
+    modificationCount++;
   }
 
   public double getBarWidthPercentage() {
@@ -1093,6 +1194,7 @@ public class StyleManager {
   public void setBarsOverlapped(boolean isBarsOverlapped) {
 
     this.isBarsOverlapped = isBarsOverlapped;
+    modificationCount++;
   }
 
   public boolean isBarsOverlapped() {
@@ -1108,6 +1210,7 @@ public class StyleManager {
   public void setBarFilled(boolean isBarFilled) {
 
     this.isBarFilled = isBarFilled;
+    modificationCount++;
   }
 
   public boolean isBarFilled() {
@@ -1125,6 +1228,7 @@ public class StyleManager {
   public void setMarkerSize(int markerSize) {
 
     this.markerSize = markerSize;
+    modificationCount++;
   }
 
   public int getMarkerSize() {
@@ -1132,6 +1236,115 @@ public class StyleManager {
     return markerSize;
   }
 
+  /**
+   * Set true to reduce Line and Area series without markers or error bars to at most four points per pixel column (first, min, max, last) before
+   * painting. The rendered line covers the same pixels (only the antialiasing shading differs slightly), but huge series paint much faster. The X data
+   * must be in ascending order, otherwise the series is painted without decimation.
+   *
+   * @param isDecimationEnabled
+   */
+  public void setDecimationEnabled(boolean isDecimationEnabled) {
+
+    this.isDecimationEnabled = isDecimationEnabled;
+    modificationCount++;
+  }
+
+  public boolean isDecimationEnabled() {
+
+    return isDecimationEnabled;
+  }
+
+  /**
+   * Set true to paint each contiguous run of a Line or Area series (up to the next null Y value) as polylines instead of one line per segment. This
+   * is much faster for large series with dashed line styles, keeps the dash pattern going from segment to segment and produces far fewer elements in
+   * vector output. Solid lines on bitmaps are still painted segment by segment, because Java2D has a fast path for single lines, but with one color
+   * and stroke change per run. The polylines are joined with bevel joins, so sharp turns look slightly different than separately painted segments.
+   *
+   * @param isLinePathBatchingEnabled
+   */
+  public void setLinePathBatchingEnabled(boolean isLinePathBatchingEnabled) {
+
+    this.isLinePathBatchingEnabled = isLinePathBatchingEnabled;
+    modificationCount++;
+  }
+
+  public boolean isLinePathBatchingEnabled() {
+
+    return isLinePathBatchingEnabled;
+  }
+
+  /**
+   * Set true to simplify Line and Area series without markers or error bars when saving vector graphics with VectorGraphicsEncoder. Points closer than
+   * the tolerance to the simplified line are dropped (Ramer-Douglas-Peucker), so collinear runs become single segments and dense series produce much
+   * smaller files. Bitmaps and XChartPanel are not affected.
+   *
+   * @param isVectorSimplificationEnabled
+   */
+  public void setVectorSimplificationEnabled(boolean isVectorSimplificationEnabled) {
+
+    this.isVectorSimplificationEnabled = isVectorSimplificationEnabled;
+    modificationCount++;
+  }
+
+  public boolean isVectorSimplificationEnabled() {
+
+    return isVectorSimplificationEnabled;
+  }
+
+  /**
+   * Sets the max distance of a dropped point from the simplified line in vector output, in points (1/72 inch). The default of 0.25 is well below what
+   * can be seen at 100% zoom.
+   *
+   * @param vectorSimplificationTolerance
+   */
+  public void setVectorSimplificationTolerance(double vectorSimplificationTolerance) {
+
+    this.vectorSimplificationTolerance = vectorSimplificationTolerance;
+    modificationCount++;
+  }
+
+  public double getVectorSimplificationTolerance() {
+
+    return vectorSimplificationTolerance;
+  }
+
+  /**
+   * Set false to paint every series marker as a shape. By default, markers painted on bitmaps and XChartPanel are stamped from small images rendered
+   * once per marker, size and color, which is many times faster for large scatter plots and differs from the shapes by at most 1/16 pixel in position.
+   * Markers are only stamped on a Graphics2D whose device is an image buffer or a raster screen, printers and vector graphics always get shapes.
+   *
+   * @param isMarkerStampingEnabled
+   */
+  public void setMarkerStampingEnabled(boolean isMarkerStampingEnabled) {
+
+    this.isMarkerStampingEnabled = isMarkerStampingEnabled;
+    modificationCount++;
+  }
+
+  public boolean isMarkerStampingEnabled() {
+
+    return isMarkerStampingEnabled;
+  }
+
+  /**
+   * Set true to draw the titles, tick labels and legend on bitmaps and XChartPanel as antialiased glyphs, which Java2D caches, instead of filling
+   * their outlines. This is much faster for charts with many labels, but the hinted glyphs look slightly different. VectorGraphicsEncoder always
+   * fills the outlines, so the text doesn't depend on the fonts installed where the file is viewed. Printers and other Graphics2D whose device is not
+   * an image or a screen get the outlines too.
+   *
+   * @param isGlyphTextRenderingEnabled
+   */
+  public void setGlyphTextRenderingEnabled(boolean isGlyphTextRenderingEnabled) {
+
+    this.isGlyphTextRenderingEnabled = isGlyphTextRenderingEnabled;
+    modificationCount++;
+  }
+
+  public boolean isGlyphTextRenderingEnabled() {
+
+    return isGlyphTextRenderingEnabled;
+  }
+
   // Error Bars ///////////////////////////////
 
   /**
@@ -1142,6 +1355,7 @@ public class StyleManager {
   public void setErrorBarsColor(Color errorBarsColor) {
 
     this.errorBarsColor = errorBarsColor;
+    modificationCount++;
   }
 
   public Color getErrorBarsColor() {
@@ -1157,6 +1371,7 @@ public class StyleManager {
   public void setErrorBarsColorSeriesColor(boolean isErrorBarsColorSeriesColor) {
 
     this.isErrorBarsColorSeriesColor = isErrorBarsColorSeriesColor;
+    modificationCount++;
   }
 
   public boolean isErrorBarsColorSeriesColor() {
@@ -1174,6 +1389,7 @@ public class StyleManager {
   public void setLocale(Locale locale) {
 
     this.locale = locale;
+    modificationCount++;
   }
 
   public Locale getLocale() {
@@ -1189,6 +1405,7 @@ public class StyleManager {
   public void setTimezone(TimeZone timezone) {
 
     this.timezone = timezone;
+    modificationCount++;
   }
 
   public TimeZone getTimezone() {
@@ -1204,6 +1421,7 @@ public class StyleManager {
   public void setDatePattern(String datePattern) {
 
     this.datePattern = datePattern;
+    modificationCount++;
   }
 
   public String getDatePattern() {
@@ -1219,6 +1437,7 @@ public class StyleManager {
   public void setDecimalPattern(String decimalPattern) {
 
     this.decimalPattern = decimalPattern;
+    modificationCount++;
   }
 
   public String getDecimalPattern() {
@@ -1239,6 +1458,7 @@ public class StyleManager {
   public void setXAxisDecimalPattern(String xAxisDecimalPattern) {
 
     this.xAxisDecimalPattern = xAxisDecimalPattern;
+    modificationCount++;
   }
 
   public String getYAxisDecimalPattern() {
@@ -1254,6 +1474,7 @@ public class StyleManager {
   public void setYAxisDecimalPattern(String yAxisDecimalPattern) {
 
     this.yAxisDecimalPattern = yAxisDecimalPattern;
+    modificationCount++;
   }
 
 }
@@ -16,8 +16,14 @@
  */
 package org.knowm.xchart;
 
+import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import org.knowm.xchart.internal.StreamingSVGGraphics2D;
 
 import de.erichseifert.vectorgraphics2d.EPSGraphics2D;
 import de.erichseifert.vectorgraphics2d.PDFGraphics2D;
@@ -31,6 +37,9 @@ import de.erichseifert.vectorgraphics2d.VectorGraphics2D;
  */
 public final class VectorGraphicsEncoder {
 
+  /** the default number of decimals of SVG coordinates, a hundredth of a pixel */
+  public static final int DEFAULT_SVG_PRECISION = 2;
+
   /**
    * Constructor - Private constructor to prevent instantiation
    */
@@ -61,7 +70,7 @@ public final class VectorGraphicsEncoder {
       break;
     }
 
-    chart.paint(g, chart.getWidth(), chart.getHeight());
+    chart.paintVectorGraphic(g, chart.getWidth(), chart.getHeight());
 
     // Write the vector graphic output to a file
     FileOutputStream file = new FileOutputStream(fileName + "." + vectorGraphicsFormat.toString().toLowerCase());
@@ -73,4 +82,51 @@ public final class VectorGraphicsEncoder {
     }
   }
 
+  /**
+   * Save a Chart as an SVG file, writing the elements as they are painted instead of building the document in memory first
+   *
+   * @param chart
+   * @param fileName - without the .svg extension, like for saveVectorGraphic()
+   * @param precision - the number of decimals of coordinates, from 0 to 6
+   * @throws IOException
+   */
+  public static void saveSVG(Chart chart, String fileName, int precision) throws IOException {
+
+    OutputStream out = new FileOutputStream(fileName + ".svg");
+    try {
+      saveSVG(chart, out, precision);
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   * Write a Chart as UTF-8 encoded SVG to a stream as it is painted. The stream is not closed.
+   *
+   * @param chart
+   * @param targetStream
+   * @param precision - the number of decimals of coordinates, from 0 to 6
+   * @throws IOException
+   */
+  public static void saveSVG(Chart chart, OutputStream targetStream, int precision) throws IOException {
+
+    saveSVG(chart, new BufferedWriter(new OutputStreamWriter(targetStream, "UTF-8")), precision);
+  }
+
+  /**
+   * Write a Chart as SVG to a Writer as it is painted. Consecutive lines with the same style are merged into one path and coordinates are rounded to
+   * the given number of decimals, which keeps the output of dense series small. The Writer is flushed but not closed.
+   *
+   * @param chart
+   * @param writer
+   * @param precision - the number of decimals of coordinates, from 0 to 6
+   * @throws IOException
+   */
+  public static void saveSVG(Chart chart, Writer writer, int precision) throws IOException {
+
+    StreamingSVGGraphics2D g = new StreamingSVGGraphics2D(writer, chart.getWidth(), chart.getHeight(), precision);
+    chart.paintVectorGraphic(g, chart.getWidth(), chart.getHeight());
+    g.finish();
+  }
+
 }
@@ -19,8 +19,10 @@ package org.knowm.xchart;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
 import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -29,6 +31,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.AbstractAction;
 import javax.swing.JFileChooser;
@@ -36,15 +42,25 @@ import javax.swing.JMenuItem;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.KeyStroke;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
 import javax.swing.filechooser.FileFilter;
 
 import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.PublishedSeriesData.AppendTarget;
 import org.knowm.xchart.VectorGraphicsEncoder.VectorGraphicsFormat;
+import org.knowm.xchart.internal.data.ArraySeriesData;
 
 /**
  * A Swing JPanel that contains a Chart
  * <p>
  * Right-click + Save As... or ctrl+S pops up a Save As dialog box for saving the chart as a JPeg or PNG file.
+ * <p>
+ * The update methods modify the series directly and must be called on the Swing event dispatch thread. Producer threads use the publish methods
+ * instead: they never block, and the published data is applied by the event dispatch thread right before the next frame is painted.
+ * <p>
+ * Updates don't repaint the chart one by one. An update schedules the next frame, no sooner than the max frames per second allow, and all further
+ * updates until its repaint is issued are merged into it.
  *
  * @author timmolter
  */
@@ -54,6 +70,27 @@ public class XChartPanel extends JPanel {
   private final Dimension preferredSize;
   private String saveAsString = "Save As...";
 
+  /** series updates published by producer threads, waiting for the next paint */
+  private final AtomicReference<PublishedSeriesData> publishedSeriesData = new AtomicReference<PublishedSeriesData>();
+
+  /** what each series accepted when the last frame was painted, so producer threads never read the series map */
+  private volatile Map<String, AppendTarget> appendTargets;
+
+  /** the max number of frames per second painted for updates, 0 for no limit */
+  private volatile int maxFramesPerSecond = 60;
+
+  /** true from the update that schedules a frame until its repaint is issued */
+  private final AtomicBoolean isRepaintScheduled = new AtomicBoolean(false);
+
+  /** the number of updates merged into a frame scheduled by an earlier update */
+  private final AtomicLong mergedUpdateCount = new AtomicLong(0);
+
+  /** System.nanoTime() when the last frame was painted */
+  private volatile long lastPaintTime = System.nanoTime();
+
+  /** fires a delayed repaint to keep the frame rate below the max */
+  private final Timer repaintTimer;
+
   /**
    * Constructor
    *
@@ -63,14 +100,28 @@ public class XChartPanel extends JPanel {
 
     this.chart = chart;
     preferredSize = new Dimension(chart.getWidth(), chart.getHeight());
+    appendTargets = PublishedSeriesData.getAppendTargets(chart);
 
     // Right-click listener for saving chart
     this.addMouseListener(new PopUpMenuClickListener());
 
-    // Control+S key listener for saving chart
-    KeyStroke ctrlS = KeyStroke.getKeyStroke(KeyEvent.VK_S, Toolkit.getDefaultToolkit().getMenuShortcutKeyMask());
-    this.getInputMap(WHEN_IN_FOCUSED_WINDOW).put(ctrlS, "save");
-    this.getActionMap().put("save", new SaveAction());
+    // Control+S key listener for saving chart, there is no keyboard without a display
+    if (!GraphicsEnvironment.isHeadless()) {
+      KeyStroke ctrlS = KeyStroke.getKeyStroke(KeyEvent.VK_S, Toolkit.getDefaultToolkit().getMenuShortcutKeyMask());
+      this.getInputMap(WHEN_IN_FOCUSED_WINDOW).put(ctrlS, "save");
+      this.getActionMap().put("save", new SaveAction());
+    }
+
+    repaintTimer = new Timer(0, new ActionListener() {
+
+      @Override
+      public void actionPerformed(ActionEvent e) {
+
+        isRepaintScheduled.set(false);
+        repaint();
+      }
+    });
+    repaintTimer.setRepeats(false);
   }
 
   /**
@@ -83,13 +134,85 @@ public class XChartPanel extends JPanel {
     this.saveAsString = saveAsString;
   }
 
+  /**
+   * Set the max number of frames per second painted for updates. Updates arriving faster are merged into the next frame.
+   *
+   * @param maxFramesPerSecond - 0 for no limit
+   */
+  public void setMaxFramesPerSecond(int maxFramesPerSecond) {
+
+    if (maxFramesPerSecond < 0) {
+      throw new IllegalArgumentException("Max frames per second cannot be negative!!!");
+    }
+    this.maxFramesPerSecond = maxFramesPerSecond;
+  }
+
+  public int getMaxFramesPerSecond() {
+
+    return maxFramesPerSecond;
+  }
+
+  /**
+   * @return the number of updates that were merged into a frame scheduled by an earlier update instead of triggering a frame of their own
+   */
+  public long getMergedUpdateCount() {
+
+    return mergedUpdateCount.get();
+  }
+
+  /**
+   * Schedules a repaint for an update unless one is already scheduled, in which case the update is merged into it. Can be called from any thread.
+   */
+  private void scheduleRepaint() {
+
+    if (!isRepaintScheduled.compareAndSet(false, true)) {
+      mergedUpdateCount.incrementAndGet();
+      return;
+    }
+
+    long delay = 0;
+    int framesPerSecond = maxFramesPerSecond;
+    if (framesPerSecond > 0) {
+      long nextFrameTime = lastPaintTime + 1000000000L / framesPerSecond;
+      delay = (nextFrameTime - System.nanoTime()) / 1000000L;
+    }
+
+    if (delay <= 0) {
+      // the RepaintManager merges repaints until the frame is painted
+      isRepaintScheduled.set(false);
+      repaint();
+    }
+    else {
+      final int initialDelay = (int) delay;
+      SwingUtilities.invokeLater(new Runnable() {
+
+        @Override
+        public void run() {
+
+          repaintTimer.setInitialDelay(initialDelay);
+          repaintTimer.restart();
+        }
+      });
+    }
+  }
+
   @Override
   protected void paintComponent(Graphics g) {
 
     super.paintComponent(g);
 
+    // the frame rate of the next frames is limited from now on
+    lastPaintTime = System.nanoTime();
+
+    // apply everything published since the last frame at once
+    PublishedSeriesData published = publishedSeriesData.getAndSet(null);
+    if (published != null) {
+      published.applyTo(chart);
+    }
+    appendTargets = PublishedSeriesData.getAppendTargets(chart);
+
     Graphics2D g2d = (Graphics2D) g.create();
-    chart.paint(g2d, getWidth(), getHeight());
+    chart.paintWithLayerCache(g2d, getWidth(), getHeight());
     g2d.dispose();
   }
 
@@ -306,10 +429,121 @@ public class XChartPanel extends JPanel {
       series.replaceData(newXData, newYData, newErrorBarData);
     }
 
-    // Re-display the chart
-    revalidate();
-    repaint();
+    // Re-display the chart, the layout doesn't depend on the data so no revalidation is needed
+    appendTargets = PublishedSeriesData.getAppendTargets(chart);
+    scheduleRepaint();
+
+    return series;
+  }
+
+  /**
+   * Update a series by appending points. A rolling series (see Chart.addRollingSeries()) evicts its oldest points automatically. The cost is
+   * proportional to the number of new points.
+   *
+   * @param seriesName
+   * @param newXData - for a Date X-Axis, milliseconds since the epoch; null for a rolling series with generated X values
+   * @param newYData
+   * @param newErrorBarData - set null if there are no error bars
+   * @return
+   */
+  public Series appendSeries(String seriesName, double[] newXData, double[] newYData, double[] newErrorBarData) {
+
+    Series series = chart.getSeriesMap().get(seriesName);
+    if (series == null) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+    }
+    series.appendPoints(newXData, newYData, newErrorBarData);
+
+    // Re-display the chart, the layout doesn't depend on the data so no revalidation is needed
+    appendTargets = PublishedSeriesData.getAppendTargets(chart);
+    scheduleRepaint();
+
+    return series;
+  }
+
+  /**
+   * Update a series by appending points and removing the oldest points beyond the given max size, as for a rolling real-time chart. Unlike a rolling
+   * series created with Chart.addRollingSeries(), any appendable series can be trimmed this way. The cost is proportional to the number of changed points.
+   *
+   * @param seriesName
+   * @param newXData - for a Date X-Axis, milliseconds since the epoch
+   * @param newYData
+   * @param maxSize - the max number of points kept in the series
+   * @return
+   */
+  public Series appendRollingSeries(String seriesName, double[] newXData, double[] newYData, int maxSize) {
+
+    Series series = chart.getSeriesMap().get(seriesName);
+    if (series == null) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+    }
+    series.appendPoints(newXData, newYData);
+    int size = series.getSeriesData().size();
+    if (size > maxSize) {
+      series.trimHead(size - maxSize);
+    }
+
+    // Re-display the chart, the layout doesn't depend on the data so no revalidation is needed
+    appendTargets = PublishedSeriesData.getAppendTargets(chart);
+    scheduleRepaint();
 
     return series;
   }
+
+  /**
+   * Publish new X-Axis, Y-Axis and error bar data for a series from any thread. The data replaces the series data right before the next frame is painted;
+   * if it is published several times in between, only the latest data is painted. This never blocks, and the arrays are not copied, so they must not be
+   * modified after publishing. The series must have been added before the panel was created or last painted.
+   *
+   * @param seriesName
+   * @param newXData - set null to generate the X values 1, 2, 3, ...
+   * @param newYData
+   * @param newErrorBarData - set null if there are no error bars
+   */
+  public void publishSeries(String seriesName, double[] newXData, double[] newYData, double[] newErrorBarData) {
+
+    checkSeriesName(seriesName);
+    ArraySeriesData seriesData = new ArraySeriesData(newXData, newYData, newErrorBarData);
+
+    PublishedSeriesData published;
+    do {
+      published = publishedSeriesData.get();
+    } while (!publishedSeriesData.compareAndSet(published, PublishedSeriesData.withReplacement(published, seriesName, seriesData)));
+
+    scheduleRepaint();
+  }
+
+  /**
+   * Publish points to append to a series from any thread, e.g. for a rolling series. The points are appended right before the next frame is painted, in
+   * the order they were published. This never blocks, and the arrays are not copied, so they must not be modified after publishing. The series must have
+   * been added before the panel was created or last painted, and the points are checked against it right away. While no frame is painted, only the
+   * points a rolling series can hold are kept.
+   *
+   * @param seriesName
+   * @param newXData - for a Date X-Axis, milliseconds since the epoch; null for a rolling series with generated X values
+   * @param newYData
+   * @param newErrorBarData - set null if there are no error bars
+   */
+  public void publishSeriesAppend(String seriesName, double[] newXData, double[] newYData, double[] newErrorBarData) {
+
+    AppendTarget target = appendTargets.get(seriesName);
+    if (target == null) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+    }
+
+    PublishedSeriesData published;
+    do {
+      published = publishedSeriesData.get();
+    } while (!publishedSeriesData.compareAndSet(published, PublishedSeriesData.withAppend(published, seriesName, target, newXData, newYData,
+        newErrorBarData)));
+
+    scheduleRepaint();
+  }
+
+  private void checkSeriesName(String seriesName) {
+
+    if (!appendTargets.containsKey(seriesName)) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< not found!!!");
+    }
+  }
 }
@@ -0,0 +1,152 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * A pool of BufferedImages for painting charts that are encoded right away, so exporting many charts doesn't allocate a new image of several MB for
+ * each one. The images are kept up to a total number of pixels, most recently released first. Thread-safe.
+ *
+ * @author timmolter
+ */
+public class BufferedImagePool {
+
+  /** the released images, the most recently released first */
+  private final LinkedList<BufferedImage> images = new LinkedList<BufferedImage>();
+
+  private long maxPixels;
+
+  private long pixels;
+
+  /**
+   * Constructor
+   *
+   * @param maxPixels - the max total number of pixels of the kept images, 0 to keep none
+   */
+  public BufferedImagePool(long maxPixels) {
+
+    setMaxPixels(maxPixels);
+  }
+
+  /**
+   * @param maxPixels - the max total number of pixels of the kept images, 0 to keep none
+   */
+  public synchronized void setMaxPixels(long maxPixels) {
+
+    if (maxPixels < 0) {
+      throw new IllegalArgumentException("Max pixels cannot be negative!!!");
+    }
+    this.maxPixels = maxPixels;
+    trim();
+  }
+
+  public synchronized long getMaxPixels() {
+
+    return maxPixels;
+  }
+
+  /**
+   * Takes a kept image of the given size and type out of the pool, or creates a new one. Either way, all pixels are 0 like in a new image.
+   *
+   * @param width
+   * @param height
+   * @param imageType - one of the BufferedImage.TYPE_* constants
+   * @return
+   */
+  public BufferedImage acquire(int width, int height, int imageType) {
+
+    BufferedImage bufferedImage = null;
+    synchronized (this) {
+      for (Iterator<BufferedImage> iterator = images.iterator(); iterator.hasNext();) {
+        BufferedImage image = iterator.next();
+        if (image.getWidth() == width && image.getHeight() == height && image.getType() == imageType) {
+          iterator.remove();
+          pixels -= getPixels(image);
+          bufferedImage = image;
+          break;
+        }
+      }
+    }
+
+    if (bufferedImage == null) {
+      return new BufferedImage(width, height, imageType);
+    }
+    clear(bufferedImage);
+    return bufferedImage;
+  }
+
+  /**
+   * Gives an image back to the pool. It must not be used afterwards.
+   *
+   * @param bufferedImage
+   */
+  public synchronized void release(BufferedImage bufferedImage) {
+
+    if (getPixels(bufferedImage) > maxPixels) {
+      return;
+    }
+    images.addFirst(bufferedImage);
+    pixels += getPixels(bufferedImage);
+    trim();
+  }
+
+  /**
+   * Drops the least recently released images until the kept ones fit
+   */
+  private void trim() {
+
+    while (pixels > maxPixels) {
+      pixels -= getPixels(images.removeLast());
+    }
+  }
+
+  /**
+   * Sets all pixels to 0
+   *
+   * @param bufferedImage
+   */
+  public static void clear(BufferedImage bufferedImage) {
+
+    clear(bufferedImage, bufferedImage.getWidth(), bufferedImage.getHeight());
+  }
+
+  /**
+   * Sets the pixels of the given area at the top left to 0
+   *
+   * @param bufferedImage
+   * @param width
+   * @param height
+   */
+  public static void clear(BufferedImage bufferedImage, int width, int height) {
+
+    Graphics2D graphics2D = bufferedImage.createGraphics();
+    graphics2D.setComposite(AlphaComposite.Clear);
+    graphics2D.fillRect(0, 0, width, height);
+    graphics2D.dispose();
+  }
+
+  private static long getPixels(BufferedImage bufferedImage) {
+
+    return (long) bufferedImage.getWidth() * bufferedImage.getHeight();
+  }
+
+}
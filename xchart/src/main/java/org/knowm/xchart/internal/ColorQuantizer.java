@@ -0,0 +1,406 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+/**
+ * Reduces an opaque image to a palette of at most 256 colors. The palette is built by median cut on the color histogram, splitting the box with the
+ * largest squared error first, and refined by a few k-means passes. Charts use a few theme colors plus antialiasing shades between them, and an image
+ * with few enough colors keeps all of them exactly, since median cut then ends with one box per color. Alpha is ignored.
+ *
+ * @author timmolter
+ */
+public class ColorQuantizer {
+
+  public static final int MAX_PALETTE_SIZE = 256;
+
+  private static final int K_MEANS_PASSES = 2;
+
+  private final int maxColors;
+
+  /**
+   * Constructor
+   *
+   * @param maxColors - the max number of palette colors, from 2 to 256
+   */
+  public ColorQuantizer(int maxColors) {
+
+    if (maxColors < 2 || maxColors > MAX_PALETTE_SIZE) {
+      throw new IllegalArgumentException("The max number of colors must be between 2 and 256!!!");
+    }
+    this.maxColors = maxColors;
+  }
+
+  public int getMaxColors() {
+
+    return maxColors;
+  }
+
+  /**
+   * @param bufferedImage
+   * @return the image as a new TYPE_BYTE_INDEXED image with the quantization error
+   */
+  public QuantizedImage quantize(BufferedImage bufferedImage) {
+
+    int width = bufferedImage.getWidth();
+    int height = bufferedImage.getHeight();
+    boolean isIntRaster = bufferedImage.getType() == BufferedImage.TYPE_INT_RGB || bufferedImage.getType() == BufferedImage.TYPE_INT_ARGB;
+    int[] pixels = new int[width];
+
+    IntIntHashMap histogram = new IntIntHashMap();
+    for (int y = 0; y < height; y++) {
+      readRow(bufferedImage, isIntRaster, y, pixels);
+      int lastColor = -1;
+      int lastSlot = -1;
+      for (int x = 0; x < width; x++) {
+        int color = pixels[x] & 0xFFFFFF;
+        if (color != lastColor) {
+          lastColor = color;
+          lastSlot = histogram.slot(color);
+        }
+        histogram.values[lastSlot]++;
+      }
+    }
+
+    int colorCount = histogram.size;
+    int[] colors = new int[colorCount];
+    int[] counts = new int[colorCount];
+    for (int slot = 0, i = 0; slot < histogram.keys.length; slot++) {
+      if (histogram.keys[slot] >= 0) {
+        colors[i] = histogram.keys[slot];
+        counts[i] = histogram.values[slot];
+        i++;
+      }
+    }
+
+    int[] palette = medianCut(colors, counts, maxColors);
+    for (int pass = 0; pass < K_MEANS_PASSES; pass++) {
+      palette = refine(colors, counts, palette);
+    }
+
+    // map each color once, the histogram values become palette indices
+    double squaredError = 0.0;
+    for (int i = 0; i < colorCount; i++) {
+      int index = nearest(palette, colors[i]);
+      squaredError += (double) counts[i] * distance(palette[index], colors[i]);
+      histogram.values[histogram.slot(colors[i])] = index;
+    }
+
+    byte[] reds = new byte[palette.length];
+    byte[] greens = new byte[palette.length];
+    byte[] blues = new byte[palette.length];
+    for (int i = 0; i < palette.length; i++) {
+      reds[i] = (byte) (palette[i] >> 16);
+      greens[i] = (byte) (palette[i] >> 8);
+      blues[i] = (byte) palette[i];
+    }
+    IndexColorModel indexColorModel = new IndexColorModel(8, palette.length, reds, greens, blues);
+    BufferedImage indexedImage = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_INDEXED, indexColorModel);
+    WritableRaster raster = indexedImage.getRaster();
+    byte[] indices = new byte[width];
+    for (int y = 0; y < height; y++) {
+      readRow(bufferedImage, isIntRaster, y, pixels);
+      for (int x = 0; x < width; x++) {
+        indices[x] = (byte) histogram.values[histogram.slot(pixels[x] & 0xFFFFFF)];
+      }
+      raster.setDataElements(0, y, width, 1, indices);
+    }
+
+    long pixelCount = (long) width * height;
+    return new QuantizedImage(indexedImage, colorCount, palette.length, pixelCount == 0 ? 0.0 : squaredError / (3.0 * pixelCount));
+  }
+
+  private static void readRow(BufferedImage bufferedImage, boolean isIntRaster, int y, int[] pixels) {
+
+    if (isIntRaster) {
+      bufferedImage.getRaster().getDataElements(0, y, pixels.length, 1, pixels);
+    }
+    else {
+      bufferedImage.getRGB(0, y, pixels.length, 1, pixels, 0, pixels.length);
+    }
+  }
+
+  /**
+   * Splits the color histogram into boxes until there are maxColors of them, always the box with the largest squared error along its widest channel
+   *
+   * @return the count weighted mean colors of the boxes
+   */
+  private static int[] medianCut(int[] colors, int[] counts, int maxColors) {
+
+    int[] order = new int[colors.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Box[] boxes = new Box[maxColors];
+    boxes[0] = new Box(colors, counts, order, 0, order.length);
+    int boxCount = 1;
+    long[] keys = new long[colors.length];
+
+    while (boxCount < maxColors) {
+      Box worst = null;
+      int worstIndex = -1;
+      for (int i = 0; i < boxCount; i++) {
+        if (boxes[i].end - boxes[i].start > 1 && (worst == null || boxes[i].squaredError > worst.squaredError)) {
+          worst = boxes[i];
+          worstIndex = i;
+        }
+      }
+      if (worst == null) {
+        break;
+      }
+
+      // sort the box by its widest channel and cut it at the count weighted median
+      int shift = worst.widestChannelShift;
+      for (int i = worst.start; i < worst.end; i++) {
+        keys[i] = (long) ((colors[order[i]] >> shift) & 0xFF) << 32 | order[i];
+      }
+      Arrays.sort(keys, worst.start, worst.end);
+      for (int i = worst.start; i < worst.end; i++) {
+        order[i] = (int) keys[i];
+      }
+      long half = worst.population / 2;
+      long population = 0;
+      int cut = worst.start + 1;
+      for (int i = worst.start; i < worst.end - 1; i++) {
+        population += counts[order[i]];
+        cut = i + 1;
+        if (population >= half) {
+          break;
+        }
+      }
+
+      boxes[worstIndex] = new Box(colors, counts, order, worst.start, cut);
+      boxes[boxCount++] = new Box(colors, counts, order, cut, worst.end);
+    }
+
+    int[] palette = new int[boxCount];
+    for (int i = 0; i < boxCount; i++) {
+      palette[i] = boxes[i].mean;
+    }
+    return palette;
+  }
+
+  /**
+   * One k-means pass: moves each palette color to the count weighted mean of the colors nearest to it
+   */
+  private static int[] refine(int[] colors, int[] counts, int[] palette) {
+
+    long[] sums = new long[palette.length * 4];
+    for (int i = 0; i < colors.length; i++) {
+      int index = nearest(palette, colors[i]);
+      long count = counts[i];
+      sums[index * 4] += count * ((colors[i] >> 16) & 0xFF);
+      sums[index * 4 + 1] += count * ((colors[i] >> 8) & 0xFF);
+      sums[index * 4 + 2] += count * (colors[i] & 0xFF);
+      sums[index * 4 + 3] += count;
+    }
+    int[] refined = new int[palette.length];
+    for (int i = 0; i < palette.length; i++) {
+      long count = sums[i * 4 + 3];
+      refined[i] = count == 0 ? palette[i] : mean(sums[i * 4], sums[i * 4 + 1], sums[i * 4 + 2], count);
+    }
+    return refined;
+  }
+
+  private static int nearest(int[] palette, int color) {
+
+    int best = 0;
+    int bestDistance = Integer.MAX_VALUE;
+    for (int i = 0; i < palette.length; i++) {
+      int distance = distance(palette[i], color);
+      if (distance < bestDistance) {
+        bestDistance = distance;
+        best = i;
+        if (distance == 0) {
+          break;
+        }
+      }
+    }
+    return best;
+  }
+
+  private static int distance(int color1, int color2) {
+
+    int red = ((color1 >> 16) & 0xFF) - ((color2 >> 16) & 0xFF);
+    int green = ((color1 >> 8) & 0xFF) - ((color2 >> 8) & 0xFF);
+    int blue = (color1 & 0xFF) - (color2 & 0xFF);
+    return red * red + green * green + blue * blue;
+  }
+
+  private static int mean(long redSum, long greenSum, long blueSum, long count) {
+
+    int red = (int) ((redSum + count / 2) / count);
+    int green = (int) ((greenSum + count / 2) / count);
+    int blue = (int) ((blueSum + count / 2) / count);
+    return red << 16 | green << 8 | blue;
+  }
+
+  /**
+   * A range of the histogram colors in the order array with its population, mean and squared error
+   */
+  private static final class Box {
+
+    private final int start;
+    private final int end;
+    private final long population;
+    private final int mean;
+    private final double squaredError;
+    private final int widestChannelShift;
+
+    Box(int[] colors, int[] counts, int[] order, int start, int end) {
+
+      this.start = start;
+      this.end = end;
+
+      long population = 0;
+      long[] sums = new long[3];
+      long[] squareSums = new long[3];
+      for (int i = start; i < end; i++) {
+        int color = colors[order[i]];
+        long count = counts[order[i]];
+        population += count;
+        for (int channel = 0; channel < 3; channel++) {
+          long value = (color >> (16 - channel * 8)) & 0xFF;
+          sums[channel] += count * value;
+          squareSums[channel] += count * value * value;
+        }
+      }
+      this.population = population;
+      this.mean = mean(sums[0], sums[1], sums[2], population);
+
+      double squaredError = 0.0;
+      double widestError = -1.0;
+      int widestChannelShift = 16;
+      for (int channel = 0; channel < 3; channel++) {
+        double channelError = squareSums[channel] - (double) sums[channel] * sums[channel] / population;
+        squaredError += channelError;
+        if (channelError > widestError) {
+          widestError = channelError;
+          widestChannelShift = 16 - channel * 8;
+        }
+      }
+      this.squaredError = squaredError;
+      this.widestChannelShift = widestChannelShift;
+    }
+  }
+
+  /**
+   * An open addressing hash map from RGB colors to ints, the keys are -1 for empty slots
+   */
+  private static final class IntIntHashMap {
+
+    private int[] keys = newKeys(1024);
+    private int[] values = new int[1024];
+    private int size;
+
+    private static int[] newKeys(int capacity) {
+
+      int[] keys = new int[capacity];
+      Arrays.fill(keys, -1);
+      return keys;
+    }
+
+    /**
+     * @return the slot of the key, which is added with the value 0 if it's new
+     */
+    int slot(int key) {
+
+      int mask = keys.length - 1;
+      int slot = (key * 0x9E3779B9) >>> 16 & mask;
+      while (keys[slot] >= 0) {
+        if (keys[slot] == key) {
+          return slot;
+        }
+        slot = (slot + 1) & mask;
+      }
+      if ((size + 1) * 2 > keys.length) {
+        grow();
+        return slot(key);
+      }
+      keys[slot] = key;
+      size++;
+      return slot;
+    }
+
+    private void grow() {
+
+      int[] oldKeys = keys;
+      int[] oldValues = values;
+      keys = newKeys(oldKeys.length * 2);
+      values = new int[oldKeys.length * 2];
+      size = 0;
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldKeys[i] >= 0) {
+          values[slot(oldKeys[i])] = oldValues[i];
+        }
+      }
+    }
+  }
+
+  /**
+   * A quantized image with the number of colors before and after and the error
+   */
+  public static final class QuantizedImage {
+
+    private final BufferedImage image;
+    private final int colorCount;
+    private final int paletteSize;
+    private final double meanSquaredError;
+
+    QuantizedImage(BufferedImage image, int colorCount, int paletteSize, double meanSquaredError) {
+
+      this.image = image;
+      this.colorCount = colorCount;
+      this.paletteSize = paletteSize;
+      this.meanSquaredError = meanSquaredError;
+    }
+
+    /**
+     * @return the TYPE_BYTE_INDEXED image
+     */
+    public BufferedImage getImage() {
+
+      return image;
+    }
+
+    /**
+     * @return the number of distinct colors of the original image
+     */
+    public int getColorCount() {
+
+      return colorCount;
+    }
+
+    public int getPaletteSize() {
+
+      return paletteSize;
+    }
+
+    /**
+     * @return the mean squared error per color channel, 0 if all colors were kept
+     */
+    public double getMeanSquaredError() {
+
+      return meanSquaredError;
+    }
+  }
+
+}
@@ -0,0 +1,1230 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+/**
+ * A Graphics2D that writes SVG elements to a Writer as they are drawn, so the document is never held in memory. Consecutive lines drawn with the same
+ * opaque color and stroke are merged into one path element. Each merged line starts its own subpath, so the lines keep their caps and get no joins, as
+ * if they were drawn one by one. Coordinates are rounded to a given number of decimals. Text is written as glyph outlines.
+ * <p>
+ * Graphics2D methods can't throw IOExceptions, so the first one is kept and nothing is written afterwards. finish() writes the end of the document and
+ * throws it. Not thread-safe.
+ *
+ * @author timmolter
+ */
+public class StreamingSVGGraphics2D extends Graphics2D {
+
+  /** the size of a merged path above which it is written out */
+  private static final int MAX_MERGED_PATH_LENGTH = 32 * 1024;
+
+  private static final BasicStroke DEFAULT_STROKE = new BasicStroke();
+
+  /** how a path may be merged into the pending one with the same attributes */
+  private static final int MERGE_NONE = 0;
+  private static final int MERGE_CONTINUING = 1;
+  private static final int MERGE_ALL = 2;
+
+  /** for font metrics of Fonts that are never drawn to an image */
+  private static final BufferedImage METRICS_IMAGE = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+
+  private final Document document;
+
+  private AffineTransform transform;
+  /** the clip in device space, or null */
+  private Shape clip;
+  private Paint paint = Color.BLACK;
+  private Color color = Color.BLACK;
+  private Color background = Color.WHITE;
+  private Stroke stroke = DEFAULT_STROKE;
+  private Font font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+  private Composite composite = AlphaComposite.SrcOver;
+  private final RenderingHints hints;
+
+  /** the attributes of stroked and filled elements for the current state, null if the state changed since */
+  private String strokeAttributes;
+  private String fillAttributes;
+
+  /** the clip-path attribute for the current clip, empty without clip, null if the state changed since */
+  private String clipAttribute;
+
+  /**
+   * Constructor - writes the start of the SVG document
+   *
+   * @param writer - the target, which is not closed
+   * @param width
+   * @param height
+   * @param precision - the number of decimals of coordinates, from 0 to 6
+   */
+  public StreamingSVGGraphics2D(Writer writer, double width, double height, int precision) {
+
+    if (precision < 0 || precision > 6) {
+      throw new IllegalArgumentException("The precision must be between 0 and 6!!!");
+    }
+    this.document = new Document(writer, precision);
+    this.transform = new AffineTransform();
+    this.hints = new RenderingHints(null);
+
+    StringBuilder sb = new StringBuilder();
+    sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n");
+    sb.append("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\" version=\"1.1\" width=\"");
+    document.appendNumber(sb, width);
+    sb.append("\" height=\"");
+    document.appendNumber(sb, height);
+    sb.append("\" viewBox=\"0 0 ");
+    document.appendNumber(sb, width);
+    sb.append(' ');
+    document.appendNumber(sb, height);
+    sb.append("\">\n");
+    document.write(sb);
+  }
+
+  /**
+   * Constructor - a copy sharing the document, used by create()
+   */
+  private StreamingSVGGraphics2D(StreamingSVGGraphics2D parent) {
+
+    this.document = parent.document;
+    this.transform = new AffineTransform(parent.transform);
+    this.clip = parent.clip;
+    this.paint = parent.paint;
+    this.color = parent.color;
+    this.background = parent.background;
+    this.stroke = parent.stroke;
+    this.font = parent.font;
+    this.composite = parent.composite;
+    this.hints = (RenderingHints) parent.hints.clone();
+  }
+
+  /**
+   * Writes the pending merged path and the end of the document, and flushes the Writer
+   *
+   * @throws IOException - the first exception of the Writer
+   */
+  public void finish() throws IOException {
+
+    document.flushPath();
+    document.write("</svg>\n");
+    document.flush();
+    if (document.exception != null) {
+      throw document.exception;
+    }
+  }
+
+  /*
+   * Drawing
+   */
+
+  @Override
+  public void draw(Shape s) {
+
+    if (!(stroke instanceof BasicStroke)) {
+      fill(stroke.createStrokedShape(s));
+      return;
+    }
+    if (strokeAttributes == null) {
+      strokeAttributes = getStrokeAttributes();
+    }
+    int mergeMode;
+    if (paint != color || !isSolid(((BasicStroke) stroke).getDashArray())) {
+      // a dash pattern would run on across merged lines instead of restarting
+      mergeMode = MERGE_NONE;
+    }
+    else if (color.getAlpha() != 255) {
+      // separate translucent lines darken where they overlap, a polyline doesn't
+      mergeMode = MERGE_CONTINUING;
+    }
+    else {
+      mergeMode = MERGE_ALL;
+    }
+    document.appendPath(s, transform, strokeAttributes, getClipAttribute(), mergeMode);
+  }
+
+  @Override
+  public void fill(Shape s) {
+
+    if (fillAttributes == null) {
+      fillAttributes = getFillAttributes();
+    }
+    // overlapping fills can't be merged, opposite windings would cut holes
+    document.appendPath(s, transform, fillAttributes, getClipAttribute(), MERGE_NONE);
+  }
+
+  private String getStrokeAttributes() {
+
+    BasicStroke basicStroke = (BasicStroke) stroke;
+    StringBuilder sb = new StringBuilder();
+    sb.append(" fill=\"none\"");
+    appendColor(sb, "stroke");
+    if (basicStroke.getLineWidth() != 1.0f) {
+      sb.append(" stroke-width=\"");
+      document.appendNumber(sb, basicStroke.getLineWidth());
+      sb.append('"');
+    }
+    switch (basicStroke.getEndCap()) {
+    case BasicStroke.CAP_ROUND:
+      sb.append(" stroke-linecap=\"round\"");
+      break;
+    case BasicStroke.CAP_SQUARE:
+      sb.append(" stroke-linecap=\"square\"");
+      break;
+    default:
+      break;
+    }
+    switch (basicStroke.getLineJoin()) {
+    case BasicStroke.JOIN_ROUND:
+      sb.append(" stroke-linejoin=\"round\"");
+      break;
+    case BasicStroke.JOIN_BEVEL:
+      sb.append(" stroke-linejoin=\"bevel\"");
+      break;
+    default:
+      if (basicStroke.getMiterLimit() != 4.0f) {
+        sb.append(" stroke-miterlimit=\"");
+        document.appendNumber(sb, basicStroke.getMiterLimit());
+        sb.append('"');
+      }
+      break;
+    }
+    float[] dashArray = basicStroke.getDashArray();
+    if (!isSolid(dashArray)) {
+      sb.append(" stroke-dasharray=\"");
+      for (int i = 0; i < dashArray.length; i++) {
+        if (i > 0) {
+          sb.append(',');
+        }
+        document.appendNumber(sb, dashArray[i]);
+      }
+      sb.append('"');
+      if (basicStroke.getDashPhase() != 0.0f) {
+        sb.append(" stroke-dashoffset=\"");
+        document.appendNumber(sb, basicStroke.getDashPhase());
+        sb.append('"');
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @return true if the dash array has no gaps, like the solid strokes of the themes
+   */
+  private static boolean isSolid(float[] dashArray) {
+
+    if (dashArray == null) {
+      return true;
+    }
+    // an odd length array repeats with its dashes as gaps
+    int step = dashArray.length % 2 == 0 ? 2 : 1;
+    for (int i = step - 1; i < dashArray.length; i += step) {
+      if (dashArray[i] > 0.0f) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String getFillAttributes() {
+
+    StringBuilder sb = new StringBuilder();
+    appendColor(sb, "fill");
+    return sb.toString();
+  }
+
+  /**
+   * Only colors are supported, other Paints are written in the last color set
+   */
+  private void appendColor(StringBuilder sb, String attribute) {
+
+    sb.append(' ').append(attribute).append("=\"#");
+    String hex = Integer.toHexString(color.getRGB() & 0xFFFFFF);
+    for (int i = hex.length(); i < 6; i++) {
+      sb.append('0');
+    }
+    sb.append(hex).append('"');
+    if (color.getAlpha() != 255) {
+      sb.append(' ').append(attribute).append("-opacity=\"");
+      sb.append(Math.round(color.getAlpha() / 255.0 * 1000.0) / 1000.0);
+      sb.append('"');
+    }
+  }
+
+  /**
+   * @return the clip-path attribute of the current clip, the clip path is written the first time
+   */
+  private String getClipAttribute() {
+
+    if (clipAttribute == null) {
+      clipAttribute = clip == null ? "" : " clip-path=\"url(#" + document.getClipId(clip) + ")\"";
+    }
+    return clipAttribute;
+  }
+
+  private void invalidateAttributes() {
+
+    strokeAttributes = null;
+    fillAttributes = null;
+    clipAttribute = null;
+  }
+
+  @Override
+  public void drawString(String str, int x, int y) {
+
+    drawString(str, (float) x, (float) y);
+  }
+
+  @Override
+  public void drawString(String str, float x, float y) {
+
+    if (str.length() > 0) {
+      fill(font.createGlyphVector(getFontRenderContext(), str).getOutline(x, y));
+    }
+  }
+
+  @Override
+  public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+
+    drawString(iterator, (float) x, (float) y);
+  }
+
+  @Override
+  public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+
+    if (iterator.getEndIndex() > iterator.getBeginIndex()) {
+      fill(new TextLayout(iterator, getFontRenderContext()).getOutline(AffineTransform.getTranslateInstance(x, y)));
+    }
+  }
+
+  @Override
+  public void drawGlyphVector(GlyphVector g, float x, float y) {
+
+    fill(g.getOutline(x, y));
+  }
+
+  @Override
+  public void drawLine(int x1, int y1, int x2, int y2) {
+
+    draw(new Line2D.Double(x1, y1, x2, y2));
+  }
+
+  @Override
+  public void fillRect(int x, int y, int width, int height) {
+
+    fill(new Rectangle(x, y, width, height));
+  }
+
+  @Override
+  public void clearRect(int x, int y, int width, int height) {
+
+    Paint oldPaint = paint;
+    Color oldColor = color;
+    setColor(background);
+    fillRect(x, y, width, height);
+    setPaint(oldPaint);
+    color = oldColor;
+    invalidateAttributes();
+  }
+
+  @Override
+  public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+
+    draw(new RoundRectangle2D.Double(x, y, width, height, arcWidth, arcHeight));
+  }
+
+  @Override
+  public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+
+    fill(new RoundRectangle2D.Double(x, y, width, height, arcWidth, arcHeight));
+  }
+
+  @Override
+  public void drawOval(int x, int y, int width, int height) {
+
+    draw(new Ellipse2D.Double(x, y, width, height));
+  }
+
+  @Override
+  public void fillOval(int x, int y, int width, int height) {
+
+    fill(new Ellipse2D.Double(x, y, width, height));
+  }
+
+  @Override
+  public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+
+    draw(new Arc2D.Double(x, y, width, height, startAngle, arcAngle, Arc2D.OPEN));
+  }
+
+  @Override
+  public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+
+    fill(new Arc2D.Double(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+  }
+
+  @Override
+  public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+
+    if (nPoints > 0) {
+      Path2D.Double path = new Path2D.Double();
+      path.moveTo(xPoints[0], yPoints[0]);
+      for (int i = 1; i < nPoints; i++) {
+        path.lineTo(xPoints[i], yPoints[i]);
+      }
+      draw(path);
+    }
+  }
+
+  @Override
+  public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+
+    draw(new Polygon(xPoints, yPoints, nPoints));
+  }
+
+  @Override
+  public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+
+    fill(new Polygon(xPoints, yPoints, nPoints));
+  }
+
+  @Override
+  public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+
+    // there are no pixels to copy
+  }
+
+  /*
+   * Images, embedded as PNG data
+   */
+
+  @Override
+  public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+
+    BufferedImage bufferedImage = toBufferedImage(img);
+    if (bufferedImage == null) {
+      return false;
+    }
+    AffineTransform imageTransform = new AffineTransform(transform);
+    if (xform != null) {
+      imageTransform.concatenate(xform);
+    }
+    document.appendImage(bufferedImage, imageTransform, getClipAttribute());
+    return true;
+  }
+
+  @Override
+  public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+
+    BufferedImage filtered = op == null ? img : op.filter(img, null);
+    drawImage(filtered, AffineTransform.getTranslateInstance(x, y), null);
+  }
+
+  @Override
+  public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+
+    if (img instanceof BufferedImage) {
+      drawImage((BufferedImage) img, xform, null);
+    }
+    else {
+      BufferedImage bufferedImage = new BufferedImage(img.getWidth(), img.getHeight(), BufferedImage.TYPE_INT_ARGB);
+      Graphics2D g = bufferedImage.createGraphics();
+      g.drawRenderedImage(img, new AffineTransform());
+      g.dispose();
+      drawImage(bufferedImage, xform, null);
+    }
+  }
+
+  @Override
+  public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+
+    drawRenderedImage(img.createDefaultRendering(), xform);
+  }
+
+  @Override
+  public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+
+    return drawImage(img, AffineTransform.getTranslateInstance(x, y), observer);
+  }
+
+  @Override
+  public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+
+    int imageWidth = img.getWidth(observer);
+    int imageHeight = img.getHeight(observer);
+    if (imageWidth <= 0 || imageHeight <= 0) {
+      return false;
+    }
+    AffineTransform xform = AffineTransform.getTranslateInstance(x, y);
+    xform.scale((double) width / imageWidth, (double) height / imageHeight);
+    return drawImage(img, xform, observer);
+  }
+
+  @Override
+  public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+
+    return drawImage(img, x, y, img.getWidth(observer), img.getHeight(observer), bgcolor, observer);
+  }
+
+  @Override
+  public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer) {
+
+    fillBackground(bgcolor, x, y, width, height);
+    return drawImage(img, x, y, width, height, observer);
+  }
+
+  @Override
+  public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+
+    BufferedImage bufferedImage = toBufferedImage(img);
+    if (bufferedImage == null || sx1 == sx2 || sy1 == sy2) {
+      return false;
+    }
+    BufferedImage source = bufferedImage.getSubimage(Math.min(sx1, sx2), Math.min(sy1, sy2), Math.abs(sx2 - sx1), Math.abs(sy2 - sy1));
+    AffineTransform xform = AffineTransform.getTranslateInstance(dx1, dy1);
+    xform.scale((double) (dx2 - dx1) / (sx2 - sx1), (double) (dy2 - dy1) / (sy2 - sy1));
+    if (sx2 < sx1) {
+      xform.translate(-source.getWidth(), 0);
+    }
+    if (sy2 < sy1) {
+      xform.translate(0, -source.getHeight());
+    }
+    return drawImage(source, xform, observer);
+  }
+
+  @Override
+  public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+
+    fillBackground(bgcolor, Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1), Math.abs(dy2 - dy1));
+    return drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, observer);
+  }
+
+  private void fillBackground(Color bgcolor, int x, int y, int width, int height) {
+
+    if (bgcolor != null) {
+      Paint oldPaint = paint;
+      Color oldColor = color;
+      setColor(bgcolor);
+      fillRect(x, y, width, height);
+      setPaint(oldPaint);
+      color = oldColor;
+      invalidateAttributes();
+    }
+  }
+
+  private static BufferedImage toBufferedImage(Image img) {
+
+    if (img instanceof BufferedImage) {
+      return (BufferedImage) img;
+    }
+    int width = img.getWidth(null);
+    int height = img.getHeight(null);
+    if (width <= 0 || height <= 0) {
+      return null;
+    }
+    BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = bufferedImage.createGraphics();
+    g.drawImage(img, 0, 0, null);
+    g.dispose();
+    return bufferedImage;
+  }
+
+  /*
+   * State
+   */
+
+  @Override
+  public Graphics create() {
+
+    return new StreamingSVGGraphics2D(this);
+  }
+
+  @Override
+  public void dispose() {
+
+    document.flushPath();
+  }
+
+  @Override
+  public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+
+    Shape shape = onStroke ? stroke.createStrokedShape(s) : s;
+    shape = transform.createTransformedShape(shape);
+    if (clip != null && !clip.intersects(rect)) {
+      return false;
+    }
+    return shape.intersects(rect);
+  }
+
+  @Override
+  public GraphicsConfiguration getDeviceConfiguration() {
+
+    // not a screen or an image
+    return null;
+  }
+
+  @Override
+  public void setComposite(Composite comp) {
+
+    this.composite = comp;
+  }
+
+  @Override
+  public Composite getComposite() {
+
+    return composite;
+  }
+
+  @Override
+  public void setPaint(Paint paint) {
+
+    if (paint == null) {
+      return;
+    }
+    this.paint = paint;
+    if (paint instanceof Color) {
+      this.color = (Color) paint;
+    }
+    invalidateAttributes();
+  }
+
+  @Override
+  public Paint getPaint() {
+
+    return paint;
+  }
+
+  @Override
+  public void setColor(Color c) {
+
+    if (c == null) {
+      return;
+    }
+    this.paint = c;
+    this.color = c;
+    invalidateAttributes();
+  }
+
+  @Override
+  public Color getColor() {
+
+    return color;
+  }
+
+  @Override
+  public void setStroke(Stroke s) {
+
+    this.stroke = s;
+    invalidateAttributes();
+  }
+
+  @Override
+  public Stroke getStroke() {
+
+    return stroke;
+  }
+
+  @Override
+  public void setBackground(Color color) {
+
+    this.background = color;
+  }
+
+  @Override
+  public Color getBackground() {
+
+    return background;
+  }
+
+  @Override
+  public void setFont(Font font) {
+
+    if (font != null) {
+      this.font = font;
+    }
+  }
+
+  @Override
+  public Font getFont() {
+
+    return font;
+  }
+
+  @Override
+  public FontMetrics getFontMetrics(Font f) {
+
+    return METRICS_IMAGE.getGraphics().getFontMetrics(f);
+  }
+
+  @Override
+  public FontRenderContext getFontRenderContext() {
+
+    return new FontRenderContext(null, RenderingHints.VALUE_TEXT_ANTIALIAS_ON.equals(hints.get(RenderingHints.KEY_TEXT_ANTIALIASING)) || RenderingHints.VALUE_ANTIALIAS_ON
+        .equals(hints.get(RenderingHints.KEY_ANTIALIASING)), RenderingHints.VALUE_FRACTIONALMETRICS_ON.equals(hints.get(RenderingHints.KEY_FRACTIONALMETRICS)));
+  }
+
+  @Override
+  public void setPaintMode() {
+
+    // only the paint mode is supported
+  }
+
+  @Override
+  public void setXORMode(Color c1) {
+
+    // only the paint mode is supported
+  }
+
+  @Override
+  public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+
+    hints.put(hintKey, hintValue);
+  }
+
+  @Override
+  public Object getRenderingHint(RenderingHints.Key hintKey) {
+
+    return hints.get(hintKey);
+  }
+
+  @Override
+  public void setRenderingHints(Map<?, ?> hints) {
+
+    this.hints.clear();
+    this.hints.putAll(hints);
+  }
+
+  @Override
+  public void addRenderingHints(Map<?, ?> hints) {
+
+    this.hints.putAll(hints);
+  }
+
+  @Override
+  public RenderingHints getRenderingHints() {
+
+    return (RenderingHints) hints.clone();
+  }
+
+  /*
+   * Transform
+   */
+
+  @Override
+  public void translate(int x, int y) {
+
+    translate((double) x, (double) y);
+  }
+
+  @Override
+  public void translate(double tx, double ty) {
+
+    transform.translate(tx, ty);
+  }
+
+  @Override
+  public void rotate(double theta) {
+
+    transform.rotate(theta);
+  }
+
+  @Override
+  public void rotate(double theta, double x, double y) {
+
+    transform.rotate(theta, x, y);
+  }
+
+  @Override
+  public void scale(double sx, double sy) {
+
+    transform.scale(sx, sy);
+  }
+
+  @Override
+  public void shear(double shx, double shy) {
+
+    transform.shear(shx, shy);
+  }
+
+  @Override
+  public void transform(AffineTransform tx) {
+
+    transform.concatenate(tx);
+  }
+
+  @Override
+  public void setTransform(AffineTransform tx) {
+
+    transform = new AffineTransform(tx);
+  }
+
+  @Override
+  public AffineTransform getTransform() {
+
+    return new AffineTransform(transform);
+  }
+
+  /*
+   * Clip, kept in device space
+   */
+
+  @Override
+  public Shape getClip() {
+
+    if (clip == null) {
+      return null;
+    }
+    try {
+      return transform.createInverse().createTransformedShape(clip);
+    } catch (NoninvertibleTransformException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public Rectangle getClipBounds() {
+
+    Shape userClip = getClip();
+    return userClip == null ? null : userClip.getBounds();
+  }
+
+  @Override
+  public void setClip(Shape clip) {
+
+    this.clip = clip == null ? null : toDevice(clip);
+    invalidateAttributes();
+  }
+
+  @Override
+  public void setClip(int x, int y, int width, int height) {
+
+    setClip(new Rectangle(x, y, width, height));
+  }
+
+  @Override
+  public void clip(Shape s) {
+
+    Shape deviceShape = toDevice(s);
+    if (clip == null) {
+      clip = deviceShape;
+    }
+    else {
+      Area area = new Area(clip);
+      area.intersect(new Area(deviceShape));
+      clip = area;
+    }
+    invalidateAttributes();
+  }
+
+  @Override
+  public void clipRect(int x, int y, int width, int height) {
+
+    clip(new Rectangle(x, y, width, height));
+  }
+
+  /**
+   * Keeps rectangles as rectangles under translations, so equal clips are recognized and written once
+   */
+  private Shape toDevice(Shape s) {
+
+    if (s instanceof Rectangle2D && (transform.getType() & ~AffineTransform.TYPE_TRANSLATION) == 0) {
+      Rectangle2D rectangle = (Rectangle2D) s;
+      return new Rectangle2D.Double(rectangle.getX() + transform.getTranslateX(), rectangle.getY() + transform.getTranslateY(), rectangle.getWidth(), rectangle
+          .getHeight());
+    }
+    return transform.createTransformedShape(s);
+  }
+
+  /**
+   * The output shared by a StreamingSVGGraphics2D and its copies: the Writer, the pending merged path and the written clip paths
+   */
+  private static final class Document {
+
+    private final Writer writer;
+    private final long scale;
+    private final int precision;
+
+    private IOException exception;
+
+    /** the path data and attributes of the pending merged path */
+    private final StringBuilder pendingPath = new StringBuilder();
+    private String pendingAttributes;
+    private String pendingClipAttribute;
+    private double penX = Double.NaN;
+    private double penY = Double.NaN;
+
+    private Shape lastClip;
+    private String lastClipId;
+    private int clipCount;
+    private int imageCount;
+
+    private final StringBuilder element = new StringBuilder();
+    private final double[] coords = new double[6];
+
+    Document(Writer writer, int precision) {
+
+      this.writer = writer;
+      this.precision = precision;
+      long scale = 1;
+      for (int i = 0; i < precision; i++) {
+        scale *= 10;
+      }
+      this.scale = scale;
+    }
+
+    /**
+     * Writes a path element, or merges it into the pending one if both have the same attributes. Shapes with a transform other than a translation get a
+     * transform attribute, so stroke widths scale with them. The clip is in device space, so such a path is wrapped in a group that is clipped instead.
+     */
+    void appendPath(Shape shape, AffineTransform transform, String attributes, String clipAttribute, int mergeMode) {
+
+      boolean isTranslation = (transform.getType() & ~AffineTransform.TYPE_TRANSLATION) == 0;
+      if (!isTranslation) {
+        flushPath();
+        element.setLength(0);
+        appendGroupStart(element, clipAttribute);
+        element.append("<path transform=\"");
+        appendMatrix(element, transform);
+        element.append("\" d=\"");
+        appendPathData(element, shape.getPathIterator(null), false);
+        element.append('"').append(attributes).append("/>");
+        appendGroupEnd(element, clipAttribute);
+        write(element);
+        return;
+      }
+
+      PathIterator pathIterator = shape.getPathIterator(transform.isIdentity() ? null : transform);
+      if (mergeMode == MERGE_NONE) {
+        flushPath();
+        element.setLength(0);
+        element.append("<path d=\"");
+        appendPathData(element, pathIterator, false);
+        element.append('"').append(attributes).append(clipAttribute).append("/>\n");
+        write(element);
+        return;
+      }
+      if (!attributes.equals(pendingAttributes) || !clipAttribute.equals(pendingClipAttribute) || pendingPath.length() > MAX_MERGED_PATH_LENGTH
+          || (mergeMode == MERGE_CONTINUING && !isAtPen(pathIterator))) {
+        flushPath();
+        pendingAttributes = attributes;
+        pendingClipAttribute = clipAttribute;
+      }
+      appendPathData(pendingPath, pathIterator, true);
+    }
+
+    private static void appendGroupStart(StringBuilder sb, String clipAttribute) {
+
+      if (clipAttribute.length() > 0) {
+        sb.append("<g").append(clipAttribute).append('>');
+      }
+    }
+
+    private static void appendGroupEnd(StringBuilder sb, String clipAttribute) {
+
+      if (clipAttribute.length() > 0) {
+        sb.append("</g>");
+      }
+      sb.append('\n');
+    }
+
+    /**
+     * @return true if the path starts where the pending path ended, without consuming the first segment
+     */
+    private boolean isAtPen(PathIterator pathIterator) {
+
+      return !pathIterator.isDone() && pathIterator.currentSegment(coords) == PathIterator.SEG_MOVETO && isPen(coords[0], coords[1]);
+    }
+
+    /**
+     * @return true if the point rounds to where the pending path ended
+     */
+    private boolean isPen(double x, double y) {
+
+      return !Double.isNaN(penX) && round(x) == round(penX) && round(y) == round(penY);
+    }
+
+    void flushPath() {
+
+      if (pendingPath.length() > 0) {
+        element.setLength(0);
+        element.append("<path d=\"").append(pendingPath).append('"').append(pendingAttributes).append(pendingClipAttribute).append("/>\n");
+        write(element);
+        pendingPath.setLength(0);
+      }
+      pendingAttributes = null;
+      pendingClipAttribute = null;
+      penX = Double.NaN;
+      penY = Double.NaN;
+    }
+
+    /**
+     * @param isContinuing - true to remember where the path ends, every path still starts its own subpath so it isn't joined to the one before
+     */
+    private void appendPathData(StringBuilder sb, PathIterator pathIterator, boolean isContinuing) {
+
+      double x = Double.NaN;
+      double y = Double.NaN;
+      double startX = Double.NaN;
+      double startY = Double.NaN;
+      for (; !pathIterator.isDone(); pathIterator.next()) {
+        int type = pathIterator.currentSegment(coords);
+        switch (type) {
+        case PathIterator.SEG_MOVETO:
+          appendCommand(sb, 'M');
+          appendPoint(sb, coords, 0);
+          x = startX = coords[0];
+          y = startY = coords[1];
+          break;
+        case PathIterator.SEG_LINETO:
+          appendCommand(sb, 'L');
+          appendPoint(sb, coords, 0);
+          x = coords[0];
+          y = coords[1];
+          break;
+        case PathIterator.SEG_QUADTO:
+          appendCommand(sb, 'Q');
+          appendPoint(sb, coords, 0);
+          sb.append(' ');
+          appendPoint(sb, coords, 2);
+          x = coords[2];
+          y = coords[3];
+          break;
+        case PathIterator.SEG_CUBICTO:
+          appendCommand(sb, 'C');
+          appendPoint(sb, coords, 0);
+          sb.append(' ');
+          appendPoint(sb, coords, 2);
+          sb.append(' ');
+          appendPoint(sb, coords, 4);
+          x = coords[4];
+          y = coords[5];
+          break;
+        default:
+          sb.append('Z');
+          x = startX;
+          y = startY;
+          break;
+        }
+      }
+      if (isContinuing) {
+        penX = x;
+        penY = y;
+      }
+    }
+
+    private static void appendCommand(StringBuilder sb, char command) {
+
+      if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '"') {
+        sb.append(' ');
+      }
+      sb.append(command);
+    }
+
+    private void appendPoint(StringBuilder sb, double[] coords, int offset) {
+
+      appendNumber(sb, coords[offset]);
+      sb.append(',');
+      appendNumber(sb, coords[offset + 1]);
+    }
+
+    private void appendMatrix(StringBuilder sb, AffineTransform transform) {
+
+      double[] matrix = new double[6];
+      transform.getMatrix(matrix);
+      sb.append("matrix(");
+      for (int i = 0; i < 6; i++) {
+        if (i > 0) {
+          sb.append(' ');
+        }
+        // the scale and shear need more digits than coordinates
+        sb.append(i < 4 ? Double.toString(matrix[i]) : formatNumber(matrix[i]));
+      }
+      sb.append(')');
+    }
+
+    private long round(double value) {
+
+      return Math.round(value * scale);
+    }
+
+    private String formatNumber(double value) {
+
+      StringBuilder sb = new StringBuilder();
+      appendNumber(sb, value);
+      return sb.toString();
+    }
+
+    /**
+     * Appends a number rounded to the precision without trailing zeros
+     */
+    void appendNumber(StringBuilder sb, double value) {
+
+      if (Double.isNaN(value) || Double.isInfinite(value)) {
+        sb.append('0');
+        return;
+      }
+      long scaled = round(value);
+      if (scaled < 0) {
+        sb.append('-');
+        scaled = -scaled;
+      }
+      sb.append(scaled / scale);
+      long fraction = scaled % scale;
+      if (fraction != 0) {
+        sb.append('.');
+        int digits = precision;
+        while (fraction % 10 == 0) {
+          fraction /= 10;
+          digits--;
+        }
+        String fractionString = Long.toString(fraction);
+        for (int i = fractionString.length(); i < digits; i++) {
+          sb.append('0');
+        }
+        sb.append(fractionString);
+      }
+    }
+
+    /**
+     * @return the id of a clipPath element for the clip, which is written the first time
+     */
+    String getClipId(Shape clip) {
+
+      if (lastClip != null && (clip == lastClip || (clip instanceof Rectangle2D && clip.equals(lastClip)))) {
+        return lastClipId;
+      }
+      flushPath();
+      lastClip = clip;
+      lastClipId = "clip" + (++clipCount);
+      element.setLength(0);
+      element.append("<clipPath id=\"").append(lastClipId).append("\"><path d=\"");
+      appendPathData(element, clip.getPathIterator(null), false);
+      element.append("\"/></clipPath>\n");
+      write(element);
+      return lastClipId;
+    }
+
+    /**
+     * Writes an image element, wrapped in a clipped group since its transform would apply to a clip-path of its own as well
+     */
+    void appendImage(BufferedImage bufferedImage, AffineTransform transform, String clipAttribute) {
+
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try {
+        ImageIO.write(bufferedImage, "png", baos);
+      } catch (IOException e) {
+        if (exception == null) {
+          exception = e;
+        }
+        return;
+      }
+      flushPath();
+      element.setLength(0);
+      appendGroupStart(element, clipAttribute);
+      element.append("<image id=\"image").append(++imageCount).append("\" width=\"").append(bufferedImage.getWidth()).append("\" height=\"")
+          .append(bufferedImage.getHeight()).append("\" transform=\"");
+      appendMatrix(element, transform);
+      element.append('"');
+      element.append(" xlink:href=\"data:image/png;base64,");
+      appendBase64(element, baos.toByteArray());
+      element.append("\"/>");
+      appendGroupEnd(element, clipAttribute);
+      write(element);
+    }
+
+    private static void appendBase64(StringBuilder sb, byte[] bytes) {
+
+      final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+      for (int i = 0; i < bytes.length; i += 3) {
+        int b = (bytes[i] & 0xFF) << 16;
+        if (i + 1 < bytes.length) {
+          b |= (bytes[i + 1] & 0xFF) << 8;
+        }
+        if (i + 2 < bytes.length) {
+          b |= bytes[i + 2] & 0xFF;
+        }
+        sb.append(alphabet.charAt(b >> 18 & 0x3F));
+        sb.append(alphabet.charAt(b >> 12 & 0x3F));
+        sb.append(i + 1 < bytes.length ? alphabet.charAt(b >> 6 & 0x3F) : '=');
+        sb.append(i + 2 < bytes.length ? alphabet.charAt(b & 0x3F) : '=');
+      }
+    }
+
+    void write(CharSequence text) {
+
+      if (exception != null) {
+        return;
+      }
+      try {
+        writer.append(text);
+      } catch (IOException e) {
+        exception = e;
+      }
+    }
+
+    void flush() {
+
+      if (exception != null) {
+        return;
+      }
+      try {
+        writer.flush();
+      } catch (IOException e) {
+        exception = e;
+      }
+    }
+  }
+
+}
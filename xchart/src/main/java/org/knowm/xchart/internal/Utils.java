@@ -16,6 +16,10 @@
  */
 package org.knowm.xchart.internal;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+
 /**
  * @author timmolter
  */
@@ -52,4 +56,20 @@ public class Utils {
     }
   }
 
+  /**
+   * Checks if the given Graphics2D paints pixels, i.e. into an image or onto the screen, rather than into a vector format or to a printer
+   *
+   * @param g
+   * @return true if g paints into an image or onto the screen
+   */
+  public static boolean isRasterTarget(Graphics2D g) {
+
+    GraphicsConfiguration graphicsConfiguration = g.getDeviceConfiguration();
+    if (graphicsConfiguration == null || graphicsConfiguration.getDevice() == null) {
+      return false;
+    }
+    int type = graphicsConfiguration.getDevice().getType();
+    return type == GraphicsDevice.TYPE_IMAGE_BUFFER || type == GraphicsDevice.TYPE_RASTER_SCREEN;
+  }
+
 }
@@ -18,9 +18,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Graphics2D;
 import java.awt.Shape;
-import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.List;
 
@@ -55,6 +52,9 @@ public class Axis implements ChartPart {
   /** the axis tick calculator */
   private AxisTickCalculator axisTickCalculator;
 
+  /** the recent tick calculations */
+  private final AxisTickCalculatorCache axisTickCalculatorCache = new AxisTickCalculatorCache();
+
   /** the axis direction */
   private Direction direction;
 
@@ -121,6 +121,19 @@ public class Axis implements ChartPart {
     // System.out.println(this.max);
   }
 
+  /**
+   * Gives the axis the range 0 to 1, or 1 to 10 if logarithmic, if no series added a min and max, e.g. because all series are empty
+   *
+   * @param isLogarithmic
+   */
+  protected void setDefaultMinMaxIfEmpty(boolean isLogarithmic) {
+
+    if (min > max) {
+      min = isLogarithmic ? 1.0 : 0.0;
+      max = isLogarithmic ? 10.0 : 1.0;
+    }
+  }
+
   protected void setAxisType(AxisType axisType) {
 
     if (this.axisType != null && this.axisType != axisType) {
@@ -291,8 +304,8 @@ public class Axis implements ChartPart {
     // Axis title
     double titleHeight = 0.0;
     if (axisTitle.getText() != null && !axisTitle.getText().trim().equalsIgnoreCase("") && getChartInternal().getStyleManager().isXAxisTitleVisible()) {
-      TextLayout textLayout = new TextLayout(axisTitle.getText(), getChartInternal().getStyleManager().getAxisTitleFont(), new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
+      Rectangle2D rectangle = getChartInternal().getTextCache().getBounds(axisTitle.getText(), getChartInternal().getStyleManager().getAxisTitleFont(),
+          TextCache.MEASURING_FONT_RENDER_CONTEXT);
       titleHeight = rectangle.getHeight() + getChartInternal().getStyleManager().getAxisTitlePadding();
     }
 
@@ -305,21 +318,13 @@ public class Axis implements ChartPart {
       // System.out.println("workingSpace: " + workingSpace);
       this.axisTickCalculator = getAxisTickCalculator(workingSpace);
 
-      String sampleLabel = "";
-      // find the longest String in all the labels
-      for (int i = 0; i < axisTickCalculator.getTickLabels().size(); i++) {
-        // System.out.println("label: " + axisTickCalculator.getTickLabels().get(i));
-        if (axisTickCalculator.getTickLabels().get(i) != null && axisTickCalculator.getTickLabels().get(i).length() > sampleLabel.length()) {
-          sampleLabel = axisTickCalculator.getTickLabels().get(i);
-        }
-      }
+      // the longest String in all the labels
+      String sampleLabel = axisTickCalculator.getAxisTicks().getLongestTickLabel();
       // System.out.println("sampleLabel: " + sampleLabel);
 
       // get the height of the label including rotation
-      TextLayout textLayout = new TextLayout(sampleLabel.length() == 0 ? " " : sampleLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(), new FontRenderContext(null, true, false));
-      AffineTransform rot = getChartInternal().getStyleManager().getXAxisLabelRotation() == 0 ? null : AffineTransform.getRotateInstance(-1 * Math.toRadians(getChartInternal().getStyleManager()
-          .getXAxisLabelRotation()));
-      Shape shape = textLayout.getOutline(rot);
+      Shape shape = getChartInternal().getTextCache().getOutline(sampleLabel.length() == 0 ? " " : sampleLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(),
+          TextCache.MEASURING_FONT_RENDER_CONTEXT, -1 * Math.toRadians(getChartInternal().getStyleManager().getXAxisLabelRotation()));
       Rectangle2D rectangle = shape.getBounds();
 
       axisTickLabelsHeight = rectangle.getHeight() + getChartInternal().getStyleManager().getAxisTickPadding() + getChartInternal().getStyleManager().getAxisTickMarkLength();
@@ -336,8 +341,8 @@ public class Axis implements ChartPart {
     // Axis title
     double titleHeight = 0.0;
     if (axisTitle.getText() != null && !axisTitle.getText().trim().equalsIgnoreCase("") && getChartInternal().getStyleManager().isYAxisTitleVisible()) {
-      TextLayout textLayout = new TextLayout(axisTitle.getText(), getChartInternal().getStyleManager().getAxisTitleFont(), new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
+      Rectangle2D rectangle = getChartInternal().getTextCache().getBounds(axisTitle.getText(), getChartInternal().getStyleManager().getAxisTitleFont(),
+          TextCache.MEASURING_FONT_RENDER_CONTEXT);
       titleHeight = rectangle.getHeight() + getChartInternal().getStyleManager().getAxisTitlePadding();
     }
 
@@ -350,17 +355,12 @@ public class Axis implements ChartPart {
       // System.out.println("workingSpace: " + workingSpace);
       this.axisTickCalculator = getAxisTickCalculator(workingSpace);
 
-      String sampleLabel = "";
-      // find the longest String in all the labels
-      for (int i = 0; i < axisTickCalculator.getTickLabels().size(); i++) {
-        if (axisTickCalculator.getTickLabels().get(i) != null && axisTickCalculator.getTickLabels().get(i).length() > sampleLabel.length()) {
-          sampleLabel = axisTickCalculator.getTickLabels().get(i);
-        }
-      }
+      // the longest String in all the labels
+      String sampleLabel = axisTickCalculator.getAxisTicks().getLongestTickLabel();
 
       // get the height of the label including rotation
-      TextLayout textLayout = new TextLayout(sampleLabel.length() == 0 ? " " : sampleLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(), new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
+      Rectangle2D rectangle = getChartInternal().getTextCache().getBounds(sampleLabel.length() == 0 ? " " : sampleLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(),
+          TextCache.MEASURING_FONT_RENDER_CONTEXT);
 
       axisTickLabelsHeight = rectangle.getWidth() + getChartInternal().getStyleManager().getAxisTickPadding() + getChartInternal().getStyleManager().getAxisTickMarkLength();
     }
@@ -369,28 +369,50 @@ public class Axis implements ChartPart {
 
   private AxisTickCalculator getAxisTickCalculator(double workingSpace) {
 
+    if (getChartInternal().getChartInternalType() == ChartInternalType.Pie) {
+      return null;
+    }
+
+    List<?> categories = null;
+    if (getDirection() == Direction.X && getChartInternal().getChartInternalType() == ChartInternalType.Category) {
+      categories = (List<?>) getChartInternal().getSeriesMap().values().iterator().next().getXData();
+    }
+    AxisTickCalculatorCache.Key key = new AxisTickCalculatorCache.Key(axisType, min, max, workingSpace, getChartInternal().getStyleManager().getModificationCount(),
+        categories);
+
+    AxisTickCalculator axisTickCalculator = axisTickCalculatorCache.get(key);
+    if (axisTickCalculator == null) {
+      axisTickCalculator = newAxisTickCalculator(workingSpace, categories);
+      axisTickCalculatorCache.put(key, axisTickCalculator);
+    }
+    return axisTickCalculator;
+  }
+
+  private AxisTickCalculator newAxisTickCalculator(double workingSpace, List<?> categories) {
+
     // X-Axis
     if (getDirection() == Direction.X) {
 
       if (getChartInternal().getChartInternalType() == ChartInternalType.Category) {
 
-        List<?> categories = (List<?>) getChartInternal().getSeriesMap().values().iterator().next().getXData();
         AxisType axisType = getChartInternal().getAxisPair().getXAxis().getAxisType();
-        return new AxisTickCalculator_Category(getDirection(), workingSpace, categories, axisType, getChartInternal().getStyleManager());
+        return new AxisTickCalculator_Category(getDirection(), workingSpace, categories, axisType, getChartInternal().getStyleManager(), getChartInternal().getFormatCache());
       }
       else if (getChartInternal().getChartInternalType() == ChartInternalType.Pie) {
         return null;
       }
       else if (getChartInternal().getChartInternalType() == ChartInternalType.XY && getAxisType() == AxisType.Date) {
 
-        return new AxisTickCalculator_Date(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager());
+        return new AxisTickCalculator_Date(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager(), getChartInternal().getFormatCache(), getChartInternal()
+            .getTextCache());
       }
       else if (getChartInternal().getStyleManager().isXAxisLogarithmic()) {
 
-        return new AxisTickCalculator_Logarithmic(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager());
+        return new AxisTickCalculator_Logarithmic(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager(), getChartInternal().getFormatCache());
       }
       else {
-        return new AxisTickCalculator_Number(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager());
+        return new AxisTickCalculator_Number(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager(), getChartInternal().getFormatCache(), getChartInternal()
+            .getTextCache());
 
       }
     }
@@ -403,10 +425,11 @@ public class Axis implements ChartPart {
       }
       else if (getChartInternal().getStyleManager().isYAxisLogarithmic() && getAxisType() != AxisType.Date) {
 
-        return new AxisTickCalculator_Logarithmic(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager());
+        return new AxisTickCalculator_Logarithmic(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager(), getChartInternal().getFormatCache());
       }
       else {
-        return new AxisTickCalculator_Number(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager());
+        return new AxisTickCalculator_Number(getDirection(), workingSpace, min, max, getChartInternal().getStyleManager(), getChartInternal().getFormatCache(), getChartInternal()
+            .getTextCache());
 
       }
     }
@@ -466,6 +489,14 @@ public class Axis implements ChartPart {
     return this.axisTickCalculator;
   }
 
+  /**
+   * @return the cache of recent tick calculations, e.g. for its hit and miss counts
+   */
+  public AxisTickCalculatorCache getAxisTickCalculatorCache() {
+
+    return axisTickCalculatorCache;
+  }
+
   public void overrideMinMax() {
 
     if (direction == Direction.X) { // X-Axis
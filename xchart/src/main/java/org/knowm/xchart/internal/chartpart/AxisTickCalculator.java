@@ -17,11 +17,9 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Shape;
-import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.knowm.xchart.StyleManager;
@@ -32,11 +30,14 @@ import org.knowm.xchart.internal.chartpart.Axis.Direction;
  */
 public abstract class AxisTickCalculator {
 
-  /** the List of tick label position in pixels */
-  protected List<Double> tickLocations = new LinkedList<Double>();;
+  /** the List of tick label position in pixels, filled by the calculation and not to be changed once getAxisTicks() copied it */
+  protected List<Double> tickLocations = new ArrayList<Double>();
 
-  /** the List of tick label values */
-  protected List<String> tickLabels = new LinkedList<String>();
+  /** the List of tick label values, filled by the calculation and not to be changed once getAxisTicks() copied it */
+  protected List<String> tickLabels = new ArrayList<String>();
+
+  /** the calculated ticks, created from the Lists on first use */
+  private AxisTicks axisTicks;
 
   protected final Direction axisDirection;
 
@@ -48,6 +49,12 @@ public abstract class AxisTickCalculator {
 
   protected final StyleManager styleManager;
 
+  /** the chart's formats for the tick labels */
+  protected final FormatCache formatCache;
+
+  /** the chart's laid out texts, for measuring the tick labels */
+  protected final TextCache textCache;
+
   /**
    * Constructor
    *
@@ -59,11 +66,45 @@ public abstract class AxisTickCalculator {
    */
   public AxisTickCalculator(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager) {
 
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, new FormatCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   */
+  public AxisTickCalculator(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache) {
+
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, formatCache, new TextCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   * @param textCache
+   */
+  public AxisTickCalculator(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache,
+      TextCache textCache) {
+
     this.axisDirection = axisDirection;
     this.workingSpace = workingSpace;
     this.minValue = minValue;
     this.maxValue = maxValue;
     this.styleManager = styleManager;
+    this.formatCache = formatCache;
+    this.textCache = textCache;
   }
 
   /**
@@ -80,14 +121,31 @@ public abstract class AxisTickCalculator {
     return firstPosition;
   }
 
+  /**
+   * @return a read-only view of the tick locations the calculation collected. The chart parts read getAxisTicks() instead.
+   */
   public List<Double> getTickLocations() {
 
-    return tickLocations;
+    return Collections.unmodifiableList(tickLocations);
   }
 
+  /**
+   * @return a read-only view of the tick labels the calculation collected. The chart parts read getAxisTicks() instead.
+   */
   public List<String> getTickLabels() {
 
-    return tickLabels;
+    return Collections.unmodifiableList(tickLabels);
+  }
+
+  /**
+   * @return the calculated ticks in arrays
+   */
+  public AxisTicks getAxisTicks() {
+
+    if (axisTicks == null) {
+      axisTicks = new AxisTicks(tickLocations, tickLabels);
+    }
+    return axisTicks;
   }
 
   /**
@@ -113,9 +171,8 @@ public abstract class AxisTickCalculator {
     }
     // System.out.println("longestLabel: " + sampleLabel);
 
-    TextLayout textLayout = new TextLayout(sampleLabel, styleManager.getAxisTickLabelsFont(), new FontRenderContext(null, true, false));
-    AffineTransform rot = styleManager.getXAxisLabelRotation() == 0 ? null : AffineTransform.getRotateInstance(-1 * Math.toRadians(styleManager.getXAxisLabelRotation()));
-    Shape shape = textLayout.getOutline(rot);
+    Shape shape = textCache.getOutline(sampleLabel, styleManager.getAxisTickLabelsFont(), TextCache.MEASURING_FONT_RENDER_CONTEXT, -1 * Math.toRadians(styleManager
+        .getXAxisLabelRotation()));
     Rectangle2D rectangle = shape.getBounds();
     double largestLabelWidth = rectangle.getWidth();
     // System.out.println("largestLabelWidth: " + largestLabelWidth);
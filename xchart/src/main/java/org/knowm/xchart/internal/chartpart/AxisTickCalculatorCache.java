@@ -0,0 +1,189 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knowm.xchart.internal.chartpart.Axis.AxisType;
+
+/**
+ * Remembers the last few tick calculations of an axis. Calculating the ticks formats and measures every tick label, possibly several times until they fit,
+ * and an axis asks for them repeatedly with the same inputs while the chart layout is determined and on every repaint of an unchanged chart. The result
+ * only depends on the axis type, the axis min and max, the working space, the styles and, for category axes, the categories.
+ *
+ * @author timmolter
+ */
+public class AxisTickCalculatorCache {
+
+  /** enough for the working space approximations of one layout plus the final one */
+  private static final int MAX_ENTRIES = 8;
+
+  private final Map<Key, AxisTickCalculator> cache = new LinkedHashMap<Key, AxisTickCalculator>(16, 0.75f, true) {
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, AxisTickCalculator> eldest) {
+
+      if (size() > MAX_ENTRIES) {
+        evictionCount++;
+        return true;
+      }
+      return false;
+    }
+  };
+
+  private long hitCount;
+
+  private long missCount;
+
+  private long evictionCount;
+
+  /**
+   * @param key
+   * @return the cached calculator, or null if there is none for the given key
+   */
+  AxisTickCalculator get(Key key) {
+
+    AxisTickCalculator axisTickCalculator = cache.get(key);
+    if (axisTickCalculator == null) {
+      missCount++;
+    }
+    else {
+      hitCount++;
+    }
+    return axisTickCalculator;
+  }
+
+  /**
+   * @param key
+   * @param axisTickCalculator
+   */
+  void put(Key key, AxisTickCalculator axisTickCalculator) {
+
+    // only a stored key needs its own categories, the caller's list could be changed later on
+    cache.put(key.withCopiedCategories(), axisTickCalculator);
+  }
+
+  /**
+   * Removes all cached calculations, the hit and miss counts are kept
+   */
+  public void clear() {
+
+    cache.clear();
+  }
+
+  /**
+   * @return the number of tick calculations that were served from the cache
+   */
+  public long getHitCount() {
+
+    return hitCount;
+  }
+
+  /**
+   * @return the number of tick calculations that had to be done
+   */
+  public long getMissCount() {
+
+    return missCount;
+  }
+
+  /**
+   * @return the number of tick calculations evicted to stay within the max number of entries
+   */
+  public long getEvictionCount() {
+
+    return evictionCount;
+  }
+
+  /**
+   * The inputs of a tick calculation
+   */
+  static final class Key {
+
+    private final AxisType axisType;
+    private final double min;
+    private final double max;
+    private final double workingSpace;
+    private final int styleModificationCount;
+    private final List<?> categories;
+
+    /**
+     * Constructor
+     *
+     * @param axisType
+     * @param min
+     * @param max
+     * @param workingSpace
+     * @param styleModificationCount - the StyleManager's modification count, standing in for all style settings
+     * @param categories - the categories of a category axis, otherwise null. The list is not copied, so a key only used for a lookup costs no allocation.
+     */
+    Key(AxisType axisType, double min, double max, double workingSpace, int styleModificationCount, List<?> categories) {
+
+      this.axisType = axisType;
+      this.min = min;
+      this.max = max;
+      this.workingSpace = workingSpace;
+      this.styleModificationCount = styleModificationCount;
+      this.categories = categories;
+    }
+
+    /**
+     * @return this key with a copy of the categories
+     */
+    Key withCopiedCategories() {
+
+      if (categories == null) {
+        return this;
+      }
+      return new Key(axisType, min, max, workingSpace, styleModificationCount, new ArrayList<Object>(categories));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return axisType == other.axisType && Double.doubleToLongBits(min) == Double.doubleToLongBits(other.min) && Double.doubleToLongBits(max) == Double
+          .doubleToLongBits(other.max) && Double.doubleToLongBits(workingSpace) == Double.doubleToLongBits(other.workingSpace)
+          && styleModificationCount == other.styleModificationCount && (categories == null ? other.categories == null : categories.equals(other.categories));
+    }
+
+    @Override
+    public int hashCode() {
+
+      int result = axisType == null ? 0 : axisType.hashCode();
+      long bits = Double.doubleToLongBits(min);
+      result = 31 * result + (int) (bits ^ (bits >>> 32));
+      bits = Double.doubleToLongBits(max);
+      result = 31 * result + (int) (bits ^ (bits >>> 32));
+      bits = Double.doubleToLongBits(workingSpace);
+      result = 31 * result + (int) (bits ^ (bits >>> 32));
+      result = 31 * result + styleModificationCount;
+      result = 31 * result + (categories == null ? 0 : categories.hashCode());
+      return result;
+    }
+  }
+
+}
@@ -44,7 +44,22 @@ public class AxisTickCalculator_Category extends AxisTickCalculator {
    */
   public AxisTickCalculator_Category(Direction axisDirection, double workingSpace, List<?> categories, AxisType axisType, StyleManager styleManager) {
 
-    super(axisDirection, workingSpace, Double.NaN, Double.NaN, styleManager);
+    this(axisDirection, workingSpace, categories, axisType, styleManager, new FormatCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param categories
+   * @param axisType
+   * @param styleManager
+   * @param formatCache
+   */
+  public AxisTickCalculator_Category(Direction axisDirection, double workingSpace, List<?> categories, AxisType axisType, StyleManager styleManager, FormatCache formatCache) {
+
+    super(axisDirection, workingSpace, Double.NaN, Double.NaN, styleManager, formatCache);
 
     calculate(categories, axisType);
   }
@@ -65,14 +80,13 @@ public class AxisTickCalculator_Category extends AxisTickCalculator {
     NumberFormatter numberFormatter = null;
     SimpleDateFormat simpleDateformat = null;
     if (axisType == AxisType.Number) {
-      numberFormatter = new NumberFormatter(styleManager);
+      numberFormatter = new NumberFormatter(styleManager, formatCache);
     }
     else if (axisType == AxisType.Date) {
       if (styleManager.getDatePattern() == null) {
         throw new RuntimeException("You need to set the Date Formatting Pattern!!!");
       }
-      simpleDateformat = new SimpleDateFormat(styleManager.getDatePattern(), styleManager.getLocale());
-      simpleDateformat.setTimeZone(styleManager.getTimezone());
+      simpleDateformat = formatCache.getSimpleDateFormat(styleManager.getDatePattern(), styleManager.getLocale(), styleManager.getTimezone());
     }
 
     int counter = 0;
@@ -110,7 +110,39 @@ public class AxisTickCalculator_Date extends AxisTickCalculator {
    */
   public AxisTickCalculator_Date(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager) {
 
-    super(axisDirection, workingSpace, minValue, maxValue, styleManager);
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, new FormatCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   */
+  public AxisTickCalculator_Date(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache) {
+
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, formatCache, new TextCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   * @param textCache
+   */
+  public AxisTickCalculator_Date(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache,
+      TextCache textCache) {
+
+    super(axisDirection, workingSpace, minValue, maxValue, styleManager, formatCache, textCache);
 
     calculate();
   }
@@ -190,8 +222,7 @@ public class AxisTickCalculator_Date extends AxisTickCalculator {
       }
       // System.out.println("datePattern: " + datePattern);
 
-      SimpleDateFormat simpleDateformat = new SimpleDateFormat(datePattern, styleManager.getLocale());
-      simpleDateformat.setTimeZone(styleManager.getTimezone());
+      SimpleDateFormat simpleDateformat = formatCache.getSimpleDateFormat(datePattern, styleManager.getLocale(), styleManager.getTimezone());
 
       // return simpleDateformat.format(value);
 
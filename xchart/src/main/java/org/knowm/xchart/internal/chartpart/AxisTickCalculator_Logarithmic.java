@@ -42,8 +42,23 @@ public class AxisTickCalculator_Logarithmic extends AxisTickCalculator {
    */
   public AxisTickCalculator_Logarithmic(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager) {
 
-    super(axisDirection, workingSpace, minValue, maxValue, styleManager);
-    numberFormatter = new NumberFormatter(styleManager);
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, new FormatCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   */
+  public AxisTickCalculator_Logarithmic(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache) {
+
+    super(axisDirection, workingSpace, minValue, maxValue, styleManager, formatCache);
+    numberFormatter = new NumberFormatter(styleManager, formatCache);
     calculate();
   }
 
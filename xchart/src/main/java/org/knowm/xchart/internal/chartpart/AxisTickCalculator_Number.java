@@ -30,6 +30,12 @@ import org.knowm.xchart.internal.chartpart.Axis.Direction;
  */
 public class AxisTickCalculator_Number extends AxisTickCalculator {
 
+  /** the powers of ten up to the 10 decimal places tick positions are cleaned to, all exact doubles */
+  private static final double[] POWERS_OF_TEN = new double[] { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10 };
+
+  /** longs up to this are exact doubles */
+  private static final double MAX_EXACT_LONG = 1L << 52;
+
   NumberFormatter numberFormatter = null;
 
   /**
@@ -43,8 +49,40 @@ public class AxisTickCalculator_Number extends AxisTickCalculator {
    */
   public AxisTickCalculator_Number(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager) {
 
-    super(axisDirection, workingSpace, minValue, maxValue, styleManager);
-    numberFormatter = new NumberFormatter(styleManager);
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, new FormatCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   */
+  public AxisTickCalculator_Number(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache) {
+
+    this(axisDirection, workingSpace, minValue, maxValue, styleManager, formatCache, new TextCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param axisDirection
+   * @param workingSpace
+   * @param minValue
+   * @param maxValue
+   * @param styleManager
+   * @param formatCache
+   * @param textCache
+   */
+  public AxisTickCalculator_Number(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager, FormatCache formatCache,
+      TextCache textCache) {
+
+    super(axisDirection, workingSpace, minValue, maxValue, styleManager, formatCache, textCache);
+    numberFormatter = new NumberFormatter(styleManager, formatCache);
     calculate();
   }
 
@@ -79,94 +117,145 @@ public class AxisTickCalculator_Number extends AxisTickCalculator {
       tickSpacingHint = 25 - 5;
     }
 
-    int gridStepInChartSpace = 0;
+    // the labels and whether they fit only depend on the grid step, which only changes every few hints, so each grid step is only tried once
+    double failedGridStep = Double.NaN;
 
-    do {
+    while (true) {
 
-      // System.out.println("calculating ticks...");
-      tickLabels.clear();
-      tickLocations.clear();
       tickSpacingHint += 5;
       // System.out.println("tickSpacingHint: " + tickSpacingHint);
 
-      double gridStepHint = span / tickSpace * tickSpacingHint;
-
-      // gridStepHint --> significand * 10 ** exponent
-      // e.g. 724.1 --> 7.241 * 10 ** 2
-      double significand = gridStepHint;
-      int exponent = 0;
-      if (significand == 0) {
-        exponent = 1;
-      }
-      else if (significand < 1) {
-        while (significand < 1) {
-          significand *= 10.0;
-          exponent--;
-        }
-      }
-      else {
-        while (significand >= 10 || significand == Double.NEGATIVE_INFINITY) {
-          significand /= 10.0;
-          exponent++;
-        }
-      }
-
-      // calculate the grid step width hint.
-      double gridStep;
-      if (significand > 7.5) {
-        // gridStep = 10.0 * 10 ** exponent
-        gridStep = 10.0 * Utils.pow(10, exponent);
+      double gridStep = getGridStep(span / tickSpace * tickSpacingHint);
+      if (gridStep == failedGridStep) {
+        continue;
       }
-      else if (significand > 3.5) {
-        // gridStep = 5.0 * 10 ** exponent
-        gridStep = 5.0 * Utils.pow(10, exponent);
-      }
-      else if (significand > 1.5) {
-        // gridStep = 2.0 * 10 ** exponent
-        gridStep = 2.0 * Utils.pow(10, exponent);
-      }
-      else {
-        // gridStep = 1.0 * 10 ** exponent
-        gridStep = Utils.pow(10, exponent);
-      }
-      //////////////////////////
       // System.out.println("gridStep: " + gridStep);
       // System.out.println("***gridStepInChartSpace: " + gridStep / span * tickSpace);
-      gridStepInChartSpace = (int) (gridStep / span * tickSpace);
+      int gridStepInChartSpace = (int) (gridStep / span * tickSpace);
       // System.out.println("gridStepInChartSpace: " + gridStepInChartSpace);
 
-      BigDecimal gridStepBigDecimal = BigDecimal.valueOf(gridStep);
-      BigDecimal cleanedGridStep = gridStepBigDecimal.setScale(10, RoundingMode.HALF_UP).stripTrailingZeros(); // chop off any double imprecision
-      // System.out.println("cleanedGridStep: " + cleanedGridStep);
-      // TODO figure this out. It happens once in a blue moon.
-      BigDecimal firstPosition = null;
-      try {
-        firstPosition = BigDecimal.valueOf(getFirstPosition(cleanedGridStep.doubleValue()));
-      } catch (java.lang.NumberFormatException e) {
-        System.out.println("cleanedGridStep: " + cleanedGridStep);
-        System.out.println("cleanedGridStep.doubleValue(): " + cleanedGridStep.doubleValue());
-        System.out.println("NumberFormatException caused by this number: " + getFirstPosition(cleanedGridStep.doubleValue()));
+      // System.out.println("calculating ticks...");
+      tickLabels.clear();
+      tickLocations.clear();
+      calculateTicks(gridStep, margin, tickSpace);
+
+      if (willLabelsFitInTickSpaceHint(tickLabels, gridStepInChartSpace)) {
+        return;
       }
-      // System.out.println("firstPosition: " + firstPosition); // chop off any double imprecision
-      BigDecimal cleanedFirstPosition = firstPosition.setScale(10, RoundingMode.HALF_UP).stripTrailingZeros(); // chop off any double imprecision
-      // System.out.println("cleanedFirstPosition: " + cleanedFirstPosition);
+      failedGridStep = gridStep;
+    }
+  }
+
+  /**
+   * Rounds a grid step hint up to 1, 2, 5 or 10 times a power of ten
+   *
+   * @param gridStepHint
+   * @return the grid step
+   */
+  private double getGridStep(double gridStepHint) {
+
+    // gridStepHint --> significand * 10 ** exponent
+    // e.g. 724.1 --> 7.241 * 10 ** 2
+    double significand = gridStepHint;
+    int exponent = 0;
+    if (significand == 0) {
+      exponent = 1;
+    }
+    else if (significand < 1) {
+      while (significand < 1) {
+        significand *= 10.0;
+        exponent--;
+      }
+    }
+    else {
+      while (significand >= 10 || significand == Double.NEGATIVE_INFINITY) {
+        significand /= 10.0;
+        exponent++;
+      }
+    }
+
+    // calculate the grid step width hint.
+    if (significand > 7.5) {
+      // gridStep = 10.0 * 10 ** exponent
+      return 10.0 * Utils.pow(10, exponent);
+    }
+    else if (significand > 3.5) {
+      // gridStep = 5.0 * 10 ** exponent
+      return 5.0 * Utils.pow(10, exponent);
+    }
+    else if (significand > 1.5) {
+      // gridStep = 2.0 * 10 ** exponent
+      return 2.0 * Utils.pow(10, exponent);
+    }
+    else {
+      // gridStep = 1.0 * 10 ** exponent
+      return Utils.pow(10, exponent);
+    }
+  }
+
+  /**
+   * Fills the tick labels and locations for the given grid step
+   *
+   * @param gridStep
+   * @param margin
+   * @param tickSpace
+   */
+  private void calculateTicks(double gridStep, double margin, double tickSpace) {
+
+    BigDecimal gridStepBigDecimal = BigDecimal.valueOf(gridStep);
+    BigDecimal cleanedGridStep = gridStepBigDecimal.setScale(10, RoundingMode.HALF_UP).stripTrailingZeros(); // chop off any double imprecision
+    // System.out.println("cleanedGridStep: " + cleanedGridStep);
+    // TODO figure this out. It happens once in a blue moon.
+    BigDecimal firstPosition = null;
+    try {
+      firstPosition = BigDecimal.valueOf(getFirstPosition(cleanedGridStep.doubleValue()));
+    } catch (java.lang.NumberFormatException e) {
+      System.out.println("cleanedGridStep: " + cleanedGridStep);
+      System.out.println("cleanedGridStep.doubleValue(): " + cleanedGridStep.doubleValue());
+      System.out.println("NumberFormatException caused by this number: " + getFirstPosition(cleanedGridStep.doubleValue()));
+    }
+    // System.out.println("firstPosition: " + firstPosition); // chop off any double imprecision
+    BigDecimal cleanedFirstPosition = firstPosition.setScale(10, RoundingMode.HALF_UP).stripTrailingZeros(); // chop off any double imprecision
+    // System.out.println("cleanedFirstPosition: " + cleanedFirstPosition);
+
+    double lastPosition = maxValue + 2 * cleanedGridStep.doubleValue();
+
+    // both are cleaned to at most 10 decimal places, so the positions are exact as longs scaled by 10 ** scale as long as they are small enough to
+    // be exact doubles too
+    int scale = Math.max(0, Math.max(cleanedGridStep.scale(), cleanedFirstPosition.scale()));
+    double maxScaledPosition = (Math.max(Math.abs(cleanedFirstPosition.doubleValue()), Math.abs(lastPosition)) + cleanedGridStep.doubleValue()) * POWERS_OF_TEN[scale];
+    if (!(maxScaledPosition < MAX_EXACT_LONG)) {
 
       // generate all tickLabels and tickLocations from the first to last position
-      for (BigDecimal value = cleanedFirstPosition; value.compareTo(BigDecimal.valueOf(maxValue + 2 * cleanedGridStep.doubleValue())) < 0; value = value.add(cleanedGridStep)) {
-
-        // if (value.compareTo(BigDecimal.valueOf(maxValue)) <= 0 && value.compareTo(BigDecimal.valueOf(minValue)) >= 0) {
-        // System.out.println(value);
-        String tickLabel = numberFormatter.formatNumber(value, minValue, maxValue, axisDirection);
-        // System.out.println(tickLabel);
-        tickLabels.add(tickLabel);
-
-        // here we convert tickPosition finally to plot space, i.e. pixels
-        double tickLabelPosition = margin + ((value.doubleValue() - minValue) / (maxValue - minValue) * tickSpace);
-        tickLocations.add(tickLabelPosition);
-        // }
+      for (BigDecimal value = cleanedFirstPosition; value.compareTo(BigDecimal.valueOf(lastPosition)) < 0; value = value.add(cleanedGridStep)) {
+        addTick(value, value.doubleValue(), margin, tickSpace);
       }
-    } while (!willLabelsFitInTickSpaceHint(tickLabels, gridStepInChartSpace));
+      return;
+    }
+
+    long scaledGridStep = cleanedGridStep.setScale(scale).unscaledValue().longValue();
+    for (long scaledValue = cleanedFirstPosition.setScale(scale).unscaledValue().longValue();; scaledValue += scaledGridStep) {
+
+      // the same as BigDecimal.doubleValue(), both exact doubles divided
+      double value = scaledValue / POWERS_OF_TEN[scale];
+      // only a tie needs the exact decimal of lastPosition
+      if (value > lastPosition || value == lastPosition && BigDecimal.valueOf(scaledValue, scale).compareTo(BigDecimal.valueOf(lastPosition)) >= 0) {
+        break;
+      }
+      addTick(BigDecimal.valueOf(scaledValue, scale), value, margin, tickSpace);
+    }
+  }
+
+  private void addTick(BigDecimal value, double doubleValue, double margin, double tickSpace) {
+
+    // System.out.println(value);
+    String tickLabel = numberFormatter.formatNumber(value, minValue, maxValue, axisDirection);
+    // System.out.println(tickLabel);
+    tickLabels.add(tickLabel);
 
+    // here we convert tickPosition finally to plot space, i.e. pixels
+    double tickLabelPosition = margin + ((doubleValue - minValue) / (maxValue - minValue) * tickSpace);
+    tickLocations.add(tickLabelPosition);
   }
 
 }
@@ -17,14 +17,13 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Graphics2D;
-import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.knowm.xchart.internal.chartpart.AxisTicks.TickLabelBounds;
+
 /**
  * Axis tick labels
  */
@@ -66,37 +65,37 @@ public class AxisTickLabels implements ChartPart {
       double yOffset = axisTick.getAxis().getPaintZone().getY();
       double height = axisTick.getAxis().getPaintZone().getHeight();
       double maxTickLabelWidth = 0;
-      Map<Double, TextLayout> axisLabelTextLayouts = new HashMap<Double, TextLayout>();
+      Map<Double, Integer> axisLabels = new HashMap<Double, Integer>();
+      FontRenderContext frc = g.getFontRenderContext();
 
-      for (int i = 0; i < axisTick.getAxis().getAxisTickCalculator().getTickLabels().size(); i++) {
+      // measured once per calculation, not on every paint
+      AxisTicks axisTicks = axisTick.getAxis().getAxisTickCalculator().getAxisTicks();
+      TickLabelBounds measuredTickLabels = axisTicks.getTickLabelBounds(getChartInternal().getTextCache(), getChartInternal().getStyleManager()
+          .getAxisTickLabelsFont(), frc, 0.0);
+      for (int i = 0; i < axisTicks.getTickLabelCount(); i++) {
 
-        String tickLabel = axisTick.getAxis().getAxisTickCalculator().getTickLabels().get(i);
+        String tickLabel = axisTicks.getTickLabel(i);
         // System.out.println("** " + tickLabel);
-        double tickLocation = axisTick.getAxis().getAxisTickCalculator().getTickLocations().get(i);
+        double tickLocation = axisTicks.getTickLocation(i);
         double flippedTickLocation = yOffset + height - tickLocation;
 
         if (tickLabel != null && flippedTickLocation > yOffset && flippedTickLocation < yOffset + height) { // some are null for logarithmic axes
-          FontRenderContext frc = g.getFontRenderContext();
-          TextLayout axisLabelTextLayout = new TextLayout(tickLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(), frc);
-          Rectangle2D tickLabelBounds = axisLabelTextLayout.getBounds();
-          double boundWidth = tickLabelBounds.getWidth();
+          double boundWidth = measuredTickLabels.getLayoutWidth(i);
           if (boundWidth > maxTickLabelWidth) {
             maxTickLabelWidth = boundWidth;
           }
-          axisLabelTextLayouts.put(tickLocation, axisLabelTextLayout);
+          axisLabels.put(tickLocation, i);
         }
       }
 
-      for (Double tickLocation : axisLabelTextLayouts.keySet()) {
+      for (Double tickLocation : axisLabels.keySet()) {
 
-        TextLayout axisLabelTextLayout = axisLabelTextLayouts.get(tickLocation);
-        Shape shape = axisLabelTextLayout.getOutline(null);
-        Rectangle2D tickLabelBounds = shape.getBounds();
+        int index = axisLabels.get(tickLocation);
+        String tickLabel = axisTicks.getTickLabel(index);
+        Rectangle2D tickLabelBounds = measuredTickLabels.getOutlineBounds(index).getBounds();
 
         double flippedTickLocation = yOffset + height - tickLocation;
 
-        AffineTransform orig = g.getTransform();
-        AffineTransform at = new AffineTransform();
         double boundWidth = tickLabelBounds.getWidth();
         double xPos;
         switch (getChartInternal().getStyleManager().getYAxisLabelAlignment()) {
@@ -110,10 +109,8 @@ public class AxisTickLabels implements ChartPart {
         default:
           xPos = xOffset;
         }
-        at.translate(xPos, flippedTickLocation + tickLabelBounds.getHeight() / 2.0);
-        g.transform(at);
-        g.fill(shape);
-        g.setTransform(orig);
+        getChartInternal().paintText(g, tickLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(), frc, xPos, flippedTickLocation + tickLabelBounds.getHeight() / 2.0,
+            0.0);
 
       }
 
@@ -130,29 +127,25 @@ public class AxisTickLabels implements ChartPart {
       double yOffset = axisTick.getAxis().getAxisTitle().getBounds().getY();
       double width = axisTick.getAxis().getPaintZone().getWidth();
       double maxTickLabelHeight = 0;
+      FontRenderContext frc = g.getFontRenderContext();
 
       // System.out.println("axisTick.getTickLabels().size(): " + axisTick.getTickLabels().size());
-      for (int i = 0; i < axisTick.getAxis().getAxisTickCalculator().getTickLabels().size(); i++) {
+      double theta = -1 * Math.toRadians(getChartInternal().getStyleManager().getXAxisLabelRotation());
+      AxisTicks axisTicks = axisTick.getAxis().getAxisTickCalculator().getAxisTicks();
+      TickLabelBounds measuredTickLabels = axisTicks.getTickLabelBounds(getChartInternal().getTextCache(), getChartInternal().getStyleManager()
+          .getAxisTickLabelsFont(), frc, theta);
+      for (int i = 0; i < axisTicks.getTickLabelCount(); i++) {
 
-        String tickLabel = axisTick.getAxis().getAxisTickCalculator().getTickLabels().get(i);
+        String tickLabel = axisTicks.getTickLabel(i);
         // System.out.println("tickLabel: " + tickLabel);
-        double tickLocation = axisTick.getAxis().getAxisTickCalculator().getTickLocations().get(i);
+        double tickLocation = axisTicks.getTickLocation(i);
         double shiftedTickLocation = xOffset + tickLocation;
 
         // discard null and out of bounds labels
         if (tickLabel != null && shiftedTickLocation > xOffset && shiftedTickLocation < xOffset + width) { // some are null for logarithmic axes
 
-          FontRenderContext frc = g.getFontRenderContext();
-          TextLayout textLayout = new TextLayout(tickLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(), frc);
-          // System.out.println(textLayout.getOutline(null).getBounds().toString());
-
-          // Shape shape = v.getOutline();
-          AffineTransform rot = AffineTransform.getRotateInstance(-1 * Math.toRadians(getChartInternal().getStyleManager().getXAxisLabelRotation()), 0, 0);
-          Shape shape = textLayout.getOutline(rot);
-          Rectangle2D tickLabelBounds = shape.getBounds2D();
+          Rectangle2D tickLabelBounds = measuredTickLabels.getOutlineBounds(i);
 
-          AffineTransform orig = g.getTransform();
-          AffineTransform at = new AffineTransform();
           double xPos;
           switch (getChartInternal().getStyleManager().getXAxisLabelAlignment()) {
           case Left:
@@ -170,11 +163,7 @@ public class AxisTickLabels implements ChartPart {
           double shiftY = -1 * (tickLabelBounds.getY() + tickLabelBounds.getHeight());
           // System.out.println(shiftX);
           // System.out.println("shiftY: " + shiftY);
-          at.translate(xPos + shiftX, yOffset + shiftY);
-
-          g.transform(at);
-          g.fill(shape);
-          g.setTransform(orig);
+          getChartInternal().paintText(g, tickLabel, getChartInternal().getStyleManager().getAxisTickLabelsFont(), frc, xPos + shiftX, yOffset + shiftY, theta);
 
           // // debug box
           // g.setColor(Color.MAGENTA);
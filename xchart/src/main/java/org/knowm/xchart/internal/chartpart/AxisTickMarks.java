@@ -67,9 +67,10 @@ public class AxisTickMarks implements ChartPart {
       // tick marks
       if (getChartInternal().getStyleManager().isAxisTicksMarksVisible()) {
 
-        for (int i = 0; i < axisTick.getAxis().getAxisTickCalculator().getTickLabels().size(); i++) {
+        AxisTicks axisTicks = axisTick.getAxis().getAxisTickCalculator().getAxisTicks();
+        for (int i = 0; i < axisTicks.getTickLabelCount(); i++) {
 
-          double tickLocation = axisTick.getAxis().getAxisTickCalculator().getTickLocations().get(i);
+          double tickLocation = axisTicks.getTickLocation(i);
           double flippedTickLocation = yOffset + axisTick.getAxis().getPaintZone().getHeight() - tickLocation;
           if (flippedTickLocation > bounds.getY() && flippedTickLocation < bounds.getY() + bounds.getHeight()) {
 
@@ -104,9 +105,10 @@ public class AxisTickMarks implements ChartPart {
       // tick marks
       if (getChartInternal().getStyleManager().isAxisTicksMarksVisible()) {
 
-        for (int i = 0; i < axisTick.getAxis().getAxisTickCalculator().getTickLabels().size(); i++) {
+        AxisTicks axisTicks = axisTick.getAxis().getAxisTickCalculator().getAxisTicks();
+        for (int i = 0; i < axisTicks.getTickLabelCount(); i++) {
 
-          double tickLocation = axisTick.getAxis().getAxisTickCalculator().getTickLocations().get(i);
+          double tickLocation = axisTicks.getTickLocation(i);
           double shiftedTickLocation = xOffset + tickLocation;
 
           if (shiftedTickLocation > bounds.getX() && shiftedTickLocation < bounds.getX() + bounds.getWidth()) {
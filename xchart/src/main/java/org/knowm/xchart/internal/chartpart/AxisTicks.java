@@ -0,0 +1,183 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.Rectangle2D;
+import java.util.List;
+
+/**
+ * The result of a tick calculation: the tick locations in pixels and the tick labels, in arrays for indexed access by the axis, the tick labels, the
+ * tick marks and the plot surface. Immutable, so a cached calculation can be shared between paints. The measured bounds of the tick labels are
+ * remembered as well, so repainting an unchanged axis doesn't measure its labels again.
+ *
+ * @author timmolter
+ */
+public final class AxisTicks {
+
+  private final double[] tickLocations;
+
+  private final String[] tickLabels;
+
+  /** the label with the most characters, used to estimate the space the labels need */
+  private final String longestTickLabel;
+
+  /** the tick labels measured for the last font, FontRenderContext and rotation, created on first use */
+  private TickLabelBounds tickLabelBounds;
+
+  /**
+   * Constructor
+   *
+   * @param tickLocations
+   * @param tickLabels
+   */
+  AxisTicks(List<Double> tickLocations, List<String> tickLabels) {
+
+    this.tickLocations = new double[tickLocations.size()];
+    int i = 0;
+    for (Double tickLocation : tickLocations) {
+      this.tickLocations[i++] = tickLocation;
+    }
+    this.tickLabels = tickLabels.toArray(new String[tickLabels.size()]);
+
+    String longestTickLabel = "";
+    for (String tickLabel : this.tickLabels) {
+      if (tickLabel != null && tickLabel.length() > longestTickLabel.length()) {
+        longestTickLabel = tickLabel;
+      }
+    }
+    this.longestTickLabel = longestTickLabel;
+  }
+
+  /**
+   * @return the number of tick labels, some of them may be null
+   */
+  public int getTickLabelCount() {
+
+    return tickLabels.length;
+  }
+
+  /**
+   * @param index
+   * @return the tick label, null for a tick without label
+   */
+  public String getTickLabel(int index) {
+
+    return tickLabels[index];
+  }
+
+  /**
+   * @return the number of tick locations
+   */
+  public int getTickLocationCount() {
+
+    return tickLocations.length;
+  }
+
+  /**
+   * @param index
+   * @return the tick location in pixels
+   */
+  public double getTickLocation(int index) {
+
+    return tickLocations[index];
+  }
+
+  /**
+   * @return the label with the most characters, or an empty String if there are no labels
+   */
+  public String getLongestTickLabel() {
+
+    return longestTickLabel;
+  }
+
+  /**
+   * Measures the tick labels, or returns the measurements of the previous call if they were made with the same inputs. Must only be called by the
+   * thread painting the chart.
+   *
+   * @param textCache
+   * @param font
+   * @param frc
+   * @param theta - the rotation of the labels in radians
+   * @return the bounds of the labels
+   */
+  TickLabelBounds getTickLabelBounds(TextCache textCache, Font font, FontRenderContext frc, double theta) {
+
+    TickLabelBounds tickLabelBounds = this.tickLabelBounds;
+    if (tickLabelBounds == null || !tickLabelBounds.isMeasuredWith(font, frc, theta)) {
+      tickLabelBounds = new TickLabelBounds(tickLabels, textCache, font, frc, theta);
+      this.tickLabelBounds = tickLabelBounds;
+    }
+    return tickLabelBounds;
+  }
+
+  /**
+   * The bounds of all tick labels for one font, FontRenderContext and rotation
+   */
+  static final class TickLabelBounds {
+
+    private final Font font;
+    private final FontRenderContext frc;
+    private final double theta;
+
+    /** the bounds of the rotated outlines relative to the baseline origin, null for a tick without label */
+    private final Rectangle2D[] outlineBounds;
+
+    /** the widths of the unrotated text layouts, 0 for a tick without label */
+    private final double[] layoutWidths;
+
+    private TickLabelBounds(String[] tickLabels, TextCache textCache, Font font, FontRenderContext frc, double theta) {
+
+      this.font = font;
+      this.frc = frc;
+      this.theta = theta;
+      outlineBounds = new Rectangle2D[tickLabels.length];
+      layoutWidths = new double[tickLabels.length];
+      for (int i = 0; i < tickLabels.length; i++) {
+        if (tickLabels[i] != null) {
+          outlineBounds[i] = textCache.getOutline(tickLabels[i], font, frc, theta).getBounds2D();
+          layoutWidths[i] = textCache.getBounds(tickLabels[i], font, frc).getWidth();
+        }
+      }
+    }
+
+    private boolean isMeasuredWith(Font font, FontRenderContext frc, double theta) {
+
+      return this.font.equals(font) && this.frc.equals(frc) && Double.doubleToLongBits(this.theta) == Double.doubleToLongBits(theta);
+    }
+
+    /**
+     * @param index
+     * @return the bounds of the rotated outline of the tick label relative to its baseline origin. Must not be changed.
+     */
+    Rectangle2D getOutlineBounds(int index) {
+
+      return outlineBounds[index];
+    }
+
+    /**
+     * @param index
+     * @return the width of the unrotated text layout of the tick label
+     */
+    double getLayoutWidth(int index) {
+
+      return layoutWidths[index];
+    }
+  }
+
+}
@@ -17,10 +17,7 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Graphics2D;
-import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 
 /**
@@ -66,24 +63,14 @@ public class AxisTitle implements ChartPart {
       if (text != null && !text.trim().equalsIgnoreCase("") && getChartInternal().getStyleManager().isYAxisTitleVisible()) {
 
         FontRenderContext frc = g.getFontRenderContext();
-        TextLayout nonRotatedTextLayout = new TextLayout(text, getChartInternal().getStyleManager().getAxisTitleFont(), frc);
-        Rectangle2D nonRotatedRectangle = nonRotatedTextLayout.getBounds();
+        Rectangle2D nonRotatedRectangle = getChartInternal().getTextCache().getBounds(text, getChartInternal().getStyleManager().getAxisTitleFont(), frc);
 
         // ///////////////////////////////////////////////
 
         int xOffset = (int) (axis.getPaintZone().getX() + nonRotatedRectangle.getHeight());
         int yOffset = (int) ((axis.getPaintZone().getHeight() + nonRotatedRectangle.getWidth()) / 2.0 + axis.getPaintZone().getY());
 
-        AffineTransform rot = AffineTransform.getRotateInstance(-1 * Math.PI / 2, 0, 0);
-        Shape shape = nonRotatedTextLayout.getOutline(rot);
-
-        AffineTransform orig = g.getTransform();
-        AffineTransform at = new AffineTransform();
-
-        at.translate(xOffset, yOffset);
-        g.transform(at);
-        g.fill(shape);
-        g.setTransform(orig);
+        getChartInternal().paintText(g, text, getChartInternal().getStyleManager().getAxisTitleFont(), frc, xOffset, yOffset, -1 * Math.PI / 2);
 
         // ///////////////////////////////////////////////
         // System.out.println(nonRotatedRectangle.getHeight());
@@ -104,21 +91,14 @@ public class AxisTitle implements ChartPart {
       if (text != null && !text.trim().equalsIgnoreCase("") && getChartInternal().getStyleManager().isXAxisTitleVisible()) {
 
         FontRenderContext frc = g.getFontRenderContext();
-        TextLayout textLayout = new TextLayout(text, getChartInternal().getStyleManager().getAxisTitleFont(), frc);
-        Rectangle2D rectangle = textLayout.getBounds();
+        Rectangle2D rectangle = getChartInternal().getTextCache().getBounds(text, getChartInternal().getStyleManager().getAxisTitleFont(), frc);
         // System.out.println(rectangle);
 
         double xOffset = axis.getPaintZone().getX() + (axis.getPaintZone().getWidth() - rectangle.getWidth()) / 2.0;
         double yOffset = axis.getPaintZone().getY() + axis.getPaintZone().getHeight() - rectangle.getHeight();
 
         // textLayout.draw(g, (float) xOffset, (float) (yOffset - rectangle.getY()));
-        Shape shape = textLayout.getOutline(null);
-        AffineTransform orig = g.getTransform();
-        AffineTransform at = new AffineTransform();
-        at.translate((float) xOffset, (float) (yOffset - rectangle.getY()));
-        g.transform(at);
-        g.fill(shape);
-        g.setTransform(orig);
+        getChartInternal().paintText(g, text, getChartInternal().getStyleManager().getAxisTitleFont(), frc, (float) xOffset, (float) (yOffset - rectangle.getY()), 0.0);
 
         bounds = new Rectangle2D.Double(xOffset, yOffset - getChartInternal().getStyleManager().getAxisTitlePadding(), rectangle.getWidth(), rectangle.getHeight() + getChartInternal().getStyleManager()
             .getAxisTitlePadding());
@@ -16,21 +16,29 @@
  */
 package org.knowm.xchart.internal.chartpart;
 
+import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import org.knowm.xchart.Series;
 import org.knowm.xchart.StyleManager;
+import org.knowm.xchart.StyleManager.LegendPosition;
+import org.knowm.xchart.internal.Utils;
 import org.knowm.xchart.internal.chartpart.Axis.AxisType;
+import org.knowm.xchart.internal.data.IncrementalSeriesData;
+import org.knowm.xchart.internal.data.ListSeriesData;
+import org.knowm.xchart.internal.data.SeriesData;
 
 /**
  * @author timmolter
@@ -57,6 +65,21 @@ public class ChartInternal {
   private Plot plot;
   private ChartTitle chartTitle;
 
+  /** the cached static parts of the chart, if static layer caching is used */
+  private StaticLayer staticLayer;
+
+  /** the formats for the tick labels */
+  private final FormatCache formatCache = new FormatCache();
+
+  /** the laid out texts of the titles, tick labels and legend */
+  private final TextCache textCache = new TextCache();
+
+  /** true while painting for a vector graphics file */
+  private boolean isPaintingVectorGraphic;
+
+  /** transforms the coordinates of large series in parallel during paint(g, width, height, transformExecutorService), null otherwise */
+  private ExecutorService transformExecutorService;
+
   /**
    * Constructor
    *
@@ -85,15 +108,10 @@ public class ChartInternal {
    */
   public Series addSeries(String seriesName, List<?> xData, List<? extends Number> yData, List<? extends Number> errorBars) {
 
-    if (chartInternalType != null && chartInternalType != ChartInternalType.XY) {
-      throw new IllegalArgumentException("Cannot mix x-y, category and/or pie series types! Don't call addSeries() and/or addCategorySeries() and/or addPieSeries() for the same chart!");
-    }
-    chartInternalType = ChartInternalType.XY;
-
     // Sanity checks
     sanityCheck(seriesName, xData, yData, errorBars);
 
-    Series series = null;
+    boolean isDateData = false;
     if (xData != null) {
 
       // Sanity check
@@ -102,26 +120,46 @@ public class ChartInternal {
       }
 
       // inspect the series to see what kind of data it contains (Number, Date)
-      AxisType axisType = setXAxisType(xData);
+      AxisType axisType = getAxisType(xData);
       if (!(axisType == AxisType.Number || axisType == AxisType.Date)) {
         throw new IllegalArgumentException("X-Axis data must be of type Number or Date for X-Y chart types!!!");
       }
+      isDateData = axisType == AxisType.Date;
+    }
+    // else the X values 1, 2, 3, ... are generated
+
+    return addSeries(seriesName, new ListSeriesData(xData, yData, errorBars), isDateData);
+  }
+
+  /**
+   * Adds a X-Y series backed by primitive data, e.g. arrays or a ring buffer. No Number objects are created for the data.
+   *
+   * @param seriesName
+   * @param seriesData
+   * @param isDateData - true if the X values are milliseconds since the epoch
+   * @return Series
+   */
+  public Series addSeries(String seriesName, SeriesData seriesData, boolean isDateData) {
+
+    if (chartInternalType != null && chartInternalType != ChartInternalType.XY) {
+      throw new IllegalArgumentException("Cannot mix x-y, category and/or pie series types! Don't call addSeries() and/or addCategorySeries() and/or addPieSeries() for the same chart!");
+    }
+    chartInternalType = ChartInternalType.XY;
 
-      axisPair.getYAxis().setAxisType(AxisType.Number);
-      series = new Series(seriesName, xData, axisPair.getXAxis().getAxisType(), yData, axisPair.getYAxis().getAxisType(), errorBars, styleManager.getSeriesColorMarkerLineStyleCycler()
-          .getNextSeriesColorMarkerLineStyle());
+    // Sanity checks
+    if (seriesName == null) {
+      throw new IllegalArgumentException("Series Name cannot be null!!!");
     }
-    else { // generate xData
-      List<Double> generatedXData = new ArrayList<Double>();
-      for (int i = 1; i < yData.size() + 1; i++) {
-        generatedXData.add((double) i);
-      }
-      axisPair.getXAxis().setAxisType(AxisType.Number);
-      axisPair.getYAxis().setAxisType(AxisType.Number);
-      series = new Series(seriesName, generatedXData, axisPair.getXAxis().getAxisType(), yData, axisPair.getYAxis().getAxisType(), errorBars, styleManager.getSeriesColorMarkerLineStyleCycler()
-          .getNextSeriesColorMarkerLineStyle());
+    // a rolling series may start empty and get its points appended
+    if (seriesData.size() == 0 && !(seriesData instanceof IncrementalSeriesData)) {
+      throw new IllegalArgumentException("Y-Axis data cannot be empty!!!");
     }
 
+    axisPair.getXAxis().setAxisType(isDateData ? AxisType.Date : AxisType.Number);
+    axisPair.getYAxis().setAxisType(AxisType.Number);
+    Series series = new Series(seriesName, seriesData, axisPair.getXAxis().getAxisType(), axisPair.getYAxis().getAxisType(), styleManager.getSeriesColorMarkerLineStyleCycler()
+        .getNextSeriesColorMarkerLineStyle());
+
     // set series type
     setSeriesType(series);
 
@@ -181,6 +219,54 @@ public class ChartInternal {
     return series;
   }
 
+  /**
+   * Adds a Category series backed by primitive data, e.g. a ring buffer. The categories are the Number or Date X values, so they follow the data as
+   * points are appended.
+   *
+   * @param seriesName
+   * @param seriesData
+   * @param isDateData - true if the X values are milliseconds since the epoch
+   * @return Series
+   */
+  public Series addCategorySeries(String seriesName, SeriesData seriesData, boolean isDateData) {
+
+    if (chartInternalType != null && chartInternalType != ChartInternalType.Category) {
+      throw new IllegalArgumentException("Cannot mix x-y, category and/or pie series types! Don't call addSeries() and/or addCategorySeries() and/or addPieSeries() for the same chart!");
+    }
+    chartInternalType = ChartInternalType.Category;
+
+    // Sanity checks
+    if (seriesName == null) {
+      throw new IllegalArgumentException("Series Name cannot be null!!!");
+    }
+    // a rolling series may start empty and get its points appended
+    if (seriesData.size() == 0 && !(seriesData instanceof IncrementalSeriesData)) {
+      throw new IllegalArgumentException("Y-Axis data cannot be empty!!!");
+    }
+
+    axisPair.getXAxis().setAxisType(isDateData ? AxisType.Date : AxisType.Number);
+    axisPair.getYAxis().setAxisType(AxisType.Number);
+    Series series = new Series(seriesName, seriesData, axisPair.getXAxis().getAxisType(), axisPair.getYAxis().getAxisType(), styleManager.getSeriesColorMarkerLineStyleCycler()
+        .getNextSeriesColorMarkerLineStyle());
+
+    // verify all series have exactly the same xAxis
+    if (seriesMap.size() > 0) { // there was already a series added
+      if (!seriesMap.entrySet().iterator().next().getValue().getXData().equals(series.getXData())) {
+        throw new IllegalArgumentException("X-Axis data must exactly match all other Series X-Axis data for Category Charts!!");
+      }
+    }
+
+    // set series type
+    setSeriesType(series);
+
+    if (seriesMap.keySet().contains(seriesName)) {
+      throw new IllegalArgumentException("Series name >" + seriesName + "< has already been used. Use unique names for each series!!!");
+    }
+    seriesMap.put(seriesName, series);
+
+    return series;
+  }
+
   public Series addPieSeries(String sliceName, Number value) {
 
     if (chartInternalType != null && chartInternalType != ChartInternalType.Pie) {
@@ -233,26 +319,31 @@ public class ChartInternal {
    */
   private AxisType setXAxisType(List<?> xData) {
 
-    AxisType axisType;
+    AxisType axisType = getAxisType(xData);
+    axisPair.getXAxis().setAxisType(axisType);
+    return axisType;
+  }
 
-    Iterator<?> itr = xData.iterator();
+  /**
+   * @param data
+   * @return the axis type of the data, based on its first value
+   */
+  private AxisType getAxisType(List<?> data) {
+
+    Iterator<?> itr = data.iterator();
     Object dataPoint = itr.next();
     if (dataPoint instanceof Number) {
-      axisType = AxisType.Number;
-      axisPair.getXAxis().setAxisType(axisType);
+      return AxisType.Number;
     }
     else if (dataPoint instanceof Date) {
-      axisType = AxisType.Date;
-      axisPair.getXAxis().setAxisType(axisType);
+      return AxisType.Date;
     }
     else if (dataPoint instanceof String) {
-      axisType = AxisType.String;
-      axisPair.getXAxis().setAxisType(axisType);
+      return AxisType.String;
     }
     else {
       throw new IllegalArgumentException("Series data must be either Number, Date or String type!!!");
     }
-    return axisType;
   }
 
   /**
@@ -313,6 +404,199 @@ public class ChartInternal {
    */
   public void paint(Graphics2D g) {
 
+    calculateAxisMinMax();
+
+    // paint chart main background
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON); // global rendering hint
+    setTextRenderingHint(g);
+    g.setColor(styleManager.getChartBackgroundColor());
+    Shape rect = new Rectangle2D.Double(0, 0, width, height);
+    g.fill(rect);
+
+    // now that we added all the series, we can calculate the legend size
+    chartLegend.determineLegendBoxSize();
+
+    axisPair.paint(g);
+    plot.paint(g);
+    chartTitle.paint(g);
+    chartLegend.paint(g);
+
+    g.dispose();
+  }
+
+  /**
+   * Paints the chart like paint(g, width, height), but the X and Y values of large Line, Scatter and Area series are transformed into device
+   * coordinates in chunks on the given ExecutorService. The painting thread transforms the chunks no thread has started yet, so the ExecutorService may
+   * be the one the chart is painted on.
+   *
+   * @param g
+   * @param width
+   * @param height
+   * @param transformExecutorService - the ExecutorService, null to transform on the painting thread. It is not shut down by the chart.
+   */
+  public void paint(Graphics2D g, int width, int height, ExecutorService transformExecutorService) {
+
+    this.transformExecutorService = transformExecutorService;
+    try {
+      paint(g, width, height);
+    } finally {
+      this.transformExecutorService = null;
+    }
+  }
+
+  /**
+   * @return the ExecutorService to transform the coordinates of large series on while painting, null to transform on the painting thread
+   */
+  public ExecutorService getTransformExecutorService() {
+
+    return transformExecutorService;
+  }
+
+  /**
+   * Paints the chart for a vector graphics file, e.g. by VectorGraphicsEncoder. Chart parts can check isPaintingVectorGraphic() to adapt to the target.
+   *
+   * @param g
+   * @param width
+   * @param height
+   */
+  public void paintVectorGraphic(Graphics2D g, int width, int height) {
+
+    isPaintingVectorGraphic = true;
+    try {
+      paint(g, width, height);
+    } finally {
+      isPaintingVectorGraphic = false;
+    }
+  }
+
+  /**
+   * @return true while painting for a vector graphics file
+   */
+  public boolean isPaintingVectorGraphic() {
+
+    return isPaintingVectorGraphic;
+  }
+
+  /**
+   * Paints the chart like paint(), but the parts that don't depend on the series data are drawn from a cached image if static layer caching is enabled.
+   * The cache is only used for X-Y charts with an opaque background painted without scaling or rotation; everything else is painted completely.
+   *
+   * @param g
+   * @param width
+   * @param height
+   */
+  public void paintWithLayerCache(Graphics2D g, int width, int height) {
+
+    this.width = width;
+    this.height = height;
+
+    boolean isCacheable = styleManager.isStaticLayerCachingEnabled() && chartInternalType == ChartInternalType.XY
+        && styleManager.getChartBackgroundColor().getAlpha() == 255 && (g.getTransform().getType() & ~AffineTransform.TYPE_TRANSLATION) == 0;
+    if (!isCacheable) {
+      staticLayer = null;
+      paint(g);
+      return;
+    }
+    if (staticLayer == null) {
+      staticLayer = new StaticLayer(this);
+    }
+
+    calculateAxisMinMax();
+
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON); // global rendering hint
+    setTextRenderingHint(g);
+    g.drawImage(staticLayer.getImage(g), 0, 0, null);
+
+    plot.paintContent(g);
+    if (isLegendInsidePlot()) {
+      chartLegend.paint(g);
+    }
+
+    g.dispose();
+  }
+
+  /**
+   * Paints the parts of the chart that don't depend on the series data into the static layer. The series are painted on top, so they must not overlap
+   * anything painted here but the plot surface.
+   *
+   * @param g
+   */
+  void paintStaticParts(Graphics2D g) {
+
+    // paint chart main background
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON); // global rendering hint
+    setTextRenderingHint(g);
+    g.setColor(styleManager.getChartBackgroundColor());
+    Shape rect = new Rectangle2D.Double(0, 0, width, height);
+    g.fill(rect);
+
+    chartLegend.determineLegendBoxSize();
+
+    axisPair.paint(g);
+    plot.paintSurface(g);
+    chartTitle.paint(g);
+    if (!isLegendInsidePlot()) {
+      chartLegend.paint(g);
+    }
+  }
+
+  /**
+   * Paints a text with its baseline origin at the given offsets, rotated by theta radians around it. Vector graphics and printers get the filled glyph
+   * outlines, bitmaps and screens get the glyphs drawn by Java2D if glyph text rendering is enabled.
+   *
+   * @param g
+   * @param text
+   * @param font
+   * @param frc - the FontRenderContext of g the text was measured with
+   * @param xOffset
+   * @param yOffset
+   * @param theta
+   */
+  void paintText(Graphics2D g, String text, Font font, FontRenderContext frc, double xOffset, double yOffset, double theta) {
+
+    AffineTransform orig = g.getTransform();
+    g.translate(xOffset, yOffset);
+    if (isGlyphTextRendering(g)) {
+      if (theta != 0.0) {
+        g.rotate(theta);
+      }
+      textCache.getTextLayout(text, font, frc).draw(g, 0, 0);
+    }
+    else {
+      g.fill(textCache.getOutline(text, font, frc, theta));
+    }
+    g.setTransform(orig);
+  }
+
+  /**
+   * @param g
+   * @return true if the glyphs are drawn, which is only done on a Graphics2D that paints pixels
+   */
+  private boolean isGlyphTextRendering(Graphics2D g) {
+
+    return styleManager.isGlyphTextRenderingEnabled() && !isPaintingVectorGraphic && Utils.isRasterTarget(g);
+  }
+
+  /**
+   * Antialiases the glyphs if they are drawn, before anything is measured with the FontRenderContext of g
+   */
+  private void setTextRenderingHint(Graphics2D g) {
+
+    if (isGlyphTextRendering(g)) {
+      g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+  }
+
+  private boolean isLegendInsidePlot() {
+
+    return styleManager.getLegendPosition() != LegendPosition.OutsideE;
+  }
+
+  /**
+   * Calculates the min and max of the axes from the series
+   */
+  private void calculateAxisMinMax() {
+
     // Sanity checks
     if (getSeriesMap().isEmpty()) {
       throw new RuntimeException("No series defined for Chart!!!");
@@ -331,6 +615,9 @@ public class ChartInternal {
       axisPair.getXAxis().addMinMax(series.getXMin(), series.getXMax());
       axisPair.getYAxis().addMinMax(series.getYMin(), series.getYMax());
     }
+    // e.g. a real-time chart before its first point
+    axisPair.getXAxis().setDefaultMinMaxIfEmpty(getStyleManager().isXAxisLogarithmic());
+    axisPair.getYAxis().setDefaultMinMaxIfEmpty(getStyleManager().isYAxisLogarithmic());
 
     axisPair.getXAxis().overrideMinMax();
     axisPair.getYAxis().overrideMinMax();
@@ -345,21 +632,6 @@ public class ChartInternal {
       throw new IllegalArgumentException("Series data (accounting for error bars too) cannot be less or equal to zero for a logarithmic Y-Axis!!!");
     }
 
-    // paint chart main background
-    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON); // global rendering hint
-    g.setColor(styleManager.getChartBackgroundColor());
-    Shape rect = new Rectangle2D.Double(0, 0, width, height);
-    g.fill(rect);
-
-    // now that we added all the series, we can calculate the legend size
-    chartLegend.determineLegendBoxSize();
-
-    axisPair.paint(g);
-    plot.paint(g);
-    chartTitle.paint(g);
-    chartLegend.paint(g);
-
-    g.dispose();
   }
 
   /**
@@ -402,6 +674,26 @@ public class ChartInternal {
     return plot;
   }
 
+  /**
+   * for internal usage
+   *
+   * @return
+   */
+  protected FormatCache getFormatCache() {
+
+    return formatCache;
+  }
+
+  /**
+   * Gets the cache of laid out texts, e.g. to check its hit and eviction counts
+   *
+   * @return
+   */
+  public TextCache getTextCache() {
+
+    return textCache;
+  }
+
   public ChartInternalType getChartInternalType() {
 
     return chartInternalType;
@@ -20,8 +20,6 @@ import java.awt.BasicStroke;
 import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 
 /**
@@ -64,6 +62,16 @@ public class ChartTitle implements ChartPart {
     this.text = text;
   }
 
+  /**
+   * get the chart title's text
+   *
+   * @return
+   */
+  public String getText() {
+
+    return text;
+  }
+
   /**
    * get the height of the chart title including the chart padding
    *
@@ -73,8 +81,7 @@ public class ChartTitle implements ChartPart {
 
     if (chartInternal.getStyleManager().isChartTitleVisible()) {
 
-      TextLayout textLayout = new TextLayout(text, chartInternal.getStyleManager().getChartTitleFont(), new FontRenderContext(null, true, false));
-      Rectangle2D rectangle = textLayout.getBounds();
+      Rectangle2D rectangle = chartInternal.getTextCache().getBounds(text, chartInternal.getStyleManager().getChartTitleFont(), TextCache.MEASURING_FONT_RENDER_CONTEXT);
       int titleHeight = (int) ((chartInternal.getStyleManager().isChartTitleVisible() ? rectangle.getHeight() : 0));
       return chartInternal.getStyleManager().getChartPadding() + 2 * chartInternal.getStyleManager().getChartTitlePadding() + titleHeight;
     }
@@ -93,8 +100,7 @@ public class ChartTitle implements ChartPart {
 
       // create rectangle first for sizing
       FontRenderContext frc = g.getFontRenderContext();
-      TextLayout textLayout = new TextLayout(text, chartInternal.getStyleManager().getChartTitleFont(), frc);
-      Rectangle2D rectangle = textLayout.getBounds();
+      Rectangle2D rectangle = chartInternal.getTextCache().getBounds(text, chartInternal.getStyleManager().getChartTitleFont(), frc);
 
       double xOffset = (int) chartInternal.getPlot().getBounds().getX();
       double yOffset = chartInternal.getStyleManager().getChartPadding();
@@ -124,13 +130,7 @@ public class ChartTitle implements ChartPart {
       g.setColor(chartInternal.getStyleManager().getChartFontColor());
       // textLayout.draw(g, xOffset, yOffset);
 
-      Shape shape = textLayout.getOutline(null);
-      AffineTransform orig = g.getTransform();
-      AffineTransform at = new AffineTransform();
-      at.translate(xOffset, yOffset);
-      g.transform(at);
-      g.fill(shape);
-      g.setTransform(orig);
+      chartInternal.paintText(g, text, chartInternal.getStyleManager().getChartTitleFont(), frc, xOffset, yOffset, 0.0);
     }
 
   }
@@ -146,4 +146,4 @@ public class ChartTitle implements ChartPart {
 
     return chartInternal;
   }
-}
\ No newline at end of file
+}
\ No newline at end of file
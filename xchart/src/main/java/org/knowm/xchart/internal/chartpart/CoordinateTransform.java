@@ -0,0 +1,267 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Maps the data values of one axis to device coordinates for one paint. The axis min and max, the log10 of a logarithmic axis, the margins and the tick
+ * space are all folded into an offset and a scale up front, so a value is mapped with one multiplication and one addition, plus a subtraction and a
+ * log10 for logarithmic axes, instead of looking them up again for every point. Instances are immutable; the linear and logarithmic variants are separate
+ * classes so the bulk methods run without branches, and the linear loops are simple enough for the JIT compiler to vectorize.
+ *
+ * @author timmolter
+ */
+public abstract class CoordinateTransform {
+
+  /** the number of values per parallel chunk of transform(double[], float[], int, ExecutorService, int) used for painting */
+  public static final int PARALLEL_CHUNK_SIZE = 262144;
+
+  /** the axis min, already log10'ed for logarithmic axes */
+  final double min;
+
+  /** device units per data unit, 0 if the axis min and max are the same */
+  final double scale;
+
+  /** the device coordinate of min */
+  final double offset;
+
+  /**
+   * Constructor
+   *
+   * @param min
+   * @param scale
+   * @param offset
+   */
+  private CoordinateTransform(double min, double scale, double offset) {
+
+    this.min = min;
+    this.scale = scale;
+    this.offset = offset;
+  }
+
+  /**
+   * Creates the transform of an axis. If all data has the same value the axis min and max are the same and every value maps to the center.
+   *
+   * @param min - the axis min
+   * @param max - the axis max
+   * @param isLogarithmic
+   * @param origin - the device coordinate of the axis min
+   * @param tickSpace - the device distance from the axis min to the axis max, negative for a Y-Axis where device coordinates grow downwards
+   * @param center - the device coordinate used if the axis min and max are the same
+   * @return the transform
+   */
+  public static CoordinateTransform getInstance(double min, double max, boolean isLogarithmic, double origin, double tickSpace, double center) {
+
+    if (isLogarithmic) {
+      min = Math.log10(min);
+      max = Math.log10(max);
+    }
+
+    double scale;
+    double offset;
+    if (Math.abs(max - min) / 5 == 0.0) {
+      scale = 0.0;
+      offset = center;
+    }
+    else {
+      scale = tickSpace / (max - min);
+      offset = origin;
+    }
+
+    return isLogarithmic ? new Logarithmic(min, scale, offset) : new Linear(min, scale, offset);
+  }
+
+  /**
+   * @param value
+   * @return the device coordinate of the given data value, NaN for NaN
+   */
+  public abstract double transform(double value);
+
+  /**
+   * Transforms the first length values into device coordinates. NaN values stay NaN.
+   *
+   * @param values
+   * @param result - may be values itself
+   * @param length
+   */
+  public abstract void transform(double[] values, double[] result, int length);
+
+  /**
+   * Transforms the values from index from (inclusive) to index to (exclusive) into device coordinates as floats. NaN values stay NaN.
+   *
+   * @param values
+   * @param result
+   * @param from
+   * @param to
+   */
+  public abstract void transform(double[] values, float[] result, int from, int to);
+
+  /**
+   * Transforms the first length values into device coordinates as floats, which are precise enough for device pixels and take half the memory of
+   * doubles. If there are more values than the parallel chunk size, the chunks after the first are handed to the ExecutorService. The calling thread
+   * transforms the chunks that no thread of the ExecutorService has started yet instead of waiting for them, so the ExecutorService may be the bounded
+   * pool the chart is painted on without deadlocking.
+   *
+   * @param values
+   * @param result
+   * @param length
+   * @param executorService - null to transform all values on the calling thread
+   * @param parallelChunkSize - the number of values per parallel chunk
+   */
+  public void transform(final double[] values, final float[] result, int length, ExecutorService executorService, int parallelChunkSize) {
+
+    if (executorService == null || length <= parallelChunkSize) {
+      transform(values, result, 0, length);
+      return;
+    }
+
+    List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+    for (int from = 0; from < length; from += parallelChunkSize) {
+      final int start = from;
+      final int end = Math.min(length, from + parallelChunkSize);
+      tasks.add(new FutureTask<Void>(new Runnable() {
+
+        @Override
+        public void run() {
+
+          transform(values, result, start, end);
+        }
+      }, null));
+    }
+    try {
+      // the first chunk is transformed by the calling thread right away
+      for (int i = 1; i < tasks.size(); i++) {
+        executorService.execute(tasks.get(i));
+      }
+    } catch (RejectedExecutionException e) {
+      // the rest is transformed on the calling thread
+    }
+
+    // the chunks are short, so wait for them even if interrupted rather than leaving them writing into the result
+    boolean isInterrupted = false;
+    try {
+      for (FutureTask<Void> task : tasks) {
+        // does nothing if a thread of the ExecutorService has started the task already
+        task.run();
+        while (true) {
+          try {
+            task.get();
+            break;
+          } catch (InterruptedException e) {
+            isInterrupted = true;
+          } catch (ExecutionException e) {
+            throw new RuntimeException("Transforming the coordinates failed!!!", e.getCause());
+          }
+        }
+      }
+    } finally {
+      for (FutureTask<Void> task : tasks) {
+        task.cancel(false);
+      }
+      if (isInterrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Transforms data values as they are
+   */
+  private static final class Linear extends CoordinateTransform {
+
+    /** the device coordinate of 0, so the loops need one operation less per value */
+    private final double base;
+
+    Linear(double min, double scale, double offset) {
+
+      super(min, scale, offset);
+      this.base = offset - min * scale;
+    }
+
+    @Override
+    public double transform(double value) {
+
+      return value * scale + base;
+    }
+
+    @Override
+    public void transform(double[] values, double[] result, int length) {
+
+      double scale = this.scale;
+      double base = this.base;
+      for (int i = 0; i < length; i++) {
+        result[i] = values[i] * scale + base;
+      }
+    }
+
+    @Override
+    public void transform(double[] values, float[] result, int from, int to) {
+
+      double scale = this.scale;
+      double base = this.base;
+      for (int i = from; i < to; i++) {
+        result[i] = (float) (values[i] * scale + base);
+      }
+    }
+  }
+
+  /**
+   * Transforms the log10 of data values
+   */
+  private static final class Logarithmic extends CoordinateTransform {
+
+    Logarithmic(double min, double scale, double offset) {
+
+      super(min, scale, offset);
+    }
+
+    @Override
+    public double transform(double value) {
+
+      return offset + (Math.log10(value) - min) * scale;
+    }
+
+    @Override
+    public void transform(double[] values, double[] result, int length) {
+
+      double min = this.min;
+      double scale = this.scale;
+      double offset = this.offset;
+      for (int i = 0; i < length; i++) {
+        result[i] = offset + (Math.log10(values[i]) - min) * scale;
+      }
+    }
+
+    @Override
+    public void transform(double[] values, float[] result, int from, int to) {
+
+      double min = this.min;
+      double scale = this.scale;
+      double offset = this.offset;
+      for (int i = from; i < to; i++) {
+        result[i] = (float) (offset + (Math.log10(values[i]) - min) * scale);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * The number and date formats used for the tick labels of a chart, created once per pattern, Locale and TimeZone instead of once per label. Formats
+ * aren't thread-safe, so like the rest of the painting state a FormatCache belongs to one chart and must only be used by the thread painting it.
+ *
+ * @author timmolter
+ */
+public class FormatCache {
+
+  private final Map<Key, DecimalFormat> decimalFormats = new HashMap<Key, DecimalFormat>();
+
+  private final Map<Key, SimpleDateFormat> simpleDateFormats = new HashMap<Key, SimpleDateFormat>();
+
+  /**
+   * @param pattern
+   * @param locale
+   * @return a DecimalFormat for the given pattern and Locale, which must not be changed
+   */
+  public DecimalFormat getDecimalFormat(String pattern, Locale locale) {
+
+    Key key = new Key(pattern, locale, null);
+    DecimalFormat decimalFormat = decimalFormats.get(key);
+    if (decimalFormat == null) {
+      decimalFormat = (DecimalFormat) NumberFormat.getNumberInstance(locale);
+      decimalFormat.applyPattern(pattern);
+      decimalFormats.put(key, decimalFormat);
+    }
+    return decimalFormat;
+  }
+
+  /**
+   * @param pattern
+   * @param locale
+   * @param timeZone
+   * @return a SimpleDateFormat for the given pattern, Locale and TimeZone, which must not be changed
+   */
+  public SimpleDateFormat getSimpleDateFormat(String pattern, Locale locale, TimeZone timeZone) {
+
+    Key key = new Key(pattern, locale, timeZone);
+    SimpleDateFormat simpleDateFormat = simpleDateFormats.get(key);
+    if (simpleDateFormat == null) {
+      simpleDateFormat = new SimpleDateFormat(pattern, locale);
+      simpleDateFormat.setTimeZone(timeZone);
+      simpleDateFormats.put(key, simpleDateFormat);
+    }
+    return simpleDateFormat;
+  }
+
+  private static final class Key {
+
+    private final String pattern;
+    private final Locale locale;
+    private final TimeZone timeZone;
+
+    Key(String pattern, Locale locale, TimeZone timeZone) {
+
+      this.pattern = pattern;
+      this.locale = locale;
+      this.timeZone = timeZone;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return pattern.equals(other.pattern) && locale.equals(other.locale) && (timeZone == null ? other.timeZone == null : timeZone.equals(other.timeZone));
+    }
+
+    @Override
+    public int hashCode() {
+
+      int result = pattern.hashCode();
+      result = 31 * result + locale.hashCode();
+      result = 31 * result + (timeZone == null ? 0 : timeZone.hashCode());
+      return result;
+    }
+  }
+
+}
@@ -20,8 +20,6 @@ import java.awt.BasicStroke;
 import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.font.FontRenderContext;
-import java.awt.font.TextLayout;
-import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
 import java.util.LinkedHashMap;
@@ -241,14 +239,7 @@ public class Legend implements ChartPart {
           double centerOffsetY = (Math.max(getChartInternal().getStyleManager().getMarkerSize(), height) - height) / 2.0;
 
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout tl = new TextLayout(entry.getKey(), getChartInternal().getStyleManager().getLegendFont(), frc);
-          Shape shape = tl.getOutline(null);
-          AffineTransform orig = g.getTransform();
-          AffineTransform at = new AffineTransform();
-          at.translate(x, starty + height + centerOffsetY + multiLineOffset);
-          g.transform(at);
-          g.fill(shape);
-          g.setTransform(orig);
+          getChartInternal().paintText(g, entry.getKey(), getChartInternal().getStyleManager().getLegendFont(), frc, x, starty + height + centerOffsetY + multiLineOffset, 0.0);
 
           // // debug box
           // Rectangle2D boundsTemp = new Rectangle2D.Double(x, starty + centerOffsetY + multiLineOffset, entry.getValue().getWidth(), height);
@@ -269,14 +260,7 @@ public class Legend implements ChartPart {
           double centerOffsetY = (Math.max(BOX_SIZE, height) - height) / 2.0;
 
           FontRenderContext frc = g.getFontRenderContext();
-          TextLayout tl = new TextLayout(entry.getKey(), getChartInternal().getStyleManager().getLegendFont(), frc);
-          Shape shape = tl.getOutline(null);
-          AffineTransform orig = g.getTransform();
-          AffineTransform at = new AffineTransform();
-          at.translate(x, starty + height + centerOffsetY + multiLineOffset);
-          g.transform(at);
-          g.fill(shape);
-          g.setTransform(orig);
+          getChartInternal().paintText(g, entry.getKey(), getChartInternal().getStyleManager().getLegendFont(), frc, x, starty + height + centerOffsetY + multiLineOffset, 0.0);
 
           // // debug box
           // Rectangle2D boundsTemp = new Rectangle2D.Double(x, starty + centerOffsetY, entry.getValue().getWidth(), height);
@@ -306,8 +290,7 @@ public class Legend implements ChartPart {
     String lines[] = series.getName().split("\\n");
     Map<String, Rectangle2D> seriesTextBounds = new LinkedHashMap<String, Rectangle2D>(lines.length);
     for (String line : lines) {
-      TextLayout tl = new TextLayout(line, getChartInternal().getStyleManager().getLegendFont(), new FontRenderContext(null, true, false));
-      Shape shape = tl.getOutline(null);
+      Shape shape = getChartInternal().getTextCache().getOutline(line, getChartInternal().getStyleManager().getLegendFont(), TextCache.MEASURING_FONT_RENDER_CONTEXT, 0.0);
       Rectangle2D bounds = shape.getBounds2D();
       // System.out.println(tl.getAscent());
       // System.out.println(tl.getDescent());
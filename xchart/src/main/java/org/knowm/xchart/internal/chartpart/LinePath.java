@@ -0,0 +1,188 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+
+/**
+ * Paints the line of a series with as few state changes and draw calls as possible. Solid lines on raster targets are drawn one segment at a time
+ * with a single reused Line2D, because Java2D fills an antialiased stroked line segment as a parallelogram, which is several times faster than
+ * stroking a path of the same segments. Dashed lines and lines for vector output are collected into one Path2D per contiguous run of points, which
+ * keeps the dash pattern going across points and makes vector output much smaller. A path is stroked at the end of the run, after MAX_POINTS points or
+ * before a marker is painted on top of it, whichever comes first. Bounding the path length keeps the rasterizer's edge lists small, which matters for
+ * dense data; the next path starts at the last point of the previous one with the dash phase it reached, so the line stays connected.
+ *
+ * @author timmolter
+ */
+final class LinePath {
+
+  /** the max number of points stroked at once */
+  static final int MAX_POINTS = 128;
+
+  private final Graphics2D g;
+  private final Color color;
+  private final BasicStroke stroke;
+
+  /** true to draw each segment on its own instead of collecting them into a path */
+  private final boolean isSegmented;
+
+  private final Line2D.Double line = new Line2D.Double();
+
+  private final Path2D.Double path = new Path2D.Double();
+
+  /** the number of points in the current run or path */
+  private int numPoints = 0;
+
+  /** the last point */
+  private double lastX;
+  private double lastY;
+
+  /** the length of the current path, to continue the dash pattern in the next one */
+  private double pathLength = 0.0;
+
+  /** the dash phase at the start of the current path */
+  private float dashPhase;
+
+  /** the length of one repetition of the dash pattern, 0 for solid lines */
+  private final double dashPatternLength;
+
+  /** true if the color and stroke were set for the current run */
+  private boolean isStyleSet = false;
+
+  /**
+   * Constructor
+   *
+   * @param g
+   * @param color
+   * @param stroke - the series' stroke; paths are stroked with a bevel joined copy to prevent miter spikes at sharp turns in noisy data
+   * @param isRasterTarget - true if g paints pixels, false for vector output
+   */
+  LinePath(Graphics2D g, Color color, BasicStroke stroke, boolean isRasterTarget) {
+
+    this.g = g;
+    this.color = color;
+    this.isSegmented = isRasterTarget && stroke.getDashArray() == null;
+    if (isSegmented || stroke.getLineJoin() == BasicStroke.JOIN_BEVEL) {
+      this.stroke = stroke;
+    }
+    else {
+      this.stroke = new BasicStroke(stroke.getLineWidth(), stroke.getEndCap(), BasicStroke.JOIN_BEVEL, stroke.getMiterLimit(), stroke.getDashArray(),
+          stroke.getDashPhase());
+    }
+
+    double length = 0.0;
+    if (stroke.getDashArray() != null) {
+      for (float dash : stroke.getDashArray()) {
+        length += dash;
+      }
+    }
+    this.dashPatternLength = length;
+    this.dashPhase = stroke.getDashPhase();
+  }
+
+  /**
+   * Adds the next point of the current run
+   *
+   * @param x
+   * @param y
+   */
+  void lineTo(double x, double y) {
+
+    if (isSegmented) {
+      if (numPoints > 0) {
+        setStyle();
+        line.setLine(lastX, lastY, x, y);
+        g.draw(line);
+      }
+    }
+    else if (numPoints == 0) {
+      path.moveTo(x, y);
+    }
+    else {
+      path.lineTo(x, y);
+      if (dashPatternLength > 0.0) {
+        pathLength += Math.hypot(x - lastX, y - lastY);
+      }
+    }
+    lastX = x;
+    lastY = y;
+    numPoints++;
+
+    if (!isSegmented && numPoints == MAX_POINTS) {
+      flush();
+    }
+  }
+
+  /**
+   * Strokes the points added so far, but continues the run from the last point. This must be called before anything else is painted, e.g. a marker on
+   * top of the line, because the color and the stroke are set again afterwards.
+   */
+  void flush() {
+
+    if (!isSegmented && numPoints > 1) {
+      strokePath();
+      path.moveTo(lastX, lastY);
+      numPoints = 1;
+    }
+    isStyleSet = false;
+  }
+
+  /**
+   * Strokes the current run and starts a new one, e.g. at a gap in the data.
+   */
+  void endRun() {
+
+    if (!isSegmented && numPoints > 1) {
+      strokePath();
+    }
+    path.reset();
+    numPoints = 0;
+    isStyleSet = false;
+    dashPhase = stroke.getDashPhase();
+  }
+
+  private void strokePath() {
+
+    setStyle();
+    if (dashPatternLength > 0.0 && dashPhase != stroke.getDashPhase()) {
+      g.setStroke(new BasicStroke(stroke.getLineWidth(), stroke.getEndCap(), stroke.getLineJoin(), stroke.getMiterLimit(), stroke.getDashArray(), dashPhase));
+    }
+    g.draw(path);
+    path.reset();
+    if (dashPatternLength > 0.0) {
+      dashPhase = (float) ((dashPhase + pathLength) % dashPatternLength);
+      pathLength = 0.0;
+    }
+  }
+
+  /**
+   * Sets the color and the stroke once per run, as long as nothing else is painted in between
+   */
+  private void setStyle() {
+
+    if (!isStyleSet) {
+      g.setColor(color);
+      g.setStroke(stroke);
+      isStyleSet = true;
+    }
+  }
+
+}
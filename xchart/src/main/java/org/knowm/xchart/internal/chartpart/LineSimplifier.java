@@ -0,0 +1,163 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import org.knowm.xchart.internal.data.SeriesData;
+
+/**
+ * Simplifies the points of a Line or Area series for vector output with the Ramer-Douglas-Peucker algorithm: a point is dropped if it is closer than
+ * the tolerance to the segment between the points kept around it. Collinear runs collapse into one segment and wiggles smaller than the tolerance
+ * disappear, so with a sub-pixel tolerance the line looks the same but has far fewer vertices. Unlike M4 decimation the X data doesn't need to be in
+ * ascending order.
+ *
+ * @author timmolter
+ */
+final class LineSimplifier {
+
+  /**
+   * Constructor - Private constructor to prevent instantiation
+   */
+  private LineSimplifier() {
+
+  }
+
+  /**
+   * Simplifies the given series data, measuring distances in device space. A point's device coordinates are (x - xMin) * xScale and (y - yMin) * yScale,
+   * where x and y are log10'ed for logarithmic axes. Gaps (NaN Y values) are kept, each contiguous run is simplified on its own and keeps its end
+   * points.
+   *
+   * @param seriesData
+   * @param indices - the indices of the points to simplify in painting order, e.g. after M4 decimation, or null for all points
+   * @param isXAxisLogarithmic
+   * @param isYAxisLogarithmic
+   * @param xMin - the X-Axis min, already log10'ed for logarithmic axes
+   * @param xScale - device units per X data unit
+   * @param yMin - the Y-Axis min, already log10'ed for logarithmic axes
+   * @param yScale - device units per Y data unit
+   * @param tolerance - the max distance of a dropped point from the simplified line, in device units
+   * @return the indices of the points to paint in painting order
+   */
+  static int[] simplify(SeriesData seriesData, int[] indices, boolean isXAxisLogarithmic, boolean isYAxisLogarithmic, double xMin, double xScale,
+      double yMin, double yScale, double tolerance) {
+
+    int size = indices == null ? seriesData.size() : indices.length;
+    double[] xs = new double[size];
+    double[] ys = new double[size];
+    for (int n = 0; n < size; n++) {
+      int i = indices == null ? n : indices[n];
+      double x = seriesData.getX(i);
+      double y = seriesData.getY(i);
+      if (isXAxisLogarithmic) {
+        x = Math.log10(x);
+      }
+      if (isYAxisLogarithmic) {
+        y = Math.log10(y);
+      }
+      xs[n] = (x - xMin) * xScale;
+      ys[n] = (y - yMin) * yScale;
+    }
+
+    boolean[] isKept = new boolean[size];
+    int[] stack = new int[64];
+    double toleranceSquared = tolerance * tolerance;
+
+    int start = 0;
+    while (start < size) {
+      if (Double.isNaN(ys[start])) {
+        isKept[start] = true;
+        start++;
+        continue;
+      }
+      int end = start;
+      while (end + 1 < size && !Double.isNaN(ys[end + 1])) {
+        end++;
+      }
+      isKept[start] = true;
+      isKept[end] = true;
+
+      // split the run at the farthest point until every dropped point is within the tolerance
+      int stackSize = 0;
+      stack[stackSize++] = start;
+      stack[stackSize++] = end;
+      while (stackSize > 0) {
+        int last = stack[--stackSize];
+        int first = stack[--stackSize];
+        if (last - first < 2) {
+          continue;
+        }
+        int farthest = -1;
+        double farthestDistance = toleranceSquared;
+        for (int n = first + 1; n < last; n++) {
+          double distance = getSegmentDistanceSquared(xs[n], ys[n], xs[first], ys[first], xs[last], ys[last]);
+          if (distance > farthestDistance) {
+            farthestDistance = distance;
+            farthest = n;
+          }
+        }
+        if (farthest < 0) {
+          continue;
+        }
+        isKept[farthest] = true;
+        if (stackSize + 4 > stack.length) {
+          int[] larger = new int[stack.length * 2];
+          System.arraycopy(stack, 0, larger, 0, stackSize);
+          stack = larger;
+        }
+        stack[stackSize++] = first;
+        stack[stackSize++] = farthest;
+        stack[stackSize++] = farthest;
+        stack[stackSize++] = last;
+      }
+      start = end + 1;
+    }
+
+    int count = 0;
+    for (int n = 0; n < size; n++) {
+      if (isKept[n]) {
+        count++;
+      }
+    }
+    int[] result = new int[count];
+    for (int n = 0, k = 0; n < size; n++) {
+      if (isKept[n]) {
+        result[k++] = indices == null ? n : indices[n];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the squared distance of the point (px, py) from the segment from (x1, y1) to (x2, y2)
+   */
+  static double getSegmentDistanceSquared(double px, double py, double x1, double y1, double x2, double y2) {
+
+    double dx = x2 - x1;
+    double dy = y2 - y1;
+    double lengthSquared = dx * dx + dy * dy;
+    double t = lengthSquared == 0.0 ? 0.0 : ((px - x1) * dx + (py - y1) * dy) / lengthSquared;
+    if (t < 0.0) {
+      t = 0.0;
+    }
+    else if (t > 1.0) {
+      t = 1.0;
+    }
+    double ex = px - (x1 + t * dx);
+    double ey = py - (y1 + t * dy);
+    return ex * ex + ey * ey;
+  }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import org.knowm.xchart.internal.data.SeriesData;
+
+/**
+ * Reduces the points of a Line or Area series to at most four per device pixel column: the first, the last, the minimum and the maximum point (M4
+ * aggregation). Connecting these points in their original order covers the same pixels as connecting all points, so the rendered line looks the same
+ * while the number of draw calls is bounded by the plot width instead of the number of data points. Only the antialiasing shading differs slightly,
+ * because fewer overlapping segments are blended into each column.
+ *
+ * @author timmolter
+ */
+final class M4Decimator {
+
+  /** the indices of the points to paint */
+  private int[] indices;
+
+  /** the number of used entries in indices */
+  private int count = 0;
+
+  /**
+   * Constructor
+   *
+   * @param size - the number of points to be decimated
+   */
+  private M4Decimator(int size) {
+
+    indices = new int[Math.min(size, 1024)];
+  }
+
+  /**
+   * Decimates the given series data. A point's device pixel column is floor(deviceOffset + (x - xMin) * deviceScale), where x is log10'ed for logarithmic
+   * axes. Gaps (NaN Y values) are kept so that lines and areas are still broken at the same places.
+   *
+   * @param seriesData
+   * @param isXAxisLogarithmic
+   * @param xMin - the X-Axis min, already log10'ed for logarithmic axes
+   * @param deviceOffset - the device x coordinate of xMin
+   * @param deviceScale - device pixels per X data unit
+   * @return the indices of the points to paint in ascending order, or null if the X data is not ascending and can't be decimated
+   */
+  static int[] decimate(SeriesData seriesData, boolean isXAxisLogarithmic, double xMin, double deviceOffset, double deviceScale) {
+
+    int size = seriesData.size();
+    M4Decimator decimator = new M4Decimator(size);
+
+    // the current pixel column and the indices of its first, last, min and max point
+    long column = Long.MIN_VALUE;
+    int first = -1;
+    int last = -1;
+    int minIndex = -1;
+    int maxIndex = -1;
+    double min = 0.0;
+    double max = 0.0;
+    boolean isInGap = false;
+
+    for (int i = 0; i < size; i++) {
+
+      double y = seriesData.getY(i);
+      if (Double.isNaN(y)) {
+        if (!isInGap) {
+          decimator.addColumn(first, minIndex, maxIndex, last);
+          decimator.add(i);
+          first = -1;
+          isInGap = true;
+        }
+        continue;
+      }
+      isInGap = false;
+
+      double x = seriesData.getX(i);
+      if (isXAxisLogarithmic) {
+        x = Math.log10(x);
+      }
+      long pointColumn = (long) Math.floor(deviceOffset + (x - xMin) * deviceScale);
+
+      if (first >= 0 && pointColumn == column) {
+        last = i;
+        if (y < min) {
+          min = y;
+          minIndex = i;
+        }
+        if (y > max) {
+          max = y;
+          maxIndex = i;
+        }
+        continue;
+      }
+      if (first >= 0 && pointColumn < column) {
+        return null; // not ascending
+      }
+
+      // start a new column
+      decimator.addColumn(first, minIndex, maxIndex, last);
+      column = pointColumn;
+      first = i;
+      last = i;
+      minIndex = i;
+      maxIndex = i;
+      min = y;
+      max = y;
+    }
+    decimator.addColumn(first, minIndex, maxIndex, last);
+
+    int[] result = new int[decimator.count];
+    System.arraycopy(decimator.indices, 0, result, 0, decimator.count);
+    return result;
+  }
+
+  /**
+   * Adds the distinct indices of a pixel column in ascending order
+   */
+  private void addColumn(int first, int minIndex, int maxIndex, int last) {
+
+    if (first < 0) {
+      return;
+    }
+    add(first);
+    add(Math.min(minIndex, maxIndex));
+    add(Math.max(minIndex, maxIndex));
+    add(last);
+  }
+
+  /**
+   * Adds an index unless it is the same as the previously added one
+   */
+  private void add(int index) {
+
+    if (count > 0 && indices[count - 1] == index) {
+      return;
+    }
+    if (count == indices.length) {
+      int[] larger = new int[indices.length * 2];
+      System.arraycopy(indices, 0, larger, 0, count);
+      indices = larger;
+    }
+    indices[count++] = index;
+  }
+
+}
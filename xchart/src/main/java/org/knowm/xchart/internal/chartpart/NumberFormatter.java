@@ -18,7 +18,6 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
-import java.text.NumberFormat;
 
 import org.knowm.xchart.StyleManager;
 import org.knowm.xchart.internal.chartpart.Axis.Direction;
@@ -28,14 +27,40 @@ import org.knowm.xchart.internal.chartpart.Axis.Direction;
  */
 public class NumberFormatter {
 
+  /** the max number of integer and fraction digits of the normal decimal patterns */
+  private static final int MAX_NUM_PLACES = 15;
+
+  /** the normal decimal patterns for all places of value that make a difference, from -MAX_NUM_PLACES - 1 to MAX_NUM_PLACES */
+  private static final String[] NORMAL_DECIMAL_PATTERNS = new String[2 * MAX_NUM_PLACES + 2];
+
+  static {
+    for (int i = 0; i < NORMAL_DECIMAL_PATTERNS.length; i++) {
+      NORMAL_DECIMAL_PATTERNS[i] = buildNormalDecimalPatternPositive(i - MAX_NUM_PLACES - 1);
+    }
+  }
+
   private final StyleManager styleManager;
 
+  private final FormatCache formatCache;
+
   /**
    * Constructor
    */
   public NumberFormatter(StyleManager styleManager) {
 
+    this(styleManager, new FormatCache());
+  }
+
+  /**
+   * Constructor
+   *
+   * @param styleManager
+   * @param formatCache - the chart's formats
+   */
+  public NumberFormatter(StyleManager styleManager, FormatCache formatCache) {
+
     this.styleManager = styleManager;
+    this.formatCache = formatCache;
   }
 
   public String getFormatPattern(BigDecimal value, double min, double max) {
@@ -81,7 +106,14 @@ public class NumberFormatter {
 
   private String getNormalDecimalPatternPositive(int placeOfValue, int placeOfDifference) {
 
-    int maxNumPlaces = 15;
+    // all places of value outside of the pattern's digits give the same pattern
+    int clampedPlaceOfValue = Math.max(-MAX_NUM_PLACES - 1, Math.min(MAX_NUM_PLACES, placeOfValue));
+    return NORMAL_DECIMAL_PATTERNS[clampedPlaceOfValue + MAX_NUM_PLACES + 1];
+  }
+
+  private static String buildNormalDecimalPatternPositive(int placeOfValue) {
+
+    int maxNumPlaces = MAX_NUM_PLACES;
     StringBuilder sb = new StringBuilder();
     for (int i = maxNumPlaces - 1; i >= -1 * maxNumPlaces; i--) {
 
@@ -121,8 +153,6 @@ public class NumberFormatter {
    */
   public String formatNumber(BigDecimal value, double min, double max, Direction axisDirection) {
 
-    NumberFormat numberFormat = NumberFormat.getNumberInstance(styleManager.getLocale());
-
     String decimalPattern;
 
     if (axisDirection == Direction.X && styleManager.getXAxisDecimalPattern() != null) {
@@ -141,8 +171,7 @@ public class NumberFormatter {
     }
     // System.out.println(decimalPattern);
 
-    DecimalFormat normalFormat = (DecimalFormat) numberFormat;
-    normalFormat.applyPattern(decimalPattern);
+    DecimalFormat normalFormat = formatCache.getDecimalFormat(decimalPattern, styleManager.getLocale());
     return normalFormat.format(value);
 
   }
@@ -155,8 +184,6 @@ public class NumberFormatter {
    */
   public String formatLogNumber(double value, Direction axisDirection) {
 
-    NumberFormat numberFormat = NumberFormat.getNumberInstance(styleManager.getLocale());
-
     String decimalPattern;
 
     if (axisDirection == Direction.X && styleManager.getXAxisDecimalPattern() != null) {
@@ -179,8 +206,7 @@ public class NumberFormatter {
       }
     }
 
-    DecimalFormat normalFormat = (DecimalFormat) numberFormat;
-    normalFormat.applyPattern(decimalPattern);
+    DecimalFormat normalFormat = formatCache.getDecimalFormat(decimalPattern, styleManager.getLocale());
     return normalFormat.format(value);
 
   }
@@ -57,6 +57,17 @@ public class Plot implements ChartPart {
   @Override
   public void paint(Graphics2D g) {
 
+    paintSurface(g);
+    paintContent(g);
+  }
+
+  /**
+   * Calculates the bounds and paints the plot surface. The axes must have been painted before.
+   *
+   * @param g
+   */
+  void paintSurface(Graphics2D g) {
+
     bounds = new Rectangle2D.Double();
 
     // calculate bounds
@@ -76,26 +87,47 @@ public class Plot implements ChartPart {
     // g.draw(bounds);
 
     plotSurface.paint(g);
+  }
+
+  /**
+   * Paints the series within the bounds calculated by paintSurface(). The plot content is kept for the next paint as long as the chart type stays the
+   * same, so its buffers are reused.
+   *
+   * @param g
+   */
+  void paintContent(Graphics2D g) {
 
     if (getChartInternal().getChartInternalType() == ChartInternalType.Category) {
       if (getChartInternal().getStyleManager().getChartType() == ChartType.Bar) {
-        this.plotContent = new PlotContentCategoricalChart_Bar(this);
+        if (!(plotContent instanceof PlotContentCategoricalChart_Bar)) {
+          this.plotContent = new PlotContentCategoricalChart_Bar(this);
+        }
       }
 
-      else {
+      else if (!(plotContent instanceof PlotContentCategoricalChart_Line_Area_Scatter)) {
         this.plotContent = new PlotContentCategoricalChart_Line_Area_Scatter(this);
       }
     }
     else if (getChartInternal().getChartInternalType() == ChartInternalType.Pie) {
-      this.plotContent = new PlotContentCategoricalChart_Pie(this);
+      if (!(plotContent instanceof PlotContentCategoricalChart_Pie)) {
+        this.plotContent = new PlotContentCategoricalChart_Pie(this);
+      }
     }
-    else {
+    else if (!(plotContent instanceof PlotContentNumericalChart)) {
       this.plotContent = new PlotContentNumericalChart(this);
     }
     plotContent.paint(g);
 
   }
 
+  /**
+   * @return the plot content of the last paint, null before the first
+   */
+  PlotContent getPlotContent() {
+
+    return plotContent;
+  }
+
   @Override
   public ChartInternal getChartInternal() {
 
@@ -17,10 +17,13 @@
 package org.knowm.xchart.internal.chartpart;
 
 import java.awt.BasicStroke;
+import java.awt.Graphics2D;
 import java.awt.Stroke;
 import java.awt.geom.Rectangle2D;
 
 import org.knowm.xchart.StyleManager;
+import org.knowm.xchart.internal.Utils;
+import org.knowm.xchart.internal.markers.Marker;
 
 /**
  * @author timmolter
@@ -58,4 +61,31 @@ public abstract class PlotContent implements ChartPart {
     return plot.getChartInternal();
   }
 
+  /**
+   * @param g
+   * @return true if g paints pixels, false for vector output
+   */
+  protected boolean isRasterTarget(Graphics2D g) {
+
+    return !getChartInternal().isPaintingVectorGraphic() && Utils.isRasterTarget(g);
+  }
+
+  /**
+   * Paints a series marker in the current color, stamped from a pre-rendered sprite unless disabled or g doesn't paint pixels
+   *
+   * @param g
+   * @param marker
+   * @param xOffset
+   * @param yOffset
+   */
+  protected void paintMarker(Graphics2D g, Marker marker, double xOffset, double yOffset) {
+
+    if (styleManager.isMarkerStampingEnabled() && isRasterTarget(g)) {
+      marker.stamp(g, xOffset, yOffset, styleManager.getMarkerSize());
+    }
+    else {
+      marker.paint(g, xOffset, yOffset, styleManager.getMarkerSize());
+    }
+  }
+
 }
@@ -21,12 +21,11 @@ import java.awt.Shape;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
-import java.util.Collection;
-import java.util.Iterator;
 
 import org.knowm.xchart.Series;
 import org.knowm.xchart.Series.SeriesType;
 import org.knowm.xchart.internal.Utils;
+import org.knowm.xchart.internal.data.SeriesData;
 
 /**
  * @author timmolter
@@ -77,6 +76,22 @@ public class PlotContentCategoricalChart_Bar extends PlotContent {
     double yMin = getChartInternal().getAxisPair().getYAxis().getMin();
     double yMax = getChartInternal().getAxisPair().getYAxis().getMax();
 
+    // the left edge of each category and the Y values
+    CoordinateTransform xTransform = CoordinateTransform.getInstance(0, numCategories, false, bounds.getX() + xLeftMargin, xTickSpace, bounds.getX()
+        + xLeftMargin);
+    CoordinateTransform yTransform = CoordinateTransform.getInstance(yMin, yMax, false, bounds.getY() + bounds.getHeight() - yTopMargin, -yTickSpace, bounds
+        .getY() + bounds.getHeight() / 2.0);
+
+    double barWidthPercentage = styleManager.getBarWidthPercentage();
+    double barMargin = gridStep * (1 - barWidthPercentage) / 2;
+    double barWidth;
+    if (styleManager.isBarsOverlapped()) {
+      barWidth = gridStep * barWidthPercentage;
+    }
+    else {
+      barWidth = gridStep / getChartInternal().getSeriesMap().size() * barWidthPercentage;
+    }
+
     // TODO only for bar charts necessary
     // figure out the general form of the chart
     int chartForm = 1; // 1=positive, -1=negative, 0=span
@@ -106,25 +121,21 @@ public class PlotContentCategoricalChart_Bar extends PlotContent {
       double previousX = -Double.MAX_VALUE;
       double previousY = -Double.MAX_VALUE;
 
-      Iterator<? extends Number> yItr = series.getYData().iterator();
-      Iterator<? extends Number> ebItr = null;
-      Collection<? extends Number> errorBars = series.getErrorBars();
-      if (errorBars != null) {
-        ebItr = errorBars.iterator();
-      }
+      // data points
+      SeriesData seriesData = series.getSeriesData();
+      boolean hasErrorBars = seriesData.hasErrorBars();
 
       int categoryCounter = 0;
-      while (yItr.hasNext()) {
+      for (int i = 0, size = seriesData.size(); i < size; i++) {
 
-        Number next = yItr.next();
-        if (next == null) {
+        double y = seriesData.getY(i);
+        if (Double.isNaN(y)) {
 
           previousX = -Double.MAX_VALUE;
           previousY = -Double.MAX_VALUE;
           categoryCounter++;
           continue;
         }
-        double y = next.doubleValue();
 
         double yTop = 0.0;
         double yBottom = 0.0;
@@ -161,27 +172,11 @@ public class PlotContentCategoricalChart_Bar extends PlotContent {
           break;
         }
 
-        double yTransform = bounds.getHeight() - (yTopMargin + (yTop - yMin) / (yMax - yMin) * yTickSpace);
-        // double yTransform = bounds.getHeight() - (yTopMargin + (y - yMin) / (yMax - yMin) * yTickSpace);
-
-        double yOffset = bounds.getY() + yTransform;
-
-        double zeroTransform = bounds.getHeight() - (yTopMargin + (yBottom - yMin) / (yMax - yMin) * yTickSpace);
-        double zeroOffset = bounds.getY() + zeroTransform;
-        double xOffset;
-        double barWidth;
-
-        if (getChartInternal().getStyleManager().isBarsOverlapped()) {
-          double barWidthPercentage = getChartInternal().getStyleManager().getBarWidthPercentage();
-          barWidth = gridStep * barWidthPercentage;
-          double barMargin = gridStep * (1 - barWidthPercentage) / 2;
-          xOffset = bounds.getX() + xLeftMargin + gridStep * categoryCounter++ + barMargin;
-        }
-        else {
-          double barWidthPercentage = getChartInternal().getStyleManager().getBarWidthPercentage();
-          barWidth = gridStep / getChartInternal().getSeriesMap().size() * barWidthPercentage;
-          double barMargin = gridStep * (1 - barWidthPercentage) / 2;
-          xOffset = bounds.getX() + xLeftMargin + gridStep * categoryCounter++ + seriesCounter * barWidth + barMargin;
+        double yOffset = yTransform.transform(yTop);
+        double zeroOffset = yTransform.transform(yBottom);
+        double xOffset = xTransform.transform(categoryCounter++) + barMargin;
+        if (!styleManager.isBarsOverlapped()) {
+          xOffset += seriesCounter * barWidth;
         }
 
         // paint series
@@ -195,7 +190,7 @@ public class PlotContentCategoricalChart_Bar extends PlotContent {
           path.lineTo(xOffset, zeroOffset);
           path.closePath();
           g.setStroke(series.getStroke());
-          if (getChartInternal().getStyleManager().isBarFilled()) {
+          if (styleManager.isBarFilled()) {
             g.fill(path);
           }
           else {
@@ -223,35 +218,28 @@ public class PlotContentCategoricalChart_Bar extends PlotContent {
           // paint marker
           if (series.getMarker() != null) {
             g.setColor(series.getMarkerColor());
-            series.getMarker().paint(g, previousX, previousY, getChartInternal().getStyleManager().getMarkerSize());
+            paintMarker(g, series.getMarker(), previousX, previousY);
           }
 
         }
 
         // paint error bars
 
-        if (errorBars != null) {
+        if (hasErrorBars) {
 
-          double eb = ebItr.next().doubleValue();
+          double eb = seriesData.getErrorBar(i);
 
           // set error bar style
-          if (getChartInternal().getStyleManager().isErrorBarsColorSeriesColor()) {
+          if (styleManager.isErrorBarsColorSeriesColor()) {
             g.setColor(series.getStrokeColor());
           }
           else {
-            g.setColor(getChartInternal().getStyleManager().getErrorBarsColor());
+            g.setColor(styleManager.getErrorBarsColor());
           }
           g.setStroke(errorBarStroke);
 
-          // Top value
-          double topValue = y + eb;
-          double topEBTransform = bounds.getHeight() - (yTopMargin + (topValue - yMin) / (yMax - yMin) * yTickSpace);
-          double topEBOffset = bounds.getY() + topEBTransform;
-
-          // Bottom value
-          double bottomValue = y - eb;
-          double bottomEBTransform = bounds.getHeight() - (yTopMargin + (bottomValue - yMin) / (yMax - yMin) * yTickSpace);
-          double bottomEBOffset = bounds.getY() + bottomEBTransform;
+          double topEBOffset = yTransform.transform(y + eb);
+          double bottomEBOffset = yTransform.transform(y - eb);
 
           // Draw it
           double errorBarOffset = xOffset + barWidth / 2;
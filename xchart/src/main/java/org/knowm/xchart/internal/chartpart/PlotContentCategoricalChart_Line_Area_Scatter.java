@@ -21,11 +21,10 @@ import java.awt.Shape;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
-import java.util.Collection;
-import java.util.Iterator;
 
 import org.knowm.xchart.Series;
 import org.knowm.xchart.internal.Utils;
+import org.knowm.xchart.internal.data.SeriesData;
 
 /**
  * @author timmolter
@@ -83,23 +82,14 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
     double yTickSpace = styleManager.getAxisTickSpacePercentage() * bounds.getHeight();
     double yTopMargin = Utils.getTickStartOffset((int) bounds.getHeight(), yTickSpace);
 
-    double xMin = getChartInternal().getAxisPair().getXAxis().getMin();
-    double xMax = getChartInternal().getAxisPair().getXAxis().getMax();
-    double yMin = getChartInternal().getAxisPair().getYAxis().getMin();
-    double yMax = getChartInternal().getAxisPair().getYAxis().getMax();
-
-    // logarithmic
-    if (getChartInternal().getStyleManager().isXAxisLogarithmic()) {
-      xMin = Math.log10(xMin);
-      xMax = Math.log10(xMax);
-    }
-    if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-      yMin = Math.log10(yMin);
-      yMax = Math.log10(yMax);
-    }
-
+    // categories are centered in their grid step
     int numCategories = getChartInternal().getSeriesMap().values().iterator().next().getXData().size();
     double gridStep = xTickSpace / numCategories;
+    CoordinateTransform xTransform = CoordinateTransform.getInstance(0, numCategories, false, bounds.getX() + xLeftMargin + gridStep / 2, xTickSpace, bounds
+        .getX() + xLeftMargin + gridStep / 2);
+    CoordinateTransform yTransform = CoordinateTransform.getInstance(getChartInternal().getAxisPair().getYAxis().getMin(), getChartInternal().getAxisPair()
+        .getYAxis().getMax(), styleManager.isYAxisLogarithmic(), bounds.getY() + bounds.getHeight() - yTopMargin, -yTickSpace, bounds.getY() + bounds
+        .getHeight() / 2.0);
 
     for (Series series : getChartInternal().getSeriesMap().values()) {
 
@@ -110,27 +100,44 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
       }
 
       // data points
-      Collection<? extends Number> yData = series.getYData();
+      SeriesData seriesData = series.getSeriesData();
+      boolean hasErrorBars = seriesData.hasErrorBars();
 
       double previousX = -Double.MAX_VALUE;
       double previousY = -Double.MAX_VALUE;
 
-      Iterator<? extends Number> yItr = yData.iterator();
-      Iterator<? extends Number> ebItr = null;
-      Collection<? extends Number> errorBars = series.getErrorBars();
-      if (errorBars != null) {
-        ebItr = errorBars.iterator();
-      }
       Path2D.Double path = null;
 
+      // polylines per contiguous run instead of one Line2D per segment
+      LinePath linePath = null;
+      if (styleManager.isLinePathBatchingEnabled() && series.getStroke() != null) {
+        linePath = new LinePath(g, series.getStrokeColor(), series.getStroke(), isRasterTarget(g));
+      }
+
+      // the device coordinates of all points, gaps don't take up a category
+      int size = seriesData.size();
+      double[] xOffsets = new double[size];
+      double[] yOffsets = new double[size];
       int categoryCounter = 0;
-      while (yItr.hasNext()) {
+      for (int i = 0; i < size; i++) {
+        yOffsets[i] = seriesData.getY(i);
+        xOffsets[i] = Double.isNaN(yOffsets[i]) ? categoryCounter : categoryCounter++;
+      }
+      xTransform.transform(xOffsets, xOffsets, size);
+      yTransform.transform(yOffsets, yOffsets, size);
+
+      for (int i = 0; i < size; i++) {
 
-        Number next = yItr.next();
-        if (next == null) {
+        double xOffset = xOffsets[i];
+        double yOffset = yOffsets[i];
+        if (Double.isNaN(yOffset)) {
+
+          if (linePath != null) {
+            linePath.endRun();
+          }
 
           // for area charts
-          closePath(g, path, previousX, bounds, yTopMargin);
+          closePath(g, series, path, previousX, bounds, yTopMargin);
           path = null;
 
           previousX = -Double.MAX_VALUE;
@@ -138,38 +145,13 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
           continue;
         }
 
-        double yOrig = next.doubleValue();
-
-        double y = 0.0;
-
-        // System.out.println(y);
-        if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-          y = Math.log10(yOrig);
-        }
-        else {
-          y = yOrig;
-        }
-        // System.out.println(y);
-
-        double yTransform = bounds.getHeight() - (yTopMargin + (y - yMin) / (yMax - yMin) * yTickSpace);
-
-        // a check if all y data are the exact same values
-        if (Math.abs(yMax - yMin) / 5 == 0.0) {
-          yTransform = bounds.getHeight() / 2.0;
-        }
-
-        double xOffset = bounds.getX() + xLeftMargin + categoryCounter++ * gridStep + gridStep / 2;
-        double yOffset = bounds.getY() + yTransform;
-        // System.out.println(xTransform);
-        // System.out.println(xOffset);
-        // System.out.println(yTransform);
-        // System.out.println(yOffset);
-        // System.out.println("---");
-
         // paint line
         if (Series.SeriesType.Line.equals(series.getSeriesType()) || Series.SeriesType.Area.equals(series.getSeriesType())) {
 
-          if (series.getStroke() != null) {
+          if (linePath != null) {
+            linePath.lineTo(xOffset, yOffset);
+          }
+          else if (series.getStroke() != null) {
 
             if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
               g.setColor(series.getStrokeColor());
@@ -185,7 +167,6 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
 
           if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
 
-            g.setColor(series.getFillColor());
             double yBottomOfArea = bounds.getY() + bounds.getHeight() - yTopMargin;
 
             if (path == null) {
@@ -203,50 +184,34 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
         previousX = xOffset;
         previousY = yOffset;
 
+        // the line is below the marker and the error bars
+        if (linePath != null && (series.getMarker() != null || hasErrorBars)) {
+          linePath.flush();
+        }
+
         // paint marker
         if (series.getMarker() != null) {
           g.setColor(series.getMarkerColor());
-          series.getMarker().paint(g, xOffset, yOffset, getChartInternal().getStyleManager().getMarkerSize());
+          paintMarker(g, series.getMarker(), xOffset, yOffset);
         }
 
         // paint error bars
-        if (errorBars != null) {
+        if (hasErrorBars) {
 
-          double eb = ebItr.next().doubleValue();
+          double y = seriesData.getY(i);
+          double eb = seriesData.getErrorBar(i);
 
           // set error bar style
-          if (getChartInternal().getStyleManager().isErrorBarsColorSeriesColor()) {
+          if (styleManager.isErrorBarsColorSeriesColor()) {
             g.setColor(series.getStrokeColor());
           }
           else {
-            g.setColor(getChartInternal().getStyleManager().getErrorBarsColor());
+            g.setColor(styleManager.getErrorBarsColor());
           }
           g.setStroke(errorBarStroke);
 
-          // Top value
-          double topValue = 0.0;
-          if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-            topValue = yOrig + eb;
-            topValue = Math.log10(topValue);
-          }
-          else {
-            topValue = y + eb;
-          }
-          double topEBTransform = bounds.getHeight() - (yTopMargin + (topValue - yMin) / (yMax - yMin) * yTickSpace);
-          double topEBOffset = bounds.getY() + topEBTransform;
-
-          // Bottom value
-          double bottomValue = 0.0;
-          if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-            bottomValue = yOrig - eb;
-            // System.out.println(bottomValue);
-            bottomValue = Math.log10(bottomValue);
-          }
-          else {
-            bottomValue = y - eb;
-          }
-          double bottomEBTransform = bounds.getHeight() - (yTopMargin + (bottomValue - yMin) / (yMax - yMin) * yTickSpace);
-          double bottomEBOffset = bounds.getY() + bottomEBTransform;
+          double topEBOffset = yTransform.transform(y + eb);
+          double bottomEBOffset = yTransform.transform(y - eb);
 
           // Draw it
           Shape line = new Line2D.Double(xOffset, topEBOffset, xOffset, bottomEBOffset);
@@ -258,8 +223,12 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
         }
       }
 
+      if (linePath != null) {
+        linePath.endRun();
+      }
+
       // close any open path for area charts
-      closePath(g, path, previousX, bounds, yTopMargin);
+      closePath(g, series, path, previousX, bounds, yTopMargin);
     }
     g.setClip(null);
 
@@ -268,9 +237,10 @@ public class PlotContentCategoricalChart_Line_Area_Scatter extends PlotContent {
   /**
    * Closes a path for area charts if one is available.
    */
-  private void closePath(Graphics2D g, Path2D.Double path, double previousX, Rectangle2D bounds, double yTopMargin) {
+  private void closePath(Graphics2D g, Series series, Path2D.Double path, double previousX, Rectangle2D bounds, double yTopMargin) {
 
     if (path != null) {
+      g.setColor(series.getFillColor());
       double yBottomOfArea = bounds.getY() + bounds.getHeight() - yTopMargin;
       path.lineTo(previousX, yBottomOfArea);
       path.closePath();
@@ -18,22 +18,29 @@ package org.knowm.xchart.internal.chartpart;
 
 import java.awt.Graphics2D;
 import java.awt.Shape;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
-import java.util.Collection;
-import java.util.Date;
-import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 
 import org.knowm.xchart.Series;
 import org.knowm.xchart.internal.Utils;
-import org.knowm.xchart.internal.chartpart.Axis.AxisType;
+import org.knowm.xchart.internal.data.SeriesData;
 
 /**
  * @author timmolter
  */
 public class PlotContentNumericalChart extends PlotContent {
 
+  /** the data values of series without data arrays, reused across series and paints and only grown */
+  double[] xValueBuffer = new double[0];
+  double[] yValueBuffer = new double[0];
+
+  /** the device coordinates of the points to paint, reused across series and paints and only grown */
+  float[] xOffsetBuffer = new float[0];
+  float[] yOffsetBuffer = new float[0];
+
   /**
    * Constructor
    *
@@ -80,20 +87,12 @@ public class PlotContentNumericalChart extends PlotContent {
     double yTickSpace = styleManager.getAxisTickSpacePercentage() * bounds.getHeight();
     double yTopMargin = Utils.getTickStartOffset((int) bounds.getHeight(), yTickSpace);
 
-    double xMin = getChartInternal().getAxisPair().getXAxis().getMin();
-    double xMax = getChartInternal().getAxisPair().getXAxis().getMax();
-    double yMin = getChartInternal().getAxisPair().getYAxis().getMin();
-    double yMax = getChartInternal().getAxisPair().getYAxis().getMax();
-
-    // logarithmic
-    if (getChartInternal().getStyleManager().isXAxisLogarithmic()) {
-      xMin = Math.log10(xMin);
-      xMax = Math.log10(xMax);
-    }
-    if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-      yMin = Math.log10(yMin);
-      yMax = Math.log10(yMax);
-    }
+    boolean isXAxisLogarithmic = styleManager.isXAxisLogarithmic();
+    boolean isYAxisLogarithmic = styleManager.isYAxisLogarithmic();
+    CoordinateTransform xTransform = CoordinateTransform.getInstance(getChartInternal().getAxisPair().getXAxis().getMin(), getChartInternal().getAxisPair()
+        .getXAxis().getMax(), isXAxisLogarithmic, bounds.getX() + xLeftMargin, xTickSpace, bounds.getX() + bounds.getWidth() / 2.0);
+    CoordinateTransform yTransform = CoordinateTransform.getInstance(getChartInternal().getAxisPair().getYAxis().getMin(), getChartInternal().getAxisPair()
+        .getYAxis().getMax(), isYAxisLogarithmic, bounds.getY() + bounds.getHeight() - yTopMargin, -yTickSpace, bounds.getY() + bounds.getHeight() / 2.0);
 
     for (Series series : getChartInternal().getSeriesMap().values()) {
 
@@ -103,41 +102,76 @@ public class PlotContentNumericalChart extends PlotContent {
       }
 
       // data points
-      Collection<?> xData = series.getXData();
-      Collection<? extends Number> yData = series.getYData();
+      SeriesData seriesData = series.getSeriesData();
+      boolean hasErrorBars = seriesData.hasErrorBars();
 
       double previousX = -Double.MAX_VALUE;
       double previousY = -Double.MAX_VALUE;
 
-      Iterator<?> xItr = xData.iterator();
-      Iterator<? extends Number> yItr = yData.iterator();
-      Iterator<? extends Number> ebItr = null;
-      Collection<? extends Number> errorBars = series.getErrorBars();
-      if (errorBars != null) {
-        ebItr = errorBars.iterator();
-      }
       Path2D.Double path = null;
 
-      while (xItr.hasNext()) {
+      // polylines per contiguous run instead of one Line2D per segment
+      LinePath linePath = null;
+      if (styleManager.isLinePathBatchingEnabled() && series.getStroke() != null) {
+        linePath = new LinePath(g, series.getStrokeColor(), series.getStroke(), isRasterTarget(g));
+      }
 
-        double x = 0.0;
-        if (getChartInternal().getAxisPair().getXAxis().getAxisType() == AxisType.Number) {
-          x = ((Number) xItr.next()).doubleValue();
-        }
-        else if (getChartInternal().getAxisPair().getXAxis().getAxisType() == AxisType.Date) {
-          x = ((Date) xItr.next()).getTime();
+      // reduce huge lines to the points that are actually visible
+      int[] indices = null;
+      if (isDecimatable(series, xTransform)) {
+        AffineTransform transform = g.getTransform();
+        double deviceOffset = transform.getScaleX() * xTransform.offset + transform.getTranslateX();
+        double deviceScale = transform.getScaleX() * xTransform.scale;
+        indices = M4Decimator.decimate(seriesData, isXAxisLogarithmic, xTransform.min, deviceOffset, deviceScale);
+      }
+      // drop the vertices that are invisible in vector output
+      if (isSimplifiable(series)) {
+        AffineTransform transform = g.getTransform();
+        double xScale = transform.getScaleX() * xTransform.scale;
+        double yScale = transform.getScaleY() * yTransform.scale;
+        indices = LineSimplifier.simplify(seriesData, indices, isXAxisLogarithmic, isYAxisLogarithmic, xTransform.min, xScale, yTransform.min, yScale,
+            styleManager.getVectorSimplificationTolerance());
+      }
+      int size = indices == null ? seriesData.size() : indices.length;
+
+      // the device coordinates of all points to paint, straight from the data arrays if there are any
+      double[] xValues = indices == null ? seriesData.getXArray() : null;
+      double[] yValues = indices == null ? seriesData.getYArray() : null;
+      if (xValues == null || yValues == null) {
+        if (xValueBuffer.length < size) {
+          xValueBuffer = new double[size];
+          yValueBuffer = new double[size];
         }
-        // System.out.println(x);
-        if (getChartInternal().getStyleManager().isXAxisLogarithmic()) {
-          x = Math.log10(x);
+        xValues = xValueBuffer;
+        yValues = yValueBuffer;
+        for (int n = 0; n < size; n++) {
+          int i = indices == null ? n : indices[n];
+          xValues[n] = seriesData.getX(i);
+          yValues[n] = seriesData.getY(i);
         }
-        // System.out.println(x);
+      }
+      if (xOffsetBuffer.length < size) {
+        xOffsetBuffer = new float[size];
+        yOffsetBuffer = new float[size];
+      }
+      float[] xOffsets = xOffsetBuffer;
+      float[] yOffsets = yOffsetBuffer;
+      ExecutorService transformExecutorService = getChartInternal().getTransformExecutorService();
+      xTransform.transform(xValues, xOffsets, size, transformExecutorService, CoordinateTransform.PARALLEL_CHUNK_SIZE);
+      yTransform.transform(yValues, yOffsets, size, transformExecutorService, CoordinateTransform.PARALLEL_CHUNK_SIZE);
+
+      for (int n = 0; n < size; n++) {
 
-        Number next = yItr.next();
-        if (next == null) {
+        double xOffset = xOffsets[n];
+        double yOffset = yOffsets[n];
+        if (Double.isNaN(yOffset)) {
+
+          if (linePath != null) {
+            linePath.endRun();
+          }
 
           // for area charts
-          closePath(g, path, previousX, bounds, yTopMargin);
+          closePath(g, series, path, previousX, bounds, yTopMargin);
           path = null;
 
           previousX = -Double.MAX_VALUE;
@@ -145,44 +179,13 @@ public class PlotContentNumericalChart extends PlotContent {
           continue;
         }
 
-        double yOrig = next.doubleValue();
-
-        double y = 0.0;
-
-        // System.out.println(y);
-        if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-          y = Math.log10(yOrig);
-        }
-        else {
-          y = yOrig;
-        }
-        // System.out.println(y);
-
-        double xTransform = xLeftMargin + ((x - xMin) / (xMax - xMin) * xTickSpace);
-        double yTransform = bounds.getHeight() - (yTopMargin + (y - yMin) / (yMax - yMin) * yTickSpace);
-
-        // a check if all x data are the exact same values
-        if (Math.abs(xMax - xMin) / 5 == 0.0) {
-          xTransform = bounds.getWidth() / 2.0;
-        }
-
-        // a check if all y data are the exact same values
-        if (Math.abs(yMax - yMin) / 5 == 0.0) {
-          yTransform = bounds.getHeight() / 2.0;
-        }
-
-        double xOffset = bounds.getX() + xTransform;
-        double yOffset = bounds.getY() + yTransform;
-        // System.out.println(xTransform);
-        // System.out.println(xOffset);
-        // System.out.println(yTransform);
-        // System.out.println(yOffset);
-        // System.out.println("---");
-
         // paint line
         if (Series.SeriesType.Line.equals(series.getSeriesType()) || Series.SeriesType.Area.equals(series.getSeriesType())) {
 
-          if (series.getStroke() != null) {
+          if (linePath != null) {
+            linePath.lineTo(xOffset, yOffset);
+          }
+          else if (series.getStroke() != null) {
 
             if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
               g.setColor(series.getStrokeColor());
@@ -198,7 +201,6 @@ public class PlotContentNumericalChart extends PlotContent {
 
           if (previousX != -Double.MAX_VALUE && previousY != -Double.MAX_VALUE) {
 
-            g.setColor(series.getFillColor());
             double yBottomOfArea = bounds.getY() + bounds.getHeight() - yTopMargin;
 
             if (path == null) {
@@ -216,50 +218,35 @@ public class PlotContentNumericalChart extends PlotContent {
         previousX = xOffset;
         previousY = yOffset;
 
+        // the line is below the marker and the error bars
+        if (linePath != null && (series.getMarker() != null || hasErrorBars)) {
+          linePath.flush();
+        }
+
         // paint marker
         if (series.getMarker() != null) {
           g.setColor(series.getMarkerColor());
-          series.getMarker().paint(g, xOffset, yOffset, getChartInternal().getStyleManager().getMarkerSize());
+          paintMarker(g, series.getMarker(), xOffset, yOffset);
         }
 
         // paint error bars
-        if (errorBars != null) {
+        if (hasErrorBars) {
 
-          double eb = ebItr.next().doubleValue();
+          int i = indices == null ? n : indices[n];
+          double y = seriesData.getY(i);
+          double eb = seriesData.getErrorBar(i);
 
           // set error bar style
-          if (getChartInternal().getStyleManager().isErrorBarsColorSeriesColor()) {
+          if (styleManager.isErrorBarsColorSeriesColor()) {
             g.setColor(series.getStrokeColor());
           }
           else {
-            g.setColor(getChartInternal().getStyleManager().getErrorBarsColor());
+            g.setColor(styleManager.getErrorBarsColor());
           }
           g.setStroke(errorBarStroke);
 
-          // Top value
-          double topValue = 0.0;
-          if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-            topValue = yOrig + eb;
-            topValue = Math.log10(topValue);
-          }
-          else {
-            topValue = y + eb;
-          }
-          double topEBTransform = bounds.getHeight() - (yTopMargin + (topValue - yMin) / (yMax - yMin) * yTickSpace);
-          double topEBOffset = bounds.getY() + topEBTransform;
-
-          // Bottom value
-          double bottomValue = 0.0;
-          if (getChartInternal().getStyleManager().isYAxisLogarithmic()) {
-            bottomValue = yOrig - eb;
-            // System.out.println(bottomValue);
-            bottomValue = Math.log10(bottomValue);
-          }
-          else {
-            bottomValue = y - eb;
-          }
-          double bottomEBTransform = bounds.getHeight() - (yTopMargin + (bottomValue - yMin) / (yMax - yMin) * yTickSpace);
-          double bottomEBOffset = bounds.getY() + bottomEBTransform;
+          double topEBOffset = yTransform.transform(y + eb);
+          double bottomEBOffset = yTransform.transform(y - eb);
 
           // Draw it
           Shape line = new Line2D.Double(xOffset, topEBOffset, xOffset, bottomEBOffset);
@@ -271,20 +258,53 @@ public class PlotContentNumericalChart extends PlotContent {
         }
       }
 
+      if (linePath != null) {
+        linePath.endRun();
+      }
+
       // close any open path for area charts
-      closePath(g, path, previousX, bounds, yTopMargin);
+      closePath(g, series, path, previousX, bounds, yTopMargin);
     }
 
     g.setClip(null);
 
   }
 
+  /**
+   * Decimation only applies to Line and Area series where every point that is dropped would be invisible, i.e. without markers and error bars.
+   */
+  private boolean isDecimatable(Series series, CoordinateTransform xTransform) {
+
+    if (!styleManager.isDecimationEnabled() || xTransform.scale <= 0.0) {
+      return false;
+    }
+    if (series.getSeriesType() != Series.SeriesType.Line && series.getSeriesType() != Series.SeriesType.Area) {
+      return false;
+    }
+    return series.getMarker() == null && !series.getSeriesData().hasErrorBars();
+  }
+
+  /**
+   * Simplification only applies to Line and Area series painted for vector graphics, without markers and error bars, whose points must all be kept.
+   */
+  private boolean isSimplifiable(Series series) {
+
+    if (!styleManager.isVectorSimplificationEnabled() || !getChartInternal().isPaintingVectorGraphic()) {
+      return false;
+    }
+    if (series.getSeriesType() != Series.SeriesType.Line && series.getSeriesType() != Series.SeriesType.Area) {
+      return false;
+    }
+    return series.getMarker() == null && !series.getSeriesData().hasErrorBars();
+  }
+
   /**
    * Closes a path for area charts if one is available.
    */
-  private void closePath(Graphics2D g, Path2D.Double path, double previousX, Rectangle2D bounds, double yTopMargin) {
+  private void closePath(Graphics2D g, Series series, Path2D.Double path, double previousX, Rectangle2D bounds, double yTopMargin) {
 
     if (path != null) {
+      g.setColor(series.getFillColor());
       double yBottomOfArea = bounds.getY() + bounds.getHeight() - yTopMargin;
       path.lineTo(previousX, yBottomOfArea);
       path.closePath();
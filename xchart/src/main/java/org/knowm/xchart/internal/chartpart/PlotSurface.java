@@ -20,7 +20,6 @@ import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
-import java.util.List;
 
 import org.knowm.xchart.StyleManager.ChartType;
 import org.knowm.xchart.internal.chartpart.ChartInternal.ChartInternalType;
@@ -75,10 +74,10 @@ public class PlotSurface implements ChartPart {
 
     // horizontal
     if (getChartInternal().getStyleManager().isPlotGridHorizontalLinesVisible() || getChartInternal().getStyleManager().isPlotTicksMarksVisible()) {
-      List<Double> yAxisTickLocations = getChartInternal().getAxisPair().getYAxis().getAxisTickCalculator().getTickLocations();
-      for (int i = 0; i < yAxisTickLocations.size(); i++) {
+      AxisTicks yAxisTicks = getChartInternal().getAxisPair().getYAxis().getAxisTickCalculator().getAxisTicks();
+      for (int i = 0; i < yAxisTicks.getTickLocationCount(); i++) {
 
-        double yOffset = bounds.getY() + bounds.getHeight() - yAxisTickLocations.get(i);
+        double yOffset = bounds.getY() + bounds.getHeight() - yAxisTicks.getTickLocation(i);
 
         if (yOffset > bounds.getY() && yOffset < bounds.getY() + bounds.getHeight()) {
 
@@ -111,10 +110,10 @@ public class PlotSurface implements ChartPart {
 
       if ((getChartInternal().getStyleManager().isPlotGridVerticalLinesVisible() || getChartInternal().getStyleManager().isPlotTicksMarksVisible())) {
 
-        List<Double> xAxisTickLocations = getChartInternal().getAxisPair().getXAxis().getAxisTickCalculator().getTickLocations();
-        for (int i = 0; i < xAxisTickLocations.size(); i++) {
+        AxisTicks xAxisTicks = getChartInternal().getAxisPair().getXAxis().getAxisTickCalculator().getAxisTicks();
+        for (int i = 0; i < xAxisTicks.getTickLocationCount(); i++) {
 
-          double tickLocation = xAxisTickLocations.get(i);
+          double tickLocation = xAxisTicks.getTickLocation(i);
           double xOffset = bounds.getX() + tickLocation;
 
           if (xOffset > bounds.getX() && xOffset < bounds.getX() + bounds.getWidth()) {
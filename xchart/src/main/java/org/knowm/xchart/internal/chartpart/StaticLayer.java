@@ -0,0 +1,140 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.knowm.xchart.Series;
+
+/**
+ * An image of the parts of an X-Y chart that don't depend on the series data: the background, the axes, the plot surface with its grid lines, the
+ * chart title and a legend outside the plot. The image is repainted only when something it depends on changed: the size, the styles, the titles, the
+ * series shown in the legend or the axis ranges.
+ *
+ * @author timmolter
+ */
+final class StaticLayer {
+
+  private final ChartInternal chartInternal;
+
+  private BufferedImage image;
+
+  // what the image was painted for
+  private int width;
+  private int height;
+  private int styleModificationCount;
+  private double xMin;
+  private double xMax;
+  private double yMin;
+  private double yMax;
+  private String chartTitle;
+  private String xAxisTitle;
+  private String yAxisTitle;
+  private Object[] legendState;
+
+  /**
+   * Constructor
+   *
+   * @param chartInternal
+   */
+  StaticLayer(ChartInternal chartInternal) {
+
+    this.chartInternal = chartInternal;
+  }
+
+  /**
+   * Returns the image of the static parts, repainting it if it is out of date. The axis min and max must have been calculated before.
+   *
+   * @param g - the Graphics2D the image will be drawn on
+   * @return
+   */
+  BufferedImage getImage(Graphics2D g) {
+
+    int newWidth = chartInternal.getWidth();
+    int newHeight = chartInternal.getHeight();
+    int newStyleModificationCount = chartInternal.getStyleManager().getModificationCount();
+    double newXMin = chartInternal.getAxisPair().getXAxis().getMin();
+    double newXMax = chartInternal.getAxisPair().getXAxis().getMax();
+    double newYMin = chartInternal.getAxisPair().getYAxis().getMin();
+    double newYMax = chartInternal.getAxisPair().getYAxis().getMax();
+    String newChartTitle = chartInternal.getChartTitle().getText();
+    String newXAxisTitle = chartInternal.getAxisPair().getXAxis().getAxisTitle().getText();
+    String newYAxisTitle = chartInternal.getAxisPair().getYAxis().getAxisTitle().getText();
+    Object[] newLegendState = getLegendState();
+
+    if (image != null && newWidth == width && newHeight == height && newStyleModificationCount == styleModificationCount && newXMin == xMin
+        && newXMax == xMax && newYMin == yMin && newYMax == yMax && equals(newChartTitle, chartTitle) && equals(newXAxisTitle, xAxisTitle)
+        && equals(newYAxisTitle, yAxisTitle) && Arrays.equals(newLegendState, legendState)) {
+      return image;
+    }
+
+    if (image == null || image.getWidth() != newWidth || image.getHeight() != newHeight) {
+      GraphicsConfiguration graphicsConfiguration = g.getDeviceConfiguration();
+      if (graphicsConfiguration != null) {
+        image = graphicsConfiguration.createCompatibleImage(newWidth, newHeight);
+      }
+      else {
+        image = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
+      }
+    }
+    Graphics2D imageGraphics = image.createGraphics();
+    imageGraphics.setRenderingHints(g.getRenderingHints());
+    chartInternal.paintStaticParts(imageGraphics);
+    imageGraphics.dispose();
+
+    width = newWidth;
+    height = newHeight;
+    styleModificationCount = newStyleModificationCount;
+    xMin = newXMin;
+    xMax = newXMax;
+    yMin = newYMin;
+    yMax = newYMax;
+    chartTitle = newChartTitle;
+    xAxisTitle = newXAxisTitle;
+    yAxisTitle = newYAxisTitle;
+    legendState = newLegendState;
+    return image;
+  }
+
+  /**
+   * @return everything about the series that is shown in the legend
+   */
+  private Object[] getLegendState() {
+
+    Object[] legendState = new Object[chartInternal.getSeriesMap().size() * 7];
+    int i = 0;
+    for (Series series : chartInternal.getSeriesMap().values()) {
+      legendState[i++] = series.getName();
+      legendState[i++] = series.getSeriesType();
+      legendState[i++] = series.getStroke();
+      legendState[i++] = series.getStrokeColor();
+      legendState[i++] = series.getMarker();
+      legendState[i++] = series.getMarkerColor();
+      legendState[i++] = series.getFillColor();
+    }
+    return legendState;
+  }
+
+  private static boolean equals(String a, String b) {
+
+    return a == null ? b == null : a.equals(b);
+  }
+
+}
@@ -0,0 +1,243 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.font.FontRenderContext;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the laid out text of a chart: the TextLayout, its bounds and its glyph outlines for each text, font and FontRenderContext, so titles, tick
+ * labels and legend entries are only laid out once instead of on every paint. The least recently used texts are evicted beyond the max size. The
+ * returned layouts, bounds and outlines are shared and must not be changed. Like the rest of the painting state a TextCache belongs to one chart and
+ * must only be used by the thread painting it.
+ *
+ * @author timmolter
+ */
+public class TextCache {
+
+  /** enough for the texts of a few charts' worth of axes, titles and legends */
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  /** the FontRenderContext used for measuring text outside of painting: antialiased, no fractional metrics */
+  public static final FontRenderContext MEASURING_FONT_RENDER_CONTEXT = new FontRenderContext(null, true, false);
+
+  private final int maxSize;
+
+  private final Map<Key, LaidOutText> cache;
+
+  private long hitCount;
+
+  private long missCount;
+
+  private long evictionCount;
+
+  /**
+   * Constructor
+   */
+  public TextCache() {
+
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Constructor
+   *
+   * @param maxSize - the max number of cached texts
+   */
+  public TextCache(int maxSize) {
+
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Max size must be at least 1!!!");
+    }
+    this.maxSize = maxSize;
+    this.cache = new LinkedHashMap<Key, LaidOutText>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, LaidOutText> eldest) {
+
+        if (size() > TextCache.this.maxSize) {
+          evictionCount++;
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  /**
+   * @param text
+   * @param font
+   * @param frc
+   * @return the TextLayout of the text
+   */
+  public TextLayout getTextLayout(String text, Font font, FontRenderContext frc) {
+
+    return getLaidOutText(text, font, frc).textLayout;
+  }
+
+  /**
+   * @param text
+   * @param font
+   * @param frc
+   * @return the bounds of the TextLayout of the text, relative to its baseline origin
+   */
+  public Rectangle2D getBounds(String text, Font font, FontRenderContext frc) {
+
+    LaidOutText laidOutText = getLaidOutText(text, font, frc);
+    if (laidOutText.bounds == null) {
+      laidOutText.bounds = laidOutText.textLayout.getBounds();
+    }
+    return laidOutText.bounds;
+  }
+
+  /**
+   * @param text
+   * @param font
+   * @param frc
+   * @param theta - the rotation of the outline around the baseline origin in radians
+   * @return the glyph outline of the text, relative to its baseline origin
+   */
+  public Shape getOutline(String text, Font font, FontRenderContext frc, double theta) {
+
+    LaidOutText laidOutText = getLaidOutText(text, font, frc);
+    if (laidOutText.outline == null || Double.doubleToLongBits(laidOutText.outlineTheta) != Double.doubleToLongBits(theta)) {
+      // mostly one rotation per text, so only the last one is kept
+      laidOutText.outline = laidOutText.textLayout.getOutline(theta == 0.0 ? null : AffineTransform.getRotateInstance(theta));
+      laidOutText.outlineTheta = theta;
+    }
+    return laidOutText.outline;
+  }
+
+  private LaidOutText getLaidOutText(String text, Font font, FontRenderContext frc) {
+
+    Key key = new Key(text, font, frc);
+    LaidOutText laidOutText = cache.get(key);
+    if (laidOutText == null) {
+      missCount++;
+      laidOutText = new LaidOutText(new TextLayout(text, font, frc));
+      cache.put(key, laidOutText);
+    }
+    else {
+      hitCount++;
+    }
+    return laidOutText;
+  }
+
+  /**
+   * Removes all cached texts, the counts are kept
+   */
+  public void clear() {
+
+    cache.clear();
+  }
+
+  /**
+   * @return the number of cached texts
+   */
+  public int size() {
+
+    return cache.size();
+  }
+
+  /**
+   * @return the max number of cached texts
+   */
+  public int getMaxSize() {
+
+    return maxSize;
+  }
+
+  /**
+   * @return the number of lookups that found the text laid out already
+   */
+  public long getHitCount() {
+
+    return hitCount;
+  }
+
+  /**
+   * @return the number of lookups that had to lay out the text
+   */
+  public long getMissCount() {
+
+    return missCount;
+  }
+
+  /**
+   * @return the number of texts evicted to stay within the max size
+   */
+  public long getEvictionCount() {
+
+    return evictionCount;
+  }
+
+  /**
+   * The laid out text, with the bounds and outline created on first use
+   */
+  private static final class LaidOutText {
+
+    private final TextLayout textLayout;
+    private Rectangle2D bounds;
+    private Shape outline;
+    private double outlineTheta;
+
+    LaidOutText(TextLayout textLayout) {
+
+      this.textLayout = textLayout;
+    }
+  }
+
+  private static final class Key {
+
+    private final String text;
+    private final Font font;
+    private final FontRenderContext frc;
+
+    Key(String text, Font font, FontRenderContext frc) {
+
+      this.text = text;
+      this.font = font;
+      this.frc = frc;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return text.equals(other.text) && font.equals(other.font) && frc.equals(other.frc);
+    }
+
+    @Override
+    public int hashCode() {
+
+      int result = text.hashCode();
+      result = 31 * result + font.hashCode();
+      result = 31 * result + frc.hashCode();
+      return result;
+    }
+  }
+
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+/**
+ * IncrementalSeriesData without a size limit. The data is kept in growable primitive arrays with a moving head offset; the space of evicted points is
+ * reused before the arrays grow.
+ *
+ * @author timmolter
+ */
+public class AppendableSeriesData extends IncrementalSeriesData {
+
+  private double[] xData;
+  private double[] yData;
+  private double[] errorBars;
+
+  /** the index of the first point in the arrays */
+  private int head = 0;
+
+  /** the number of points */
+  private int size = 0;
+
+  /**
+   * Constructor
+   *
+   * @param isDateData - true if the X values are milliseconds since the epoch
+   * @param hasErrorBars - true if every point has an error bar
+   * @param initialCapacity
+   */
+  public AppendableSeriesData(boolean isDateData, boolean hasErrorBars, int initialCapacity) {
+
+    super(isDateData, hasErrorBars);
+    int capacity = Math.max(initialCapacity, 16);
+    xData = new double[capacity];
+    yData = new double[capacity];
+    errorBars = hasErrorBars ? new double[capacity] : null;
+  }
+
+  /**
+   * Creates appendable data holding a copy of the given data
+   *
+   * @param seriesData
+   * @param isDateData - true if the X values are milliseconds since the epoch
+   * @return
+   */
+  public static AppendableSeriesData copyOf(SeriesData seriesData, boolean isDateData) {
+
+    int size = seriesData.size();
+    boolean hasErrorBars = seriesData.hasErrorBars();
+    double[] xData = new double[size];
+    double[] yData = new double[size];
+    double[] errorBars = hasErrorBars ? new double[size] : null;
+    for (int i = 0; i < size; i++) {
+      xData[i] = seriesData.getX(i);
+      yData[i] = seriesData.getY(i);
+      if (hasErrorBars) {
+        errorBars[i] = seriesData.getErrorBar(i);
+      }
+    }
+    AppendableSeriesData appendableSeriesData = new AppendableSeriesData(isDateData, hasErrorBars, size);
+    appendableSeriesData.append(xData, yData, errorBars);
+    return appendableSeriesData;
+  }
+
+  @Override
+  public void append(double[] newXData, double[] newYData, double[] newErrorBars) {
+
+    if (newXData == null) {
+      throw new IllegalArgumentException("X-Axis data cannot be null!!!");
+    }
+    checkAppend(newXData, newYData, newErrorBars);
+
+    int count = newYData.length;
+    ensureCapacity(count);
+    int tail = head + size;
+    System.arraycopy(newXData, 0, xData, tail, count);
+    System.arraycopy(newYData, 0, yData, tail, count);
+    if (newErrorBars != null) {
+      System.arraycopy(newErrorBars, 0, errorBars, tail, count);
+    }
+    size += count;
+
+    for (int i = 0; i < count; i++) {
+      addMinMax(newXData[i], newYData[i], newErrorBars == null ? 0.0 : newErrorBars[i]);
+    }
+  }
+
+  @Override
+  public void trimHead(int count) {
+
+    checkTrimHead(count);
+    head += count;
+    size -= count;
+    removeMinMax(count);
+  }
+
+  /**
+   * Makes room for count more points at the tail, reusing the space of evicted points before growing the arrays
+   */
+  private void ensureCapacity(int count) {
+
+    if (head + size + count <= yData.length) {
+      return;
+    }
+    double[] newXData = xData;
+    double[] newYData = yData;
+    double[] newErrorBars = errorBars;
+    if (size + count > yData.length / 2) {
+      int capacity = Math.max(yData.length * 2, size + count);
+      newXData = new double[capacity];
+      newYData = new double[capacity];
+      newErrorBars = errorBars == null ? null : new double[capacity];
+    }
+    System.arraycopy(xData, head, newXData, 0, size);
+    System.arraycopy(yData, head, newYData, 0, size);
+    if (errorBars != null) {
+      System.arraycopy(errorBars, head, newErrorBars, 0, size);
+    }
+    xData = newXData;
+    yData = newYData;
+    errorBars = newErrorBars;
+    head = 0;
+  }
+
+  @Override
+  public int size() {
+
+    return size;
+  }
+
+  @Override
+  public double getX(int index) {
+
+    return xData[head + index];
+  }
+
+  @Override
+  public double getY(int index) {
+
+    return yData[head + index];
+  }
+
+  @Override
+  public double getErrorBar(int index) {
+
+    return errorBars[head + index];
+  }
+
+}
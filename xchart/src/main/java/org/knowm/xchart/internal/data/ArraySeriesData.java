@@ -0,0 +1,149 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+import java.util.List;
+
+/**
+ * SeriesData backed by primitive arrays. X values are either doubles (Number axis) or longs holding milliseconds since the epoch (Date axis). The arrays
+ * are not copied, so no Number or Date objects are ever created for painting. A Y value of Double.NaN is treated as a gap.
+ *
+ * @author timmolter
+ */
+public class ArraySeriesData extends SeriesData {
+
+  private final double[] xData;
+  private final long[] xDates;
+  private final double[] yData;
+  private final double[] errorBars;
+
+  /**
+   * Constructor for a Number X-Axis
+   *
+   * @param xData - null to generate the X values 1, 2, 3, ...
+   * @param yData
+   * @param errorBars - null if there are no error bars
+   */
+  public ArraySeriesData(double[] xData, double[] yData, double[] errorBars) {
+
+    this(xData, null, yData, errorBars);
+  }
+
+  /**
+   * Constructor for a Date X-Axis
+   *
+   * @param xDates - milliseconds since the epoch
+   * @param yData
+   * @param errorBars - null if there are no error bars
+   */
+  public ArraySeriesData(long[] xDates, double[] yData, double[] errorBars) {
+
+    this(null, xDates, yData, errorBars);
+  }
+
+  private ArraySeriesData(double[] xData, long[] xDates, double[] yData, double[] errorBars) {
+
+    if (yData == null) {
+      throw new IllegalArgumentException("Y-Axis data cannot be null!!!");
+    }
+    if ((xData != null && xData.length != yData.length) || (xDates != null && xDates.length != yData.length)) {
+      throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+    }
+    if (errorBars != null && errorBars.length != yData.length) {
+      throw new IllegalArgumentException("errorbars and Y-Axis sizes are not the same!!!");
+    }
+    this.xData = xData;
+    this.xDates = xDates;
+    this.yData = yData;
+    this.errorBars = errorBars;
+  }
+
+  /**
+   * @return true if the X values are Dates
+   */
+  public boolean isDateData() {
+
+    return xDates != null;
+  }
+
+  @Override
+  public int size() {
+
+    return yData.length;
+  }
+
+  @Override
+  public double getX(int index) {
+
+    if (xData != null) {
+      return xData[index];
+    }
+    else if (xDates != null) {
+      return xDates[index];
+    }
+    return index + 1;
+  }
+
+  @Override
+  public double getY(int index) {
+
+    return yData[index];
+  }
+
+  @Override
+  public double getErrorBar(int index) {
+
+    return errorBars[index];
+  }
+
+  @Override
+  public boolean hasErrorBars() {
+
+    return errorBars != null;
+  }
+
+  @Override
+  public double[] getXArray() {
+
+    return xData;
+  }
+
+  @Override
+  public double[] getYArray() {
+
+    return yData;
+  }
+
+  @Override
+  public List<?> getXList() {
+
+    return isDateData() ? DataListViews.xDateView(this) : DataListViews.xNumberView(this);
+  }
+
+  @Override
+  public List<? extends Number> getYList() {
+
+    return DataListViews.yView(this);
+  }
+
+  @Override
+  public List<? extends Number> getErrorBarList() {
+
+    return errorBars == null ? null : DataListViews.errorBarView(this);
+  }
+
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+import java.util.AbstractList;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only List views on top of SeriesData, used where the boxed Collection API is still needed (e.g. CSV export, category tick labels). Values are
+ * only boxed when they are accessed.
+ *
+ * @author timmolter
+ */
+final class DataListViews {
+
+  /**
+   * Constructor - Private constructor to prevent instantiation
+   */
+  private DataListViews() {
+
+  }
+
+  static List<Double> xNumberView(final SeriesData seriesData) {
+
+    return new RandomAccessList<Double>() {
+
+      @Override
+      public Double get(int index) {
+
+        return seriesData.getX(index);
+      }
+
+      @Override
+      public int size() {
+
+        return seriesData.size();
+      }
+    };
+  }
+
+  static List<Date> xDateView(final SeriesData seriesData) {
+
+    return new RandomAccessList<Date>() {
+
+      @Override
+      public Date get(int index) {
+
+        return new Date((long) seriesData.getX(index));
+      }
+
+      @Override
+      public int size() {
+
+        return seriesData.size();
+      }
+    };
+  }
+
+  static List<Double> yView(final SeriesData seriesData) {
+
+    return new RandomAccessList<Double>() {
+
+      @Override
+      public Double get(int index) {
+
+        double y = seriesData.getY(index);
+        return Double.isNaN(y) ? null : y;
+      }
+
+      @Override
+      public int size() {
+
+        return seriesData.size();
+      }
+    };
+  }
+
+  static List<Double> errorBarView(final SeriesData seriesData) {
+
+    return new RandomAccessList<Double>() {
+
+      @Override
+      public Double get(int index) {
+
+        return seriesData.getErrorBar(index);
+      }
+
+      @Override
+      public int size() {
+
+        return seriesData.size();
+      }
+    };
+  }
+
+  private abstract static class RandomAccessList<E> extends AbstractList<E> implements RandomAccess {
+
+  }
+
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+import java.util.List;
+
+/**
+ * SeriesData that is updated in place by appending points at the tail and evicting points at the head, as in real-time charts. The min and max of the X
+ * and Y data are maintained incrementally, so the cost of an update is proportional to the number of changed points rather than the size of the series.
+ * X values are either doubles (Number axis) or milliseconds since the epoch (Date axis).
+ *
+ * @author timmolter
+ */
+public abstract class IncrementalSeriesData extends SeriesData {
+
+  private final boolean isDateData;
+  private final boolean hasErrorBars;
+
+  private final SlidingMinMax xMinMax = new SlidingMinMax();
+  private final SlidingMinMax yMinMax = new SlidingMinMax();
+
+  /**
+   * Constructor
+   *
+   * @param isDateData - true if the X values are milliseconds since the epoch
+   * @param hasErrorBars - true if every point has an error bar
+   */
+  IncrementalSeriesData(boolean isDateData, boolean hasErrorBars) {
+
+    this.isDateData = isDateData;
+    this.hasErrorBars = hasErrorBars;
+  }
+
+  /**
+   * Appends points at the tail. The arrays are copied.
+   *
+   * @param newXData
+   * @param newYData - Double.NaN for gaps
+   * @param newErrorBars - must be given if and only if this data has error bars
+   */
+  public abstract void append(double[] newXData, double[] newYData, double[] newErrorBars);
+
+  /**
+   * Removes points from the head
+   *
+   * @param count - the number of points to remove
+   */
+  public abstract void trimHead(int count);
+
+  /**
+   * Checks the arguments of append(). Whether X data is required is up to the implementation.
+   */
+  void checkAppend(double[] newXData, double[] newYData, double[] newErrorBars) {
+
+    if (newYData == null) {
+      throw new IllegalArgumentException("Y-Axis data cannot be null!!!");
+    }
+    if (newXData != null && newXData.length != newYData.length) {
+      throw new IllegalArgumentException("X and Y-Axis sizes are not the same!!!");
+    }
+    if (hasErrorBars != (newErrorBars != null)) {
+      throw new IllegalArgumentException(hasErrorBars ? "Error bars are required for this series!!!" : "This series has no error bars!!!");
+    }
+    if (newErrorBars != null && newErrorBars.length != newYData.length) {
+      throw new IllegalArgumentException("errorbars and Y-Axis sizes are not the same!!!");
+    }
+  }
+
+  /**
+   * Checks the argument of trimHead()
+   */
+  void checkTrimHead(int count) {
+
+    if (count < 0 || count > size()) {
+      throw new IllegalArgumentException("Cannot remove " + count + " points from a series of " + size() + " points!!!");
+    }
+  }
+
+  /**
+   * Adds a point appended at the tail to the min and max
+   */
+  void addMinMax(double x, double y, double errorBar) {
+
+    xMinMax.add(x, x);
+    yMinMax.add(y - errorBar, y + errorBar);
+  }
+
+  /**
+   * Removes points evicted from the head from the min and max
+   */
+  void removeMinMax(int count) {
+
+    xMinMax.removeHead(count);
+    yMinMax.removeHead(count);
+  }
+
+  /**
+   * @return true if the X values are Dates
+   */
+  public boolean isDateData() {
+
+    return isDateData;
+  }
+
+  /**
+   * @return the min of the X data or Double.MAX_VALUE if there is no data
+   */
+  public double getXMin() {
+
+    return xMinMax.getMin();
+  }
+
+  /**
+   * @return the max of the X data or -Double.MAX_VALUE if there is no data
+   */
+  public double getXMax() {
+
+    return xMinMax.getMax();
+  }
+
+  /**
+   * @return the min of the Y data accounting for error bars or Double.MAX_VALUE if there is no data
+   */
+  public double getYMin() {
+
+    return yMinMax.getMin();
+  }
+
+  /**
+   * @return the max of the Y data accounting for error bars or -Double.MAX_VALUE if there is no data
+   */
+  public double getYMax() {
+
+    return yMinMax.getMax();
+  }
+
+  @Override
+  public boolean hasErrorBars() {
+
+    return hasErrorBars;
+  }
+
+  @Override
+  public List<?> getXList() {
+
+    return isDateData ? DataListViews.xDateView(this) : DataListViews.xNumberView(this);
+  }
+
+  @Override
+  public List<? extends Number> getYList() {
+
+    return DataListViews.yView(this);
+  }
+
+  @Override
+  public List<? extends Number> getErrorBarList() {
+
+    return hasErrorBars ? DataListViews.errorBarView(this) : null;
+  }
+
+}
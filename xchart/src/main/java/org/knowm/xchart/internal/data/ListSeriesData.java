@@ -0,0 +1,120 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * SeriesData backed by the Lists passed in by the user. The Lists are not copied, so changes made to them are picked up on the next paint, unless they
+ * don't support fast random access (e.g. LinkedList), in which case they are copied into an ArrayList once.
+ *
+ * @author timmolter
+ */
+public class ListSeriesData extends SeriesData {
+
+  private final List<?> xData;
+  private final List<? extends Number> yData;
+  private final List<? extends Number> errorBars;
+
+  /**
+   * Constructor
+   *
+   * @param xData - Number, Date or String values, or null to generate the X values 1, 2, 3, ...
+   * @param yData
+   * @param errorBars - null if there are no error bars
+   */
+  public ListSeriesData(List<?> xData, List<? extends Number> yData, List<? extends Number> errorBars) {
+
+    this.xData = xData == null ? null : toRandomAccess(xData);
+    this.yData = toRandomAccess(yData);
+    this.errorBars = errorBars == null ? null : toRandomAccess(errorBars);
+  }
+
+  private static <T> List<T> toRandomAccess(List<T> list) {
+
+    if (list instanceof RandomAccess) {
+      return list;
+    }
+    return new ArrayList<T>(list);
+  }
+
+  @Override
+  public int size() {
+
+    return yData.size();
+  }
+
+  @Override
+  public double getX(int index) {
+
+    if (xData == null) {
+      return index + 1;
+    }
+    Object dataPoint = xData.get(index);
+    if (dataPoint instanceof Number) {
+      return ((Number) dataPoint).doubleValue();
+    }
+    else if (dataPoint instanceof Date) {
+      return ((Date) dataPoint).getTime();
+    }
+    return Double.NaN;
+  }
+
+  @Override
+  public double getY(int index) {
+
+    Number next = yData.get(index);
+    return next == null ? Double.NaN : next.doubleValue();
+  }
+
+  @Override
+  public double getErrorBar(int index) {
+
+    return errorBars.get(index).doubleValue();
+  }
+
+  @Override
+  public boolean hasErrorBars() {
+
+    return errorBars != null;
+  }
+
+  @Override
+  public List<?> getXList() {
+
+    if (xData == null) {
+      return DataListViews.xNumberView(this);
+    }
+    return xData;
+  }
+
+  @Override
+  public List<? extends Number> getYList() {
+
+    return yData;
+  }
+
+  @Override
+  public List<? extends Number> getErrorBarList() {
+
+    return errorBars;
+  }
+
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+/**
+ * IncrementalSeriesData with a fixed capacity, for rolling real-time charts. The points are kept in primitive circular buffers, so appending a point is
+ * O(1) and automatically evicts the oldest point once the capacity is reached. Points are accessed in logical order, oldest first, without copying.
+ *
+ * @author timmolter
+ */
+public class RingBufferSeriesData extends IncrementalSeriesData {
+
+  private final int capacity;
+
+  /** null if the X values are generated */
+  private final double[] xData;
+  private final double[] yData;
+  private final double[] errorBars;
+
+  /** the buffer index of the oldest point */
+  private int head = 0;
+
+  /** the number of points */
+  private int size = 0;
+
+  /**
+   * Constructor
+   *
+   * @param capacity - the max number of points kept
+   * @param isXDataGenerated - true to generate the X values 1, 2, 3, ... so the window stays fixed while the data scrolls through it
+   * @param isDateData - true if the X values are milliseconds since the epoch
+   * @param hasErrorBars - true if every point has an error bar
+   */
+  public RingBufferSeriesData(int capacity, boolean isXDataGenerated, boolean isDateData, boolean hasErrorBars) {
+
+    super(isDateData, hasErrorBars);
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be at least 1!!!");
+    }
+    if (isXDataGenerated && isDateData) {
+      throw new IllegalArgumentException("Date X-Axis data cannot be generated!!!");
+    }
+    this.capacity = capacity;
+    xData = isXDataGenerated ? null : new double[capacity];
+    yData = new double[capacity];
+    errorBars = hasErrorBars ? new double[capacity] : null;
+  }
+
+  /**
+   * Appends points at the tail, evicting the oldest points if the capacity is exceeded. The arrays are copied.
+   *
+   * @param newXData - must be null if the X values are generated
+   * @param newYData - Double.NaN for gaps
+   * @param newErrorBars - must be given if and only if this data has error bars
+   */
+  @Override
+  public void append(double[] newXData, double[] newYData, double[] newErrorBars) {
+
+    if (isXDataGenerated() != (newXData == null)) {
+      throw new IllegalArgumentException(isXDataGenerated() ? "X-Axis data is generated for this series and must be null!!!" : "X-Axis data cannot be null!!!");
+    }
+    checkAppend(newXData, newYData, newErrorBars);
+
+    // points that would be evicted by later points of the same call are skipped
+    int count = newYData.length;
+    int start = Math.max(0, count - capacity);
+    int evictions = Math.max(0, size + count - start - capacity);
+    if (evictions > 0) {
+      trimHead(evictions);
+    }
+
+    for (int i = start; i < count; i++) {
+      int index = toBufferIndex(size);
+      double x = Double.NaN; // generated X values are not tracked
+      if (xData != null) {
+        x = newXData[i];
+        xData[index] = x;
+      }
+      yData[index] = newYData[i];
+      double eb = 0.0;
+      if (errorBars != null) {
+        eb = newErrorBars[i];
+        errorBars[index] = eb;
+      }
+      size++;
+      addMinMax(x, newYData[i], eb);
+    }
+  }
+
+  @Override
+  public void trimHead(int count) {
+
+    checkTrimHead(count);
+    head = toBufferIndex(count);
+    size -= count;
+    removeMinMax(count);
+  }
+
+  /**
+   * @return the max number of points kept
+   */
+  public int getCapacity() {
+
+    return capacity;
+  }
+
+  /**
+   * @return true if the X values are generated as 1, 2, 3, ...
+   */
+  public boolean isXDataGenerated() {
+
+    return xData == null;
+  }
+
+  @Override
+  public double getXMin() {
+
+    if (xData == null) {
+      return size > 0 ? 1.0 : Double.MAX_VALUE;
+    }
+    return super.getXMin();
+  }
+
+  @Override
+  public double getXMax() {
+
+    if (xData == null) {
+      return size > 0 ? size : -Double.MAX_VALUE;
+    }
+    return super.getXMax();
+  }
+
+  /**
+   * Converts a logical index (0 is the oldest point) to an index into the circular buffers
+   */
+  private int toBufferIndex(int index) {
+
+    int bufferIndex = head + index;
+    return bufferIndex >= capacity ? bufferIndex - capacity : bufferIndex;
+  }
+
+  @Override
+  public int size() {
+
+    return size;
+  }
+
+  @Override
+  public double getX(int index) {
+
+    return xData == null ? index + 1 : xData[toBufferIndex(index)];
+  }
+
+  @Override
+  public double getY(int index) {
+
+    return yData[toBufferIndex(index)];
+  }
+
+  @Override
+  public double getErrorBar(int index) {
+
+    return errorBars[toBufferIndex(index)];
+  }
+
+}
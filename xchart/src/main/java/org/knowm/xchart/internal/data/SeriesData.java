@@ -0,0 +1,88 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+import java.util.List;
+
+/**
+ * The X, Y and error bar data of a Series, accessed by index as primitive doubles so the renderers never have to unbox Number objects. A missing Y value
+ * (a gap in the line) is represented by Double.NaN.
+ *
+ * @author timmolter
+ */
+public abstract class SeriesData {
+
+  /**
+   * @return the number of data points
+   */
+  public abstract int size();
+
+  /**
+   * @param index
+   * @return the X value at the given index. Date values are returned as milliseconds since the epoch, String values as Double.NaN.
+   */
+  public abstract double getX(int index);
+
+  /**
+   * @param index
+   * @return the Y value at the given index or Double.NaN if there is no value
+   */
+  public abstract double getY(int index);
+
+  /**
+   * @param index
+   * @return the error bar value at the given index
+   */
+  public abstract double getErrorBar(int index);
+
+  /**
+   * @return true if this data contains error bars
+   */
+  public abstract boolean hasErrorBars();
+
+  /**
+   * @return the array holding the X values from index 0 to size() - 1 if the data is backed by one, otherwise null. The array must not be modified.
+   */
+  public double[] getXArray() {
+
+    return null;
+  }
+
+  /**
+   * @return the array holding the Y values from index 0 to size() - 1 if the data is backed by one, otherwise null. The array must not be modified.
+   */
+  public double[] getYArray() {
+
+    return null;
+  }
+
+  /**
+   * @return the X data as a List. Depending on the implementation this may be a view that boxes values on access.
+   */
+  public abstract List<?> getXList();
+
+  /**
+   * @return the Y data as a List. Depending on the implementation this may be a view that boxes values on access.
+   */
+  public abstract List<? extends Number> getYList();
+
+  /**
+   * @return the error bar data as a List or null if there are no error bars
+   */
+  public abstract List<? extends Number> getErrorBarList();
+
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.data;
+
+/**
+ * Tracks the min and max of a window of values that only grows at the tail and shrinks at the head, as in real-time charts. Each value is added and
+ * removed at most once from two monotonic deques, so maintaining the min and max costs amortized O(1) per point instead of O(n) per update. NaN values
+ * are ignored.
+ *
+ * @author timmolter
+ */
+final class SlidingMinMax {
+
+  /** candidates for the min, increasing from head to tail */
+  private final MonotonicDeque minDeque = new MonotonicDeque();
+
+  /** candidates for the max, decreasing from head to tail */
+  private final MonotonicDeque maxDeque = new MonotonicDeque();
+
+  /** the sequence number of the next value added */
+  private long tailSequence = 0;
+
+  /** the sequence number of the oldest value in the window */
+  private long headSequence = 0;
+
+  /**
+   * Adds a point to the tail of the window
+   *
+   * @param low - the value considered for the min
+   * @param high - the value considered for the max
+   */
+  void add(double low, double high) {
+
+    long sequence = tailSequence++;
+
+    if (!Double.isNaN(low)) {
+      while (minDeque.size > 0 && minDeque.peekLastValue() >= low) {
+        minDeque.removeLast();
+      }
+      minDeque.addLast(sequence, low);
+    }
+    if (!Double.isNaN(high)) {
+      while (maxDeque.size > 0 && maxDeque.peekLastValue() <= high) {
+        maxDeque.removeLast();
+      }
+      maxDeque.addLast(sequence, high);
+    }
+  }
+
+  /**
+   * Removes points from the head of the window
+   *
+   * @param count - the number of points to remove
+   */
+  void removeHead(int count) {
+
+    if (count < 0 || count > tailSequence - headSequence) {
+      throw new IllegalArgumentException("Cannot remove " + count + " points from a window of " + (tailSequence - headSequence) + " points!!!");
+    }
+    headSequence += count;
+    minDeque.removeBefore(headSequence);
+    maxDeque.removeBefore(headSequence);
+  }
+
+  /**
+   * @return the min of the window or Double.MAX_VALUE if there are no values
+   */
+  double getMin() {
+
+    return minDeque.size > 0 ? minDeque.peekFirstValue() : Double.MAX_VALUE;
+  }
+
+  /**
+   * @return the max of the window or -Double.MAX_VALUE if there are no values
+   */
+  double getMax() {
+
+    return maxDeque.size > 0 ? maxDeque.peekFirstValue() : -Double.MAX_VALUE;
+  }
+
+  /**
+   * A growable circular deque of (sequence, value) pairs
+   */
+  private static final class MonotonicDeque {
+
+    private long[] sequences = new long[16];
+    private double[] values = new double[16];
+    private int head = 0;
+    private int size = 0;
+
+    void addLast(long sequence, double value) {
+
+      if (size == values.length) {
+        grow();
+      }
+      int index = (head + size) & (values.length - 1);
+      sequences[index] = sequence;
+      values[index] = value;
+      size++;
+    }
+
+    void removeLast() {
+
+      size--;
+    }
+
+    double peekLastValue() {
+
+      return values[(head + size - 1) & (values.length - 1)];
+    }
+
+    double peekFirstValue() {
+
+      return values[head];
+    }
+
+    void removeBefore(long sequence) {
+
+      while (size > 0 && sequences[head] < sequence) {
+        head = (head + 1) & (values.length - 1);
+        size--;
+      }
+    }
+
+    /**
+     * Doubles the capacity, keeping the capacity a power of two so indices can wrap with a mask
+     */
+    private void grow() {
+
+      long[] newSequences = new long[values.length * 2];
+      double[] newValues = new double[values.length * 2];
+      for (int i = 0; i < size; i++) {
+        int index = (head + i) & (values.length - 1);
+        newSequences[i] = sequences[index];
+        newValues[i] = values[index];
+      }
+      sequences = newSequences;
+      values = newValues;
+      head = 0;
+    }
+  }
+
+}
@@ -16,7 +16,6 @@
  */
 package org.knowm.xchart.internal.markers;
 
-import java.awt.Graphics2D;
 import java.awt.Shape;
 import java.awt.geom.Ellipse2D;
 
@@ -26,13 +25,10 @@ import java.awt.geom.Ellipse2D;
 public class Circle extends Marker {
 
   @Override
-  public void paint(Graphics2D g, double xOffset, double yOffset, int markerSize) {
+  public Shape getShape(double xOffset, double yOffset, int markerSize) {
 
-    g.setStroke(stroke);
     double halfSize = (double) markerSize / 2;
-    Shape circle = new Ellipse2D.Double(xOffset - halfSize, yOffset - halfSize, markerSize, markerSize);
-    g.fill(circle);
-
+    return new Ellipse2D.Double(xOffset - halfSize, yOffset - halfSize, markerSize, markerSize);
   }
 
 }
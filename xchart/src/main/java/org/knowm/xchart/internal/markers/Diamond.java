@@ -16,7 +16,7 @@
  */
 package org.knowm.xchart.internal.markers;
 
-import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.geom.Path2D;
 
 /**
@@ -25,9 +25,7 @@ import java.awt.geom.Path2D;
 public class Diamond extends Marker {
 
   @Override
-  public void paint(Graphics2D g, double xOffset, double yOffset, int markerSize) {
-
-    g.setStroke(stroke);
+  public Shape getShape(double xOffset, double yOffset, int markerSize) {
 
     // Make a diamond
     double diamondHalfSize = (double) markerSize / 2 * 1.3;
@@ -38,8 +36,7 @@ public class Diamond extends Marker {
     path.lineTo(xOffset + diamondHalfSize, yOffset);
     path.lineTo(xOffset, yOffset + diamondHalfSize);
     path.closePath();
-    g.fill(path);
-
+    return path;
   }
 
 }
@@ -18,6 +18,7 @@ package org.knowm.xchart.internal.markers;
 
 import java.awt.BasicStroke;
 import java.awt.Graphics2D;
+import java.awt.Shape;
 
 /**
  * @author timmolter
@@ -26,6 +27,36 @@ public abstract class Marker {
 
   protected BasicStroke stroke = new BasicStroke(1, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL);
 
-  public abstract void paint(Graphics2D g, double xOffset, double yOffset, int markerSize);
+  private final MarkerSpriteCache spriteCache = new MarkerSpriteCache(this);
+
+  public void paint(Graphics2D g, double xOffset, double yOffset, int markerSize) {
+
+    g.setStroke(stroke);
+    g.fill(getShape(xOffset, yOffset, markerSize));
+  }
+
+  /**
+   * Paints the marker by stamping a pre-rendered sprite if g paints pixels without scaling, or like paint otherwise. Use this for markers painted once
+   * per data point on bitmaps, but not for vector graphics, where each marker should stay a shape.
+   *
+   * @param g
+   * @param xOffset
+   * @param yOffset
+   * @param markerSize
+   */
+  public void stamp(Graphics2D g, double xOffset, double yOffset, int markerSize) {
+
+    if (!spriteCache.stamp(g, xOffset, yOffset, markerSize)) {
+      paint(g, xOffset, yOffset, markerSize);
+    }
+  }
+
+  /**
+   * @param xOffset
+   * @param yOffset
+   * @param markerSize
+   * @return the filled shape of the marker centered at the given offsets
+   */
+  public abstract Shape getShape(double xOffset, double yOffset, int markerSize);
 
 }
@@ -0,0 +1,179 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.markers;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.knowm.xchart.internal.Utils;
+
+/**
+ * Caches a Marker pre-rendered into small ARGB sprites, one set per marker size, color and antialiasing, so painting a marker is a single image blit
+ * instead of creating and filling a Shape. Each set holds the marker rendered at SUBPIXEL_STEPS x SUBPIXEL_STEPS sub-pixel positions, so stamped
+ * markers are off from the painted shape by at most 1 / (2 * SUBPIXEL_STEPS) pixels. The cache is shared by all charts and thread-safe.
+ *
+ * @author timmolter
+ */
+final class MarkerSpriteCache {
+
+  /** the number of sub-pixel positions per pixel and axis */
+  static final int SUBPIXEL_STEPS = 8;
+
+  /** larger markers are painted as shapes */
+  static final int MAX_MARKER_SIZE = 64;
+
+  /** the max number of sprite sets per marker before the cache is cleared */
+  private static final int MAX_SPRITE_SETS = 64;
+
+  /** offsets beyond this are painted as shapes, so the pixel position fits an int */
+  private static final double MAX_OFFSET = 1 << 24;
+
+  private final Marker marker;
+
+  private final ConcurrentHashMap<Long, SpriteSet> spriteSets = new ConcurrentHashMap<Long, SpriteSet>();
+
+  /**
+   * Constructor
+   *
+   * @param marker
+   */
+  MarkerSpriteCache(Marker marker) {
+
+    this.marker = marker;
+  }
+
+  /**
+   * Stamps the marker sprite in the current color at the given offsets, if g paints pixels with at most an integer translation, with a solid color and
+   * a source-over composite.
+   *
+   * @param g
+   * @param xOffset
+   * @param yOffset
+   * @param markerSize
+   * @return false if nothing was painted and the marker must be painted as a shape
+   */
+  boolean stamp(Graphics2D g, double xOffset, double yOffset, int markerSize) {
+
+    if (markerSize <= 0 || markerSize > MAX_MARKER_SIZE || !(Math.abs(xOffset) < MAX_OFFSET) || !(Math.abs(yOffset) < MAX_OFFSET)) {
+      return false;
+    }
+    if (!Utils.isRasterTarget(g)) {
+      return false;
+    }
+    AffineTransform transform = g.getTransform();
+    if ((transform.getType() & ~AffineTransform.TYPE_TRANSLATION) != 0 || transform.getTranslateX() != Math.rint(transform.getTranslateX())
+        || transform.getTranslateY() != Math.rint(transform.getTranslateY())) {
+      return false;
+    }
+    Composite composite = g.getComposite();
+    if (!(composite instanceof AlphaComposite) || ((AlphaComposite) composite).getRule() != AlphaComposite.SRC_OVER) {
+      return false;
+    }
+    Paint paint = g.getPaint();
+    if (!(paint instanceof Color)) {
+      return false;
+    }
+
+    boolean isAntialiased = RenderingHints.VALUE_ANTIALIAS_ON.equals(g.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+    int argb = ((Color) paint).getRGB();
+    Long key = Long.valueOf(((long) argb << 32) | (markerSize << 1) | (isAntialiased ? 1 : 0));
+    SpriteSet spriteSet = spriteSets.get(key);
+    if (spriteSet == null) {
+      if (spriteSets.size() >= MAX_SPRITE_SETS) {
+        spriteSets.clear();
+      }
+      SpriteSet newSpriteSet = new SpriteSet(markerSize, new Color(argb, true), isAntialiased);
+      spriteSet = spriteSets.putIfAbsent(key, newSpriteSet);
+      if (spriteSet == null) {
+        spriteSet = newSpriteSet;
+      }
+    }
+
+    long xSteps = Math.round(xOffset * SUBPIXEL_STEPS);
+    long ySteps = Math.round(yOffset * SUBPIXEL_STEPS);
+    int xPixel = (int) Math.floor((double) xSteps / SUBPIXEL_STEPS);
+    int yPixel = (int) Math.floor((double) ySteps / SUBPIXEL_STEPS);
+    BufferedImage sprite = spriteSet.getSprite((int) (xSteps - (long) xPixel * SUBPIXEL_STEPS), (int) (ySteps - (long) yPixel * SUBPIXEL_STEPS), g);
+    g.drawImage(sprite, xPixel + spriteSet.xOrigin, yPixel + spriteSet.yOrigin, null);
+    return true;
+  }
+
+  /**
+   * The sprites of one marker size, color and antialiasing, rendered lazily per sub-pixel position
+   */
+  private final class SpriteSet {
+
+    private final int markerSize;
+    private final Color color;
+    private final boolean isAntialiased;
+
+    /** the position of the sprite's top left pixel relative to the pixel containing the marker center */
+    private final int xOrigin;
+    private final int yOrigin;
+
+    private final int width;
+    private final int height;
+
+    private final AtomicReferenceArray<BufferedImage> sprites = new AtomicReferenceArray<BufferedImage>(SUBPIXEL_STEPS * SUBPIXEL_STEPS);
+
+    private SpriteSet(int markerSize, Color color, boolean isAntialiased) {
+
+      this.markerSize = markerSize;
+      this.color = color;
+      this.isAntialiased = isAntialiased;
+
+      // one pixel of padding for antialiasing and one more for the sub-pixel shift
+      Rectangle2D bounds = marker.getShape(0, 0, markerSize).getBounds2D();
+      xOrigin = (int) Math.floor(bounds.getMinX()) - 1;
+      yOrigin = (int) Math.floor(bounds.getMinY()) - 1;
+      width = (int) Math.ceil(bounds.getMaxX()) + 2 - xOrigin;
+      height = (int) Math.ceil(bounds.getMaxY()) + 2 - yOrigin;
+    }
+
+    private BufferedImage getSprite(int xStep, int yStep, Graphics2D g) {
+
+      int index = yStep * SUBPIXEL_STEPS + xStep;
+      BufferedImage sprite = sprites.get(index);
+      if (sprite == null) {
+        sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D spriteGraphics = sprite.createGraphics();
+        try {
+          spriteGraphics.setRenderingHints(g.getRenderingHints());
+          spriteGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, isAntialiased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+          spriteGraphics.setColor(color);
+          marker.paint(spriteGraphics, -xOrigin + (double) xStep / SUBPIXEL_STEPS, -yOrigin + (double) yStep / SUBPIXEL_STEPS, markerSize);
+        } finally {
+          spriteGraphics.dispose();
+        }
+        if (!sprites.compareAndSet(index, null, sprite)) {
+          sprite = sprites.get(index);
+        }
+      }
+      return sprite;
+    }
+  }
+
+}
@@ -16,7 +16,7 @@
  */
 package org.knowm.xchart.internal.markers;
 
-import java.awt.Graphics2D;
+import java.awt.Shape;
 import java.awt.geom.Path2D;
 
 /**
@@ -25,9 +25,8 @@ import java.awt.geom.Path2D;
 public class TriangleDown extends Marker {
 
   @Override
-  public void paint(Graphics2D g, double xOffset, double yOffset, int markerSize) {
+  public Shape getShape(double xOffset, double yOffset, int markerSize) {
 
-    g.setStroke(stroke);
     double halfSize = (double) markerSize / 2;
 
     // Make a triangle
@@ -36,7 +35,6 @@ public class TriangleDown extends Marker {
     path.lineTo(xOffset, 1 + yOffset - halfSize + markerSize);
     path.lineTo(xOffset - halfSize + markerSize, 1 + yOffset - halfSize);
     path.closePath();
-    g.fill(path);
-
+    return path;
   }
 }
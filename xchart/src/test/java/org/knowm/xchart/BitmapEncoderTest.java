@@ -0,0 +1,97 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.IndexColorModel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+import org.knowm.xchart.BitmapEncoder.IndexedColorReport;
+
+/**
+ * @author timmolter
+ */
+public class BitmapEncoderTest {
+
+  @Test
+  public void testStreamsMatchBitmapBytes() throws Exception {
+
+    Chart chart = new Chart(300, 200);
+    chart.addSeries("series", new double[] { 1, 2, 3 }, new double[] { 2, 1, 3 });
+
+    for (BitmapFormat bitmapFormat : BitmapFormat.values()) {
+      byte[] bitmapBytes = BitmapEncoder.getBitmapBytes(chart, bitmapFormat);
+
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      BitmapEncoder.saveBitmap(chart, stream, bitmapFormat);
+      assertThat(Arrays.equals(stream.toByteArray(), bitmapBytes)).isTrue();
+
+      ByteArrayOutputStream channelStream = new ByteArrayOutputStream();
+      BitmapEncoder.saveBitmap(chart, Channels.newChannel(channelStream), bitmapFormat);
+      assertThat(Arrays.equals(channelStream.toByteArray(), bitmapBytes)).isTrue();
+    }
+  }
+
+  @Test
+  public void testJPGWithQuality() throws Exception {
+
+    Chart chart = new Chart(300, 200);
+    chart.addSeries("series", new double[] { 1, 2, 3 }, new double[] { 2, 1, 3 });
+
+    ByteArrayOutputStream low = new ByteArrayOutputStream();
+    BitmapEncoder.saveJPGWithQuality(chart, low, 0.1f);
+    ByteArrayOutputStream high = new ByteArrayOutputStream();
+    BitmapEncoder.saveJPGWithQuality(chart, high, 1.0f);
+    assertThat(low.size()).isGreaterThan(0);
+    assertThat(low.size()).isLessThan(high.size());
+  }
+
+  @Test
+  public void testIndexedBitmap() throws Exception {
+
+    Chart chart = new Chart(300, 200);
+    chart.addSeries("series", new double[] { 1, 2, 3 }, new double[] { 2, 1, 3 });
+
+    for (BitmapFormat bitmapFormat : new BitmapFormat[] { BitmapFormat.PNG, BitmapFormat.GIF }) {
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      IndexedColorReport report = BitmapEncoder.saveIndexedBitmap(chart, stream, bitmapFormat, 32);
+      assertThat(report.getPaletteSize()).isEqualTo(Math.min(32, report.getColorCount()));
+      assertThat(report.getByteCount()).isEqualTo((long) stream.size());
+
+      BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stream.toByteArray()));
+      assertThat(decoded.getWidth()).isEqualTo(300);
+      assertThat(decoded.getHeight()).isEqualTo(200);
+      assertThat(decoded.getColorModel() instanceof IndexColorModel).isTrue();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIndexedJPG() throws Exception {
+
+    BitmapEncoder.saveIndexedBitmap(new Chart(300, 200), new ByteArrayOutputStream(), BitmapFormat.JPG, 32);
+  }
+
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class CacheStatsTest {
+
+  @Test
+  public void testAxisTickCacheStats() {
+
+    Chart chart = new Chart(400, 300);
+    chart.addSeries("a", new double[] { 1, 2, 3 }, new double[] { 5, 7, 6 });
+    assertThat(chart.getXAxisTickCacheStats().getMissCount()).isEqualTo(0L);
+
+    BitmapEncoder.getBufferedImage(chart);
+    CacheStats xStats = chart.getXAxisTickCacheStats();
+    CacheStats yStats = chart.getYAxisTickCacheStats();
+    assertThat(xStats.getMissCount()).isGreaterThan(0L);
+    assertThat(yStats.getMissCount()).isGreaterThan(0L);
+
+    // an unchanged chart is painted from the cache
+    BitmapEncoder.getBufferedImage(chart);
+    assertThat(chart.getXAxisTickCacheStats().getMissCount()).isEqualTo(xStats.getMissCount());
+    assertThat(chart.getXAxisTickCacheStats().getHitCount()).isGreaterThan(xStats.getHitCount());
+    assertThat(chart.getYAxisTickCacheStats().getHitRatio()).isGreaterThan(0.0);
+  }
+
+  @Test
+  public void testTextCacheStats() {
+
+    Chart chart = new Chart(400, 300);
+    chart.setChartTitle("Title");
+    chart.addSeries("a", new double[] { 1, 2, 3 }, new double[] { 5, 7, 6 });
+
+    BitmapEncoder.getBufferedImage(chart);
+    CacheStats stats = chart.getTextCacheStats();
+    assertThat(stats.getMissCount()).isGreaterThan(0L);
+
+    // the same texts are laid out once
+    BitmapEncoder.getBufferedImage(chart);
+    assertThat(chart.getTextCacheStats().getMissCount()).isEqualTo(stats.getMissCount());
+    assertThat(chart.getTextCacheStats().getHitCount()).isGreaterThan(stats.getHitCount());
+    assertThat(chart.getTextCacheStats().getEvictionCount()).isEqualTo(0L);
+  }
+
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.knowm.xchart.BitmapEncoder.BitmapFormat;
+
+/**
+ * @author timmolter
+ */
+public class ChartRenderServiceTest {
+
+  @Test
+  public void testBatchMatchesBitmapEncoder() throws Exception {
+
+    List<Chart> charts = new ArrayList<Chart>();
+    for (int i = 0; i < 6; i++) {
+      // two sizes, so the thread images are reused and replaced
+      Chart chart = new Chart(i % 2 == 0 ? 300 : 200, 150);
+      chart.addSeries("series", new double[] { 1, 2, 3 }, new double[] { i, i * 2, 1 });
+      charts.add(chart);
+    }
+
+    ChartRenderService chartRenderService = new ChartRenderService(2);
+    try {
+      List<Future<byte[]>> futures = chartRenderService.submitAll(charts, BitmapFormat.PNG);
+      for (int i = 0; i < charts.size(); i++) {
+        // the Chart's job is done, so it can be painted here
+        assertThat(Arrays.equals(futures.get(i).get(), BitmapEncoder.getBitmapBytes(charts.get(i), BitmapFormat.PNG))).isTrue();
+      }
+    } finally {
+      chartRenderService.shutdown();
+    }
+
+    ChartRenderService.Metrics metrics = chartRenderService.getMetrics(BitmapFormat.PNG);
+    assertThat(metrics.getChartCount()).isEqualTo(6L);
+    assertThat(metrics.getByteCount()).isGreaterThan(0L);
+    assertThat(chartRenderService.getMetrics(BitmapFormat.JPG).getChartCount()).isEqualTo(0L);
+  }
+
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Adler32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+import org.knowm.xchart.PNGEncoder.PNGFilter;
+
+/**
+ * @author timmolter
+ */
+public class PNGEncoderTest {
+
+  @Test
+  public void testFiltersDecodeToSamePixels() throws Exception {
+
+    BufferedImage chartImage = getChartImage();
+
+    for (PNGFilter filter : PNGFilter.values()) {
+      PNGEncoder pngEncoder = new PNGEncoder();
+      pngEncoder.setFilter(filter);
+      pngEncoder.setPaletteAllowed(false);
+      assertSamePixels(decode(pngEncoder.encode(chartImage)), chartImage);
+    }
+  }
+
+  @Test
+  public void testPalette() throws Exception {
+
+    BufferedImage image = new BufferedImage(37, 11, BufferedImage.TYPE_INT_ARGB);
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        image.setRGB(x, y, (x + y) % 3 == 0 ? 0x80FF0000 : 0xFF00FF00);
+      }
+    }
+
+    byte[] pngBytes = new PNGEncoder().encode(image);
+    // IHDR bit depth and color type
+    assertThat(pngBytes[24]).isEqualTo((byte) 1);
+    assertThat(pngBytes[25]).isEqualTo((byte) 3);
+    assertSamePixels(decode(pngBytes), image);
+
+    PNGEncoder pngEncoder = new PNGEncoder();
+    pngEncoder.setPaletteAllowed(false);
+    byte[] rgbaBytes = pngEncoder.encode(image);
+    assertThat(rgbaBytes[25]).isEqualTo((byte) 6);
+    assertSamePixels(decode(rgbaBytes), image);
+  }
+
+  @Test
+  public void testParallelDeflate() throws Exception {
+
+    BufferedImage chartImage = getChartImage();
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    try {
+      PNGEncoder pngEncoder = new PNGEncoder();
+      pngEncoder.setPaletteAllowed(false);
+      pngEncoder.setDeflateExecutorService(executorService);
+      pngEncoder.setParallelChunkSize(10000);
+      for (int compressionLevel = 0; compressionLevel <= 9; compressionLevel += 3) {
+        pngEncoder.setCompressionLevel(compressionLevel);
+        assertSamePixels(decode(pngEncoder.encode(chartImage)), chartImage);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelDeflateOnOwnExecutor() throws Exception {
+
+    final BufferedImage chartImage = getChartImage();
+    ExecutorService executorService = Executors.newFixedThreadPool(1);
+    try {
+      // the only thread of the pool encodes, so it must not wait for the chunks it queued on the same pool
+      final PNGEncoder pngEncoder = new PNGEncoder();
+      pngEncoder.setPaletteAllowed(false);
+      pngEncoder.setDeflateExecutorService(executorService);
+      pngEncoder.setParallelChunkSize(10000);
+      Future<byte[]> pngBytes = executorService.submit(new Callable<byte[]>() {
+
+        @Override
+        public byte[] call() throws Exception {
+
+          return pngEncoder.encode(chartImage);
+        }
+      });
+      assertSamePixels(decode(pngBytes.get(10, TimeUnit.SECONDS)), chartImage);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testCombineAdler32() {
+
+    byte[] bytes = new byte[100000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) (i * 31 + i / 7);
+    }
+    Adler32 all = new Adler32();
+    all.update(bytes);
+    Adler32 first = new Adler32();
+    first.update(bytes, 0, 70001);
+    Adler32 second = new Adler32();
+    second.update(bytes, 70001, bytes.length - 70001);
+
+    assertThat(PNGEncoder.combineAdler32(first.getValue(), second.getValue(), bytes.length - 70001)).isEqualTo(all.getValue());
+  }
+
+  private static BufferedImage getChartImage() {
+
+    Chart chart = new Chart(300, 200);
+    chart.addSeries("series", new double[] { 1, 2, 3, 4 }, new double[] { 2, 1, 3, 0 });
+    return BitmapEncoder.getBufferedImage(chart);
+  }
+
+  private static BufferedImage decode(byte[] pngBytes) throws Exception {
+
+    return ImageIO.read(new ByteArrayInputStream(pngBytes));
+  }
+
+  private static void assertSamePixels(BufferedImage actual, BufferedImage expected) {
+
+    int opaque = expected.getColorModel().hasAlpha() ? 0 : 0xFF000000;
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertThat(actual.getRGB(x, y)).isEqualTo(expected.getRGB(x, y) | opaque);
+      }
+    }
+  }
+
+}
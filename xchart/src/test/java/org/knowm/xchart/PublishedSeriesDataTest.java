@@ -0,0 +1,109 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.knowm.xchart.PublishedSeriesData.AppendTarget;
+import org.knowm.xchart.internal.data.ArraySeriesData;
+
+/**
+ * @author timmolter
+ */
+public class PublishedSeriesDataTest {
+
+  @Test
+  public void testAppendsAreAppliedInOrder() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addRollingSeries("series", 4, null, new double[] { 1 });
+    AppendTarget target = AppendTarget.of(series);
+
+    PublishedSeriesData published = PublishedSeriesData.withAppend(null, "series", target, null, new double[] { 2 }, null);
+    published = PublishedSeriesData.withAppend(published, "series", target, null, new double[] { 3, 4 }, null);
+    published = PublishedSeriesData.withAppend(published, "series", target, null, new double[] { 5 }, null);
+
+    // nothing changes until the published data is applied
+    assertThat(series.getYData()).containsExactly(1.0);
+
+    published.applyTo(chart);
+    assertThat(series.getYData()).containsExactly(2.0, 3.0, 4.0, 5.0);
+  }
+
+  @Test
+  public void testReplacementDropsEarlierUpdates() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addSeries("series", new double[] { 1, 2 }, new double[] { 1, 2 });
+    Series other = chart.addSeries("other", new double[] { 1, 2 }, new double[] { 1, 2 });
+    AppendTarget target = AppendTarget.of(series);
+
+    PublishedSeriesData published = PublishedSeriesData.withAppend(null, "series", target, new double[] { 3 }, new double[] { 3 }, null);
+    published = PublishedSeriesData.withReplacement(published, "series", new ArraySeriesData(new double[] { 10, 20 }, new double[] { 5, 6 }, null));
+    published = PublishedSeriesData.withAppend(published, "series", target, new double[] { 30 }, new double[] { 7 }, null);
+    published = PublishedSeriesData.withAppend(published, "other", AppendTarget.of(other), new double[] { 3 }, new double[] { 3 }, null);
+
+    published.applyTo(chart);
+    assertThat(series.getXData()).containsExactly(10.0, 20.0, 30.0);
+    assertThat(series.getYMax()).isEqualTo(7.0);
+    assertThat(chart.getSeriesMap().get("other").getYData()).containsExactly(1.0, 2.0, 3.0);
+  }
+
+  @Test
+  public void testAppendsToRollingSeriesAreCollapsedToCapacity() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addRollingSeries("series", 3, null, new double[] { 0 });
+    AppendTarget target = AppendTarget.of(series);
+
+    // no frame is painted while 100 points are published, only the last points are kept
+    PublishedSeriesData published = null;
+    for (int i = 1; i <= 100; i++) {
+      published = PublishedSeriesData.withAppend(published, "series", target, null, new double[] { i }, null);
+    }
+
+    published.applyTo(chart);
+    assertThat(series.getYData()).containsExactly(98.0, 99.0, 100.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAppendIsCheckedWhenPublished() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addRollingSeries("series", 4, null, new double[] { 1 });
+
+    // the X values of this series are generated
+    PublishedSeriesData.withAppend(null, "series", AppendTarget.of(series), new double[] { 2 }, new double[] { 2 }, null);
+  }
+
+  @Test
+  public void testUpdatesOfRemovedSeriesAreDropped() {
+
+    Chart chart = new Chart(800, 600);
+    Series removed = chart.addRollingSeries("removed", 4, null, new double[] { 1 });
+    Series series = chart.addRollingSeries("series", 4, null, new double[] { 1 });
+
+    PublishedSeriesData published = PublishedSeriesData.withAppend(null, "removed", AppendTarget.of(removed), null, new double[] { 2 }, null);
+    published = PublishedSeriesData.withAppend(published, "series", AppendTarget.of(series), null, new double[] { 2 }, null);
+    chart.getSeriesMap().remove("removed");
+
+    published.applyTo(chart);
+    assertThat(series.getYData()).containsExactly(1.0, 2.0);
+  }
+
+}
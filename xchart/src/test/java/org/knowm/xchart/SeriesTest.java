@@ -0,0 +1,239 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+
+import org.junit.Test;
+import org.knowm.xchart.StyleManager.ChartType;
+
+/**
+ * @author timmolter
+ */
+public class SeriesTest {
+
+  @Test
+  public void testPrimitiveMinMax() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addSeries("series", new double[] { 3, -1, 7, 2 }, new double[] { 5, Double.NaN, -4, 1 }, new double[] { 1, 1, 2, 0.5 });
+
+    assertThat(series.getXMin()).isEqualTo(-1.0);
+    assertThat(series.getXMax()).isEqualTo(7.0);
+    assertThat(series.getYMin()).isEqualTo(-6.0);
+    assertThat(series.getYMax()).isEqualTo(6.0);
+  }
+
+  @Test
+  public void testPrimitiveListViews() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addSeries("series", null, new double[] { 5, Double.NaN, 1 });
+
+    assertThat(series.getXData()).containsExactly(1.0, 2.0, 3.0);
+    assertThat(series.getYData()).containsExactly(5.0, null, 1.0);
+    assertThat(series.getErrorBars()).isNull();
+  }
+
+  @Test
+  public void testPrimitiveArraysAreCopied() {
+
+    Chart chart = new Chart(800, 600);
+    double[] xData = new double[] { 1, 2, 3 };
+    double[] yData = new double[] { 4, 5, 6 };
+    Series series = chart.addSeries("series", xData, yData);
+
+    // a caller refilling its buffers for the next series
+    xData[0] = -10;
+    yData[2] = 60;
+    chart.addSeries("next", xData, yData);
+
+    assertThat(series.getXData()).containsExactly(1.0, 2.0, 3.0);
+    assertThat(series.getYData()).containsExactly(4.0, 5.0, 6.0);
+    assertThat(series.getXMin()).isEqualTo(1.0);
+    assertThat(series.getYMax()).isEqualTo(6.0);
+  }
+
+  @Test
+  public void testDateSeries() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addDateSeries("series", new long[] { 2000L, 1000L }, new double[] { 1, 2 });
+
+    assertThat(series.getXMin()).isEqualTo(1000.0);
+    assertThat(series.getXMax()).isEqualTo(2000.0);
+    assertThat(series.getXData()).containsExactly(new Date(2000L), new Date(1000L));
+  }
+
+  @Test
+  public void testListMinMax() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addSeries("series", Arrays.asList(1, 2, 3), Arrays.asList(4.0, null, -2.0));
+
+    assertThat(series.getXMin()).isEqualTo(1.0);
+    assertThat(series.getXMax()).isEqualTo(3.0);
+    assertThat(series.getYMin()).isEqualTo(-2.0);
+    assertThat(series.getYMax()).isEqualTo(4.0);
+  }
+
+  @Test
+  public void testAppendAndTrimHead() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addSeries("series", new double[] { 0, 1, 2 }, new double[] { 5, -3, 1 });
+
+    series.appendPoints(new double[] { 3, 4 }, new double[] { 2, Double.NaN });
+    assertThat(series.getXData()).containsExactly(0.0, 1.0, 2.0, 3.0, 4.0);
+    assertThat(series.getYMin()).isEqualTo(-3.0);
+    assertThat(series.getYMax()).isEqualTo(5.0);
+
+    series.trimHead(2);
+    assertThat(series.getYData()).containsExactly(1.0, 2.0, null);
+    assertThat(series.getXMin()).isEqualTo(2.0);
+    assertThat(series.getXMax()).isEqualTo(4.0);
+    assertThat(series.getYMin()).isEqualTo(1.0);
+    assertThat(series.getYMax()).isEqualTo(2.0);
+  }
+
+  @Test(timeout = 10000)
+  public void testTrimAllPointsPaints() {
+
+    Chart chart = new Chart(400, 300);
+    Series series = chart.addRollingSeries("a", 10, null, new double[] { 1, 2, 3 });
+
+    series.trimHead(3);
+    assertThat(series.getSeriesData().size()).isEqualTo(0);
+    BitmapEncoder.getBufferedImage(chart);
+
+    // the points after the gap are painted again
+    series.appendPoints(null, new double[] { 4, 5 });
+    BitmapEncoder.getBufferedImage(chart);
+    assertThat(series.getYData()).containsExactly(4.0, 5.0);
+  }
+
+  @Test(timeout = 10000)
+  public void testOnlyGapsPaints() {
+
+    Chart chart = new Chart(400, 300);
+    chart.addDateSeries("a", new long[] { 1000L, 2000L }, new double[] { Double.NaN, Double.NaN });
+
+    BitmapEncoder.getBufferedImage(chart);
+  }
+
+  @Test
+  public void testSlidingWindowMinMax() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addSeries("series", new double[] { 0 }, new double[] { 0 }, new double[] { 0.5 });
+
+    // compare the incremental min and max of a sliding window with a full recalculation
+    Random random = new Random(42);
+    int window = 50;
+    for (int i = 1; i < 1000; i++) {
+      series.appendPoints(new double[] { i }, new double[] { random.nextInt(100) }, new double[] { random.nextInt(5) });
+      if (series.getSeriesData().size() > window) {
+        series.trimHead(1);
+      }
+      double min = Double.MAX_VALUE;
+      double max = -Double.MAX_VALUE;
+      for (int j = 0; j < series.getSeriesData().size(); j++) {
+        double y = series.getSeriesData().getY(j);
+        double eb = series.getSeriesData().getErrorBar(j);
+        min = Math.min(min, y - eb);
+        max = Math.max(max, y + eb);
+      }
+      assertThat(series.getYMin()).isEqualTo(min);
+      assertThat(series.getYMax()).isEqualTo(max);
+      assertThat(series.getXMin()).isEqualTo(series.getSeriesData().getX(0));
+    }
+  }
+
+  @Test
+  public void testRollingSeries() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addRollingSeries("series", 3, new double[] { 1, 2 }, new double[] { 10, 20 });
+
+    series.appendPoints(new double[] { 3, 4 }, new double[] { 30, 5 });
+    assertThat(series.getXData()).containsExactly(2.0, 3.0, 4.0);
+    assertThat(series.getYData()).containsExactly(20.0, 30.0, 5.0);
+    assertThat(series.getXMin()).isEqualTo(2.0);
+    assertThat(series.getYMin()).isEqualTo(5.0);
+    assertThat(series.getYMax()).isEqualTo(30.0);
+
+    // more points than the capacity at once
+    series.appendPoints(new double[] { 5, 6, 7, 8 }, new double[] { 1, 2, 3, 4 });
+    assertThat(series.getXData()).containsExactly(6.0, 7.0, 8.0);
+    assertThat(series.getYMin()).isEqualTo(2.0);
+    assertThat(series.getYMax()).isEqualTo(4.0);
+  }
+
+  @Test
+  public void testRollingSeriesGeneratedXData() {
+
+    Chart chart = new Chart(800, 600);
+    Series series = chart.addRollingSeries("series", 3, null, new double[] { 10, 20, 30 });
+
+    series.appendPoints(null, new double[] { 40 });
+    assertThat(series.getXData()).containsExactly(1.0, 2.0, 3.0);
+    assertThat(series.getYData()).containsExactly(20.0, 30.0, 40.0);
+    assertThat(series.getXMax()).isEqualTo(3.0);
+  }
+
+  @Test(timeout = 10000)
+  public void testRollingSeriesStartsEmpty() {
+
+    Chart chart = new Chart(400, 300);
+    Series generated = chart.addRollingSeries("generated", 3, null, null);
+    Series explicit = chart.addRollingSeries("explicit", 3, new double[0], new double[0]);
+    assertThat(generated.getSeriesData().size()).isEqualTo(0);
+    BitmapEncoder.getBufferedImage(chart);
+
+    generated.appendPoints(null, new double[] { 10, 20 });
+    explicit.appendPoints(new double[] { 5 }, new double[] { 7 });
+    BitmapEncoder.getBufferedImage(chart);
+    assertThat(generated.getXData()).containsExactly(1.0, 2.0);
+    assertThat(explicit.getYData()).containsExactly(7.0);
+  }
+
+  @Test(timeout = 10000)
+  public void testCategoryRollingSeries() {
+
+    for (ChartType chartType : new ChartType[] { ChartType.Bar, ChartType.Line }) {
+      Chart chart = new Chart(400, 300);
+      chart.getStyleManager().setChartType(chartType);
+      Series a = chart.addCategoryRollingSeries("a", 3, null, null);
+      Series b = chart.addCategoryRollingSeries("b", 3, null, null);
+      BitmapEncoder.getBufferedImage(chart);
+
+      for (int i = 0; i < 5; i++) {
+        a.appendPoints(null, new double[] { i });
+        b.appendPoints(null, new double[] { 10 - i });
+        BitmapEncoder.getBufferedImage(chart);
+      }
+      assertThat(a.getXData()).isEqualTo(b.getXData());
+      assertThat(a.getYData()).containsExactly(2.0, 3.0, 4.0);
+      assertThat(b.getYMin()).isEqualTo(6.0);
+    }
+  }
+
+}
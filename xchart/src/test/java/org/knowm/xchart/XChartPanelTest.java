@@ -0,0 +1,70 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class XChartPanelTest {
+
+  @Test
+  public void testUpdatesOfUnpaintedPanelAreNotMergedForever() throws Exception {
+
+    Chart chart = new Chart(800, 600);
+    chart.addSeries("series", new double[] { 1, 2 }, new double[] { 1, 2 });
+    final XChartPanel chartPanel = new XChartPanel(chart);
+    chartPanel.setMaxFramesPerSecond(0);
+
+    // the panel is never painted, each update issues a repaint of its own
+    SwingUtilities.invokeAndWait(new Runnable() {
+
+      @Override
+      public void run() {
+
+        chartPanel.appendSeries("series", new double[] { 3 }, new double[] { 3 }, null);
+        chartPanel.appendSeries("series", new double[] { 4 }, new double[] { 4 }, null);
+      }
+    });
+    assertThat(chartPanel.getMergedUpdateCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void testUpdatesAreMergedUntilTheDelayedRepaint() throws Exception {
+
+    Chart chart = new Chart(800, 600);
+    chart.addSeries("series", new double[] { 1, 2 }, new double[] { 1, 2 });
+    final XChartPanel chartPanel = new XChartPanel(chart);
+    chartPanel.setMaxFramesPerSecond(5);
+
+    // the first update waits for the frame rate, the second is merged into it
+    chartPanel.publishSeriesAppend("series", new double[] { 3 }, new double[] { 3 }, null);
+    chartPanel.publishSeriesAppend("series", new double[] { 4 }, new double[] { 4 }, null);
+    assertThat(chartPanel.getMergedUpdateCount()).isEqualTo(1);
+
+    // once the timer has issued the repaint, the next update schedules a frame of its own even though the panel was not painted
+    Thread.sleep(500);
+    chartPanel.publishSeriesAppend("series", new double[] { 5 }, new double[] { 5 }, null);
+    assertThat(chartPanel.getMergedUpdateCount()).isEqualTo(1);
+  }
+
+}
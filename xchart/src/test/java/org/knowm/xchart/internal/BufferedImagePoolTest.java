@@ -0,0 +1,73 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class BufferedImagePoolTest {
+
+  @Test
+  public void testReuseClearsImage() {
+
+    BufferedImagePool bufferedImagePool = new BufferedImagePool(1000);
+
+    BufferedImage image = bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB);
+    image.setRGB(5, 5, 0xFFFFFF);
+    bufferedImagePool.release(image);
+
+    // other size or type
+    assertThat(bufferedImagePool.acquire(10, 20, BufferedImage.TYPE_INT_RGB)).isNotSameAs(image);
+    assertThat(bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_ARGB)).isNotSameAs(image);
+
+    BufferedImage reused = bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB);
+    assertThat(reused).isSameAs(image);
+    assertThat(reused.getRGB(5, 5) & 0xFFFFFF).isEqualTo(0);
+
+    // taken out of the pool
+    assertThat(bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB)).isNotSameAs(image);
+  }
+
+  @Test
+  public void testMaxPixels() {
+
+    BufferedImagePool bufferedImagePool = new BufferedImagePool(450);
+
+    BufferedImage first = bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB);
+    BufferedImage second = bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB);
+    BufferedImage third = bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB);
+    bufferedImagePool.release(first);
+    bufferedImagePool.release(second);
+    bufferedImagePool.release(third); // drops first
+
+    assertThat(bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB)).isSameAs(third);
+    assertThat(bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB)).isSameAs(second);
+    assertThat(bufferedImagePool.acquire(20, 10, BufferedImage.TYPE_INT_RGB)).isNotSameAs(first);
+
+    // too large to keep at all
+    BufferedImage large = bufferedImagePool.acquire(30, 30, BufferedImage.TYPE_INT_RGB);
+    bufferedImagePool.release(large);
+    assertThat(bufferedImagePool.acquire(30, 30, BufferedImage.TYPE_INT_RGB)).isNotSameAs(large);
+  }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+import org.knowm.xchart.internal.ColorQuantizer.QuantizedImage;
+
+/**
+ * @author timmolter
+ */
+public class ColorQuantizerTest {
+
+  @Test
+  public void testFewColorsAreKept() {
+
+    BufferedImage image = new BufferedImage(30, 20, BufferedImage.TYPE_INT_RGB);
+    int[] colors = { 0xFFFFFF, 0x000000, 0xFF0000, 0x00FF00, 0x0000FF };
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        image.setRGB(x, y, colors[(x / 3 + y) % colors.length]);
+      }
+    }
+
+    QuantizedImage quantizedImage = new ColorQuantizer(16).quantize(image);
+
+    assertThat(quantizedImage.getImage().getType()).isEqualTo(BufferedImage.TYPE_BYTE_INDEXED);
+    assertThat(quantizedImage.getColorCount()).isEqualTo(5);
+    assertThat(quantizedImage.getPaletteSize()).isEqualTo(5);
+    assertThat(quantizedImage.getMeanSquaredError()).isEqualTo(0.0);
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        assertThat(quantizedImage.getImage().getRGB(x, y)).isEqualTo(image.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testGradientIsReduced() {
+
+    // a gray ramp and two green-blue ramps, 768 colors
+    BufferedImage image = new BufferedImage(256, 4, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        image.setRGB(x, y, y % 2 == 0 ? x << 16 | x << 8 | x : (x / 2 + y * 30) << 8 | x);
+      }
+    }
+
+    QuantizedImage quantizedImage = new ColorQuantizer(64).quantize(image);
+
+    assertThat(quantizedImage.getColorCount()).isEqualTo(768);
+    assertThat(quantizedImage.getPaletteSize()).isEqualTo(64);
+    assertThat(quantizedImage.getMeanSquaredError()).isGreaterThan(0.0);
+    // 64 colors for 3 ramps of 256 steps leave about 12 steps per color
+    assertThat(quantizedImage.getMeanSquaredError()).isLessThan(64.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaxColors() {
+
+    new ColorQuantizer(257);
+  }
+
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.VectorGraphicsEncoder;
+import org.w3c.dom.Document;
+
+/**
+ * @author timmolter
+ */
+public class StreamingSVGGraphics2DTest {
+
+  @Test
+  public void testOpaqueLinesAreMerged() throws Exception {
+
+    StringWriter writer = new StringWriter();
+    StreamingSVGGraphics2D g = new StreamingSVGGraphics2D(writer, 100, 100, 2);
+    g.setColor(Color.RED);
+    g.setStroke(new BasicStroke(2.0f));
+    g.draw(new Line2D.Double(0, 0, 10.004, 20));
+    g.draw(new Line2D.Double(10, 20, 30.5, 40.25));
+    g.draw(new Line2D.Double(50, 50, 60, 60));
+    g.finish();
+
+    String svg = writer.toString();
+    assertThat(count(svg, "<path")).isEqualTo(1);
+    assertThat(svg.contains("d=\"M0,0 L10,20 M10,20 L30.5,40.25 M50,50 L60,60\"")).isTrue();
+    assertThat(svg.contains("stroke=\"#ff0000\" stroke-width=\"2\"")).isTrue();
+  }
+
+  @Test
+  public void testTranslucentLinesAreMergedWhenContinuing() throws Exception {
+
+    StringWriter writer = new StringWriter();
+    StreamingSVGGraphics2D g = new StreamingSVGGraphics2D(writer, 100, 100, 1);
+    g.setColor(new Color(0, 0, 255, 128));
+    g.draw(new Line2D.Double(0, 0, 10, 10));
+    g.draw(new Line2D.Double(10, 10, 20, 0));
+    g.draw(new Line2D.Double(0, 10, 20, 10));
+    g.finish();
+
+    String svg = writer.toString();
+    assertThat(count(svg, "<path")).isEqualTo(2);
+    assertThat(svg.contains("d=\"M0,0 L10,10 M10,10 L20,0\"")).isTrue();
+  }
+
+  @Test
+  public void testStyleChangeEndsMergedPath() throws Exception {
+
+    StringWriter writer = new StringWriter();
+    StreamingSVGGraphics2D g = new StreamingSVGGraphics2D(writer, 100, 100, 0);
+    g.setColor(Color.BLACK);
+    g.draw(new Line2D.Double(0, 0, 10, 10));
+    g.fill(new Rectangle2D.Double(5, 5, 2, 2));
+    g.draw(new Line2D.Double(10, 10, 20, 20));
+    g.setClip(new Rectangle2D.Double(0, 0, 50, 50));
+    g.draw(new Line2D.Double(20, 20, 30, 30));
+    g.setClip(new Rectangle2D.Double(0, 0, 50, 50));
+    g.draw(new Line2D.Double(30, 30, 40, 40));
+    g.finish();
+
+    String svg = writer.toString();
+    // the fill keeps its place between the lines
+    assertThat(count(svg, "<path")).isEqualTo(5);
+    assertThat(count(svg, "<clipPath")).isEqualTo(1);
+    assertThat(svg.contains("d=\"M20,20 L30,30 M30,30 L40,40\"")).isTrue();
+  }
+
+  @Test
+  public void testMergedZigZagHasNoJoins() throws Exception {
+
+    StringWriter writer = new StringWriter();
+    StreamingSVGGraphics2D g = new StreamingSVGGraphics2D(writer, 100, 100, 0);
+    g.setColor(Color.BLACK);
+    // a miter joined polyline would spike far beyond the sharp turns, separately drawn lines don't
+    g.setStroke(new BasicStroke(4.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 10.0f));
+    for (int i = 0; i < 6; i++) {
+      g.draw(new Line2D.Double(i * 2, i % 2 == 0 ? 0 : 90, i * 2 + 2, i % 2 == 0 ? 90 : 0));
+    }
+    g.finish();
+
+    String svg = writer.toString();
+    assertThat(count(svg, "<path")).isEqualTo(1);
+    assertThat(svg.contains("d=\"M0,0 L2,90 M2,90 L4,0 M4,0 L6,90 M6,90 L8,0 M8,0 L10,90 M10,90 L12,0\"")).isTrue();
+    assertThat(svg.contains("stroke-miterlimit=\"10\"")).isTrue();
+  }
+
+  @Test
+  public void testTransformedShapeIsClippedInDeviceSpace() throws Exception {
+
+    StringWriter writer = new StringWriter();
+    StreamingSVGGraphics2D g = new StreamingSVGGraphics2D(writer, 100, 100, 0);
+    g.setColor(Color.BLACK);
+    g.setClip(new Rectangle2D.Double(10, 10, 50, 50));
+    g.rotate(Math.PI / 4);
+    g.fill(new Rectangle2D.Double(0, 0, 20, 20));
+    g.finish();
+
+    // a clip-path on the path itself would be rotated with it
+    String svg = writer.toString();
+    assertThat(svg.contains("<g clip-path=\"url(#clip1)\"><path transform=\"matrix(")).isTrue();
+    assertThat(count(svg, "clip-path=")).isEqualTo(1);
+    assertThat(svg.contains("/></g>")).isTrue();
+  }
+
+  @Test
+  public void testChartIsWellFormed() throws Exception {
+
+    Chart chart = new Chart(400, 300);
+    chart.addSeries("series", new double[] { 1, 2, 3, 4 }, new double[] { 3, 1, 4, 1 });
+
+    StringWriter writer = new StringWriter();
+    VectorGraphicsEncoder.saveSVG(chart, writer, VectorGraphicsEncoder.DEFAULT_SVG_PRECISION);
+
+    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(writer.toString().getBytes("UTF-8")));
+    assertThat(document.getDocumentElement().getTagName()).isEqualTo("svg");
+    assertThat(document.getDocumentElement().getAttribute("width")).isEqualTo("400");
+    assertThat(document.getElementsByTagName("path").getLength()).isGreaterThan(10);
+  }
+
+  private static int count(String text, String part) {
+
+    int count = 0;
+    for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+}
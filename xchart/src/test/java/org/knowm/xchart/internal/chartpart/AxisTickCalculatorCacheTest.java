@@ -0,0 +1,99 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class AxisTickCalculatorCacheTest {
+
+  @Test
+  public void testRepaintHitsCache() {
+
+    ChartInternal chartInternal = new ChartInternal(400, 300);
+    chartInternal.addSeries("a", Arrays.asList(new Double[] { 1.0, 2.0, 3.0 }), Arrays.asList(new Double[] { 5.0, 7.0, 6.0 }), null);
+    AxisTickCalculatorCache xCache = chartInternal.getAxisPair().getXAxis().getAxisTickCalculatorCache();
+    AxisTickCalculatorCache yCache = chartInternal.getAxisPair().getYAxis().getAxisTickCalculatorCache();
+
+    paint(chartInternal);
+    long xMisses = xCache.getMissCount();
+    long yMisses = yCache.getMissCount();
+    assertThat(xMisses).isGreaterThan(0L);
+    assertThat(yMisses).isGreaterThan(0L);
+
+    // nothing changed
+    long xHits = xCache.getHitCount();
+    paint(chartInternal);
+    assertThat(xCache.getMissCount()).isEqualTo(xMisses);
+    assertThat(yCache.getMissCount()).isEqualTo(yMisses);
+    assertThat(xCache.getHitCount()).isGreaterThan(xHits);
+
+    // a style change invalidates
+    chartInternal.getStyleManager().setXAxisLabelRotation(45);
+    paint(chartInternal);
+    assertThat(xCache.getMissCount()).isGreaterThan(xMisses);
+  }
+
+  @Test
+  public void testKeyEquality() {
+
+    AxisTickCalculatorCache.Key key = new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 4, Arrays.asList("a", "b"));
+
+    assertThat(key).isEqualTo(new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 4, Arrays.asList("a", "b")));
+    assertThat(key.hashCode()).isEqualTo(new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 4, Arrays.asList("a", "b")).hashCode());
+    assertThat(key).isNotEqualTo(new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 301.0, 4, Arrays.asList("a", "b")));
+    assertThat(key).isNotEqualTo(new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 5, Arrays.asList("a", "b")));
+    assertThat(key).isNotEqualTo(new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 4, Arrays.asList("a", "c")));
+  }
+
+  @Test
+  public void testStoredKeyKeepsCategories() {
+
+    List<String> categories = new ArrayList<String>(Arrays.asList("a", "b"));
+    AxisTickCalculatorCache.Key storedKey = new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 4, categories).withCopiedCategories();
+
+    // changing the categories after the calculation must not change the stored key
+    categories.set(1, "c");
+    assertThat(storedKey).isEqualTo(new AxisTickCalculatorCache.Key(Axis.AxisType.String, 0.0, 1.0, 300.0, 4, Arrays.asList("a", "b")));
+  }
+
+  @Test
+  public void testEvictionCount() {
+
+    AxisTickCalculatorCache cache = new AxisTickCalculatorCache();
+    for (int i = 0; i < 10; i++) {
+      cache.put(new AxisTickCalculatorCache.Key(Axis.AxisType.Number, 0.0, 1.0, 300.0 + i, 4, null), null);
+    }
+    assertThat(cache.getEvictionCount()).isEqualTo(2L);
+  }
+
+  private static void paint(ChartInternal chartInternal) {
+
+    BufferedImage image = new BufferedImage(chartInternal.getWidth(), chartInternal.getHeight(), BufferedImage.TYPE_INT_RGB);
+    chartInternal.paint(image.createGraphics());
+  }
+
+}
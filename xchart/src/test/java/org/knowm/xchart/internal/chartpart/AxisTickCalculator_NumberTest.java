@@ -0,0 +1,65 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Locale;
+
+import org.junit.Test;
+import org.knowm.xchart.StyleManager;
+import org.knowm.xchart.internal.chartpart.Axis.Direction;
+
+/**
+ * @author timmolter
+ */
+public class AxisTickCalculator_NumberTest {
+
+  @Test
+  public void testTickLabels() {
+
+    StyleManager styleManager = new StyleManager();
+    styleManager.setLocale(Locale.US);
+
+    assertThat(getTickLabels(Direction.X, 600, -26.24341731773887, -25.55299155723645, styleManager)).isEqualTo(
+        "[-26.3, -26.2, -26.1, -26, -25.9, -25.8, -25.7, -25.6, -25.5, -25.4]");
+    assertThat(getTickLabels(Direction.Y, 400, 0.0, 1e-7, styleManager)).isEqualTo("[-1E-8, 0, 1E-8, 2E-8, 3E-8, 4E-8, 5E-8, 6E-8, 7E-8, 8E-8, 9E-8, 1E-7, 1.1E-7]");
+    assertThat(getTickLabels(Direction.X, 800, -1234.5, 98765.4, styleManager)).isEqualTo(
+        "[-10,000, 0, 10,000, 20,000, 30,000, 40,000, 50,000, 60,000, 70,000, 80,000, 90,000, 100,000, 110,000]");
+    assertThat(getTickLabels(Direction.X, 800, 0.1, 0.3, styleManager)).isEqualTo("[.08, 0.1, 0.12, 0.14, 0.16, 0.18, 0.2, 0.22, 0.24, 0.26, 0.28, 0.3, 0.32]");
+    assertThat(getTickLabels(Direction.Y, 300, 1e12, 1e13 + 7, styleManager)).isEqualTo("[0, 1E12, 2E12, 3E12, 4E12, 5E12, 6E12, 7E12, 8E12, 9E12, 1E13, 1.1E13, 1.2E13]");
+    // beyond exact scaled longs
+    assertThat(getTickLabels(Direction.Y, 300, 1e16, 1e17, styleManager)).isEqualTo("[0, 1E16, 2E16, 3E16, 4E16, 5E16, 6E16, 7E16, 8E16, 9E16, 1E17, 1.1E17]");
+  }
+
+  @Test
+  public void testTickLocations() {
+
+    AxisTickCalculator_Number axisTickCalculator = new AxisTickCalculator_Number(Direction.Y, 100, 0.0, 1.0, new StyleManager());
+
+    assertThat(axisTickCalculator.getTickLabels().size()).isEqualTo(axisTickCalculator.getTickLocations().size());
+    // 0.2 steps, from one step before the min
+    assertThat(axisTickCalculator.getTickLocations().get(1) - axisTickCalculator.getTickLocations().get(0)).isEqualTo(
+        axisTickCalculator.getTickLocations().get(2) - axisTickCalculator.getTickLocations().get(1));
+  }
+
+  private static String getTickLabels(Direction axisDirection, double workingSpace, double minValue, double maxValue, StyleManager styleManager) {
+
+    return new AxisTickCalculator_Number(axisDirection, workingSpace, minValue, maxValue, styleManager).getTickLabels().toString();
+  }
+
+}
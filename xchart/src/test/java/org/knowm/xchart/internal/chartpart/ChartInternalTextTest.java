@@ -0,0 +1,125 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.font.GlyphVector;
+import java.awt.image.BufferedImage;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.knowm.xchart.internal.StreamingSVGGraphics2D;
+
+/**
+ * @author timmolter
+ */
+public class ChartInternalTextTest {
+
+  @Test
+  public void testGlyphsCoverOutline() {
+
+    ChartInternal chartInternal = new ChartInternal(200, 100);
+
+    Rectangle outlineBounds = getTextPixelBounds(chartInternal);
+    chartInternal.getStyleManager().setGlyphTextRenderingEnabled(true);
+    Rectangle glyphBounds = getTextPixelBounds(chartInternal);
+
+    // hinting moves the glyph edges a little
+    assertThat(Math.abs(glyphBounds.x - outlineBounds.x)).isLessThanOrEqualTo(2);
+    assertThat(Math.abs(glyphBounds.y - outlineBounds.y)).isLessThanOrEqualTo(2);
+    assertThat(Math.abs(glyphBounds.width - outlineBounds.width)).isLessThanOrEqualTo(4);
+    assertThat(Math.abs(glyphBounds.height - outlineBounds.height)).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  public void testVectorGraphicsPaintOutlines() {
+
+    ChartInternal chartInternal = new ChartInternal(300, 200);
+    chartInternal.getChartTitle().setText("Title");
+    // markers are never stamped for vector graphics
+    chartInternal.getStyleManager().setMarkerStampingEnabled(false);
+    chartInternal.addSeries("a", Arrays.asList(new Double[] { 1.0, 2.0, 3.0 }), Arrays.asList(new Double[] { 5.0, 7.0, 6.0 }), null);
+
+    BufferedImage outlines = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+    chartInternal.paint(outlines.createGraphics(), 300, 200);
+
+    chartInternal.getStyleManager().setGlyphTextRenderingEnabled(true);
+    BufferedImage vectorGraphic = new BufferedImage(300, 200, BufferedImage.TYPE_INT_RGB);
+    chartInternal.paintVectorGraphic(vectorGraphic.createGraphics(), 300, 200);
+
+    for (int y = 0; y < 200; y++) {
+      for (int x = 0; x < 300; x++) {
+        assertThat(vectorGraphic.getRGB(x, y)).isEqualTo(outlines.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testOwnVectorGraphicsPaintOutlines() {
+
+    ChartInternal chartInternal = new ChartInternal(300, 200);
+    chartInternal.getChartTitle().setText("Title");
+    chartInternal.getStyleManager().setGlyphTextRenderingEnabled(true);
+    chartInternal.addSeries("a", Arrays.asList(new Double[] { 1.0, 2.0, 3.0 }), Arrays.asList(new Double[] { 5.0, 7.0, 6.0 }), null);
+
+    // painted with paint() like a caller's own vector Graphics2D, e.g. for PDF or printing, not with paintVectorGraphic()
+    final int[] glyphVectorCount = new int[1];
+    Graphics2D g = new StreamingSVGGraphics2D(new StringWriter(), 300, 200, 2) {
+
+      @Override
+      public void drawGlyphVector(GlyphVector glyphVector, float x, float y) {
+
+        glyphVectorCount[0]++;
+        super.drawGlyphVector(glyphVector, x, y);
+      }
+    };
+    chartInternal.paint(g, 300, 200);
+    assertThat(glyphVectorCount[0]).isEqualTo(0);
+  }
+
+  private static Rectangle getTextPixelBounds(ChartInternal chartInternal) {
+
+    BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.WHITE);
+    g.fillRect(0, 0, 200, 100);
+    g.setColor(Color.BLACK);
+    chartInternal.paintText(g, "Tick 123", chartInternal.getStyleManager().getAxisTickLabelsFont(), g.getFontRenderContext(), 20, 50, 0.0);
+    g.dispose();
+
+    Rectangle bounds = null;
+    for (int y = 0; y < 100; y++) {
+      for (int x = 0; x < 200; x++) {
+        if (image.getRGB(x, y) != Color.WHITE.getRGB()) {
+          if (bounds == null) {
+            bounds = new Rectangle(x, y, 1, 1);
+          }
+          else {
+            bounds.add(new Rectangle(x, y, 1, 1));
+          }
+        }
+      }
+    }
+    return bounds;
+  }
+
+}
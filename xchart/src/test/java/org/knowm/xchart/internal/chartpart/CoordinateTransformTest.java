@@ -0,0 +1,140 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class CoordinateTransformTest {
+
+  @Test
+  public void testLinear() {
+
+    // a Y-Axis from 0 to 10 over 200 device units, growing upwards from 250
+    CoordinateTransform transform = CoordinateTransform.getInstance(0.0, 10.0, false, 250.0, -200.0, 150.0);
+
+    assertThat(transform.transform(0.0)).isEqualTo(250.0);
+    assertThat(transform.transform(2.5)).isEqualTo(200.0);
+    assertThat(transform.transform(10.0)).isEqualTo(50.0);
+    assertThat(Double.isNaN(transform.transform(Double.NaN))).isTrue();
+  }
+
+  @Test
+  public void testLogarithmic() {
+
+    CoordinateTransform transform = CoordinateTransform.getInstance(1.0, 1000.0, true, 10.0, 300.0, 0.0);
+
+    assertThat(transform.transform(1.0)).isEqualTo(10.0);
+    assertThat(transform.transform(100.0)).isEqualTo(210.0);
+    assertThat(transform.transform(1000.0)).isEqualTo(310.0);
+  }
+
+  @Test
+  public void testSameMinAndMaxMapsToCenter() {
+
+    CoordinateTransform transform = CoordinateTransform.getInstance(5.0, 5.0, false, 10.0, 300.0, 160.0);
+
+    assertThat(transform.transform(5.0)).isEqualTo(160.0);
+    assertThat(transform.transform(7.0)).isEqualTo(160.0);
+  }
+
+  @Test
+  public void testBulkTransformMatchesSingleValues() {
+
+    double[] values = new double[] { 3.0, Double.NaN, 0.5, 42.0, 7.25 };
+    double[] result = new double[values.length];
+
+    for (boolean isLogarithmic : new boolean[] { false, true }) {
+      CoordinateTransform transform = CoordinateTransform.getInstance(0.5, 42.0, isLogarithmic, 20.0, 500.0, 0.0);
+      transform.transform(values, result, values.length);
+      for (int i = 0; i < values.length; i++) {
+        assertThat(Double.doubleToLongBits(result[i])).isEqualTo(Double.doubleToLongBits(transform.transform(values[i])));
+      }
+    }
+
+    // in place
+    CoordinateTransform transform = CoordinateTransform.getInstance(0.5, 42.0, false, 20.0, 500.0, 0.0);
+    transform.transform(values, values, values.length);
+    assertThat(values[0]).isEqualTo(transform.transform(3.0));
+  }
+
+  @Test
+  public void testParallelFloatTransform() {
+
+    double[] values = new double[10007];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i % 17 == 0 ? Double.NaN : 1.0 + i * 0.37;
+    }
+
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+    try {
+      for (boolean isLogarithmic : new boolean[] { false, true }) {
+        CoordinateTransform transform = CoordinateTransform.getInstance(1.0, 4000.0, isLogarithmic, 20.0, -500.0, 0.0);
+        float[] sequential = new float[values.length];
+        transform.transform(values, sequential, values.length, null, 1000);
+        float[] parallel = new float[values.length];
+        transform.transform(values, parallel, values.length, executorService, 1000);
+        for (int i = 0; i < values.length; i++) {
+          assertThat(Float.floatToIntBits(sequential[i])).isEqualTo(Float.floatToIntBits((float) transform.transform(values[i])));
+          assertThat(Float.floatToIntBits(parallel[i])).isEqualTo(Float.floatToIntBits(sequential[i]));
+        }
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testParallelFloatTransformOnOwnExecutor() throws Exception {
+
+    final double[] values = new double[10007];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = 1.0 + i * 0.37;
+    }
+    final CoordinateTransform transform = CoordinateTransform.getInstance(1.0, 4000.0, false, 20.0, -500.0, 0.0);
+    final float[] result = new float[values.length];
+
+    final ExecutorService executorService = Executors.newFixedThreadPool(1);
+    try {
+      // the only thread of the pool transforms, so it must not wait for the chunks it queued on the same pool
+      Future<?> future = executorService.submit(new Runnable() {
+
+        @Override
+        public void run() {
+
+          transform.transform(values, result, values.length, executorService, 1000);
+        }
+      });
+      future.get(10, TimeUnit.SECONDS);
+      for (int i = 0; i < values.length; i++) {
+        assertThat(Float.floatToIntBits(result[i])).isEqualTo(Float.floatToIntBits((float) transform.transform(values[i])));
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+}
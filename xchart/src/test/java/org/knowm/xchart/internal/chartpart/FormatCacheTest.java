@@ -0,0 +1,63 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.junit.Test;
+import org.knowm.xchart.StyleManager;
+import org.knowm.xchart.internal.chartpart.Axis.Direction;
+
+/**
+ * @author timmolter
+ */
+public class FormatCacheTest {
+
+  @Test
+  public void testFormatsAreReused() {
+
+    FormatCache formatCache = new FormatCache();
+
+    assertThat(formatCache.getDecimalFormat("0.##", Locale.US)).isSameAs(formatCache.getDecimalFormat("0.##", Locale.US));
+    assertThat(formatCache.getDecimalFormat("0.##", Locale.US)).isNotSameAs(formatCache.getDecimalFormat("0.##", Locale.GERMANY));
+
+    TimeZone utc = TimeZone.getTimeZone("UTC");
+    assertThat(formatCache.getSimpleDateFormat("HH:mm", Locale.US, utc)).isSameAs(formatCache.getSimpleDateFormat("HH:mm", Locale.US, utc));
+    assertThat(formatCache.getSimpleDateFormat("HH:mm", Locale.US, utc)).isNotSameAs(formatCache.getSimpleDateFormat("HH:mm", Locale.US, TimeZone
+        .getTimeZone("GMT+1")));
+  }
+
+  @Test
+  public void testNumberFormatterWithSharedCache() {
+
+    StyleManager styleManager = new StyleManager();
+    styleManager.setLocale(Locale.US);
+    NumberFormatter numberFormatter = new NumberFormatter(styleManager, new FormatCache());
+
+    assertThat(numberFormatter.formatNumber(new BigDecimal("1234.5"), 0, 2000, Direction.Y)).isEqualTo("1,234.5");
+    assertThat(numberFormatter.formatNumber(new BigDecimal("0.25"), 0, 1, Direction.Y)).isEqualTo("0.25");
+    assertThat(numberFormatter.formatNumber(new BigDecimal("1234.5"), 0, 2000, Direction.Y)).isEqualTo("1,234.5");
+
+    styleManager.setLocale(Locale.GERMANY);
+    assertThat(numberFormatter.formatNumber(new BigDecimal("1234.5"), 0, 2000, Direction.Y)).isEqualTo("1.234,5");
+  }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class LinePathTest {
+
+  private static final BasicStroke DASHED = new BasicStroke(2.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 10.0f, new float[] { 7.0f, 3.0f }, 0.0f);
+
+  @Test
+  public void testDashPatternContinuesAcrossPaths() {
+
+    // a straight dashed line of many more points than are stroked at once, the dashes must not restart at each path
+    int numPoints = LinePath.MAX_POINTS * 3 + 17;
+
+    BufferedImage expected = getImage();
+    Graphics2D g = expected.createGraphics();
+    g.setColor(Color.BLACK);
+    g.setStroke(DASHED);
+    Path2D.Double path = new Path2D.Double();
+    path.moveTo(getX(0), 10.0);
+    for (int i = 1; i < numPoints; i++) {
+      path.lineTo(getX(i), 10.0);
+    }
+    g.draw(path);
+    g.dispose();
+
+    BufferedImage actual = getImage();
+    g = actual.createGraphics();
+    LinePath linePath = new LinePath(g, Color.BLACK, DASHED, false);
+    for (int i = 0; i < numPoints; i++) {
+      linePath.lineTo(getX(i), 10.0);
+      if (i % 50 == 0) {
+        linePath.flush();
+      }
+    }
+    linePath.endRun();
+    g.dispose();
+
+    assertSamePixels(actual, expected);
+  }
+
+  @Test
+  public void testSolidLineOnRasterIsPaintedPerSegment() {
+
+    BasicStroke solid = new BasicStroke(2.0f);
+    double[] y = new double[] { 10.0, 2.0, 18.0, 3.0, 17.0, 10.0 };
+
+    BufferedImage expected = getImage();
+    Graphics2D g = expected.createGraphics();
+    g.setColor(Color.BLACK);
+    g.setStroke(solid);
+    for (int i = 1; i < y.length; i++) {
+      g.draw(new Line2D.Double(getX(i - 1), y[i - 1], getX(i), y[i]));
+    }
+    g.dispose();
+
+    BufferedImage actual = getImage();
+    g = actual.createGraphics();
+    LinePath linePath = new LinePath(g, Color.BLACK, solid, true);
+    for (int i = 0; i < y.length; i++) {
+      linePath.lineTo(getX(i), y[i]);
+    }
+    linePath.endRun();
+    g.dispose();
+
+    assertSamePixels(actual, expected);
+  }
+
+  private static double getX(int i) {
+
+    return 1.0 + i * 1.25;
+  }
+
+  private static BufferedImage getImage() {
+
+    BufferedImage image = new BufferedImage(500, 20, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.WHITE);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    g.dispose();
+    return image;
+  }
+
+  private static void assertSamePixels(BufferedImage actual, BufferedImage expected) {
+
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertThat(actual.getRGB(x, y)).isEqualTo(expected.getRGB(x, y));
+      }
+    }
+  }
+
+}
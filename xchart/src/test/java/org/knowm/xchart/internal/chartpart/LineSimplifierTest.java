@@ -0,0 +1,69 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.knowm.xchart.internal.data.ArraySeriesData;
+
+/**
+ * @author timmolter
+ */
+public class LineSimplifierTest {
+
+  @Test
+  public void testCollinearPointsAreDropped() {
+
+    // a straight line with a 0.1 wiggle and a corner
+    double[] x = new double[] { 0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 };
+    double[] y = new double[] { 0.0, 1.0, 2.1, 3.0, 4.0, 0.0, -4.0 };
+
+    int[] indices = LineSimplifier.simplify(new ArraySeriesData(x, y, null), null, false, false, 0.0, 1.0, 0.0, 1.0, 0.25);
+
+    assertThat(Arrays.toString(indices)).isEqualTo("[0, 4, 6]");
+  }
+
+  @Test
+  public void testToleranceIsInDeviceUnits() {
+
+    double[] x = new double[] { 0.0, 1.0, 2.0 };
+    double[] y = new double[] { 0.0, 0.1, 0.0 };
+
+    // 0.1 data units are 0.1 or 10 device units
+    assertThat(Arrays.toString(LineSimplifier.simplify(new ArraySeriesData(x, y, null), null, false, false, 0.0, 1.0, 0.0, 1.0, 0.25))).isEqualTo("[0, 2]");
+    assertThat(Arrays.toString(LineSimplifier.simplify(new ArraySeriesData(x, y, null), null, false, false, 0.0, 1.0, 0.0, 100.0, 0.25))).isEqualTo(
+        "[0, 1, 2]");
+  }
+
+  @Test
+  public void testGapsAndIndices() {
+
+    double[] x = new double[] { 0.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 };
+    double[] y = new double[] { 0.0, 1.0, 2.0, Double.NaN, 4.0, 5.0, 6.0 };
+
+    int[] indices = LineSimplifier.simplify(new ArraySeriesData(x, y, null), null, false, false, 0.0, 1.0, 0.0, 1.0, 0.25);
+    assertThat(Arrays.toString(indices)).isEqualTo("[0, 2, 3, 4, 6]");
+
+    // only the given points, e.g. after decimation
+    indices = LineSimplifier.simplify(new ArraySeriesData(x, y, null), new int[] { 0, 1, 2, 4, 5 }, false, false, 0.0, 1.0, 0.0, 1.0, 0.25);
+    assertThat(Arrays.toString(indices)).isEqualTo("[0, 5]");
+  }
+
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.knowm.xchart.internal.data.ArraySeriesData;
+
+/**
+ * @author timmolter
+ */
+public class M4DecimatorTest {
+
+  @Test
+  public void testFirstMinMaxLastPerColumn() {
+
+    // two points per X unit, one X unit per pixel column
+    double[] x = new double[] { 0.0, 0.3, 0.5, 0.7, 0.9, 1.0, 1.5 };
+    double[] y = new double[] { 2.0, 9.0, -3.0, 4.0, 1.0, 5.0, 6.0 };
+
+    int[] indices = M4Decimator.decimate(new ArraySeriesData(x, y, null), false, 0.0, 0.0, 1.0);
+
+    assertThat(Arrays.toString(indices)).isEqualTo("[0, 1, 2, 4, 5, 6]");
+  }
+
+  @Test
+  public void testGapsAreKept() {
+
+    double[] x = new double[] { 0.0, 0.2, 0.4, 0.6, 0.8 };
+    double[] y = new double[] { 1.0, 2.0, Double.NaN, Double.NaN, 3.0 };
+
+    int[] indices = M4Decimator.decimate(new ArraySeriesData(x, y, null), false, 0.0, 0.0, 1.0);
+
+    assertThat(Arrays.toString(indices)).isEqualTo("[0, 1, 2, 4]");
+  }
+
+  @Test
+  public void testDescendingXData() {
+
+    double[] x = new double[] { 0.0, 3.0, 1.0 };
+    double[] y = new double[] { 1.0, 2.0, 3.0 };
+
+    assertThat(M4Decimator.decimate(new ArraySeriesData(x, y, null), false, 0.0, 0.0, 1.0)).isNull();
+  }
+
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.knowm.xchart.Series;
+import org.knowm.xchart.Series.SeriesType;
+import org.knowm.xchart.StyleManager.ChartType;
+import org.knowm.xchart.internal.data.ArraySeriesData;
+
+/**
+ * @author timmolter
+ */
+public class PlotTest {
+
+  @Test
+  public void testRepaintReusesBuffers() {
+
+    ChartInternal chartInternal = new ChartInternal(400, 300);
+    chartInternal.addSeries("array", new ArraySeriesData(new double[] { 1, 2, 3 }, new double[] { 5, 7, 6 }, null), false);
+    chartInternal.addSeries("list", Arrays.asList(new Double[] { 1.0, 2.0, 3.0, 4.0 }), Arrays.asList(new Double[] { 4.0, 2.0, 3.0, 1.0 }), null);
+
+    paint(chartInternal);
+    PlotContentNumericalChart plotContent = (PlotContentNumericalChart) chartInternal.getPlot().getPlotContent();
+    double[] xValueBuffer = plotContent.xValueBuffer;
+    float[] xOffsetBuffer = plotContent.xOffsetBuffer;
+    float[] yOffsetBuffer = plotContent.yOffsetBuffer;
+    assertThat(xValueBuffer.length).isEqualTo(4);
+    assertThat(xOffsetBuffer.length).isEqualTo(4);
+
+    paint(chartInternal);
+    assertThat(chartInternal.getPlot().getPlotContent()).isSameAs(plotContent);
+    assertThat(plotContent.xValueBuffer).isSameAs(xValueBuffer);
+    assertThat(plotContent.xOffsetBuffer).isSameAs(xOffsetBuffer);
+    assertThat(plotContent.yOffsetBuffer).isSameAs(yOffsetBuffer);
+  }
+
+  @Test
+  public void testChartTypeChangeReplacesContent() {
+
+    ChartInternal chartInternal = new ChartInternal(400, 300);
+    chartInternal.getStyleManager().setChartType(ChartType.Bar);
+    Series series = chartInternal.addCategorySeries("a", Arrays.asList(new String[] { "a", "b" }), Arrays.asList(new Double[] { 1.0, 2.0 }), null);
+
+    paint(chartInternal);
+    assertThat(chartInternal.getPlot().getPlotContent() instanceof PlotContentCategoricalChart_Bar).isTrue();
+
+    chartInternal.getStyleManager().setChartType(ChartType.Line);
+    series.setSeriesType(SeriesType.Line);
+    paint(chartInternal);
+    assertThat(chartInternal.getPlot().getPlotContent() instanceof PlotContentCategoricalChart_Line_Area_Scatter).isTrue();
+  }
+
+  private static void paint(ChartInternal chartInternal) {
+
+    BufferedImage image = new BufferedImage(chartInternal.getWidth(), chartInternal.getHeight(), BufferedImage.TYPE_INT_RGB);
+    chartInternal.paint(image.createGraphics());
+  }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.chartpart;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Font;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author timmolter
+ */
+public class TextCacheTest {
+
+  private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+
+  @Test
+  public void testHitsAndEvictions() {
+
+    TextCache textCache = new TextCache(2);
+
+    textCache.getBounds("a", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT);
+    textCache.getBounds("b", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT);
+    assertThat(textCache.getOutline("a", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT, 0.0)).isNotNull();
+    assertThat(textCache.getMissCount()).isEqualTo(2L);
+    assertThat(textCache.getHitCount()).isEqualTo(1L);
+
+    // "b" is the least recently used
+    textCache.getBounds("c", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT);
+    assertThat(textCache.size()).isEqualTo(2);
+    assertThat(textCache.getEvictionCount()).isEqualTo(1L);
+    textCache.getBounds("a", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT);
+    assertThat(textCache.getMissCount()).isEqualTo(3L);
+    textCache.getBounds("b", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT);
+    assertThat(textCache.getMissCount()).isEqualTo(4L);
+
+    // another font is another text
+    textCache.getBounds("b", FONT.deriveFont(14f), TextCache.MEASURING_FONT_RENDER_CONTEXT);
+    assertThat(textCache.getMissCount()).isEqualTo(5L);
+  }
+
+  @Test
+  public void testOutlineRotation() {
+
+    TextCache textCache = new TextCache();
+
+    Shape outline = textCache.getOutline("Label", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT, 0.0);
+    assertThat(textCache.getOutline("Label", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT, 0.0)).isSameAs(outline);
+
+    Shape rotated = textCache.getOutline("Label", FONT, TextCache.MEASURING_FONT_RENDER_CONTEXT, -Math.PI / 2);
+    assertThat(rotated).isNotSameAs(outline);
+    // rotated upwards the width becomes the height
+    assertThat(Math.abs(rotated.getBounds2D().getHeight() - outline.getBounds2D().getWidth())).isLessThan(0.01);
+  }
+
+  @Test
+  public void testRepaintHitsCache() {
+
+    ChartInternal chartInternal = new ChartInternal(400, 300);
+    chartInternal.getChartTitle().setText("Title");
+    chartInternal.getAxisPair().getXAxis().getAxisTitle().setText("X");
+    chartInternal.addSeries("a", Arrays.asList(new Double[] { 1.0, 2.0, 3.0 }), Arrays.asList(new Double[] { 5.0, 7.0, 6.0 }), null);
+    TextCache textCache = chartInternal.getTextCache();
+
+    paint(chartInternal);
+    long misses = textCache.getMissCount();
+    assertThat(misses).isGreaterThan(0L);
+
+    paint(chartInternal);
+    assertThat(textCache.getMissCount()).isEqualTo(misses);
+  }
+
+  private static void paint(ChartInternal chartInternal) {
+
+    BufferedImage image = new BufferedImage(chartInternal.getWidth(), chartInternal.getHeight(), BufferedImage.TYPE_INT_RGB);
+    chartInternal.paint(image.createGraphics());
+  }
+
+}
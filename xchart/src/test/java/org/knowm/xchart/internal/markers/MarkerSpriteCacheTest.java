@@ -0,0 +1,110 @@
+/**
+ * Copyright 2015 Knowm Inc. (http://knowm.org) and contributors.
+ * Copyright 2011-2015 Xeiam LLC (http://xeiam.com) and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.knowm.xchart.internal.markers;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.StringWriter;
+
+import org.junit.Test;
+import org.knowm.xchart.Chart;
+import org.knowm.xchart.SeriesMarker;
+import org.knowm.xchart.StyleManager.ChartType;
+import org.knowm.xchart.VectorGraphicsEncoder;
+import org.knowm.xchart.internal.StreamingSVGGraphics2D;
+
+/**
+ * @author timmolter
+ */
+public class MarkerSpriteCacheTest {
+
+  @Test
+  public void testStampedLooksLikePainted() {
+
+    for (SeriesMarker seriesMarker : new SeriesMarker[] { SeriesMarker.CIRCLE, SeriesMarker.DIAMOND, SeriesMarker.SQUARE, SeriesMarker.TRIANGLE_DOWN,
+        SeriesMarker.TRIANGLE_UP }) {
+      BufferedImage painted = newImage();
+      BufferedImage stamped = newImage();
+      Graphics2D paintedGraphics = newGraphics(painted);
+      Graphics2D stampedGraphics = newGraphics(stamped);
+      for (int i = 0; i < 10; i++) {
+        double xOffset = 10 + i * 13.125;
+        double yOffset = 20 + i * 0.3125;
+        seriesMarker.getMarker().paint(paintedGraphics, xOffset, yOffset, 8);
+        seriesMarker.getMarker().stamp(stampedGraphics, xOffset, yOffset, 8);
+      }
+
+      // the sprites are rendered at the exact sub-pixel positions used above
+      for (int y = 0; y < painted.getHeight(); y++) {
+        for (int x = 0; x < painted.getWidth(); x++) {
+          assertThat(Math.abs((stamped.getRGB(x, y) & 0xFF) - (painted.getRGB(x, y) & 0xFF))).isLessThanOrEqualTo(2);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testScaledGraphicsFallsBackToShapes() {
+
+    Graphics2D g = newGraphics(newImage());
+    g.scale(2, 2);
+    assertThat(new MarkerSpriteCache(new Circle()).stamp(g, 10, 10, 8)).isFalse();
+
+    g = newGraphics(newImage());
+    assertThat(new MarkerSpriteCache(new Circle()).stamp(g, 10, 10, 8)).isTrue();
+    assertThat(new MarkerSpriteCache(new Circle()).stamp(g, 10, 10, MarkerSpriteCache.MAX_MARKER_SIZE + 1)).isFalse();
+  }
+
+  @Test
+  public void testNonRasterGraphicsFallsBackToShapes() {
+
+    Graphics2D g = new StreamingSVGGraphics2D(new StringWriter(), 160, 40, VectorGraphicsEncoder.DEFAULT_SVG_PRECISION);
+    assertThat(new MarkerSpriteCache(new Circle()).stamp(g, 10, 10, 8)).isFalse();
+  }
+
+  @Test
+  public void testVectorGraphicsPaintsShapes() throws Exception {
+
+    Chart chart = new Chart(300, 200);
+    chart.getStyleManager().setChartType(ChartType.Scatter);
+    chart.addSeries("series", new double[] { 1, 2, 3, 4 }, new double[] { 2, 1, 3, 0 }).setMarker(SeriesMarker.CIRCLE);
+
+    StringWriter writer = new StringWriter();
+    VectorGraphicsEncoder.saveSVG(chart, writer, VectorGraphicsEncoder.DEFAULT_SVG_PRECISION);
+    assertThat(writer.toString()).doesNotContain("<image");
+  }
+
+  private static BufferedImage newImage() {
+
+    return new BufferedImage(160, 40, BufferedImage.TYPE_INT_RGB);
+  }
+
+  private static Graphics2D newGraphics(BufferedImage image) {
+
+    Graphics2D g = image.createGraphics();
+    g.setColor(Color.WHITE);
+    g.fillRect(0, 0, image.getWidth(), image.getHeight());
+    g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    g.setColor(Color.BLUE);
+    return g;
+  }
+
+}